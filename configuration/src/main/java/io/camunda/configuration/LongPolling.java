@@ -20,14 +20,16 @@ public class LongPolling implements Cloneable {
           "enabled", "zeebe.gateway.longPolling.enabled",
           "timeout", "zeebe.gateway.longPolling.timeout",
           "probeTimeout", "zeebe.gateway.longPolling.probeTimeout",
-          "minEmptyResponses", "zeebe.gateway.longPolling.minEmptyResponses");
+          "minEmptyResponses", "zeebe.gateway.longPolling.minEmptyResponses",
+          "partitionAwareRouting", "zeebe.gateway.longPolling.partitionAwareRouting");
 
   private static final Map<String, String> LEGACY_BROKER_PROPERTIES =
       Map.of(
           "enabled", "zeebe.broker.gateway.longPolling.enabled",
           "timeout", "zeebe.broker.gateway.longPolling.timeout",
           "probeTimeout", "zeebe.broker.gateway.longPolling.probeTimeout",
-          "minEmptyResponses", "zeebe.broker.gateway.longPolling.minEmptyResponses");
+          "minEmptyResponses", "zeebe.broker.gateway.longPolling.minEmptyResponses",
+          "partitionAwareRouting", "zeebe.broker.gateway.longPolling.partitionAwareRouting");
 
   private Map<String, String> legacyPropertiesMap = LEGACY_BROKER_PROPERTIES;
 
@@ -47,6 +49,13 @@ public class LongPolling implements Cloneable {
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
 
+  /**
+   * Skip the partitions which had no jobs of a type on the last activation attempt, until jobs of
+   * the type become available again
+   */
+  private boolean partitionAwareRouting =
+      ConfigurationDefaults.DEFAULT_LONG_POLLING_PARTITION_AWARE_ROUTING;
+
   public boolean isEnabled() {
     return UnifiedConfigurationHelper.validateLegacyConfigurationUnsafe(
         PREFIX + ".enabled",
@@ -99,6 +108,19 @@ public class LongPolling implements Cloneable {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  public boolean isPartitionAwareRouting() {
+    return UnifiedConfigurationHelper.validateLegacyConfigurationUnsafe(
+        PREFIX + ".partition-aware-routing",
+        partitionAwareRouting,
+        Boolean.class,
+        BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(legacyPropertiesMap.get("partitionAwareRouting")));
+  }
+
+  public void setPartitionAwareRouting(final boolean partitionAwareRouting) {
+    this.partitionAwareRouting = partitionAwareRouting;
+  }
+
   @Override
   public Object clone() {
     try {
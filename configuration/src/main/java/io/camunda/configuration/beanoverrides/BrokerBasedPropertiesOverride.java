@@ -569,6 +569,7 @@ public class BrokerBasedPropertiesOverride {
     longPollingCfg.setTimeout(longPolling.getTimeout());
     longPollingCfg.setProbeTimeout(longPolling.getProbeTimeout());
     longPollingCfg.setMinEmptyResponses(longPolling.getMinEmptyResponses());
+    longPollingCfg.setPartitionAwareRouting(longPolling.isPartitionAwareRouting());
   }
 
   private static void populateFromMembership(
@@ -752,8 +753,12 @@ public class BrokerBasedPropertiesOverride {
   private static void populateFromExport(
       final BrokerBasedProperties override, final Camunda camunda) {
     final Export export = camunda.getData().getExport();
+    // not part of the unified configuration yet, keep the value of the legacy property
     final var exportingCfg =
-        new ExportingCfg(export.getSkipRecords(), export.getDistributionInterval());
+        new ExportingCfg(
+            export.getSkipRecords(),
+            export.getDistributionInterval(),
+            override.getExporting().pipelinePerExporter());
     override.setExporting(exportingCfg);
   }
 
@@ -193,6 +193,7 @@ public class GatewayBasedPropertiesOverride {
     longPollingCfg.setTimeout(longPolling.getTimeout());
     longPollingCfg.setProbeTimeout(longPolling.getProbeTimeout());
     longPollingCfg.setMinEmptyResponses(longPolling.getMinEmptyResponses());
+    longPollingCfg.setPartitionAwareRouting(longPolling.isPartitionAwareRouting());
   }
 
   private void populateFromCluster(final GatewayBasedProperties override) {
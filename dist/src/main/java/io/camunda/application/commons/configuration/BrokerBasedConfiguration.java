@@ -82,7 +82,8 @@ public class BrokerBasedConfiguration {
     final var nodeId =
         MemberIdUtil.memberIdString(
             properties.getCluster().getZone(), properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId, threadCfg.isPartitionAffinity());
   }
 
   @ConditionalOnAnyHttpGatewayEnabled
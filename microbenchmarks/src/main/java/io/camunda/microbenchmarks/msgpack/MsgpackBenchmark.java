@@ -66,6 +66,42 @@ public class MsgpackBenchmark {
     result.wrap(state.writeBuffers[i]);
   }
 
+  @Benchmark
+  public long deserializeAndReadTwoProperties(final BenchmarkState state) {
+    final int i = state.nextIndex();
+    final Pojo result = state.readPojos[i];
+    result.wrap(state.writeBuffers[i]);
+    return result.getLong() + result.getInt();
+  }
+
+  @Benchmark
+  public long deserializeLazilyAndReadTwoProperties(final BenchmarkState state) {
+    final int i = state.nextIndex();
+    final Pojo result = state.readPojos[i];
+    final UnsafeBuffer buffer = state.writeBuffers[i];
+    result.wrapLazily(buffer, 0, buffer.capacity());
+    return result.getLong() + result.getInt();
+  }
+
+  @Benchmark
+  public int deserializeUpdateAndSerialize(final BenchmarkState state) {
+    final int i = state.nextIndex();
+    final Pojo result = state.readPojos[i];
+    result.wrap(state.writeBuffers[i]);
+    result.setInt(result.getInt() + 1);
+    return result.write(state.copyBuffer, 0);
+  }
+
+  @Benchmark
+  public int deserializeLazilyUpdateAndSerialize(final BenchmarkState state) {
+    final int i = state.nextIndex();
+    final Pojo result = state.readPojos[i];
+    final UnsafeBuffer buffer = state.writeBuffers[i];
+    result.wrapLazily(buffer, 0, buffer.capacity());
+    result.setInt(result.getInt() + 1);
+    return result.write(state.copyBuffer, 0);
+  }
+
   @State(Scope.Thread)
   public static class BenchmarkState {
 
@@ -75,6 +111,7 @@ public class MsgpackBenchmark {
     public int batchSize;
 
     UnsafeBuffer[] writeBuffers;
+    final UnsafeBuffer copyBuffer = new UnsafeBuffer(new byte[BUFFER_CAPACITY]);
     Pojo[] readPojos;
     Pojo[] writePojos;
     int index = 0;
@@ -30,6 +30,9 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   // Effectively MessageToByteEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  // upper bound for the type, the id, the payload length and the reply status
+  private static final int MAX_FIXED_HEADER_LENGTH = Byte.BYTES + 10 + 5 + Byte.BYTES;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private boolean addressWritten;
@@ -159,6 +162,26 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     return msg instanceof ProtocolMessage;
   }
 
+  /**
+   * Allocates the buffer with room for the complete message. The default allocation starts small
+   * and grows by copying the buffer whenever it is full, which for payloads of several megabytes,
+   * e.g. append requests, means copying the payload several times before it is even written.
+   */
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext context, final Object rawMessage, final boolean preferDirect) {
+    final var message = (ProtocolMessage) rawMessage;
+    int capacity = MAX_FIXED_HEADER_LENGTH + message.payload().length;
+    if (!addressWritten) {
+      capacity += Short.BYTES + ByteBufUtil.utf8MaxBytes(address.host()) + Integer.BYTES;
+    }
+    if (message instanceof final ProtocolRequest request) {
+      capacity += Short.BYTES + ByteBufUtil.utf8MaxBytes(request.subject());
+    }
+
+    return preferDirect ? context.alloc().ioBuffer(capacity) : context.alloc().heapBuffer(capacity);
+  }
+
   @Override
   protected void encode(
       final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.compression.Snappy;
+import java.util.zip.CRC32C;
+
+/**
+ * Encodes messages in the Snappy framing format, like Netty's {@code SnappyFrameEncoder}, but only
+ * compresses the messages which benefit from it. The framing format allows uncompressed chunks, so
+ * the output is understood by any Snappy frame decoder, and thus by older versions as well.
+ *
+ * <p>Messages smaller than {@link #MIN_COMPRESSIBLE_LENGTH}, e.g. heartbeats or most gossip
+ * messages, are sent uncompressed, as compressing them costs more CPU than it saves bytes. Larger
+ * messages, e.g. Raft append requests, are compressed. If a compressed message is still larger than
+ * {@link #MAX_COMPRESSION_RATIO} of its size, compression is skipped for the next {@link
+ * #SKIPPED_MESSAGES_AFTER_POOR_RATIO} messages of the channel before trying again.
+ */
+final class AdaptiveSnappyFrameEncoder extends MessageToByteEncoder<ByteBuf> {
+  static final int MIN_COMPRESSIBLE_LENGTH = 1024;
+  static final double MAX_COMPRESSION_RATIO = 0.9;
+  static final int SKIPPED_MESSAGES_AFTER_POOR_RATIO = 64;
+
+  private static final int MAX_CHUNK_LENGTH = Short.MAX_VALUE;
+  private static final int CHUNK_HEADER_LENGTH = 8;
+  private static final byte COMPRESSED_DATA = 0x00;
+  private static final byte UNCOMPRESSED_DATA = 0x01;
+  private static final byte[] STREAM_IDENTIFIER = {
+    (byte) 0xff, 0x06, 0x00, 0x00, 0x73, 0x4e, 0x61, 0x50, 0x70, 0x59
+  };
+
+  private final Snappy snappy = new Snappy();
+  private final CRC32C checksum = new CRC32C();
+  private final MessagingMetrics metrics;
+  private boolean started;
+  private int skippedMessages;
+
+  AdaptiveSnappyFrameEncoder(final MessagingMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  protected void encode(final ChannelHandlerContext ctx, final ByteBuf in, final ByteBuf out) {
+    if (!in.isReadable()) {
+      return;
+    }
+
+    if (!started) {
+      started = true;
+      out.writeBytes(STREAM_IDENTIFIER);
+    }
+
+    final int length = in.readableBytes();
+    if (length < MIN_COMPRESSIBLE_LENGTH) {
+      writeUncompressed(in, out);
+      return;
+    }
+
+    if (skippedMessages > 0) {
+      skippedMessages--;
+      writeUncompressed(in, out);
+      return;
+    }
+
+    final long startNanos = System.nanoTime();
+    final int startIndex = out.writerIndex();
+    while (in.isReadable()) {
+      writeCompressedChunk(in.readSlice(Math.min(in.readableBytes(), MAX_CHUNK_LENGTH)), out);
+    }
+
+    final int compressedLength = out.writerIndex() - startIndex;
+    metrics.observeCompression(length, compressedLength, System.nanoTime() - startNanos);
+    if (compressedLength > length * MAX_COMPRESSION_RATIO) {
+      skippedMessages = SKIPPED_MESSAGES_AFTER_POOR_RATIO;
+    }
+  }
+
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext ctx, final ByteBuf in, final boolean preferDirect) {
+    // room for the message as uncompressed chunks, which is the most that is kept in the end
+    final int length = in.readableBytes();
+    final int chunks = length / MAX_CHUNK_LENGTH + 1;
+    final int capacity = STREAM_IDENTIFIER.length + chunks * CHUNK_HEADER_LENGTH + length;
+    return preferDirect ? ctx.alloc().ioBuffer(capacity) : ctx.alloc().heapBuffer(capacity);
+  }
+
+  private void writeCompressedChunk(final ByteBuf chunk, final ByteBuf out) {
+    final int headerIndex = out.writerIndex();
+    final int readerIndex = chunk.readerIndex();
+    final int length = chunk.readableBytes();
+    out.writeInt(0);
+    out.writeIntLE(maskedChecksum(chunk));
+    snappy.encode(chunk, out, length);
+
+    final int chunkLength = out.writerIndex() - headerIndex - Integer.BYTES;
+    if (chunkLength - Integer.BYTES < length) {
+      out.setMediumLE(headerIndex + 1, chunkLength);
+      out.setByte(headerIndex, COMPRESSED_DATA);
+    } else {
+      // incompressible data, e.g. already compressed payloads; send it as is instead
+      out.writerIndex(headerIndex);
+      chunk.readerIndex(readerIndex);
+      writeUncompressedChunk(chunk, out);
+    }
+  }
+
+  private void writeUncompressed(final ByteBuf in, final ByteBuf out) {
+    while (in.isReadable()) {
+      writeUncompressedChunk(in.readSlice(Math.min(in.readableBytes(), MAX_CHUNK_LENGTH)), out);
+    }
+  }
+
+  private void writeUncompressedChunk(final ByteBuf chunk, final ByteBuf out) {
+    final int length = chunk.readableBytes();
+    out.writeByte(UNCOMPRESSED_DATA);
+    out.writeMediumLE(length + Integer.BYTES);
+    out.writeIntLE(maskedChecksum(chunk));
+    out.writeBytes(chunk);
+  }
+
+  /** The masked CRC32C checksum of the uncompressed data, as required by the framing format. */
+  private int maskedChecksum(final ByteBuf data) {
+    checksum.reset();
+    checksum.update(data.nioBuffer());
+    final long value = checksum.getValue();
+    return (int) ((value >> 15 | value << 17) + 0xa282ead8);
+  }
+}
@@ -26,6 +26,13 @@ import java.util.List;
 /** Protocol version 2 message decoder. */
 class MessageDecoderV2 extends AbstractMessageDecoder {
 
+  /**
+   * Payloads of at least this size, which didn't arrive with a single read, are accumulated as a
+   * composite of the received buffers instead of merging them into one buffer. Merging grows the
+   * buffer by copying it, which for large payloads means copying it several times before it's read.
+   */
+  static final int COMPOSITE_CUMULATION_THRESHOLD = 64 * 1024;
+
   private DecoderState currentState = DecoderState.READ_SENDER_HOST_LENGTH;
   private int senderHostLength;
   private String senderHost;
@@ -82,6 +89,10 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         } catch (final Escape e) {
           return;
         }
+        if (contentLength >= COMPOSITE_CUMULATION_THRESHOLD
+            && buffer.readableBytes() < contentLength) {
+          setCumulator(COMPOSITE_CUMULATOR);
+        }
         currentState = DecoderState.READ_CONTENT;
       case READ_CONTENT:
         if (buffer.readableBytes() < contentLength) {
@@ -94,6 +105,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         } else {
           content = EMPTY_PAYLOAD;
         }
+        setCumulator(MERGE_CUMULATOR);
 
         switch (type) {
           case REQUEST:
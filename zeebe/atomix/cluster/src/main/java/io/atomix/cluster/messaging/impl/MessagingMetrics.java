@@ -26,4 +26,6 @@ public interface MessagingMetrics {
   void incInFlightRequests(String address, String topic);
 
   void decInFlightRequests(String address, String topic);
+
+  void observeCompression(int uncompressedBytes, int compressedBytes, long durationNanos);
 }
@@ -10,6 +10,7 @@ package io.atomix.cluster.messaging.impl;
 import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
 
 @SuppressWarnings("NullableProblems")
 public enum MessagingMetricsDoc implements ExtendedMeterDocumentation {
@@ -142,6 +143,81 @@ public enum MessagingMetricsDoc implements ExtendedMeterDocumentation {
     public String getDescription() {
       return "The count of inflight requests";
     }
+  },
+  /** Number of bytes of the messages which were compressed, before compressing them */
+  COMPRESSION_INPUT_BYTES {
+    @Override
+    public String getName() {
+      return "zeebe.messaging.compression.input.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of bytes of the messages which were compressed, before compressing them";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+  },
+  /** Number of bytes of the messages which were compressed, after compressing them */
+  COMPRESSION_OUTPUT_BYTES {
+    @Override
+    public String getName() {
+      return "zeebe.messaging.compression.output.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of bytes of the messages which were compressed, after compressing them; the"
+          + " difference to the input bytes is the number of bytes saved";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+  },
+  /** Time spent compressing outgoing messages */
+  COMPRESSION_DURATION {
+    @Override
+    public String getName() {
+      return "zeebe.messaging.compression.duration";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time spent compressing outgoing messages";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return new Duration[] {
+        Duration.ofNanos(10_000),
+        Duration.ofNanos(50_000),
+        Duration.ofNanos(100_000),
+        Duration.ofNanos(500_000),
+        Duration.ofMillis(1),
+        Duration.ofMillis(5),
+        Duration.ofMillis(10)
+      };
+    }
   };
 
   enum MessagingKeyNames implements KeyName {
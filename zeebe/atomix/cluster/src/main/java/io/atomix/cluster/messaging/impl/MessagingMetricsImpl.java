@@ -19,6 +19,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
@@ -39,6 +40,9 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   private final Table<String, String, Counter> requestRespCounter;
   private final Map3D<String, String, String, Counter> responseCounter;
   private final Table<String, String, Counter> inFlightCounter;
+  private final Counter compressionInputBytes;
+  private final Counter compressionOutputBytes;
+  private final Timer compressionDuration;
 
   MessagingMetricsImpl(final MeterRegistry registry) {
     this.registry = registry;
@@ -48,6 +52,17 @@ final class MessagingMetricsImpl implements MessagingMetrics {
     requestRespCounter = Table.concurrent();
     responseCounter = Map3D.concurrent();
     inFlightCounter = Table.concurrent();
+    compressionInputBytes =
+        Counter.builder(COMPRESSION_INPUT_BYTES.getName())
+            .description(COMPRESSION_INPUT_BYTES.getDescription())
+            .baseUnit(COMPRESSION_INPUT_BYTES.getBaseUnit())
+            .register(registry);
+    compressionOutputBytes =
+        Counter.builder(COMPRESSION_OUTPUT_BYTES.getName())
+            .description(COMPRESSION_OUTPUT_BYTES.getDescription())
+            .baseUnit(COMPRESSION_OUTPUT_BYTES.getBaseUnit())
+            .register(registry);
+    compressionDuration = MicrometerUtil.buildTimer(COMPRESSION_DURATION).register(registry);
   }
 
   @Override
@@ -99,6 +114,14 @@ final class MessagingMetricsImpl implements MessagingMetrics {
     inFlightCounter.computeIfAbsent(address, topic, this::registerInFlightCounter).increment(-1.0D);
   }
 
+  @Override
+  public void observeCompression(
+      final int uncompressedBytes, final int compressedBytes, final long durationNanos) {
+    compressionInputBytes.increment(uncompressedBytes);
+    compressionOutputBytes.increment(compressedBytes);
+    compressionDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
   private DistributionSummary getRequestSizeSummary(final String to, final String name) {
     return requestSize.computeIfAbsent(
         to,
@@ -59,7 +59,6 @@ import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.compression.SnappyFrameDecoder;
-import io.netty.handler.codec.compression.SnappyFrameEncoder;
 import io.netty.handler.codec.compression.ZlibCodecFactory;
 import io.netty.handler.codec.compression.ZlibWrapper;
 import io.netty.handler.ssl.SslContext;
@@ -1006,7 +1005,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
           channel.pipeline().addLast(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.GZIP));
           break;
         case SNAPPY:
-          channel.pipeline().addLast(new SnappyFrameEncoder());
+          channel.pipeline().addLast(new AdaptiveSnappyFrameEncoder(messagingMetrics));
           channel.pipeline().addLast(new SnappyFrameDecoder());
           break;
         case NONE:
@@ -1042,7 +1041,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
           channel.pipeline().addLast(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.GZIP));
           break;
         case SNAPPY:
-          channel.pipeline().addLast(new SnappyFrameEncoder());
+          channel.pipeline().addLast(new AdaptiveSnappyFrameEncoder(messagingMetrics));
           channel.pipeline().addLast(new SnappyFrameDecoder());
           break;
         case NONE:
@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.util.VisibleForTesting;
 import java.nio.ByteBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +37,7 @@ public final class RaftMemberContext {
 
   private final DefaultRaftMember member;
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -46,9 +48,14 @@ public final class RaftMemberContext {
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  // Incremented whenever the member's replication position is reset. Responses to append requests
+  // which were sent before the last reset are outdated, as the requests were built from the old
+  // position; with several requests in flight, this keeps them from resetting the member again.
+  private long appendEpoch;
   private boolean appendSucceeded;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private boolean installSucceeded;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -76,12 +83,15 @@ public final class RaftMemberContext {
   private long sentAppendWatermark;
   private long acknowledgedAppendWatermark;
 
-  RaftMemberContext(
+  @VisibleForTesting
+  public RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -93,8 +103,10 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    appendEpoch++;
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    installSucceeded = false;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -226,6 +238,25 @@ public final class RaftMemberContext {
     inFlightAppendCount--;
   }
 
+  /**
+   * Returns the number of append requests which were sent to the member, but not yet completed.
+   *
+   * @return The number of in-flight append requests.
+   */
+  public int getInFlightAppendCount() {
+    return inFlightAppendCount;
+  }
+
+  /**
+   * Returns the current append epoch of the member, which changes whenever its replication position
+   * is reset. An append request which was sent in an older epoch is outdated.
+   *
+   * @return The current append epoch.
+   */
+  public long getAppendEpoch() {
+    return appendEpoch;
+  }
+
   /**
    * Returns a boolean indicating whether a configure request can be sent to the member.
    *
@@ -251,17 +282,41 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open
+        && (inFlightInstallCount == 0
+            || (installSucceeded && inFlightInstallCount < maxInstallsPerMember));
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
+  }
+
+  /**
+   * Returns the number of install requests which were sent to the member, but not yet completed.
+   *
+   * @return The number of in-flight install requests.
+   */
+  public int getInFlightInstallCount() {
+    return inFlightInstallCount;
+  }
+
+  /** Flags the last install request to the member as successful. */
+  public void installSucceeded() {
+    installSucceeded = true;
+  }
+
+  /**
+   * Flags the last install request to the member as failed. No further chunks are sent until all
+   * in-flight install requests completed.
+   */
+  public void installFailed() {
+    installSucceeded = false;
   }
 
   /**
@@ -294,9 +349,10 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendEpoch", appendEpoch)
         .add("appendSucceeded", appendSucceeded)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .add("snapshotReplicationLag", snapshotReplicationLag)
         .add("logReplicationLag", logReplicationLag)
@@ -608,6 +664,7 @@ public final class RaftMemberContext {
   }
 
   public void reset(final long index) {
+    appendEpoch++;
     final var nextIndex = reader.seek(index - 1);
     if (nextIndex == index - 1) {
       currentEntry = reader.next();
@@ -35,6 +35,7 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
   private final StatefulGauge nonCommittedEntriesValue;
   private final Map<String, StatefulGauge> nonReplicatedEntries;
   private final Map<String, StatefulGauge> replicationLagBytes;
+  private final Map<String, StatefulGauge> inFlightAppends;
 
   public LeaderAppenderMetrics(final String partitionName, final MeterRegistry meterRegistry) {
     super(partitionName);
@@ -44,6 +45,7 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendRate = new HashMap<>();
     nonReplicatedEntries = new HashMap<>();
     replicationLagBytes = new HashMap<>();
+    inFlightAppends = new HashMap<>();
 
     commitRate =
         Counter.builder(LeaderMetricsDoc.COMMIT_RATE.getName())
@@ -86,6 +88,10 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     replicationLagBytes.computeIfAbsent(memberId, this::registerReplicationLagBytes).set(lagBytes);
   }
 
+  public void observeInFlightAppends(final String memberId, final int appends) {
+    inFlightAppends.computeIfAbsent(memberId, this::registerInFlightAppends).set(appends);
+  }
+
   private Timer getAppendLatency(final String memberId) {
     return appendLatency.computeIfAbsent(
         memberId,
@@ -146,6 +152,15 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
         .register(meterRegistry);
   }
 
+  private StatefulGauge registerInFlightAppends(final String memberId) {
+    return StatefulGauge.builder(LeaderMetricsDoc.IN_FLIGHT_APPENDS.getName())
+        .description(LeaderMetricsDoc.IN_FLIGHT_APPENDS.getDescription())
+        .tag(PartitionKeyNames.PARTITION.asString(), partition)
+        .tag(PartitionKeyNames.PHYSICAL_TENANT.asString(), partitionGroupName)
+        .tag(RaftKeyNames.FOLLOWER.asString(), memberId)
+        .register(meterRegistry);
+  }
+
   @Override
   public void close() {
     meterRegistry.remove(commitRate);
@@ -155,5 +170,6 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendDataRate.values().forEach(meterRegistry::remove);
     nonReplicatedEntries.values().forEach(meterRegistry::remove);
     replicationLagBytes.values().forEach(meterRegistry::remove);
+    inFlightAppends.values().forEach(meterRegistry::remove);
   }
 }
@@ -181,6 +181,31 @@ public enum LeaderMetricsDoc implements ExtendedMeterDocumentation {
           + " leadership transfer";
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, PartitionKeyNames.PHYSICAL_TENANT, RaftKeyNames.FOLLOWER
+      };
+    }
+  },
+  /** The number of append requests to a follower which await a response */
+  IN_FLIGHT_APPENDS {
+    @Override
+    public String getName() {
+      return "zeebe.raft.replication.inflight.appends";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of append requests to a follower which await a response, bounded by the"
+          + " configured maximum appends per follower";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {
@@ -20,6 +20,8 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.file.SegmentAllocator;
+import io.camunda.zeebe.journal.file.SegmentMemoryAdvisor;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -31,12 +33,20 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final Duration DEFAULT_GROUP_COMMIT_MAX_DELAY = Duration.ZERO;
+  private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024L * 1024;
+  private static final int DEFAULT_SEGMENT_LOAD_PARALLELISM = 1;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private boolean persistedSegmentIndex;
+  private int segmentLoadParallelism = DEFAULT_SEGMENT_LOAD_PARALLELISM;
   private SegmentAllocator segmentAllocator = SegmentAllocator.defaultAllocator();
+  private SegmentMemoryAdvisor segmentMemoryAdvisor = SegmentMemoryAdvisor.defaultAdvisor();
+  private Duration groupCommitMaxDelay = DEFAULT_GROUP_COMMIT_MAX_DELAY;
+  private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
 
   /**
    * Returns the Raft log segment size.
@@ -109,6 +119,37 @@ public class RaftStorageConfig {
     return this;
   }
 
+  public boolean isPersistedSegmentIndex() {
+    return persistedSegmentIndex;
+  }
+
+  /**
+   * Sets whether the index of every full segment is persisted next to it, so it can be restored on
+   * start up instead of being rebuilt by scanning the segment.
+   *
+   * @param persistedSegmentIndex true to persist the index of full segments
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setPersistedSegmentIndex(final boolean persistedSegmentIndex) {
+    this.persistedSegmentIndex = persistedSegmentIndex;
+    return this;
+  }
+
+  public int getSegmentLoadParallelism() {
+    return segmentLoadParallelism;
+  }
+
+  /**
+   * Sets how many existing segments may be loaded concurrently when the log is opened on start up.
+   *
+   * @param segmentLoadParallelism the maximum number of segments to load concurrently
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setSegmentLoadParallelism(final int segmentLoadParallelism) {
+    this.segmentLoadParallelism = segmentLoadParallelism;
+    return this;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -120,8 +161,18 @@ public class RaftStorageConfig {
         + freeDiskSpace
         + ", journalIndexDensity="
         + journalIndexDensity
+        + ", persistedSegmentIndex="
+        + persistedSegmentIndex
+        + ", segmentLoadParallelism="
+        + segmentLoadParallelism
         + ", segmentAllocator="
         + segmentAllocator
+        + ", segmentMemoryAdvisor="
+        + segmentMemoryAdvisor
+        + ", groupCommitMaxDelay="
+        + groupCommitMaxDelay
+        + ", groupCommitMaxBytes="
+        + groupCommitMaxBytes
         + '}';
   }
 
@@ -138,4 +189,50 @@ public class RaftStorageConfig {
   public void setSegmentAllocator(final SegmentAllocator segmentAllocator) {
     this.segmentAllocator = segmentAllocator;
   }
+
+  public SegmentMemoryAdvisor getSegmentMemoryAdvisor() {
+    return segmentMemoryAdvisor;
+  }
+
+  /**
+   * Sets how the memory mappings of segments interact with the OS page cache.
+   *
+   * @param segmentMemoryAdvisor the advisor to use
+   */
+  public void setSegmentMemoryAdvisor(final SegmentMemoryAdvisor segmentMemoryAdvisor) {
+    this.segmentMemoryAdvisor = segmentMemoryAdvisor;
+  }
+
+  public Duration getGroupCommitMaxDelay() {
+    return groupCommitMaxDelay;
+  }
+
+  /**
+   * Sets the maximum time the leader may defer flushing and committing appended entries, such that
+   * entries appended within that window share a single flush. {@link Duration#ZERO} disables group
+   * commit.
+   *
+   * @param groupCommitMaxDelay the group commit window
+   * @return this config for chaining
+   */
+  public RaftStorageConfig setGroupCommitMaxDelay(final Duration groupCommitMaxDelay) {
+    this.groupCommitMaxDelay = groupCommitMaxDelay;
+    return this;
+  }
+
+  public long getGroupCommitMaxBytes() {
+    return groupCommitMaxBytes;
+  }
+
+  /**
+   * Sets the accumulated size of appended entries after which a group is flushed and committed
+   * immediately, regardless of {@link #getGroupCommitMaxDelay()}.
+   *
+   * @param groupCommitMaxBytes the maximum size of a group in bytes
+   * @return this config for chaining
+   */
+  public RaftStorageConfig setGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+    return this;
+  }
 }
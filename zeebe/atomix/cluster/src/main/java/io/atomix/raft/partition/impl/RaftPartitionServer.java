@@ -335,7 +335,12 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withFreeDiskSpace(storageConfig.getFreeDiskSpace())
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
+        .withPersistedSegmentIndex(storageConfig.isPersistedSegmentIndex())
+        .withSegmentLoadParallelism(storageConfig.getSegmentLoadParallelism())
         .withSegmentAllocator(storageConfig.getSegmentAllocator())
+        .withSegmentMemoryAdvisor(storageConfig.getSegmentMemoryAdvisor())
+        .withGroupCommit(
+            storageConfig.getGroupCommitMaxDelay(), storageConfig.getGroupCommitMaxBytes())
         .build();
   }
 
@@ -40,11 +40,13 @@ import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import io.atomix.utils.concurrent.Scheduled;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -53,7 +55,6 @@ import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,6 +80,7 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  private Scheduled groupCommitTimer;
 
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
@@ -208,7 +210,9 @@ final class LeaderAppender {
 
     // Start the append to the member.
     member.startAppend();
+    observeInFlightAppends(member);
     final long appendWatermark = member.recordInFlightAppend(requestSize);
+    final long appendEpoch = member.getAppendEpoch();
 
     final long timestamp = System.currentTimeMillis();
 
@@ -222,12 +226,14 @@ final class LeaderAppender {
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
                 member.completeAppend();
+                observeInFlightAppends(member);
 
                 if (error == null) {
                   LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, sizedRequest, response, appendWatermark, timestamp);
+                  handleAppendResponse(
+                      member, sizedRequest, response, appendWatermark, appendEpoch, timestamp);
                 } else {
-                  handleAppendResponseFailure(member, request, error);
+                  handleAppendResponseFailure(member, request, appendEpoch, error);
                 }
               }
             },
@@ -264,8 +270,9 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. With
+    // several requests in flight, responses may arrive out of order, so never move it backwards.
+    member.setMatchIndex(Math.max(member.getMatchIndex(), response.lastLogIndex()));
     observeRemainingMemberEntries(member);
   }
 
@@ -278,6 +285,11 @@ final class LeaderAppender {
     }
   }
 
+  private void observeInFlightAppends(final RaftMemberContext member) {
+    metrics.observeInFlightAppends(
+        member.getMember().memberId().id(), member.getInFlightAppendCount());
+  }
+
   private void observeRemainingMemberEntries(final RaftMemberContext member) {
     metrics.observeRemainingEntries(
         member.getMember().memberId().id(), raft.getLog().getLastIndex() - member.getMatchIndex());
@@ -399,6 +411,7 @@ final class LeaderAppender {
    * value.
    */
   private void restartSnapshotReplication(final RaftMemberContext member) {
+    member.installFailed();
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
     final var currentSnapshot = raft.getCurrentSnapshot();
@@ -411,7 +424,7 @@ final class LeaderAppender {
   }
 
   /** Builds an install request for the given member. */
-  private Optional<InstallRequest> buildInstallRequest(
+  private Optional<SizedInstallRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
@@ -435,14 +448,16 @@ final class LeaderAppender {
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
 
     try {
-      // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
-      // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
-        // member.getNextSnapshotChunk is null when it is the first chunk.
-        reader.reset();
+      // While chunks are in flight, the reader is positioned right after the last sent chunk. Once
+      // all of them completed, continue after the last acknowledged chunk, which is the same
+      // position unless a chunk failed and has to be sent again.
+      if (member.getInFlightInstallCount() == 0) {
+        if (member.getNextSnapshotChunk() != null) {
+          reader.seek(member.getNextSnapshotChunk());
+        } else {
+          // member.getNextSnapshotChunk is null when it is the first chunk.
+          reader.reset();
+        }
       }
 
       if (!reader.hasNext()) {
@@ -450,8 +465,6 @@ final class LeaderAppender {
       }
       final ByteBuffer currentChunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
-      // Remember the chunk's tracked size so it can be subtracted from the lag once acknowledged.
-      member.setSnapshotChunkBytesInFlight(chunk.getContentLength());
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -470,7 +483,8 @@ final class LeaderAppender {
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
-      return Optional.of(request);
+      // Remember the chunk's tracked size so it can be subtracted from the lag once acknowledged.
+      return Optional.of(new SizedInstallRequest(request, chunk.getContentLength()));
     } catch (final UncheckedIOException e) {
       LOGGER.warn(
           "Expected to send next chunk of Snapshot {} to {}. But could not read SnapshotChunk. Snapshot may have been deleted. Will retry.",
@@ -484,9 +498,14 @@ final class LeaderAppender {
   }
 
   /** Connects to the member and sends a snapshot request. */
-  private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
+  private void sendInstallRequest(
+      final RaftMemberContext member, final SizedInstallRequest sizedRequest) {
+    final InstallRequest request = sizedRequest.request();
+    final long chunkSize = sizedRequest.size();
+
     // Start the install to the member.
     member.startInstall();
+    member.setSnapshotChunkBytesInFlight(member.getSnapshotChunkBytesInFlight() + chunkSize);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -498,10 +517,12 @@ final class LeaderAppender {
               if (open) {
                 // Complete the install to the member.
                 member.completeInstall();
+                member.setSnapshotChunkBytesInFlight(
+                    Math.max(0, member.getSnapshotChunkBytesInFlight() - chunkSize));
 
                 if (error == null) {
                   LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleInstallResponse(member, request, response, timestamp);
+                  handleInstallResponse(member, request, chunkSize, response, timestamp);
                 } else {
                   // Trigger reactions to the install response failure.
                   handleInstallResponseFailure(member, request, error);
@@ -509,20 +530,22 @@ final class LeaderAppender {
               }
             },
             raft.getThreadContext());
+
+    // Keep sending the following chunks, as long as the member accepts more chunks in flight.
+    if (!request.complete() && member.canInstall()) {
+      appendEntries(member);
+    }
   }
 
   /** Handles an install response failure. */
   private void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
-    // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
-    final boolean isTimeout =
-        error instanceof TimeoutException
-            || (error != null && error.getCause() instanceof TimeoutException);
-
-    if (!isTimeout) {
-      restartSnapshotReplication(member);
-    }
+    // Keep the member's snapshot index and offset, and resume with the chunk after the last
+    // acknowledged one once the connection to the member is re-established. The member keeps its
+    // pending snapshot and acknowledges chunks it already received without writing them again. If
+    // it dropped the pending snapshot in the meantime, it rejects the chunk, and the replication
+    // is restarted from the first chunk.
+    member.installFailed();
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -532,10 +555,21 @@ final class LeaderAppender {
   private void handleInstallResponseOk(
       final RaftMemberContext member,
       final InstallRequest request,
+      final long chunkSize,
       final InstallResponse response) {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    // With several chunks in flight, a response may belong to a chunk which was already
+    // acknowledged, or to an install which was restarted in the meantime
+    if (!isNextSnapshotChunk(member, request)) {
+      LOGGER.trace("Ignoring outdated {} for {}", response, request);
+      appendEntries(member);
+      return;
+    }
+
+    member.installSucceeded();
+
     //    if not given in response defaults to 0
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
@@ -551,7 +585,7 @@ final class LeaderAppender {
     }
     // If more install requests remain, increment the member's snapshot offset.
     else {
-      member.subtractSnapshotReplicationLag(member.getSnapshotChunkBytesInFlight());
+      member.subtractSnapshotReplicationLag(chunkSize);
       member.setNextSnapshotChunkId(request.nextChunkId());
     }
     observeReplicationLag(member);
@@ -560,6 +594,16 @@ final class LeaderAppender {
     appendEntries(member);
   }
 
+  private boolean isNextSnapshotChunk(
+      final RaftMemberContext member, final InstallRequest request) {
+    if (request.index() != member.getNextSnapshotIndex()) {
+      return false;
+    }
+    return request.isInitial()
+        ? member.getNextSnapshotChunk() == null
+        : request.chunkId().equals(member.getNextSnapshotChunk());
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   private void handleInstallResponseError(
@@ -597,6 +641,10 @@ final class LeaderAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().isSingleMemberCluster()) {
+      if (deferCommitToGroup()) {
+        return appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
+      }
+
       try {
         raft.setCommitIndex(index);
         completeCommits(index);
@@ -668,9 +716,22 @@ final class LeaderAppender {
   }
 
   private void handleAppendResponseFailure(
-      final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
+      final RaftMemberContext member,
+      final VersionedAppendRequest request,
+      final long appendEpoch,
+      final Throwable error) {
     failHeartbeat();
 
+    // The requests sent after a lost one don't follow the member's log anymore, and will be
+    // rejected. Rewind to the last acknowledged entry right away, such that the entries are sent
+    // again one request at a time, and the rejections of the outdated requests are ignored.
+    if (!request.entries().isEmpty()
+        && member.hasAckedAppend()
+        && member.getAppendEpoch() == appendEpoch) {
+      member.appendFailed();
+      resetNextIndex(member, member.getMatchIndex() + 1);
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -715,9 +776,10 @@ final class LeaderAppender {
       final SizedAppendRequest sizedRequest,
       final AppendResponse response,
       final long appendWatermark,
+      final long appendEpoch,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, sizedRequest, response, appendWatermark);
+      handleAppendResponseOk(member, sizedRequest, response, appendWatermark, appendEpoch);
     } else {
       handleAppendResponseError(member, sizedRequest, response);
     }
@@ -728,7 +790,8 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final SizedAppendRequest sizedRequest,
       final AppendResponse response,
-      final long appendWatermark) {
+      final long appendWatermark,
+      final long appendEpoch) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -736,7 +799,10 @@ final class LeaderAppender {
 
     // If replication succeeded then trigger commit futures.
     if (response.succeeded()) {
-      member.appendSucceeded();
+      // An outdated response must not open up the window again while the member is being reset
+      if (member.getAppendEpoch() == appendEpoch) {
+        member.appendSucceeded();
+      }
       member.acknowledgeInFlightAppends(appendWatermark);
       updateMatchIndex(member, response);
 
@@ -764,6 +830,15 @@ final class LeaderAppender {
       raft.setLeader(null);
       raft.transition(RaftServer.Role.FOLLOWER);
     }
+    // If the request was sent before the member was reset, e.g. it was pipelined behind a rejected
+    // request, the member was already rewound. Resetting it again would only send the same entries
+    // once more for every outdated response.
+    else if (member.getAppendEpoch() != appendEpoch) {
+      LOGGER.trace("Ignoring outdated rejection {} from {}", response, member.getMember());
+      if (hasMoreEntries(member)) {
+        appendEntries(member);
+      }
+    }
     // If the response failed, the follower should have provided the correct last index in their
     // log. This helps
     // us converge on the matchIndex faster than by simply decrementing nextIndex one index at a
@@ -892,10 +967,11 @@ final class LeaderAppender {
   private void handleInstallResponse(
       final RaftMemberContext member,
       final InstallRequest request,
+      final long chunkSize,
       final InstallResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleInstallResponseOk(member, request, response);
+      handleInstallResponseOk(member, request, chunkSize, response);
     } else {
       handleInstallResponseError(member, request, response);
     }
@@ -904,6 +980,10 @@ final class LeaderAppender {
 
   public void close() {
     open = false;
+    if (groupCommitTimer != null) {
+      groupCommitTimer.cancel();
+      groupCommitTimer = null;
+    }
     metrics.close();
     completeCommits(raft.getCommitIndex());
     appendFutures.forEach(
@@ -1049,6 +1129,16 @@ final class LeaderAppender {
 
   /** Checks whether any futures can be completed. */
   private void commitEntries() {
+    commitEntries(true);
+  }
+
+  /**
+   * Checks whether any futures can be completed.
+   *
+   * @param allowGroupCommit if false, commits immediately even if the log's flush could still be
+   *     deferred to group it with subsequent appends
+   */
+  private void commitEntries(final boolean allowGroupCommit) {
     raft.checkThread();
 
     final long commitIndex =
@@ -1065,12 +1155,51 @@ final class LeaderAppender {
     if (commitIndex > 0
         && commitIndex > previousCommitIndex
         && (leaderIndex > 0 && commitIndex >= leaderIndex)) {
+      if (allowGroupCommit && deferCommitToGroup()) {
+        return;
+      }
+
       LOGGER.trace("Committed entries up to {}", commitIndex);
       raft.setCommitIndex(commitIndex);
       completeCommits(commitIndex);
     }
   }
 
+  /**
+   * Defers committing, and thus flushing the log, if the log's flush may still be delayed to share
+   * it with subsequent appends. A single commit is then scheduled for the end of the group's
+   * window, flushing and committing every entry appended until then at once.
+   *
+   * @return true if the commit was deferred, false if it is due now
+   */
+  private boolean deferCommitToGroup() {
+    final Duration flushDelay = raft.getLog().getFlushDelay();
+    if (flushDelay.isZero()) {
+      return false;
+    }
+
+    if (groupCommitTimer == null) {
+      groupCommitTimer = raft.getThreadContext().schedule(flushDelay, this::commitGroup);
+    }
+    return true;
+  }
+
+  private void commitGroup() {
+    groupCommitTimer = null;
+    if (!open) {
+      return;
+    }
+
+    try {
+      // the timer may fire marginally early, as it is only precise to the millisecond; the window
+      // is over in any case, so do not defer again
+      commitEntries(false);
+    } catch (final CommitFailedException e) {
+      // the leader already stepped down, failing all pending append futures
+      LOGGER.warn("Failed to commit group of entries", e);
+    }
+  }
+
   private long computeResponseTime() {
     return raft.getCluster()
         .getQuorumFor(RaftMemberContext::getResponseTime)
@@ -1106,6 +1235,8 @@ final class LeaderAppender {
    */
   private record SizedAppendRequest(VersionedAppendRequest request, long size) {}
 
+  private record SizedInstallRequest(InstallRequest request, long size) {}
+
   /** Timestamped completable future. */
   private static class TimestampedFuture<T> extends CompletableFuture<T> {
 
@@ -61,8 +61,9 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -75,7 +76,12 @@ public class PassiveRole extends InactiveRole {
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
-  private ByteBuffer previouslyReceivedSnapshotChunkId;
+  // The chunks of the pending snapshot which were already written. A leader resumes a snapshot
+  // install after the last chunk it saw acknowledged, and a new leader starts with the first chunk
+  // again, so the chunks which were received in the meantime are acknowledged without being
+  // written twice. Only chunks of the same snapshot are deduplicated, and only once the request
+  // was validated against the current term and index.
+  private final Set<ByteBuffer> receivedSnapshotChunkIds = new HashSet<>();
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -204,6 +210,7 @@ public class PassiveRole extends InactiveRole {
       }
 
       log.info("Started receiving new snapshot {} from {}", pendingSnapshot, request.leader());
+      receivedSnapshotChunkIds.clear();
       pendingSnapshotStartTimestamp = System.currentTimeMillis();
       snapshotReplicationMetrics.incrementCount();
 
@@ -259,14 +266,14 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
       setNextExpected(request.nextChunkId());
-      previouslyReceivedSnapshotChunkId = request.chunkId();
+      receivedSnapshotChunkIds.add(request.chunkId());
     }
 
     return CompletableFuture.completedFuture(
@@ -568,34 +575,6 @@ public class PassiveRole extends InactiveRole {
   // validates install request and returns a response if the request should not be processed
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
-    if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      // Duplicate request for the same chunk that was previously processed
-      return Either.left(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(Status.OK)
-                  .withPreferredChunkSize(snapshotChunkSize)
-                  .build()));
-    }
-
-    // if null assume it is first chunk of file
-    if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
-      final var errMsg =
-          "Expected chunkId of ["
-              + new SnapshotChunkId(nextPendingSnapshotChunkId)
-              + "] got ["
-              + new SnapshotChunkId(request.chunkId())
-              + "].";
-      abortPendingSnapshots();
-      return Either.left(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(Status.ERROR)
-                  .withError(Type.ILLEGAL_MEMBER_STATE, errMsg)
-                  .build()));
-    }
-
     // If the request is for a lesser term, reject the request.
     if (request.currentTerm() < raft.getTerm()) {
       return Either.left(
@@ -634,6 +613,34 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    if (isReceivedChunkOfPendingSnapshot(request)) {
+      // Duplicate request for a chunk that was previously processed
+      return Either.left(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(Status.OK)
+                  .withPreferredChunkSize(snapshotChunkSize)
+                  .build()));
+    }
+
+    // if null assume it is first chunk of file
+    if (nextPendingSnapshotChunkId != null
+        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
+      final var errMsg =
+          "Expected chunkId of ["
+              + new SnapshotChunkId(nextPendingSnapshotChunkId)
+              + "] got ["
+              + new SnapshotChunkId(request.chunkId())
+              + "].";
+      abortPendingSnapshots();
+      return Either.left(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(Status.ERROR)
+                  .withError(Type.ILLEGAL_MEMBER_STATE, errMsg)
+                  .build()));
+    }
+
     if (!request.complete() && request.nextChunkId() == null) {
       abortPendingSnapshots();
       return Either.left(
@@ -648,6 +655,12 @@ public class PassiveRole extends InactiveRole {
     return Either.right(null);
   }
 
+  private boolean isReceivedChunkOfPendingSnapshot(final InstallRequest request) {
+    return pendingSnapshot != null
+        && pendingSnapshot.index() == request.index()
+        && receivedSnapshotChunkIds.contains(request.chunkId());
+  }
+
   private CompletableFuture<InstallResponse> failIfSnapshotAlreadyExists(
       final ExecutionException errorCreatingPendingSnapshot,
       final SnapshotChunkImpl snapshotChunk) {
@@ -688,7 +701,7 @@ public class PassiveRole extends InactiveRole {
   protected void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
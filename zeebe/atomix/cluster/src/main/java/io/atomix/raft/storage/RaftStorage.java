@@ -26,6 +26,7 @@ import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.file.SegmentAllocator;
+import io.camunda.zeebe.journal.file.SegmentMemoryAdvisor;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import io.camunda.zeebe.util.FileUtil;
@@ -37,6 +38,7 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -65,7 +67,12 @@ public final class RaftStorage {
   private final long freeDiskSpace;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
+  private final boolean persistedSegmentIndex;
+  private final int segmentLoadParallelism;
   private final SegmentAllocator segmentAllocator;
+  private final SegmentMemoryAdvisor segmentMemoryAdvisor;
+  private final Duration groupCommitMaxDelay;
+  private final long groupCommitMaxBytes;
   private final MeterRegistry meterRegistry;
   private final RaftLogFlusher.Factory flusherFactory;
 
@@ -78,7 +85,12 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
+      final boolean persistedSegmentIndex,
+      final int segmentLoadParallelism,
       final SegmentAllocator segmentAllocator,
+      final SegmentMemoryAdvisor segmentMemoryAdvisor,
+      final Duration groupCommitMaxDelay,
+      final long groupCommitMaxBytes,
       final MeterRegistry meterRegistry) {
     this.prefix = prefix;
     this.partitionId = partitionId;
@@ -88,7 +100,12 @@ public final class RaftStorage {
     this.flusherFactory = flusherFactory;
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
+    this.persistedSegmentIndex = persistedSegmentIndex;
+    this.segmentLoadParallelism = segmentLoadParallelism;
     this.segmentAllocator = segmentAllocator;
+    this.segmentMemoryAdvisor = segmentMemoryAdvisor;
+    this.groupCommitMaxDelay = groupCommitMaxDelay;
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
     this.meterRegistry = meterRegistry;
 
     try {
@@ -197,7 +214,11 @@ public final class RaftStorage {
         .withMaxSegmentSize(maxSegmentSize)
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
+        .withPersistedSegmentIndex(persistedSegmentIndex)
+        .withSegmentLoadParallelism(segmentLoadParallelism)
         .withSegmentAllocator(segmentAllocator)
+        .withSegmentMemoryAdvisor(segmentMemoryAdvisor)
+        .withGroupCommit(groupCommitMaxDelay, groupCommitMaxBytes)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -254,6 +275,8 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final Duration DEFAULT_GROUP_COMMIT_MAX_DELAY = Duration.ZERO;
+    private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024L * 1024;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -265,7 +288,12 @@ public final class RaftStorage {
     private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+    private boolean persistedSegmentIndex;
+    private int segmentLoadParallelism = 1;
     private SegmentAllocator segmentAllocator = SegmentAllocator.defaultAllocator();
+    private SegmentMemoryAdvisor segmentMemoryAdvisor = SegmentMemoryAdvisor.defaultAdvisor();
+    private Duration groupCommitMaxDelay = DEFAULT_GROUP_COMMIT_MAX_DELAY;
+    private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
     private int partitionId = DEFAULT_PARTITION_ID;
     private final MeterRegistry meterRegistry;
 
@@ -360,6 +388,30 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the index of every full segment of the log is persisted next to it, so it can be
+     * restored on start up instead of being rebuilt by scanning the segment. Disabled by default.
+     *
+     * @param persistedSegmentIndex true to persist the index of full segments
+     * @return this builder for chaining
+     */
+    public Builder withPersistedSegmentIndex(final boolean persistedSegmentIndex) {
+      this.persistedSegmentIndex = persistedSegmentIndex;
+      return this;
+    }
+
+    /**
+     * Sets how many existing segments of the log may be loaded concurrently when it is opened. By
+     * default, segments are loaded one after another.
+     *
+     * @param segmentLoadParallelism the maximum number of segments to load concurrently
+     * @return this builder for chaining
+     */
+    public Builder withSegmentLoadParallelism(final int segmentLoadParallelism) {
+      this.segmentLoadParallelism = segmentLoadParallelism;
+      return this;
+    }
+
     /**
      * Sets whether segment files are pre-allocated at creation. If true, segment files are
      * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -373,6 +425,34 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets how the memory mappings of the log's segments interact with the OS page cache, e.g. to
+     * release the pages of full segments once they were flushed.
+     *
+     * @param segmentMemoryAdvisor the advisor to use
+     * @return this builder for chaining
+     */
+    public Builder withSegmentMemoryAdvisor(final SegmentMemoryAdvisor segmentMemoryAdvisor) {
+      this.segmentMemoryAdvisor = segmentMemoryAdvisor;
+      return this;
+    }
+
+    /**
+     * Enables group commit: entries appended by the leader within the given window share a single
+     * flush, and are committed together once it is done. Only takes effect with a direct flusher.
+     *
+     * <p>By default, the max delay is {@link Duration#ZERO}, which disables group commit.
+     *
+     * @param maxDelay the maximum time to defer a flush after the first entry of a group
+     * @param maxBytes the accumulated size in bytes after which a group is flushed immediately
+     * @return this builder for chaining
+     */
+    public Builder withGroupCommit(final Duration maxDelay, final long maxBytes) {
+      groupCommitMaxDelay = maxDelay;
+      groupCommitMaxBytes = maxBytes;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -400,7 +480,12 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
+          persistedSegmentIndex,
+          segmentLoadParallelism,
           segmentAllocator,
+          segmentMemoryAdvisor,
+          groupCommitMaxDelay,
+          groupCommitMaxBytes,
           meterRegistry);
     }
   }
@@ -30,6 +30,7 @@ import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.SegmentInfo;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.Closeable;
+import java.time.Duration;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -210,6 +211,18 @@ public final class RaftLog implements Closeable {
     flusher.flush(journal);
   }
 
+  /**
+   * Returns how much longer the leader may defer flushing (and thus committing) the entries
+   * appended since the last flush, such that entries appended in the meantime share the same flush.
+   * Group commit only applies when flushing directly; with any other flushing strategy, the flush
+   * is never durable on return anyway, so there is nothing to gain from deferring it.
+   *
+   * @return the remaining delay, or {@link Duration#ZERO} if the flush is due now
+   */
+  public Duration getFlushDelay() {
+    return flusher.isDirect() ? journal.getFlushDelay() : Duration.ZERO;
+  }
+
   /**
    * Flushes the underlying journal in a blocking, synchronous way. When this returns, it is
    * guaranteed that any appended data since the last flush is persisted on disk.
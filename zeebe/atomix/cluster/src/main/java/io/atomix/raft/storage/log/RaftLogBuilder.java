@@ -20,10 +20,12 @@ import io.atomix.raft.storage.log.RaftLogFlusher.Factory;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.file.SegmentAllocator;
+import io.camunda.zeebe.journal.file.SegmentMemoryAdvisor;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.time.Duration;
 
 public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
 
@@ -117,6 +119,29 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the index of every full segment is persisted next to it, so it can be restored on
+   * start up instead of being rebuilt by scanning the segment.
+   *
+   * @param persistedSegmentIndex true to persist the index of full segments
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPersistedSegmentIndex(final boolean persistedSegmentIndex) {
+    journalBuilder.withPersistedSegmentIndex(persistedSegmentIndex);
+    return this;
+  }
+
+  /**
+   * Sets how many existing segments may be loaded concurrently when the log is opened.
+   *
+   * @param segmentLoadParallelism the maximum number of segments to load concurrently
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withSegmentLoadParallelism(final int segmentLoadParallelism) {
+    journalBuilder.withSegmentLoadParallelism(segmentLoadParallelism);
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -130,6 +155,30 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets how the memory mappings of the log's segments interact with the OS page cache.
+   *
+   * @param segmentMemoryAdvisor the advisor to use
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withSegmentMemoryAdvisor(final SegmentMemoryAdvisor segmentMemoryAdvisor) {
+    journalBuilder.withSegmentMemoryAdvisor(segmentMemoryAdvisor);
+    return this;
+  }
+
+  /**
+   * Enables group commit on the underlying journal: entries appended within the given window share
+   * a single flush. Only takes effect with a direct flusher, see {@link RaftLog#getFlushDelay()}.
+   *
+   * @param maxDelay the maximum time to defer a flush; {@link Duration#ZERO} disables group commit
+   * @param maxBytes the accumulated size in bytes after which a group is flushed immediately
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withGroupCommit(final Duration maxDelay, final long maxBytes) {
+    journalBuilder.withGroupCommit(maxDelay, maxBytes);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
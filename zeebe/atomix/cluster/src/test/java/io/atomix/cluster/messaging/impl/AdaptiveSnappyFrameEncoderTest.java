@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.SnappyFrameDecoder;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveSnappyFrameEncoderTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final EmbeddedChannel encoder =
+      new EmbeddedChannel(new AdaptiveSnappyFrameEncoder(new MessagingMetricsImpl(registry)));
+  private final EmbeddedChannel decoder = new EmbeddedChannel(new SnappyFrameDecoder(true));
+
+  @Test
+  void shouldNotCompressSmallMessages() {
+    // given
+    final var message = new byte[AdaptiveSnappyFrameEncoder.MIN_COMPRESSIBLE_LENGTH - 1];
+
+    // when
+    final var encoded = encode(message);
+
+    // then
+    assertThat(encoded.length).isGreaterThan(message.length);
+    assertThat(decode(encoded)).isEqualTo(message);
+    assertThat(compressionInputBytes()).isZero();
+  }
+
+  @Test
+  void shouldCompressLargeMessages() {
+    // given
+    final var message = new byte[4 * Short.MAX_VALUE];
+
+    // when
+    final var encoded = encode(message);
+
+    // then
+    assertThat(encoded.length).isLessThan(message.length / 10);
+    assertThat(decode(encoded)).isEqualTo(message);
+    assertThat(compressionInputBytes()).isEqualTo(message.length);
+    assertThat(compressionOutputBytes()).isEqualTo(encoded.length - 10);
+  }
+
+  @Test
+  void shouldSkipCompressionAfterPoorRatio() {
+    // given
+    final var incompressible = new byte[4 * AdaptiveSnappyFrameEncoder.MIN_COMPRESSIBLE_LENGTH];
+    ThreadLocalRandom.current().nextBytes(incompressible);
+    final var compressible = new byte[incompressible.length];
+
+    // when
+    final var encodedIncompressible = encode(incompressible);
+    final var encodedCompressible = encode(compressible);
+
+    // then
+    assertThat(decode(encodedIncompressible)).isEqualTo(incompressible);
+    assertThat(decode(encodedCompressible)).isEqualTo(compressible);
+    assertThat(encodedCompressible.length).isGreaterThan(compressible.length);
+    assertThat(compressionInputBytes()).isEqualTo(incompressible.length);
+  }
+
+  private byte[] encode(final byte[] message) {
+    encoder.writeOutbound(Unpooled.wrappedBuffer(message));
+    final ByteBuf encoded = encoder.readOutbound();
+    try {
+      return ByteBufUtil.getBytes(encoded);
+    } finally {
+      encoded.release();
+    }
+  }
+
+  private byte[] decode(final byte[] encoded) {
+    decoder.writeInbound(Unpooled.wrappedBuffer(encoded));
+    final var decoded = Unpooled.buffer();
+    for (ByteBuf chunk = decoder.readInbound(); chunk != null; chunk = decoder.readInbound()) {
+      decoded.writeBytes(chunk);
+      chunk.release();
+    }
+    return ByteBufUtil.getBytes(decoded);
+  }
+
+  private double compressionInputBytes() {
+    return registry.get(MessagingMetricsDoc.COMPRESSION_INPUT_BYTES.getName()).counter().count();
+  }
+
+  private double compressionOutputBytes() {
+    return registry.get(MessagingMetricsDoc.COMPRESSION_OUTPUT_BYTES.getName()).counter().count();
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the allocations of encoding and decoding a request, comparing the current codec with the
+ * previous one: an encoder whose buffer starts small and is grown by copying, and a decoder which
+ * merges every read into a single growing buffer. The decoder receives the encoded request in reads
+ * of {@link #READ_SIZE}, as it would from the socket.
+ *
+ * <p>Compare {@code gc.alloc.rate.norm}, the bytes allocated per operation. Netty's use of {@code
+ * Unsafe} is disabled in the forked JVM, such that all buffers are heap buffers whose allocations
+ * are seen by the GC profiler.
+ *
+ * <p>Run via: {@code mvn verify -pl zeebe/atomix/cluster -Dtest=MessageCodecBenchmark
+ * -DskipTests=false -Dbenchmark=true}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g", "-Dio.netty.noUnsafe=true"})
+public class MessageCodecBenchmark {
+
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+  private static final int READ_SIZE = 64 * 1024;
+
+  @Param({"4096", "65536", "1048576", "8388608"})
+  public int payloadSize;
+
+  @Param({"CURRENT", "PREVIOUS"})
+  public Codec codec;
+
+  private ProtocolRequest request;
+  private EmbeddedChannel encoder;
+  private EmbeddedChannel decoder;
+  private ByteBuf encodedRequest;
+
+  @Setup
+  public void setup() {
+    request = new ProtocolRequest(1, ADDRESS, "subject", new byte[payloadSize]);
+    encoder =
+        newChannel(
+            codec == Codec.CURRENT ? new MessageEncoderV2(ADDRESS) : new GrowingMessageEncoder());
+    decoder =
+        newChannel(codec == Codec.CURRENT ? new MessageDecoderV2() : new MergingMessageDecoder());
+
+    // only the first message of a connection carries the sender's address
+    final ByteBuf firstRequest = encode();
+    receive(firstRequest);
+    firstRequest.release();
+    decoder.readInbound();
+
+    encodedRequest = encode();
+  }
+
+  @TearDown
+  public void tearDown() {
+    encodedRequest.release();
+    encoder.finishAndReleaseAll();
+    decoder.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public int encodeRequest() {
+    final ByteBuf encoded = encode();
+    final int length = encoded.readableBytes();
+    encoded.release();
+    return length;
+  }
+
+  @Benchmark
+  public ProtocolRequest decodeRequest() {
+    receive(encodedRequest);
+    return decoder.readInbound();
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  void runBenchmarks() throws Exception {
+    final var builder =
+        new OptionsBuilder()
+            .include(MessageCodecBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .resultFormat(ResultFormatType.JSON)
+            .result("target/jmh-result-message-codec.json");
+
+    new Runner(builder.build()).run();
+  }
+
+  private ByteBuf encode() {
+    encoder.writeOutbound(request);
+    return encoder.readOutbound();
+  }
+
+  private void receive(final ByteBuf encoded) {
+    final int length = encoded.readableBytes();
+    for (int offset = 0; offset < length; offset += READ_SIZE) {
+      final int readLength = Math.min(READ_SIZE, length - offset);
+      decoder.writeInbound(encoded.retainedSlice(encoded.readerIndex() + offset, readLength));
+    }
+  }
+
+  private static EmbeddedChannel newChannel(final ChannelHandler handler) {
+    final var channel = new EmbeddedChannel(handler);
+    channel.config().setAllocator(new UnpooledByteBufAllocator(false));
+    return channel;
+  }
+
+  public enum Codec {
+    CURRENT,
+    PREVIOUS
+  }
+
+  /** Allocates the buffer the way {@link io.netty.handler.codec.MessageToByteEncoder} does. */
+  private static final class GrowingMessageEncoder extends MessageEncoderV2 {
+
+    private GrowingMessageEncoder() {
+      super(ADDRESS);
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(
+        final ChannelHandlerContext context, final Object message, final boolean preferDirect) {
+      return preferDirect ? context.alloc().ioBuffer() : context.alloc().heapBuffer();
+    }
+  }
+
+  /** Merges every read into a single buffer, whatever the size of the payload. */
+  private static final class MergingMessageDecoder extends MessageDecoderV2 {
+
+    @Override
+    public void setCumulator(final Cumulator cumulator) {
+      super.setCumulator(MERGE_CUMULATOR);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.Test;
+
+public class MessageDecoderV2Test {
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+
+  @Test
+  public void shouldDecodeLargePayloadReceivedInManyReads() {
+    // given
+    final var payload = new byte[4 * MessageDecoderV2.COMPOSITE_CUMULATION_THRESHOLD];
+    ThreadLocalRandom.current().nextBytes(payload);
+    final var request = new ProtocolRequest(1, ADDRESS, "subject", payload);
+    final var reply = new ProtocolReply(1, new byte[] {1, 2, 3}, ProtocolReply.Status.OK);
+    final var decoder = new EmbeddedChannel(new MessageDecoderV2());
+
+    // when
+    receiveInChunks(decoder, encode(request, reply), 8 * 1024);
+
+    // then
+    final ProtocolRequest decodedRequest = decoder.readInbound();
+    assertThat(decodedRequest.subject()).isEqualTo("subject");
+    assertThat(decodedRequest.sender()).isEqualTo(ADDRESS);
+    assertThat(decodedRequest.payload()).isEqualTo(payload);
+    final ProtocolReply decodedReply = decoder.readInbound();
+    assertThat(decodedReply.status()).isEqualTo(ProtocolReply.Status.OK);
+    assertThat(decodedReply.payload()).containsExactly(1, 2, 3);
+    assertThat(decoder.finishAndReleaseAll()).isFalse();
+  }
+
+  @Test
+  public void shouldAllocateEncodedMessageOnce() {
+    // given
+    final var payload = new byte[MessageDecoderV2.COMPOSITE_CUMULATION_THRESHOLD];
+    final var request = new ProtocolRequest(1, ADDRESS, "subject", payload);
+    final var encoder = new EmbeddedChannel(new MessageEncoderV2(ADDRESS));
+
+    // when
+    encoder.writeOutbound(request);
+
+    // then - growing the buffer would have doubled its capacity
+    final ByteBuf encoded = encoder.readOutbound();
+    try {
+      assertThat(encoded.readableBytes()).isGreaterThan(payload.length);
+      assertThat(encoded.capacity()).isLessThan(payload.length + payload.length / 2);
+    } finally {
+      encoded.release();
+      encoder.finishAndReleaseAll();
+    }
+  }
+
+  private ByteBuf encode(final ProtocolMessage... messages) {
+    final var encoder = new EmbeddedChannel(new MessageEncoderV2(ADDRESS));
+    final var encoded = encoder.alloc().compositeBuffer();
+    for (final var message : messages) {
+      encoder.writeOutbound(message);
+      encoded.addComponent(true, encoder.readOutbound());
+    }
+    encoder.finishAndReleaseAll();
+    return encoded;
+  }
+
+  private void receiveInChunks(
+      final EmbeddedChannel decoder, final ByteBuf encoded, final int chunkSize) {
+    try {
+      while (encoded.isReadable()) {
+        decoder.writeInbound(
+            encoded.readRetainedSlice(Math.min(chunkSize, encoded.readableBytes())));
+      }
+    } finally {
+      encoded.release();
+    }
+  }
+}
@@ -205,6 +205,10 @@ public class RemoteClientConnectionTest {
       inFlightRequestCount.put(key, integer - 1);
     }
 
+    @Override
+    public void observeCompression(
+        final int uncompressedBytes, final int compressedBytes, final long durationNanos) {}
+
     String computeKey(final String to, final String name) {
       return String.format(LABEL_FORMAT, to, name);
     }
@@ -357,8 +357,90 @@ final class RaftMemberContextTest {
     assertThat(context.hasAckedAppend()).isFalse();
   }
 
+  @Test
+  void shouldChangeAppendEpochOnReset() {
+    // given
+    final var reader = mock(RaftLogReader.class);
+    when(reader.seek(anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+    final var log = mock(RaftLog.class);
+    when(log.openUncommittedReader()).thenReturn(reader);
+    final var context = newContext();
+    context.openReplicationContext(log);
+    final long appendEpoch = context.getAppendEpoch();
+
+    // when
+    context.reset(100);
+
+    // then
+    assertThat(context.getAppendEpoch()).isNotEqualTo(appendEpoch);
+  }
+
+  @Test
+  void shouldTrackInFlightAppends() {
+    // given
+    final var context = newContext();
+    context.startAppend();
+    context.startAppend();
+
+    // when
+    context.completeAppend();
+
+    // then
+    assertThat(context.getInFlightAppendCount()).isOne();
+  }
+
+  @Test
+  void shouldOnlyInstallOneChunkAtATimeUntilAcknowledged() {
+    // given
+    final var context = newContext(3);
+
+    // when
+    context.startInstall();
+
+    // then
+    assertThat(context.canInstall()).isFalse();
+  }
+
+  @Test
+  void shouldInstallSeveralChunksAtATimeOnceAcknowledged() {
+    // given
+    final var context = newContext(3);
+    context.installSucceeded();
+
+    // when
+    context.startInstall();
+    context.startInstall();
+
+    // then
+    assertThat(context.canInstall()).isTrue();
+    context.startInstall();
+    assertThat(context.canInstall()).isFalse();
+  }
+
+  @Test
+  void shouldWaitForInFlightChunksAfterFailedInstall() {
+    // given
+    final var context = newContext(3);
+    context.installSucceeded();
+    context.startInstall();
+    context.startInstall();
+
+    // when
+    context.installFailed();
+    context.completeInstall();
+
+    // then
+    assertThat(context.canInstall()).isFalse();
+    context.completeInstall();
+    assertThat(context.canInstall()).isTrue();
+  }
+
   private RaftMemberContext newContext() {
+    return newContext(1);
+  }
+
+  private RaftMemberContext newContext(final int maxInstallsPerMember) {
     final var member = new DefaultRaftMember(MemberId.from("1"), Type.ACTIVE, Instant.now());
-    return new RaftMemberContext(member, mock(RaftClusterContext.class), 1);
+    return new RaftMemberContext(member, mock(RaftClusterContext.class), 1, maxInstallsPerMember);
   }
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.DeterministicSingleThreadContext;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
+import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.jmock.lib.concurrent.DeterministicScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Verifies how the leader handles the responses of pipelined append requests, which may arrive out
+ * of order. Every request carries a single entry, and up to three requests are in flight.
+ */
+final class LeaderAppenderTest {
+
+  private static final int ENTRY_COUNT = 4;
+  private static final int MAX_APPENDS_PER_MEMBER = 3;
+
+  @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final DeterministicScheduler scheduler = new DeterministicScheduler();
+  private final List<PendingAppend> appends = new ArrayList<>();
+  private RaftLog log;
+  private RaftMemberContext member;
+  private LeaderAppender appender;
+
+  @BeforeEach
+  void setup(@TempDir final File directory) {
+    log =
+        RaftLog.builder(meterRegistry)
+            .withDirectory(directory)
+            .withName("test")
+            .withMetaStore(new InMemory())
+            .build();
+    member =
+        new RaftMemberContext(
+            new DefaultRaftMember(MemberId.from("1"), Type.ACTIVE, Instant.now()),
+            mock(RaftClusterContext.class),
+            MAX_APPENDS_PER_MEMBER,
+            1);
+    // the follower's log is empty, so it must receive every entry
+    member.openReplicationContext(log);
+    member.setConfigTerm(1);
+    appendEntries();
+
+    final var raft = mock(RaftContext.class, RETURNS_DEEP_STUBS);
+    when(raft.getName()).thenReturn("raft-partition-partition-1");
+    when(raft.getMeterRegistry()).thenReturn(meterRegistry);
+    when(raft.getThreadContext())
+        .thenReturn(new DeterministicSingleThreadContext(scheduler, MemberId.from("0")));
+    when(raft.getLog()).thenReturn(log);
+    when(raft.getTerm()).thenReturn(1L);
+    when(raft.getCurrentSnapshot()).thenReturn(null);
+    when(raft.getMaxAppendBatchSize()).thenReturn(1);
+    when(raft.getElectionTimeout()).thenReturn(Duration.ofMillis(100));
+    when(raft.getHeartbeatInterval()).thenReturn(Duration.ofMillis(100));
+    when(raft.getMaxQuorumResponseTimeout()).thenReturn(Duration.ZERO);
+    when(raft.getMinStepDownFailureCount()).thenReturn(3);
+    when(raft.getLeader())
+        .thenReturn(new DefaultRaftMember(MemberId.from("0"), Type.ACTIVE, Instant.now()));
+    when(raft.getCluster().getReplicationTargets()).thenReturn(List.of(member));
+    when(raft.getCluster().<Long>getQuorumFor(any())).thenReturn(Optional.empty());
+    when(raft.getProtocol().append(any(MemberId.class), any(VersionedAppendRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final var append =
+                  new PendingAppend(invocation.getArgument(1), new CompletableFuture<>());
+              appends.add(append);
+              return append.response();
+            });
+
+    appender = new LeaderAppender(new LeaderRole(raft));
+  }
+
+  @AfterEach
+  void tearDown() {
+    appender.close();
+    member.closeReplicationContext();
+    log.close();
+  }
+
+  @Test
+  void shouldNotMoveMatchIndexBackwardsOnOutOfOrderResponses() {
+    // given
+    appender.appendEntries(ENTRY_COUNT);
+    acknowledge(1);
+
+    // when
+    acknowledge(3);
+    acknowledge(2);
+
+    // then
+    assertThat(member.getMatchIndex()).isEqualTo(3);
+    assertThat(member.hasAckedAppend()).isTrue();
+  }
+
+  @Test
+  void shouldIgnoreRejectionsOfRequestsSentBeforeRewind() {
+    // given
+    appender.appendEntries(ENTRY_COUNT);
+    acknowledge(1);
+    assertThat(sentEntries()).containsExactly(1L, 2L, 3L, 4L);
+
+    // when
+    reject(2, 1);
+    reject(3, 1);
+    reject(4, 1);
+
+    // then - the follower is rewound once, and the entries are sent again only once
+    assertThat(member.getMatchIndex()).isEqualTo(1);
+    assertThat(sentEntries()).containsExactly(1L, 2L, 3L, 4L, 2L);
+
+    // when
+    acknowledge(2);
+
+    // then
+    assertThat(member.getMatchIndex()).isEqualTo(2);
+    assertThat(sentEntries()).containsExactly(1L, 2L, 3L, 4L, 2L, 3L, 4L);
+  }
+
+  @Test
+  void shouldRewindFollowerWhenPipelinedRequestFails() {
+    // given
+    appender.appendEntries(ENTRY_COUNT);
+    acknowledge(1);
+
+    // when
+    fail(2);
+
+    // then - the next request starts right after the last acknowledged entry
+    assertThat(member.hasAckedAppend()).isFalse();
+    assertThat(member.getCurrentIndex()).isEqualTo(1);
+
+    // when - the requests which were sent behind the failed one are rejected
+    reject(3, 1);
+    reject(4, 1);
+
+    // then
+    assertThat(member.getMatchIndex()).isEqualTo(1);
+    assertThat(sentEntries()).containsExactly(1L, 2L, 3L, 4L, 2L);
+
+    // when
+    acknowledge(2);
+
+    // then
+    assertThat(member.getMatchIndex()).isEqualTo(2);
+    assertThat(sentEntries()).containsExactly(1L, 2L, 3L, 4L, 2L, 3L, 4L);
+  }
+
+  private void appendEntries() {
+    final ByteBuffer data = ByteBuffer.allocate(Integer.BYTES).putInt(0, 1);
+    for (int i = 1; i <= ENTRY_COUNT; i++) {
+      log.append(new RaftLogEntry(1, new SerializedApplicationEntry(i, i, data)));
+    }
+  }
+
+  private List<Long> sentEntries() {
+    return appends.stream()
+        .filter(append -> !append.request().entries().isEmpty())
+        .map(append -> append.request().entries().getFirst().index())
+        .toList();
+  }
+
+  private void acknowledge(final long index) {
+    respond(index, true, index);
+  }
+
+  private void reject(final long index, final long lastLogIndex) {
+    respond(index, false, lastLogIndex);
+  }
+
+  private void respond(final long index, final boolean succeeded, final long lastLogIndex) {
+    pendingAppend(index)
+        .response()
+        .complete(
+            AppendResponse.builder()
+                .withStatus(Status.OK)
+                .withTerm(1)
+                .withSucceeded(succeeded)
+                .withLastLogIndex(lastLogIndex)
+                .build());
+    scheduler.runUntilIdle();
+  }
+
+  private void fail(final long index) {
+    pendingAppend(index).response().completeExceptionally(new TimeoutException("expected"));
+    scheduler.runUntilIdle();
+  }
+
+  private PendingAppend pendingAppend(final long index) {
+    return appends.stream()
+        .filter(append -> !append.response().isDone())
+        .filter(append -> !append.request().entries().isEmpty())
+        .filter(append -> append.request().entries().getFirst().index() == index)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private record PendingAppend(
+      VersionedAppendRequest request, CompletableFuture<AppendResponse> response) {}
+}
@@ -28,10 +28,13 @@ import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
@@ -41,11 +44,15 @@ import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotId;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
@@ -314,6 +321,90 @@ public class PassiveRoleTest {
     assertThat(getPendingSnapshot()).as("pending snapshot should be cleared").isNull();
   }
 
+  @Test
+  public void shouldAcknowledgeAlreadyReceivedChunkWithoutWritingIt() throws Exception {
+    // given - a pending snapshot of which the chunk was already written
+    final var receivedSnapshot = pendingSnapshotAtIndex(5);
+    final var chunkId = ByteBuffer.wrap("chunk".getBytes());
+    addReceivedSnapshotChunkId(chunkId);
+
+    // when
+    final var response = role.onInstall(installRequest(1, 5, chunkId)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.OK);
+    verify(receivedSnapshot, never()).apply(any());
+  }
+
+  @Test
+  public void shouldRejectAlreadyReceivedChunkOfLowerTerm() throws Exception {
+    // given - a pending snapshot of which the chunk was already written
+    final var receivedSnapshot = pendingSnapshotAtIndex(5);
+    final var chunkId = ByteBuffer.wrap("chunk".getBytes());
+    addReceivedSnapshotChunkId(chunkId);
+    when(ctx.getTerm()).thenReturn(2L);
+
+    // when
+    final var response = role.onInstall(installRequest(1, 5, chunkId)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.ERROR);
+    verify(receivedSnapshot, never()).apply(any());
+  }
+
+  @Test
+  public void shouldNotAcknowledgeAlreadyReceivedChunkOfAppliedIndex() throws Exception {
+    // given - a pending snapshot of which the chunk was already written
+    final var receivedSnapshot = pendingSnapshotAtIndex(5);
+    final var chunkId = ByteBuffer.wrap("chunk".getBytes());
+    addReceivedSnapshotChunkId(chunkId);
+    when(ctx.getCurrentSnapshotIndex()).thenReturn(5L);
+
+    // when
+    role.onInstall(installRequest(1, 5, chunkId)).join();
+
+    // then - the snapshot is already persisted, so the pending one is dropped
+    verify(receivedSnapshot).abort();
+    assertThat(getPendingSnapshot()).isNull();
+  }
+
+  private ReceivedSnapshot pendingSnapshotAtIndex(final long index) throws Exception {
+    final var snapshotId = mock(SnapshotId.class);
+    when(snapshotId.getSnapshotIdAsString()).thenReturn("snapshot");
+    final var receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.snapshotId()).thenReturn(snapshotId);
+    when(receivedSnapshot.index()).thenReturn(index);
+    setPendingSnapshot(receivedSnapshot);
+    return receivedSnapshot;
+  }
+
+  private InstallRequest installRequest(
+      final long currentTerm, final long index, final ByteBuffer chunkId) {
+    final var chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn("snapshot");
+    when(chunk.getChunkName()).thenReturn("file");
+    when(chunk.getContentBuffer()).thenReturn(ByteBuffer.wrap(new byte[1]));
+    return InstallRequest.builder()
+        .withCurrentTerm(currentTerm)
+        .withLeader(MemberId.anonymous())
+        .withIndex(index)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+        .withChunkId(chunkId)
+        .withInitial(true)
+        .withComplete(false)
+        .withNextChunkId(ByteBuffer.wrap("next".getBytes()))
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void addReceivedSnapshotChunkId(final ByteBuffer chunkId) throws Exception {
+    final var field = PassiveRole.class.getDeclaredField("receivedSnapshotChunkIds");
+    field.setAccessible(true);
+    ((Set<ByteBuffer>) field.get(role)).add(chunkId);
+  }
+
   private void setPendingSnapshot(final ReceivedSnapshot snapshot) throws Exception {
     final var field = PassiveRole.class.getDeclaredField("pendingSnapshot");
     field.setAccessible(true);
@@ -117,15 +117,17 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
       final ConcurrencyControl concurrencyControl) {
 
     final var clusterServices = brokerStartupContext.getClusterServices();
+    final var metrics =
+        new JobStreamMetrics(brokerStartupContext.getMeterRegistry(), physicalTenantId);
     final var errorHandlerService =
-        new RemoteJobStreamErrorHandlerService(new YieldingJobStreamErrorHandler());
+        new RemoteJobStreamErrorHandlerService(new YieldingJobStreamErrorHandler(metrics));
     final RemoteStreamService<JobActivationProperties, ActivatedJob> remoteStreamService =
         new TransportFactory(scheduler)
             .createRemoteStreamServer(
                 clusterServices.getCommunicationService(),
                 JobStreamServiceStep::readJobActivationProperties,
                 errorHandlerService,
-                new JobStreamMetrics(brokerStartupContext.getMeterRegistry(), physicalTenantId),
+                metrics,
                 physicalTenantId);
 
     final var result = concurrencyControl.<JobStreamService>createFuture();
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import java.util.EnumMap;
+import org.agrona.BitUtil;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A bounded cache of recently decoded records, shared by the exporting pipelines of a partition,
+ * such that a record is only deserialized once, even if every exporter reads the log on its own.
+ *
+ * <p>Records are cached by position in a fixed number of slots. As positions are consecutive, the
+ * cache behaves like a ring, which keeps the last records around for the pipelines that follow
+ * closely behind the leading one. The decoded values reference the log's memory directly and
+ * their value instances are reused per slot, so a warmed up cache doesn't allocate anymore.
+ *
+ * <p>A slot stays reserved until all pipelines which acquired it released it again. If the slot of
+ * a record is reserved for another position, the caller has to decode the record on its own.
+ *
+ * <p>This class is not thread-safe; all pipelines run on the exporter director actor.
+ */
+final class DecodedRecordCache {
+
+  static final int DEFAULT_CAPACITY = 128;
+
+  private final Entry[] entries;
+  private final int mask;
+
+  DecodedRecordCache(final int capacity) {
+    final int size = BitUtil.findNextPositivePowerOfTwo(capacity);
+    entries = new Entry[size];
+    mask = size - 1;
+    for (int i = 0; i < size; i++) {
+      entries[i] = new Entry();
+    }
+  }
+
+  /**
+   * Returns the decoded record of the given event, decoding it first if it is not cached yet. The
+   * returned entry must be released once the caller is done with it.
+   *
+   * @return the decoded record, or null if its slot is in use by another record
+   */
+  @Nullable Entry acquire(final LoggedEvent event) {
+    final long position = event.getPosition();
+    final Entry entry = entries[(int) (position & mask)];
+
+    if (entry.position != position) {
+      if (entry.references > 0) {
+        return null;
+      }
+      entry.decode(event);
+    }
+
+    entry.references++;
+    return entry;
+  }
+
+  void release(final Entry entry) {
+    entry.references--;
+  }
+
+  static final class Entry {
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final EnumMap<ValueType, UnifiedRecordValue> values = new EnumMap<>(ValueType.class);
+    private long position = -1;
+    private @Nullable UnifiedRecordValue value;
+    private int references;
+
+    RecordMetadata getMetadata() {
+      return metadata;
+    }
+
+    @Nullable UnifiedRecordValue getValue() {
+      return value;
+    }
+
+    private void decode(final LoggedEvent event) {
+      // invalidate the slot first, in case the record can't be decoded
+      position = -1;
+      value = null;
+
+      event.readMetadata(metadata);
+      final UnifiedRecordValue recordValue =
+          values.computeIfAbsent(metadata.getValueType(), UnifiedRecordValue::fromValueType);
+      if (recordValue != null) {
+        // properties are decoded on first access, once for all pipelines
+        event.readValue(recordValue.lazyReader());
+      }
+
+      value = recordValue;
+      position = event.getPosition();
+    }
+  }
+}
@@ -72,20 +72,20 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   // Use concrete type because it must be modifiable
   private final ArrayList<ExporterContainer> containers;
+  // Use concrete type because it must be modifiable
+  private final ArrayList<ExportingPipeline> pipelines = new ArrayList<>();
   private final LogStream logStream;
-  private final RecordExporter recordExporter;
+  private final Function<RecordExporter, RecordExporter> recordExporterFactory;
+  private final boolean pipelinePerExporter;
+  private final @Nullable DecodedRecordCache decodedRecordCache;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
-  private final RetryStrategy exportingRetryStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
-  private LogStreamReader logStreamReader;
-  private EventFilter eventFilter;
   private ExportersState state;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport;
 
-  private boolean inExportingPhase;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsSendingSubject;
@@ -134,14 +134,21 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
                         descriptorEntry.getValue(),
                         meterRegistry,
                         clock,
-                        this::onReplayRequested))
+                        position ->
+                            onReplayRequested(descriptorEntry.getKey().getId(), position)))
             .collect(Collectors.toCollection(ArrayList::new));
     metrics = new ExporterMetrics(meterRegistry);
     metrics.initializeExporterState(exporterPhase);
-    recordExporter =
-        recorderExporter.apply(
-            new RecordExporter(metrics, containers, partitionId.number(), clock));
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordExporterFactory = recorderExporter;
+    pipelinePerExporter = context.isPipelinePerExporter();
+    // a shared pipeline decodes each record only once anyway
+    decodedRecordCache =
+        pipelinePerExporter ? new DecodedRecordCache(DecodedRecordCache.DEFAULT_CAPACITY) : null;
+    if (pipelinePerExporter) {
+      containers.forEach(container -> pipelines.add(new ExportingPipeline(List.of(container))));
+    } else {
+      pipelines.add(new ExportingPipeline(containers));
+    }
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -236,7 +243,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
           if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
+            actor.submit(this::readNextEvents);
           }
         });
   }
@@ -271,9 +278,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     container.close();
     containers.remove(container);
     state.removeExporterState(exporterId);
-    // After removing this exporter, the exporter index has changed. Reset it so that we don't
-    // miss to export the record to any of the exporters whose index has changed.
-    recordExporter.resetExporterIndex();
+    if (pipelinePerExporter) {
+      removePipeline(exporterId);
+    } else {
+      // After removing this exporter, the exporter index has changed. Reset it so that we don't
+      // miss to export the record to any of the exporters whose index has changed.
+      pipelines.getFirst().resetExporterIndex();
+    }
     LOG.debug("Exporter '{}' is removed.", exporterId);
 
     if (containers.isEmpty()) {
@@ -357,7 +368,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
             initializationInfo,
             meterRegistry,
             clock,
-            this::onReplayRequested);
+            position -> onReplayRequested(exporterId, position));
     container.initContainer(actor, metrics, state, exporterPhase);
     try {
       container.configureExporter();
@@ -367,17 +378,59 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
+    // the pipeline must exist before the exporter is opened, as it may request a replay on open
+    final ExportingPipeline pipeline = pipelinePerExporter ? addPipeline(container) : null;
     if (exporterMode == ExporterMode.ACTIVE) {
-      container.openExporter();
+      try {
+        container.openExporter();
+      } catch (final RuntimeException e) {
+        if (pipeline != null) {
+          removePipeline(exporterId);
+        }
+        throw e;
+      }
     }
     containers.add(container);
     LOG.debug("Exporter '{}' is enabled.", exporterId);
 
     if (idle) {
       becomeLive();
+    } else if (pipeline != null && exporterMode == ExporterMode.ACTIVE && allExportersOpened) {
+      pipeline.startFrom(pipeline.getLowestPosition());
+    }
+  }
+
+  private ExportingPipeline addPipeline(final ExporterContainer container) {
+    final var pipeline = new ExportingPipeline(List.of(container));
+    pipeline.updateEventFilter();
+    if (exporterMode == ExporterMode.ACTIVE) {
+      pipeline.openReader();
+    }
+    pipelines.add(pipeline);
+    return pipeline;
+  }
+
+  private void removePipeline(final String exporterId) {
+    final ExportingPipeline pipeline = getPipeline(exporterId);
+    if (pipeline != null) {
+      pipeline.remove();
+      pipelines.remove(pipeline);
     }
   }
 
+  private @Nullable ExportingPipeline getPipeline(final String exporterId) {
+    if (!pipelinePerExporter) {
+      return pipelines.getFirst();
+    }
+
+    for (final ExportingPipeline pipeline : pipelines) {
+      if (pipeline.exportsTo(exporterId)) {
+        return pipeline;
+      }
+    }
+    return null;
+  }
+
   public ActorFuture<ExporterPhase> getPhase() {
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(ExporterPhase.CLOSED);
@@ -388,7 +441,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorStarting() {
     if (exporterMode == ExporterMode.ACTIVE) {
-      logStreamReader = logStream.newLogStreamReader();
+      pipelines.forEach(ExportingPipeline::openReader);
     }
   }
 
@@ -425,9 +478,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorClosing() {
-    if (logStreamReader != null) {
-      logStreamReader.close();
-    }
+    pipelines.forEach(ExportingPipeline::closeReader);
     logStream.removeRecordAvailableListener(this);
   }
 
@@ -503,8 +554,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.configureExporter();
     }
 
-    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
-    LOG.debug("Set event filter for exporters: {}", eventFilter);
+    pipelines.forEach(ExportingPipeline::updateEventFilter);
   }
 
   private void recoverFromSnapshot() {
@@ -561,11 +611,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
-    if (logStreamReader != null) {
-      // We have to close it, otherwise it will prevent journal segment deletion
-      logStreamReader.close();
-      logStreamReader = null;
-    }
+    // We have to close the readers, otherwise they will prevent journal segment deletion
+    pipelines.forEach(ExportingPipeline::closeReader);
   }
 
   private void becomeLive() {
@@ -625,13 +672,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void restartActiveExportingMode() {
-    logStreamReader = logStream.newLogStreamReader();
+    pipelines.forEach(ExportingPipeline::openReader);
     startActiveExportingFrom(-1);
   }
 
   /**
-   * Handles a replay request from an exporter container. Seeks the log reader to {@code
-   * lastExportedPosition} so that records from that position onward will be re-exported.
+   * Handles a replay request from an exporter container. Seeks the log reader of the exporter's
+   * pipeline to {@code lastExportedPosition} so that records from that position onward will be
+   * re-exported. If all exporters share a pipeline, they all see the records again, but the others
+   * skip them as they already exported them.
    *
    * <p>Replay may be requested at any time once the log stream reader has been created, both during
    * the initial startup handshake and while exporting is already under way, e.g. when an exporter
@@ -642,12 +691,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    * it - and everything the requesting exporter missed before it - strictly in order on the next
    * read.
    *
+   * @param exporterId the id of the exporter which requested the replay
    * @param lastExportedPosition the position to seek the log reader to for replay
    * @return {@code true} if the seek succeeded, {@code false} if the request was rejected or the
    *     required log segments are no longer available
    */
-  private boolean onReplayRequested(final long lastExportedPosition) {
-    if (logStreamReader == null) {
+  private boolean onReplayRequested(final String exporterId, final long lastExportedPosition) {
+    final ExportingPipeline pipeline = getPipeline(exporterId);
+    if (pipeline == null || !pipeline.isReading()) {
       LOG.warn(
           "Cannot process replay request at position {}: log stream reader is not available.",
           lastExportedPosition);
@@ -656,7 +707,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
     LOG.info("Replay requested: seeking log reader to position {}", lastExportedPosition);
 
-    final boolean sought = logStreamReader.seek(lastExportedPosition);
+    final boolean sought = pipeline.seek(lastExportedPosition);
     if (!sought) {
       LOG.warn(
           "Could not seek log reader to replay position {}. Log segments may have been deleted.",
@@ -668,15 +719,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingFrom(final long snapshotPosition) {
-    final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
-    if (failedToRecoverReader) {
-      throw new IllegalStateException(
-          String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, snapshotPosition, getName()));
+    for (final ExportingPipeline pipeline : pipelines) {
+      // a pipeline per exporter can start right after the last position of its own exporter
+      pipeline.startFrom(pipelinePerExporter ? pipeline.getLowestPosition() : snapshotPosition);
     }
     logStream.registerRecordAvailableListener(this);
-    if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
-      actor.submit(this::readNextEvent);
-    }
 
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
@@ -708,80 +755,28 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final long eventPosition = currentEvent.getPosition();
-
-    skipRecordDecoder.wrap(currentEvent.getMetadata(), currentEvent.getMetadataOffset());
-    metrics.eventSkipped(skipRecordDecoder.valueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
+  private void readNextEvents() {
+    for (final ExportingPipeline pipeline : pipelines) {
+      pipeline.readNextEvent();
     }
-
-    actor.submit(this::readNextEvent);
   }
 
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
+  /**
+   * Returns the lowest position which was read by all pipelines which still have records to export.
+   * Exporting flow control must not advance beyond it, as long as any exporter lags behind. Caught
+   * up pipelines are left out, as they have nothing to hold back; if all are caught up, it returns
+   * the highest position read by any of them.
+   */
+  private long getLowestReadPosition() {
+    long lowestPosition = Long.MAX_VALUE;
+    long highestPosition = -1;
+    for (final ExportingPipeline pipeline : pipelines) {
+      highestPosition = Math.max(highestPosition, pipeline.lastReadPosition);
+      if (pipeline.hasPendingRecords()) {
+        lowestPosition = Math.min(lowestPosition, pipeline.lastReadPosition);
       }
     }
-  }
-
-  private boolean shouldExport() {
-    return isOpened.get()
-        && allExportersOpened
-        && !idle
-        && logStreamReader.hasNext()
-        && !inExportingPhase
-        && !exporterPhase.equals(ExporterPhase.PAUSED);
-  }
-
-  private void exportEvent(final LoggedEvent event) {
-    try {
-      recordExporter.wrap(event);
-    } catch (final Exception exception) {
-      LOG.warn(ERROR_MESSAGE_DESERIALIZATION_ERROR_EXPORTING_ABORTED, event, exception);
-      updateHealthStatusWithError(new UnrecoverableException(exception));
-      onFailure();
-      return;
-    }
-
-    final AtomicReference<ExportOutcome> lastOutcome = new AtomicReference<>();
-    final ActorFuture<Boolean> retryFuture =
-        exportingRetryStrategy.runWithRetry(
-            () -> {
-              final ExportOutcome outcome = recordExporter.export();
-              lastOutcome.set(outcome);
-              return outcome != ExportOutcome.RETRY;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        retryFuture,
-        (bool, throwable) -> {
-          if (throwable != null) {
-            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-            onFailure();
-          } else if (lastOutcome.get() == ExportOutcome.ABORT_REPLAY) {
-            // the record was abandoned because a reopened exporter's replay request rewound the
-            // log reader; it will be redelivered, in order, once reading resumes below
-            inExportingPhase = false;
-            actor.submit(this::readNextEvent);
-          } else {
-            logStream.getFlowControl().onExported(recordExporter.getTypedEvent().getPosition());
-            metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-            inExportingPhase = false;
-            actor.submit(this::readNextEvent);
-          }
-        });
+    return lowestPosition == Long.MAX_VALUE ? highestPosition : lowestPosition;
   }
 
   private void clearExporterState() {
@@ -825,7 +820,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
+    actor.run(this::readNextEvents);
   }
 
   public ActorFuture<Long> getLowestPosition() {
@@ -841,6 +836,200 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
 
+  /**
+   * Reads the log and exports each record to the containers of the pipeline, one after the other.
+   * By default, all exporters share a single pipeline, so every record is read and deserialized
+   * only once. The downside is that an exporter which retries a record holds back all other
+   * exporters. With a pipeline per exporter, each exporter reads the log with its own reader and
+   * backs off independently of the others, while recently decoded records are shared through the
+   * {@link DecodedRecordCache}. This only separates the readers and the retry backoff of the
+   * exporters: all pipelines still run on the director's single actor, so an exporter which blocks
+   * in {@code export()} stalls every pipeline until it returns.
+   */
+  private final class ExportingPipeline {
+
+    private final List<ExporterContainer> pipelineContainers;
+    private final RecordExporter recordExporter;
+    private final RetryStrategy exportingRetryStrategy;
+    private LogStreamReader logStreamReader;
+    private EventFilter eventFilter;
+    private boolean inExportingPhase;
+    private boolean removed;
+    private long lastReadPosition = -1;
+
+    private ExportingPipeline(final List<ExporterContainer> pipelineContainers) {
+      this.pipelineContainers = pipelineContainers;
+      recordExporter =
+          recordExporterFactory.apply(
+              new RecordExporter(
+                  metrics, pipelineContainers, partitionId.number(), clock, decodedRecordCache));
+      exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    }
+
+    private boolean exportsTo(final String exporterId) {
+      for (final ExporterContainer container : pipelineContainers) {
+        if (container.getId().equals(exporterId)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private long getLowestPosition() {
+      long lowestPosition = Long.MAX_VALUE;
+      for (final ExporterContainer container : pipelineContainers) {
+        lowestPosition = Math.min(lowestPosition, container.getPosition());
+      }
+      return lowestPosition;
+    }
+
+    private void updateEventFilter() {
+      eventFilter = positionsToSkipFilter.and(createEventFilter(pipelineContainers));
+      LOG.debug("Set event filter for exporters: {}", eventFilter);
+    }
+
+    private void openReader() {
+      if (logStreamReader == null) {
+        logStreamReader = logStream.newLogStreamReader();
+      }
+    }
+
+    private void closeReader() {
+      if (logStreamReader != null) {
+        logStreamReader.close();
+        logStreamReader = null;
+      }
+    }
+
+    private void remove() {
+      removed = true;
+      recordExporter.releaseCachedRecord();
+      closeReader();
+    }
+
+    private boolean isReading() {
+      return logStreamReader != null;
+    }
+
+    private boolean hasPendingRecords() {
+      return !removed && isReading() && (inExportingPhase || logStreamReader.hasNext());
+    }
+
+    private boolean seek(final long position) {
+      return logStreamReader.seek(position);
+    }
+
+    private void resetExporterIndex() {
+      recordExporter.resetExporterIndex();
+    }
+
+    private void startFrom(final long position) {
+      final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(position);
+      if (failedToRecoverReader) {
+        throw new IllegalStateException(
+            String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, position, getName()));
+      }
+      // everything up to the start position was already exported by the exporters of the pipeline
+      lastReadPosition = position;
+      if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
+        actor.submit(this::readNextEvent);
+      }
+    }
+
+    private void readNextEvent() {
+      if (shouldExport()) {
+        final LoggedEvent currentEvent = logStreamReader.next();
+        if (eventFilter == null || eventFilter.applies(currentEvent)) {
+          inExportingPhase = true;
+          exportEvent(currentEvent);
+        } else {
+          skipRecord(currentEvent);
+        }
+      }
+    }
+
+    private boolean shouldExport() {
+      return isOpened.get()
+          && allExportersOpened
+          && !idle
+          && !removed
+          && logStreamReader != null
+          && logStreamReader.hasNext()
+          && !inExportingPhase
+          && !exporterPhase.equals(ExporterPhase.PAUSED);
+    }
+
+    private void skipRecord(final LoggedEvent currentEvent) {
+      final long eventPosition = currentEvent.getPosition();
+
+      skipRecordDecoder.wrap(currentEvent.getMetadata(), currentEvent.getMetadataOffset());
+      metrics.eventSkipped(skipRecordDecoder.valueType());
+
+      // increase position of all up to date exporters - an up to date exporter is one which has
+      // acknowledged the last record we passed to it
+      for (final ExporterContainer container : pipelineContainers) {
+        container.updatePositionOnSkipIfUpToDate(eventPosition);
+      }
+      onRead(eventPosition);
+
+      actor.submit(this::readNextEvent);
+    }
+
+    private void exportEvent(final LoggedEvent event) {
+      try {
+        recordExporter.wrap(event);
+      } catch (final Exception exception) {
+        LOG.warn(ERROR_MESSAGE_DESERIALIZATION_ERROR_EXPORTING_ABORTED, event, exception);
+        updateHealthStatusWithError(new UnrecoverableException(exception));
+        onFailure();
+        return;
+      }
+
+      final AtomicReference<ExportOutcome> lastOutcome = new AtomicReference<>();
+      final ActorFuture<Boolean> retryFuture =
+          exportingRetryStrategy.runWithRetry(
+              () -> {
+                if (removed) {
+                  // the exporter was removed, so there is no need to export the record anymore
+                  return true;
+                }
+                final ExportOutcome outcome = recordExporter.export();
+                lastOutcome.set(outcome);
+                return outcome != ExportOutcome.RETRY;
+              },
+              ExporterDirector.this::isClosed);
+
+      actor.runOnCompletion(
+          retryFuture,
+          (bool, throwable) -> {
+            if (removed) {
+              // the exporter was removed while the record was exported, its reader is closed
+              return;
+            }
+
+            if (throwable != null) {
+              LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+              onFailure();
+            } else if (lastOutcome.get() == ExportOutcome.ABORT_REPLAY) {
+              // the record was abandoned because a reopened exporter's replay request rewound the
+              // log reader; it will be redelivered, in order, once reading resumes below
+              inExportingPhase = false;
+              actor.submit(this::readNextEvent);
+            } else {
+              onRead(recordExporter.getTypedEvent().getPosition());
+              metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+              inExportingPhase = false;
+              actor.submit(this::readNextEvent);
+            }
+          });
+    }
+
+    private void onRead(final long position) {
+      lastReadPosition = position;
+      logStream.getFlowControl().onExported(getLowestReadPosition());
+    }
+  }
+
   private static class ExporterEventFilter implements EventFilter {
 
     private final RecordMetadataBlock decoder = new RecordMetadataBlock();
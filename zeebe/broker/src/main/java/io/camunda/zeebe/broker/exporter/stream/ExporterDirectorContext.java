@@ -39,6 +39,7 @@ public final class ExporterDirectorContext {
   private @Nullable String licenseKey;
   private String tenantName;
   private boolean receiveOnLegacySubject = true;
+  private boolean pipelinePerExporter;
 
   public int getId() {
     return id;
@@ -96,6 +97,10 @@ public final class ExporterDirectorContext {
     return receiveOnLegacySubject;
   }
 
+  public boolean isPipelinePerExporter() {
+    return pipelinePerExporter;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -168,6 +173,17 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * If enabled, each exporter reads and exports the log in its own pipeline with an independent
+   * retry backoff, such that a retrying exporter does not hold back the others. All pipelines still
+   * run on the exporter director's actor. Otherwise, all exporters share a single pipeline, which
+   * reads and deserializes each record only once.
+   */
+  public ExporterDirectorContext pipelinePerExporter(final boolean pipelinePerExporter) {
+    this.pipelinePerExporter = pipelinePerExporter;
+    return this;
+  }
+
   public PartitionId getPartitionId() {
     return partitionId;
   }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import io.camunda.zeebe.broker.exporter.stream.DecodedRecordCache.Entry;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
@@ -15,14 +16,18 @@ import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.time.InstantSource;
 import java.util.List;
+import org.jspecify.annotations.Nullable;
 
 class RecordExporter {
 
   private final RecordValues recordValues = new RecordValues();
-  private final RecordMetadata rawMetadata = new RecordMetadata();
+  private final RecordMetadata decodedMetadata = new RecordMetadata();
   private final List<ExporterContainer> containers;
   private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
+  private final @Nullable DecodedRecordCache decodedRecordCache;
+  private @Nullable Entry cachedRecord;
+  private RecordMetadata rawMetadata = decodedMetadata;
 
   private boolean shouldExport;
   private int exporterIndex;
@@ -33,17 +38,38 @@ class RecordExporter {
       final List<ExporterContainer> containers,
       final int partitionId,
       final InstantSource clock) {
+    this(exporterMetrics, containers, partitionId, clock, null);
+  }
+
+  RecordExporter(
+      final ExporterMetrics exporterMetrics,
+      final List<ExporterContainer> containers,
+      final int partitionId,
+      final InstantSource clock,
+      final @Nullable DecodedRecordCache decodedRecordCache) {
     this.containers = containers;
     typedEvent = new TypedRecordImpl(partitionId);
     this.exporterMetrics = exporterMetrics;
     this.clock = clock;
+    this.decodedRecordCache = decodedRecordCache;
   }
 
   void wrap(final LoggedEvent rawEvent) {
-    rawEvent.readMetadata(rawMetadata);
+    releaseCachedRecord();
+    if (decodedRecordCache != null) {
+      cachedRecord = decodedRecordCache.acquire(rawEvent);
+    }
 
-    final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+    final UnifiedRecordValue recordValue;
+    if (cachedRecord != null) {
+      rawMetadata = cachedRecord.getMetadata();
+      recordValue = cachedRecord.getValue();
+    } else {
+      rawMetadata = decodedMetadata;
+      rawEvent.readMetadata(rawMetadata);
+      // most exporters only look at a few properties of the records they export
+      recordValue = recordValues.readRecordValueLazily(rawEvent, rawMetadata.getValueType());
+    }
 
     shouldExport = recordValue != null;
     if (shouldExport) {
@@ -95,4 +121,12 @@ class RecordExporter {
   public void resetExporterIndex() {
     exporterIndex = 0;
   }
+
+  /** Releases the cached record of the last wrapped event, if any, so its slot can be reused. */
+  void releaseCachedRecord() {
+    if (cachedRecord != null && decodedRecordCache != null) {
+      decodedRecordCache.release(cachedRecord);
+      cachedRecord = null;
+    }
+  }
 }
@@ -28,6 +28,9 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   private final String physicalTenantId;
   private final Counter pushSuccessCount;
   private final Counter pushFailedCount;
+  private final Counter pushSaturatedCount;
+  private final Counter pushCreditsExhaustedCount;
+  private final Counter pushYieldedCount;
 
   public JobStreamMetrics(final MeterRegistry registry, final String physicalTenantId) {
     this.registry = registry;
@@ -35,6 +38,9 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
 
     pushSuccessCount = registerCounter(JobStreamMetricsDoc.PUSH_SUCCESS_COUNT);
     pushFailedCount = registerCounter(JobStreamMetricsDoc.PUSH_FAILED_COUNT);
+    pushSaturatedCount = registerCounter(JobStreamMetricsDoc.PUSH_SATURATED_COUNT);
+    pushCreditsExhaustedCount = registerCounter(JobStreamMetricsDoc.PUSH_CREDITS_EXHAUSTED_COUNT);
+    pushYieldedCount = registerCounter(JobStreamMetricsDoc.PUSH_YIELDED_COUNT);
 
     final var streamCountDoc = JobStreamMetricsDoc.STREAM_COUNT;
     Gauge.builder(streamCountDoc.getName(), streamCount, Number::intValue)
@@ -75,6 +81,21 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
     pushFailedCount.increment();
   }
 
+  @Override
+  public void streamSaturated() {
+    pushSaturatedCount.increment();
+  }
+
+  @Override
+  public void pushCreditsExhausted() {
+    pushCreditsExhaustedCount.increment();
+  }
+
+  /** Invoked when a job which could not be pushed is yielded back to the engine */
+  public void pushYielded() {
+    pushYieldedCount.increment();
+  }
+
   @Override
   public void pushTryFailed(final ErrorCode code) {
     final var meterDoc = JobStreamMetricsDoc.PUSH_TRY_FAILED_COUNT;
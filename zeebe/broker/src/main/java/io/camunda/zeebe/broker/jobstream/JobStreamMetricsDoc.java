@@ -72,6 +72,60 @@ public enum JobStreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Total number of jobs not pushed because all consumers of the streams were out of credits */
+  PUSH_SATURATED_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.broker.jobs.push.saturated.count";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Total number of jobs not pushed as all consumers of the streams were out of credits";
+    }
+  },
+
+  /** Total number of jobs not pushed because the consumers ran out of credits before the push */
+  PUSH_CREDITS_EXHAUSTED_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.broker.jobs.push.credits.exhausted.count";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Total number of jobs not pushed as the consumers ran out of credits before the push";
+    }
+  },
+
+  /** Total number of jobs yielded back to the engine after they could not be pushed */
+  PUSH_YIELDED_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.broker.jobs.push.yield.count";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Total number of jobs yielded back to the engine after they could not be pushed";
+    }
+  },
+
   /** Total number of failed attempts when pushing jobs to the streams, grouped by error code */
   PUSH_TRY_FAILED_COUNT {
     @Override
@@ -86,8 +86,18 @@ public final class RaftPartitionFactory {
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
+    storageConfig.setPersistedSegmentIndex(
+        brokerCfg.getExperimental().getRaft().isPersistedSegmentIndex());
+    storageConfig.setSegmentLoadParallelism(
+        brokerCfg.getExperimental().getRaft().getSegmentLoadParallelism());
     storageConfig.setSegmentAllocator(
         brokerCfg.getExperimental().getRaft().getSegmentPreallocationStrategy().segmentAllocator());
+    storageConfig.setSegmentMemoryAdvisor(
+        brokerCfg.getExperimental().getRaft().getSegmentMemoryStrategy().memoryAdvisor());
+    storageConfig.setGroupCommitMaxDelay(
+        brokerCfg.getExperimental().getRaft().getGroupCommitMaxDelay());
+    storageConfig.setGroupCommitMaxBytes(
+        brokerCfg.getExperimental().getRaft().getGroupCommitMaxBytes().toBytes());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -104,6 +114,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static io.camunda.zeebe.broker.system.configuration.ClusterCfg.DEFAULT_ELECTION_TIMEOUT;
 
 import io.camunda.zeebe.journal.file.SegmentAllocator;
+import io.camunda.zeebe.journal.file.SegmentMemoryAdvisor;
 import java.time.Duration;
 import org.springframework.util.unit.DataSize;
 
@@ -17,6 +18,7 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
 
   public static final Duration DEFAULT_SNAPSHOT_REQUEST_TIMEOUT = Duration.ofMillis(2500);
   public static final DataSize DEFAULT_SNAPSHOT_CHUNK_SIZE = DataSize.ofMegabytes(8);
+  public static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
   private static final Duration DEFAULT_CONFIGURATION_CHANGE_TIMEOUT = Duration.ofSeconds(10);
   // Requests should time out faster than the election timeout to ensure that a single missed
   // heartbeat does not cause immediate re-election.
@@ -27,9 +29,16 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
   private static final PreAllocationStrategy DEFAULT_PREALLOCATE_SEGMENT_STRATEGY =
       PreAllocationStrategy.POSIX_OR_FILL;
+  private static final SegmentMemoryStrategy DEFAULT_SEGMENT_MEMORY_STRATEGY =
+      SegmentMemoryStrategy.KERNEL;
+  private static final Duration DEFAULT_GROUP_COMMIT_MAX_DELAY = Duration.ZERO;
+  private static final DataSize DEFAULT_GROUP_COMMIT_MAX_BYTES = DataSize.ofMegabytes(1);
+  private static final boolean DEFAULT_PERSISTED_SEGMENT_INDEX = false;
+  private static final int DEFAULT_SEGMENT_LOAD_PARALLELISM = 1;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
   private Duration configurationChangeTimeout = DEFAULT_CONFIGURATION_CHANGE_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
@@ -37,6 +46,11 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
 
   private PreAllocationStrategy segmentPreallocationStrategy = DEFAULT_PREALLOCATE_SEGMENT_STRATEGY;
+  private SegmentMemoryStrategy segmentMemoryStrategy = DEFAULT_SEGMENT_MEMORY_STRATEGY;
+  private Duration groupCommitMaxDelay = DEFAULT_GROUP_COMMIT_MAX_DELAY;
+  private DataSize groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
+  private boolean persistedSegmentIndex = DEFAULT_PERSISTED_SEGMENT_INDEX;
+  private int segmentLoadParallelism = DEFAULT_SEGMENT_LOAD_PARALLELISM;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -62,6 +76,14 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -113,6 +135,67 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     segmentPreallocationStrategy = preAllocationStrategy;
   }
 
+  public SegmentMemoryStrategy getSegmentMemoryStrategy() {
+    return segmentMemoryStrategy;
+  }
+
+  public void setSegmentMemoryStrategy(final SegmentMemoryStrategy segmentMemoryStrategy) {
+    this.segmentMemoryStrategy = segmentMemoryStrategy;
+  }
+
+  public Duration getGroupCommitMaxDelay() {
+    return groupCommitMaxDelay;
+  }
+
+  /**
+   * Sets the maximum time the leader may defer flushing the log after an append, such that entries
+   * appended within that window share a single flush and are committed together. This trades a
+   * bounded amount of commit latency for fewer flushes, which pays off on storage with expensive
+   * flushes. Only applies when flushing is enabled and not delayed. Defaults to zero, which flushes
+   * on every commit.
+   */
+  public void setGroupCommitMaxDelay(final Duration groupCommitMaxDelay) {
+    this.groupCommitMaxDelay = groupCommitMaxDelay;
+  }
+
+  public DataSize getGroupCommitMaxBytes() {
+    return groupCommitMaxBytes;
+  }
+
+  /**
+   * Sets the accumulated size of appended entries after which the leader flushes and commits them
+   * immediately, regardless of {@link #getGroupCommitMaxDelay()}.
+   */
+  public void setGroupCommitMaxBytes(final DataSize groupCommitMaxBytes) {
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+  }
+
+  public boolean isPersistedSegmentIndex() {
+    return persistedSegmentIndex;
+  }
+
+  /**
+   * Sets whether the log index of every full segment is persisted in a small file next to it. On
+   * restart, the index is then restored from it, such that reading from older segments, e.g. when
+   * exporters or followers catch up, can seek directly instead of scanning the segment first.
+   */
+  public void setPersistedSegmentIndex(final boolean persistedSegmentIndex) {
+    this.persistedSegmentIndex = persistedSegmentIndex;
+  }
+
+  public int getSegmentLoadParallelism() {
+    return segmentLoadParallelism;
+  }
+
+  /**
+   * Sets how many existing log segments may be loaded concurrently when a partition starts. With
+   * many segments, loading them in parallel shortens the time until the partition can become
+   * active. Defaults to 1, i.e. segments are loaded one after another.
+   */
+  public void setSegmentLoadParallelism(final int segmentLoadParallelism) {
+    this.segmentLoadParallelism = segmentLoadParallelism;
+  }
+
   /**
    * Defines the strategy to use to preallocate segment files when "preallocateSegmentFiles" is set
    * to true. Possible options are:
@@ -148,4 +231,32 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
       return segmentAllocator;
     }
   }
+
+  /**
+   * Defines how the memory mapped log segments interact with the OS page cache. Possible options
+   * are:
+   *
+   * <ul>
+   *   <li>KERNEL: leaves it entirely to the kernel; pages of a segment stay mapped until the
+   *       segment is closed, and are only reclaimed under memory pressure
+   *   <li>RELEASE_SEALED: uses the `madvise` posix system call to read segments sequentially, and
+   *       to release the pages of full segments once they are flushed and not read anymore. This
+   *       keeps the memory footprint bounded when the log is much larger than the available memory.
+   *       Requires a POSIX platform and JNI calls; if unavailable, it behaves like KERNEL.
+   * </ul>
+   */
+  public enum SegmentMemoryStrategy {
+    KERNEL(SegmentMemoryAdvisor.noop()),
+    RELEASE_SEALED(SegmentMemoryAdvisor.posix());
+
+    private final SegmentMemoryAdvisor memoryAdvisor;
+
+    SegmentMemoryStrategy(final SegmentMemoryAdvisor memoryAdvisor) {
+      this.memoryAdvisor = memoryAdvisor;
+    }
+
+    public SegmentMemoryAdvisor memoryAdvisor() {
+      return memoryAdvisor;
+    }
+  }
 }
@@ -17,19 +17,32 @@ import java.util.Set;
  * Exporting component configuration. This configuration pertains to configurations that are common
  * to all exporters.
  *
+ * <p>If {@code pipelinePerExporter} is enabled, each exporter reads the log on its own and backs
+ * off independently: while a failing exporter retries a record, the other exporters of the same
+ * partition keep exporting. All exporters of a partition still run on the same actor, so an
+ * exporter which blocks while exporting holds back the others either way. This comes at the cost
+ * of reading every record once per exporter; only recently read records are decoded once and
+ * shared between the exporters.
+ *
  * <p><b> Backwards compatibility with the legacy `zeebe.broker.exporting.skip-records` is broken
  * deliberately as this configuration should only be used for recovery purposes</b>
  */
-public record ExportingCfg(Map<Integer, Set<Long>> skipRecords, Duration distributionInterval) {
+public record ExportingCfg(
+    Map<Integer, Set<Long>> skipRecords,
+    Duration distributionInterval,
+    boolean pipelinePerExporter) {
 
   public ExportingCfg(
-      final Map<Integer, Set<Long>> skipRecords, final Duration distributionInterval) {
+      final Map<Integer, Set<Long>> skipRecords,
+      final Duration distributionInterval,
+      final boolean pipelinePerExporter) {
     this.skipRecords = skipRecords == null ? Map.of() : skipRecords;
     this.distributionInterval =
         distributionInterval == null ? DEFAULT_DISTRIBUTION_INTERVAL : distributionInterval;
+    this.pipelinePerExporter = pipelinePerExporter;
   }
 
   public static ExportingCfg defaultExportingCfg() {
-    return new ExportingCfg(null, null);
+    return new ExportingCfg(null, null, false);
   }
 }
@@ -14,8 +14,12 @@ public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
   private static final int DEFAULT_MAX_RECOVERABLE_RETRIES = 1000;
+  private static final int DEFAULT_MAX_COMMANDS_IN_TRANSACTION = 1;
+  private static final int DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION = 1;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private int maxRecoverableRetries = DEFAULT_MAX_RECOVERABLE_RETRIES;
+  private int maxCommandsInTransaction = DEFAULT_MAX_COMMANDS_IN_TRANSACTION;
+  private int maxBatchesInReplayTransaction = DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
 
@@ -25,6 +29,15 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxCommandsInTransaction < 1) {
+      throw new IllegalArgumentException(
+          "maxCommandsInTransaction must be >= 1 but was %s".formatted(maxCommandsInTransaction));
+    }
+    if (maxBatchesInReplayTransaction < 1) {
+      throw new IllegalArgumentException(
+          "maxBatchesInReplayTransaction must be >= 1 but was %s"
+              .formatted(maxBatchesInReplayTransaction));
+    }
     if (maxRecoverableRetries < 1) {
       throw new IllegalArgumentException(
           "maxRecoverableRetries must be >= 1 but was %s".formatted(maxRecoverableRetries));
@@ -44,6 +57,36 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxCommandsInTransaction() {
+    return maxCommandsInTransaction;
+  }
+
+  /**
+   * Sets how many consecutive commands read from the log may be processed within a single state
+   * transaction. Their follow-up records are still written one command at a time, but the state is
+   * only committed once the limit is reached or there is nothing more to process, which saves the
+   * commit overhead under high load. Responses and post commit side effects of these commands are
+   * delayed until the commit. If a command fails, only its own state changes are rolled back.
+   * Defaults to 1, i.e. the state is committed after every command.
+   */
+  public void setMaxCommandsInTransaction(final int maxCommandsInTransaction) {
+    this.maxCommandsInTransaction = maxCommandsInTransaction;
+  }
+
+  public int getMaxBatchesInReplayTransaction() {
+    return maxBatchesInReplayTransaction;
+  }
+
+  /**
+   * Sets how many consecutive event batches may be replayed within a single state transaction,
+   * e.g. when catching up after a restart or as a follower. Committing less often speeds up replay
+   * of large log gaps. The replayed position only becomes visible, e.g. for snapshots, after the
+   * commit. Defaults to 1, i.e. the state is committed after every batch.
+   */
+  public void setMaxBatchesInReplayTransaction(final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+  }
+
   public int getMaxRecoverableRetries() {
     return maxRecoverableRetries;
   }
@@ -65,6 +108,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", maxCommandsInTransaction="
+        + maxCommandsInTransaction
+        + ", maxBatchesInReplayTransaction="
+        + maxBatchesInReplayTransaction
         + ", maxRecoverableRetries="
         + maxRecoverableRetries
         + ", scheduledTaskCheckInterval="
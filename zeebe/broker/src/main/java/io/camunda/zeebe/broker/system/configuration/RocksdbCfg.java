@@ -38,6 +38,7 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private int transactionReadCacheSize = RocksDbConfiguration.DEFAULT_TRANSACTION_READ_CACHE_SIZE;
   private MemoryAllocationStrategy memoryAllocationStrategy =
       DEFAULT_ROCKSDB_MEMORY_ALLOCATION_STRATEGY;
   private double memoryFraction = 0.1;
@@ -258,6 +259,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public int getTransactionReadCacheSize() {
+    return transactionReadCacheSize;
+  }
+
+  public void setTransactionReadCacheSize(final int transactionReadCacheSize) {
+    this.transactionReadCacheSize = transactionReadCacheSize;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -277,6 +286,7 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
         .setSstPartitioningEnabled(enableSstPartitioning)
+        .setTransactionReadCacheSize(transactionReadCacheSize)
         .setMemoryAllocationStrategy(memoryAllocationStrategy)
         .setMemoryFraction(memoryFraction);
   }
@@ -310,6 +320,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", transactionReadCacheSize="
+        + transactionReadCacheSize
         + '}';
   }
 
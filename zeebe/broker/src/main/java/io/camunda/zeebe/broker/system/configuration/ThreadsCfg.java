@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean partitionAffinity = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +28,19 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public boolean isPartitionAffinity() {
+    return partitionAffinity;
+  }
+
+  /**
+   * Sets whether the actors of a partition, e.g. its stream processor, log stream and exporters,
+   * should preferably run on the same CPU thread, such that they benefit from warm caches. Other
+   * threads only take over these actors when the preferred thread has a backlog.
+   */
+  public void setPartitionAffinity(final boolean partitionAffinity) {
+    this.partitionAffinity = partitionAffinity;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +48,8 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", partitionAffinity="
+        + partitionAffinity
         + '}';
   }
 }
@@ -33,6 +33,7 @@ public final class LimitCfg implements ConfigurationEntry {
   private final GradientCfg gradient = new GradientCfg();
   private final Gradient2Cfg gradient2 = new Gradient2Cfg();
   private final LegacyVegasCfg legacyVegas = new LegacyVegasCfg();
+  private final PriorityCfg priorities = new PriorityCfg();
 
   public boolean isEnabled() {
     return enabled;
@@ -87,6 +88,10 @@ public final class LimitCfg implements ConfigurationEntry {
     return legacyVegas;
   }
 
+  public PriorityCfg getPriorities() {
+    return priorities;
+  }
+
   /**
    * Returns the maximum concurrency allowed by the configured algorithm, or 0 if the algorithm does
    * not define an explicit upper bound. Used to size the in-flight ring buffer in flow control.
@@ -173,7 +178,16 @@ public final class LimitCfg implements ConfigurationEntry {
   @Override
   public int hashCode() {
     return Objects.hash(
-        enabled, useWindowed, algorithm, aimd, fixed, vegas, gradient, gradient2, legacyVegas);
+        enabled,
+        useWindowed,
+        algorithm,
+        aimd,
+        fixed,
+        vegas,
+        gradient,
+        gradient2,
+        legacyVegas,
+        priorities);
   }
 
   @Override
@@ -192,7 +206,8 @@ public final class LimitCfg implements ConfigurationEntry {
         && Objects.equals(vegas, limitCfg.vegas)
         && Objects.equals(gradient, limitCfg.gradient)
         && Objects.equals(gradient2, limitCfg.gradient2)
-        && Objects.equals(legacyVegas, limitCfg.legacyVegas);
+        && Objects.equals(legacyVegas, limitCfg.legacyVegas)
+        && Objects.equals(priorities, limitCfg.priorities);
   }
 
   @Override
@@ -217,6 +232,8 @@ public final class LimitCfg implements ConfigurationEntry {
         + gradient2
         + ", legacyVegas="
         + legacyVegas
+        + ", priorities="
+        + priorities
         + '}';
   }
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.backpressure;
+
+import static io.camunda.zeebe.broker.system.configuration.ConfigurationUtil.checkPositive;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestPriorities;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Weights of the command priority classes, among which the request limit is shared once it is
+ * reached: thrown job errors and user task completions, message and signal correlations, process
+ * instance creations, and all other commands. White listed commands, e.g. job completions, are
+ * always admitted and do not count towards any class.
+ */
+public class PriorityCfg {
+
+  private boolean enabled = false;
+  private int completion = 4;
+  private int correlation = 3;
+  private int creation = 2;
+  private int other = 1;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getCompletion() {
+    return completion;
+  }
+
+  public void setCompletion(final int completion) {
+    checkPositive(completion, "completion");
+    this.completion = completion;
+  }
+
+  public int getCorrelation() {
+    return correlation;
+  }
+
+  public void setCorrelation(final int correlation) {
+    checkPositive(correlation, "correlation");
+    this.correlation = correlation;
+  }
+
+  public int getCreation() {
+    return creation;
+  }
+
+  public void setCreation(final int creation) {
+    checkPositive(creation, "creation");
+    this.creation = creation;
+  }
+
+  public int getOther() {
+    return other;
+  }
+
+  public void setOther(final int other) {
+    checkPositive(other, "other");
+    this.other = other;
+  }
+
+  /**
+   * @return null if disabled, the weights of the priority classes otherwise
+   */
+  public @Nullable RequestPriorities buildPriorities() {
+    if (!enabled) {
+      return null;
+    }
+    return new RequestPriorities(completion, correlation, creation, other);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, completion, correlation, creation, other);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof final PriorityCfg that)) {
+      return false;
+    }
+    return enabled == that.enabled
+        && completion == that.completion
+        && correlation == that.correlation
+        && creation == that.creation
+        && other == that.other;
+  }
+
+  @Override
+  public String toString() {
+    return "PriorityCfg{"
+        + "enabled="
+        + enabled
+        + ", completion="
+        + completion
+        + ", correlation="
+        + correlation
+        + ", creation="
+        + creation
+        + ", other="
+        + other
+        + '}';
+  }
+}
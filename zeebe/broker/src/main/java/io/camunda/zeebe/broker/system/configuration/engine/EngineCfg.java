@@ -217,6 +217,7 @@ public final class EngineCfg implements ConfigurationEntry {
         .setCandidateGroupNameResolution(caches.isCandidateGroupNameResolution())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
+        .setJobsActivatableIndexEnabled(jobs.isActivatableIndexEnabled())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize())
         .setMaxIdFieldLength(validators.getMaxIdFieldLength())
         .setMaxNameFieldLength(validators.getMaxNameFieldLength())
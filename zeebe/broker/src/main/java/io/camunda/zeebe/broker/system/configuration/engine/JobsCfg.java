@@ -18,6 +18,8 @@ public class JobsCfg implements ConfigurationEntry {
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
   private boolean includeVariablesInJobCompletedEvent =
       EngineConfiguration.DEFAULT_JOBS_INCLUDE_VARIABLES_IN_JOB_COMPLETED_EVENT;
+  private boolean activatableIndexEnabled =
+      EngineConfiguration.DEFAULT_JOBS_ACTIVATABLE_INDEX_ENABLED;
 
   public Duration getTimeoutCheckerPollingInterval() {
     return timeoutCheckerPollingInterval;
@@ -44,6 +46,14 @@ public class JobsCfg implements ConfigurationEntry {
     this.includeVariablesInJobCompletedEvent = includeVariablesInJobCompletedEvent;
   }
 
+  public boolean isActivatableIndexEnabled() {
+    return activatableIndexEnabled;
+  }
+
+  public void setActivatableIndexEnabled(final boolean activatableIndexEnabled) {
+    this.activatableIndexEnabled = activatableIndexEnabled;
+  }
+
   @Override
   public String toString() {
     return "JobsCfg{"
@@ -53,6 +63,8 @@ public class JobsCfg implements ConfigurationEntry {
         + timeoutCheckerBatchLimit
         + ", includeVariablesInJobCompletedEvent="
         + includeVariablesInJobCompletedEvent
+        + ", activatableIndexEnabled="
+        + activatableIndexEnabled
         + '}';
   }
 }
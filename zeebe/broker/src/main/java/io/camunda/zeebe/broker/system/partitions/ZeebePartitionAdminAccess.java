@@ -226,7 +226,9 @@ class ZeebePartitionAdminAccess implements PartitionAdminAccess {
               flowControl.setWriteRateLimit(flowControlCfg.getWrite().buildLimit());
             }
             if (flowControlCfg.getRequest() != null) {
-              flowControl.setRequestLimit(flowControlCfg.getRequest().buildLimit());
+              flowControl.setRequestLimit(
+                  flowControlCfg.getRequest().buildLimit(),
+                  flowControlCfg.getRequest().getPriorities().buildPriorities());
             }
             future.complete(null);
           } catch (final Exception e) {
@@ -250,7 +252,9 @@ class ZeebePartitionAdminAccess implements PartitionAdminAccess {
           try {
             final FlowControlLimits limits =
                 new FlowControlLimits(
-                    flowControl.getRequestLimit(), flowControl.getWriteRateLimit());
+                    flowControl.getRequestLimit(),
+                    flowControl.getRequestPriorities(),
+                    flowControl.getWriteRateLimit());
             future.complete(limits);
           } catch (final Exception e) {
             LOG.error("Failure on getting the limit configuration of flow control.", e);
@@ -125,6 +125,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .logStream(context.getLogStream())
             .zeebeDb(context.getZeebeDb())
             .distributionInterval(exportingCfg.distributionInterval())
+            .pipelinePerExporter(exportingCfg.pipelinePerExporter())
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
@@ -89,6 +89,7 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
         .withMaxFragmentSize(context.getMaxFragmentSize())
         .withClock(context.getStreamClock())
         .withRequestLimit(requestLimitCfg.buildLimit())
+        .withRequestPriorities(requestLimitCfg.getPriorities().buildPriorities())
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
         .withInFlightCapacity(requestLimitCfg.maxConcurrency() * ringBufferSizeMultiplier)
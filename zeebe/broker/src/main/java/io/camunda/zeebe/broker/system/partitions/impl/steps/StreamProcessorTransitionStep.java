@@ -171,6 +171,10 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .recordProcessors(recordProcessors)
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxCommandsInTransaction(
+            context.getBrokerCfg().getProcessing().getMaxCommandsInTransaction())
+        .maxBatchesInReplayTransaction(
+            context.getBrokerCfg().getProcessing().getMaxBatchesInReplayTransaction())
         .maxRecoverableRetries(context.getBrokerCfg().getProcessing().getMaxRecoverableRetries())
         .setScheduledTaskCheckInterval(
             context.getBrokerCfg().getProcessing().getScheduledTaskCheckInterval())
@@ -23,6 +23,7 @@ import io.camunda.secretstore.SecretStoreRegistry;
 import io.camunda.security.auth.BrokerRequestAuthorizationConverter;
 import io.camunda.security.configuration.EngineSecurityConfigurations;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
+import io.camunda.zeebe.broker.jobstream.JobStreamMetrics;
 import io.camunda.zeebe.broker.jobstream.JobStreamService;
 import io.camunda.zeebe.broker.jobstream.RemoteJobStreamErrorHandlerService;
 import io.camunda.zeebe.broker.jobstream.YieldingJobStreamErrorHandler;
@@ -46,6 +47,7 @@ import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
 import io.camunda.zeebe.util.FeatureFlags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -306,7 +308,9 @@ class PartitionManagerStepTest {
     void shouldRegisterJobStreamErrorHandlerInPartitionListeners() throws Exception {
       // given — a job stream service with a real, identifiable error handler
       final var errorHandler =
-          new RemoteJobStreamErrorHandlerService(new YieldingJobStreamErrorHandler());
+          new RemoteJobStreamErrorHandlerService(
+              new YieldingJobStreamErrorHandler(
+                  new JobStreamMetrics(new SimpleMeterRegistry(), PHYSICAL_TENANT_ID)));
       final var jobStreamService = mock(JobStreamService.class);
       when(jobStreamService.errorHandlerService()).thenReturn(errorHandler);
 
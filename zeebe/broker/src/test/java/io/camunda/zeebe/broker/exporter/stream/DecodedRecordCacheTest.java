@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import org.junit.jupiter.api.Test;
+
+final class DecodedRecordCacheTest {
+
+  @Test
+  void shouldDecodeRecordOnlyOnce() {
+    // given
+    final var cache = new DecodedRecordCache(4);
+    final var event = jobEvent(1);
+    final var firstEntry = cache.acquire(event);
+
+    // when
+    final var secondEntry = cache.acquire(event);
+
+    // then
+    assertThat(secondEntry).isSameAs(firstEntry);
+    assertThat(secondEntry.getMetadata().getValueType()).isEqualTo(ValueType.JOB);
+    assertThat(secondEntry.getValue()).isInstanceOf(JobRecord.class);
+    verify(event, times(1)).readValue(any());
+  }
+
+  @Test
+  void shouldNotEvictAcquiredRecord() {
+    // given
+    final var cache = new DecodedRecordCache(1);
+    cache.acquire(jobEvent(1));
+
+    // when
+    final var entry = cache.acquire(jobEvent(2));
+
+    // then
+    assertThat(entry).isNull();
+  }
+
+  @Test
+  void shouldEvictReleasedRecord() {
+    // given
+    final var cache = new DecodedRecordCache(1);
+    final var event = jobEvent(1);
+    cache.release(cache.acquire(event));
+    cache.release(cache.acquire(jobEvent(2)));
+
+    // when
+    final var entry = cache.acquire(event);
+
+    // then
+    assertThat(entry).isNotNull();
+    verify(event, times(2)).readValue(any());
+  }
+
+  @Test
+  void shouldNotCacheRecordWhichFailedToDecode() {
+    // given
+    final var cache = new DecodedRecordCache(1);
+    final var event = jobEvent(1);
+    doThrow(new IllegalStateException("expected")).doNothing().when(event).readValue(any());
+    assertThatThrownBy(() -> cache.acquire(event)).isInstanceOf(IllegalStateException.class);
+
+    // when
+    final var entry = cache.acquire(event);
+
+    // then
+    assertThat(entry).isNotNull();
+    verify(event, times(2)).readValue(any());
+  }
+
+  private LoggedEvent jobEvent(final long position) {
+    final var event = mock(LoggedEvent.class);
+    when(event.getPosition()).thenReturn(position);
+    doAnswer(
+            invocation -> {
+              invocation.<RecordMetadata>getArgument(0).valueType(ValueType.JOB);
+              return null;
+            })
+        .when(event)
+        .readMetadata(any());
+    return event;
+  }
+}
@@ -30,6 +30,7 @@ import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExpor
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
@@ -521,6 +522,71 @@ public final class ExporterDirectorTest {
                     .containsExactly(eventPosition1, eventPosition2));
   }
 
+  @Test
+  public void shouldNotHoldBackOtherExportersWithPipelinePerExporter() {
+    // given
+    final AtomicBoolean shouldFail = new AtomicBoolean(true);
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              if (shouldFail.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    rule.withExporterDirectorContextConfigurator(context -> context.pipelinePerExporter(true));
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    Awaitility.await("Exporter %s has exported all records".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+
+    // when
+    shouldFail.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until((r) -> exporters.get(0).getExportedRecords().size() == 2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
+  @Test
+  public void shouldNotHoldBackFlowControlWithFilteredPipeline() {
+    // given
+    exporters.get(0).onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.JOB)));
+    final AtomicReference<FlowControl> flowControl = new AtomicReference<>();
+    rule.withExporterDirectorContextConfigurator(
+        context -> {
+          final var logStream = spy(context.getLogStream());
+          flowControl.set(spy(logStream.getFlowControl()));
+          doAnswer(c -> flowControl.get()).when(logStream).getFlowControl();
+          context.logStream(logStream).pipelinePerExporter(true);
+        });
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    writeEvent();
+    final long lastPosition = writeEvent();
+
+    // then
+    Awaitility.await("Exporter %s has exported all records".formatted(EXPORTER_ID_2))
+        .untilAsserted(() -> assertThat(exporters.get(1).getExportedRecords()).hasSize(2));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+    verify(flowControl.get(), TIMEOUT).onExported(lastPosition);
+  }
+
   @Test
   public void shouldNotRetryExportingOnDeserializationException() {
     // given
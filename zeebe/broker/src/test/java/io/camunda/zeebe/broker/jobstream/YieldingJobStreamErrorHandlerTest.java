@@ -20,13 +20,17 @@ import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 public class YieldingJobStreamErrorHandlerTest {
 
-  private final YieldingJobStreamErrorHandler errorHandler = new YieldingJobStreamErrorHandler();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final YieldingJobStreamErrorHandler errorHandler =
+      new YieldingJobStreamErrorHandler(new JobStreamMetrics(meterRegistry, "default"));
   private final TaskResultBuilder mockTaskResultBuilder = mock(TaskResultBuilder.class);
 
   @BeforeEach
@@ -96,4 +100,33 @@ public class YieldingJobStreamErrorHandlerTest {
     assertThat(yieldedJob.getValue().getVariables()).isEmpty();
     assertThat(activatedJob.jobRecord().getVariables()).containsEntry("token", "resolved-secret");
   }
+
+  @Test
+  public void shouldCountYieldedJob() {
+    // given
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl().setJobKey(1L).setRecord(new JobRecord().setType("test-type"));
+
+    // when
+    errorHandler.handleError(
+        activatedJob, new RuntimeException("job push failed"), mockTaskResultBuilder);
+
+    // then
+    assertThat(meterRegistry.get("zeebe.broker.jobs.push.yield.count").counter().count()).isOne();
+  }
+
+  @Test
+  public void shouldNotCountJobWhichCouldNotBeYielded() {
+    // given - the yield command does not fit into the result
+    when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(false);
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl().setJobKey(1L).setRecord(new JobRecord().setType("test-type"));
+
+    // when
+    errorHandler.handleError(
+        activatedJob, new RuntimeException("job push failed"), mockTaskResultBuilder);
+
+    // then
+    assertThat(meterRegistry.get("zeebe.broker.jobs.push.yield.count").counter().count()).isZero();
+  }
 }
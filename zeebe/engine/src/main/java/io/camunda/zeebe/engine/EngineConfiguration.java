@@ -33,6 +33,7 @@ public final class EngineConfiguration {
   public static final Duration DEFAULT_AUTHORIZATIONS_CACHE_TTL = Duration.ofSeconds(10);
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final boolean DEFAULT_JOBS_INCLUDE_VARIABLES_IN_JOB_COMPLETED_EVENT = false;
+  public static final boolean DEFAULT_JOBS_ACTIVATABLE_INDEX_ENABLED = false;
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
@@ -130,6 +131,7 @@ public final class EngineConfiguration {
   private boolean candidateGroupNameResolution = DEFAULT_CANDIDATE_GROUP_NAME_RESOLUTION;
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private boolean jobsActivatableIndexEnabled = DEFAULT_JOBS_ACTIVATABLE_INDEX_ENABLED;
   private int validatorsResultsOutputMaxSize = DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
   private boolean enableAuthorization = DEFAULT_ENABLE_AUTHORIZATION_CHECKS;
   private int maxProcessDepth = DEFAULT_MAX_PROCESS_DEPTH;
@@ -307,6 +309,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public boolean isJobsActivatableIndexEnabled() {
+    return jobsActivatableIndexEnabled;
+  }
+
+  public EngineConfiguration setJobsActivatableIndexEnabled(
+      final boolean jobsActivatableIndexEnabled) {
+    this.jobsActivatableIndexEnabled = jobsActivatableIndexEnabled;
+    return this;
+  }
+
   public int getValidatorsResultsOutputMaxSize() {
     return validatorsResultsOutputMaxSize;
   }
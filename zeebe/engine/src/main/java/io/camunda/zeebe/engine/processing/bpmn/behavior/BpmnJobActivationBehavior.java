@@ -194,6 +194,7 @@ public class BpmnJobActivationBehavior {
     final JobActivationProperties properties = jobStream.properties();
 
     setJobProperties(wrappedJobRecord, properties);
+    jobVariablesCollector.reset();
     jobVariablesCollector.setJobVariables(properties.fetchVariables(), wrappedJobRecord);
     final var pushableJobRecord = new JobRecord();
     cloneJob(wrappedJobRecord, pushableJobRecord);
@@ -106,6 +106,7 @@ final class JobBatchCollector {
     final Predicate<JobRecord> isAuthorizedForJob = buildAuthzPredicate(record);
 
     jobSecretInjector.reset();
+    jobVariablesCollector.reset();
     jobState.forEachActivatableJobs(
         value.getTypeBuffer(),
         tenantIds,
@@ -11,27 +11,64 @@ import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.UserTaskState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.immutable.VariableState.Variable;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.ObjectHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Collects the variables of jobs which are activated.
+ *
+ * <p>Jobs which are activated together often belong to the same process instance, e.g. the jobs of
+ * a multi-instance activity, and thus share their parent scopes. The variables of a parent scope
+ * are resolved only once, including those of its own parents, and are kept until {@link #reset()}
+ * is called. Only the local variables of each job's scope are read per job.
+ *
+ * <p>This only applies if all variables are requested. Otherwise, the requested variables are
+ * looked up by name in the scope hierarchy of each job, which stops as soon as all are found and is
+ * cheaper than resolving all variables of the parent scopes.
+ */
 public class JobVariablesCollector {
 
   private final VariableState variableState;
   private final UserTaskState userTaskState;
   private final ElementInstanceState elementInstanceState;
 
+  // (parent scope key) => (variable name) => (variable value), shadowing already resolved
+  private final Long2ObjectHashMap<Map<DirectBuffer, DirectBuffer>> parentScopeVariables =
+      new Long2ObjectHashMap<>();
+  private final ObjectHashSet<DirectBuffer> localVariableNames = new ObjectHashSet<>();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer documentBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer documentView = new UnsafeBuffer(0, 0);
+
   public JobVariablesCollector(final ProcessingState processingState) {
     variableState = processingState.getVariableState();
     userTaskState = processingState.getUserTaskState();
     elementInstanceState = processingState.getElementInstanceState();
   }
 
+  /**
+   * Forgets the variables of the parent scopes which were resolved for the previous jobs. Must be
+   * called before collecting the variables for a new command, as the variables may have changed
+   * since.
+   */
+  public void reset() {
+    parentScopeVariables.clear();
+  }
+
   public void setJobVariables(
       final Collection<DirectBuffer> requestedVariables, final JobRecord jobRecord) {
     final long elementInstanceKey = jobRecord.getElementInstanceKey();
@@ -39,7 +76,7 @@ public class JobVariablesCollector {
     if (elementInstanceKey < 0) {
       processVariables = DocumentValue.EMPTY_DOCUMENT;
     } else if (requestedVariables.isEmpty()) {
-      processVariables = variableState.getVariablesAsDocument(elementInstanceKey);
+      processVariables = collectProcessVariables(elementInstanceKey);
     } else {
       processVariables =
           variableState.getVariablesAsDocument(elementInstanceKey, requestedVariables);
@@ -62,6 +99,59 @@ public class JobVariablesCollector {
     jobRecord.setVariables(jobVariables);
   }
 
+  /**
+   * Writes the variables visible from the given scope into a document, like {@link
+   * VariableState#getVariablesAsDocument(long)}, but takes the variables of the parent scopes from
+   * the cache. A local variable shadows a variable with the same name of a parent scope.
+   */
+  private DirectBuffer collectProcessVariables(final long scopeKey) {
+    final List<Variable> localVariables = variableState.getVariablesLocal(scopeKey);
+    final Map<DirectBuffer, DirectBuffer> parentVariables =
+        parentScopeVariables.computeIfAbsent(
+            variableState.getParentScopeKey(scopeKey), this::resolveVariables);
+
+    writer.wrap(documentBuffer, 0);
+    writer.reserveMapHeader();
+    int variableCount = 0;
+
+    localVariableNames.clear();
+    for (final Variable variable : localVariables) {
+      localVariableNames.add(variable.name());
+      writer.writeString(variable.name());
+      writer.writeRaw(variable.value());
+      variableCount++;
+    }
+
+    for (final var variable : parentVariables.entrySet()) {
+      final DirectBuffer name = variable.getKey();
+      if (!localVariableNames.contains(name)) {
+        writer.writeString(name);
+        writer.writeRaw(variable.getValue());
+        variableCount++;
+      }
+    }
+
+    writer.writeReservedMapHeader(0, variableCount);
+    documentView.wrap(documentBuffer, 0, writer.getOffset());
+    return documentView;
+  }
+
+  /**
+   * @return the variables visible from the given scope, in the order of {@link
+   *     VariableState#getVariablesAsDocument(long)}
+   */
+  private Map<DirectBuffer, DirectBuffer> resolveVariables(final long scopeKey) {
+    final Map<DirectBuffer, DirectBuffer> variables = new LinkedHashMap<>();
+    long currentScopeKey = scopeKey;
+    while (currentScopeKey >= 0) {
+      for (final Variable variable : variableState.getVariablesLocal(currentScopeKey)) {
+        variables.putIfAbsent(variable.name(), variable.value());
+      }
+      currentScopeKey = variableState.getParentScopeKey(currentScopeKey);
+    }
+    return variables;
+  }
+
   private Map<String, Object> getTaskVariables(
       final Collection<DirectBuffer> requestedVariables, final long elementInstanceKey) {
     final var elementInstance = elementInstanceState.getInstance(elementInstanceKey);
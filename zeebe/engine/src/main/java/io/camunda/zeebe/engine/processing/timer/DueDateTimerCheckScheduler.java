@@ -26,6 +26,7 @@ public class DueDateTimerCheckScheduler implements StreamProcessorLifecycleAware
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
   private final DueDateCheckScheduler dueDateChecker;
+  private final DueTimerWindow window = new DueTimerWindow(DueTimerWindow.DEFAULT_CAPACITY);
 
   public DueDateTimerCheckScheduler(
       final TimerInstanceState timerInstanceState,
@@ -36,16 +37,18 @@ public class DueDateTimerCheckScheduler implements StreamProcessorLifecycleAware
             TIMER_RESOLUTION,
             featureFlags.enableTimerDueDateCheckerAsync(),
             new TriggerTimersSideEffect(
-                timerInstanceState, clock, featureFlags.yieldingDueDateChecker()),
+                timerInstanceState, clock, featureFlags.yieldingDueDateChecker(), window),
             clock);
   }
 
   public void scheduleTimer(final long dueDate) {
+    window.onTimerScheduled(dueDate);
     dueDateChecker.schedule(dueDate);
   }
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    window.invalidate();
     dueDateChecker.onRecovered(context);
   }
 
@@ -66,6 +69,7 @@ public class DueDateTimerCheckScheduler implements StreamProcessorLifecycleAware
 
   @Override
   public void onResumed() {
+    window.invalidate();
     dueDateChecker.onResumed();
   }
 
@@ -76,14 +80,28 @@ public class DueDateTimerCheckScheduler implements StreamProcessorLifecycleAware
 
     private final TimerInstanceState timerInstanceState;
     private final boolean yieldControl;
+    private final DueTimerWindow window;
 
     public TriggerTimersSideEffect(
         final TimerInstanceState timerInstanceState,
         final InstantSource clock,
         final boolean yieldControl) {
+      this(
+          timerInstanceState,
+          clock,
+          yieldControl,
+          new DueTimerWindow(DueTimerWindow.DEFAULT_CAPACITY));
+    }
+
+    TriggerTimersSideEffect(
+        final TimerInstanceState timerInstanceState,
+        final InstantSource clock,
+        final boolean yieldControl,
+        final DueTimerWindow window) {
       this.timerInstanceState = timerInstanceState;
       this.clock = clock;
       this.yieldControl = yieldControl;
+      this.window = window;
     }
 
     @Override
@@ -101,7 +119,14 @@ public class DueDateTimerCheckScheduler implements StreamProcessorLifecycleAware
         timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
       }
 
-      return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
+      if (window.isUsable()) {
+        final long nextDueDate = window.visitDueTimers(now, timerInstanceState, timerVisitor);
+        if (window.isUsable() || nextDueDate > now) {
+          return nextDueDate;
+        }
+      }
+
+      return window.load(now, timerInstanceState, timerVisitor);
     }
   }
 
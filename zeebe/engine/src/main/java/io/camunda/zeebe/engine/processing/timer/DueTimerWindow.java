@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An in-memory window over the next timers of the due date index, such that the due date checker
+ * doesn't have to scan the index on every execution. With many timers, the checker runs every
+ * {@code TIMER_RESOLUTION} and each run would otherwise iterate over the index again, including
+ * the tombstones of all timers that were triggered in the meantime.
+ *
+ * <p>The window is filled while scanning the index for due timers: the timers which are not due
+ * yet are remembered, ordered by their due date, until the window is full. The following
+ * executions only look up the timers of the window that became due. The index is scanned again
+ * once all timers of the window are visited, or when the window became invalid.
+ *
+ * <p>The window becomes invalid if a timer is scheduled before its end, i.e. a timer which should
+ * be part of it, or when the stream processor is recovered or resumed. Timers which were removed
+ * in the meantime are not found anymore and skipped. The window is only used up once all of its
+ * timers are gone.
+ *
+ * <p>The window is only loaded and visited by the executions of the checker, which never run
+ * concurrently. It can be invalidated from any thread.
+ */
+final class DueTimerWindow {
+
+  static final int DEFAULT_CAPACITY = 1024;
+
+  private final AtomicBoolean invalidated = new AtomicBoolean(true);
+  private final long[] dueDates;
+  private final long[] elementInstanceKeys;
+  private final long[] timerKeys;
+  private int size;
+  // the first timer of the window which may still exist, all timers before it are gone
+  private int cursor;
+
+  /** The due date from which on timers are not part of the window, or max value if none are. */
+  private volatile long end = Long.MAX_VALUE;
+
+  DueTimerWindow(final int capacity) {
+    dueDates = new long[capacity];
+    elementInstanceKeys = new long[capacity];
+    timerKeys = new long[capacity];
+  }
+
+  /** Invalidates the window if the timer with the given due date would be part of it. */
+  void onTimerScheduled(final long dueDate) {
+    if (dueDate < end) {
+      invalidated.set(true);
+    }
+  }
+
+  void invalidate() {
+    invalidated.set(true);
+  }
+
+  /**
+   * @return true if the window can be visited, false if it has to be loaded again
+   */
+  boolean isUsable() {
+    return !invalidated.get() && (cursor < size || end == Long.MAX_VALUE);
+  }
+
+  /**
+   * Scans the due date index from the start. Due timers are presented to the visitor, the others
+   * are added to the window until it is full.
+   *
+   * @return the due date of the next timer, or -1 if there is none
+   */
+  long load(final long timestamp, final TimerInstanceState timerState, final TimerVisitor visitor) {
+    // any timer scheduled during the scan could be missed by it
+    end = Long.MAX_VALUE;
+    invalidated.set(false);
+    size = 0;
+    cursor = 0;
+
+    final var visitorStopped = new boolean[1];
+    final long nextDueDate =
+        timerState.processTimersWithDueDateBefore(
+            Long.MAX_VALUE,
+            timer -> {
+              if (timer.getDueDate() <= timestamp) {
+                visitorStopped[0] = !visitor.visit(timer);
+                return !visitorStopped[0];
+              }
+              return add(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
+            });
+
+    if (visitorStopped[0]) {
+      // the window misses the timers after the one which couldn't be visited
+      invalidated.set(true);
+      size = 0;
+      return nextDueDate;
+    }
+
+    end = nextDueDate < 0 ? Long.MAX_VALUE : nextDueDate;
+    return size > 0 ? dueDates[0] : nextDueDate;
+  }
+
+  /**
+   * Presents the timers of the window that are due to the visitor, until the visitor stops. A
+   * visited timer stays in the window until it is gone from the state, such that it is visited
+   * again by the next execution if its trigger command was dropped or rejected.
+   *
+   * @return the due date of the next timer which is not due yet, or -1 if there is none
+   */
+  long visitDueTimers(
+      final long timestamp, final TimerInstanceState timerState, final TimerVisitor visitor) {
+    int next = cursor;
+    while (next < size && dueDates[next] <= timestamp) {
+      final var timer = timerState.get(elementInstanceKeys[next], timerKeys[next]);
+      if (timer == null) {
+        // the timer is gone if it was triggered or canceled in the meantime
+        if (next == cursor) {
+          cursor++;
+        }
+      } else if (!visitor.visit(timer)) {
+        return dueDates[next];
+      }
+      next++;
+    }
+
+    if (next < size) {
+      return dueDates[next];
+    }
+    return end == Long.MAX_VALUE ? -1 : end;
+  }
+
+  private boolean add(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (size == dueDates.length) {
+      return false;
+    }
+
+    dueDates[size] = dueDate;
+    elementInstanceKeys[size] = elementInstanceKey;
+    timerKeys[size] = timerKey;
+    size++;
+    return true;
+  }
+}
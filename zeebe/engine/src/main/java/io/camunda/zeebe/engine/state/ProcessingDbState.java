@@ -205,7 +205,7 @@ public class ProcessingDbState implements MutableProcessingState {
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
+    jobState = new DbJobState(zeebeDb, transactionContext, config.isJobsActivatableIndexEnabled());
     messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
     messageSubscriptionState =
         new DbMessageSubscriptionState(
@@ -264,6 +264,7 @@ public class ProcessingDbState implements MutableProcessingState {
     messageState.onRecovered(context);
     messageStartProcessInstanceAskState.onRecovered(context);
     messageStartProcessInstanceDedupState.onRecovered(context);
+    jobState.onRecovered(context);
   }
 
   @Override
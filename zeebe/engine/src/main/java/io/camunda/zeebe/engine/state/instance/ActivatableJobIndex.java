@@ -0,0 +1,454 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.LongPredicate;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * In-memory mirror of the {@code JOB_ACTIVATABLE_BY_PRIORITY} column family, keyed by {@code (type,
+ * tenant, priority)}. Each leaf is a sorted queue of job keys, so activatable jobs can be visited
+ * in the same {@code (priority DESC, jobKey ASC)} order as the column family without opening a
+ * RocksDB iterator.
+ *
+ * <p>The index is not transactional: mutations are applied immediately, while the column family
+ * only sees them once the transaction commits. To stay consistent with the column family, the
+ * index listens to the transaction, records its mutations until they are committed, and undoes
+ * them in reverse order when they are discarded. Only if the index was rebuilt from uncommitted
+ * state, which it cannot tell apart from committed state, is it invalidated instead, to be rebuilt
+ * before it is used again.
+ *
+ * <p>This class is not thread safe; it is meant to be used from the partition's processing actor
+ * only.
+ */
+final class ActivatableJobIndex implements TransactionListener {
+
+  private static final int INITIAL_QUEUE_CAPACITY = 16;
+
+  private final Object2ObjectHashMap<DirectBuffer, NavigableMap<Integer, Map<String, JobKeyQueue>>>
+      jobsByType = new Object2ObjectHashMap<>();
+
+  // UnsafeBuffer only equals other UnsafeBuffers, so any given type is looked up through this view
+  private final UnsafeBuffer typeView = new UnsafeBuffer(0, 0);
+
+  // reused across visits to merge the queues of all requested tenants of one priority
+  private JobKeyQueue[] mergeQueues = new JobKeyQueue[4];
+  private int[] mergeCursors = new int[4];
+
+  // the mutations since the last commit; the entries are reused across transactions
+  private final List<Change> changes = new ArrayList<>();
+  private int changeCount;
+  private int savepointChangeCount;
+  private boolean rebuiltSinceCommit;
+
+  private boolean valid;
+
+  /**
+   * @return {@code true} if the index reflects the column family, i.e. it was rebuilt since it was
+   *     created or last invalidated
+   */
+  boolean isValid() {
+    return valid;
+  }
+
+  /** Marks the index as out of sync with the column family and drops its content. */
+  void invalidate() {
+    valid = false;
+    jobsByType.clear();
+    clearChanges();
+  }
+
+  /**
+   * Drops the content of the index, to be followed by re-adding every activatable job. Until the
+   * next commit, the index may hold uncommitted jobs, so discarding changes then invalidates it.
+   */
+  void beginRebuild() {
+    jobsByType.clear();
+    clearChanges();
+    rebuiltSinceCommit = true;
+    valid = false;
+  }
+
+  /** Marks the index as in sync with the column family after a rebuild. */
+  void completeRebuild() {
+    valid = true;
+  }
+
+  @Override
+  public void onCommit() {
+    clearChanges();
+    rebuiltSinceCommit = false;
+  }
+
+  @Override
+  public void onSavepoint() {
+    savepointChangeCount = changeCount;
+  }
+
+  @Override
+  public void onRollbackToSavepoint() {
+    undoChanges(savepointChangeCount);
+  }
+
+  @Override
+  public void onRollback() {
+    undoChanges(0);
+    savepointChangeCount = 0;
+  }
+
+  void add(final DirectBuffer type, final String tenantId, final int priority, final long key) {
+    if (addKey(type, tenantId, priority, key) && valid) {
+      recordChange(true, type, tenantId, priority, key);
+    }
+  }
+
+  void remove(final DirectBuffer type, final String tenantId, final int priority, final long key) {
+    if (removeKey(type, tenantId, priority, key) && valid) {
+      recordChange(false, type, tenantId, priority, key);
+    }
+  }
+
+  private boolean addKey(
+      final DirectBuffer type, final String tenantId, final int priority, final long key) {
+    typeView.wrap(type);
+    var jobsByPriority = jobsByType.get(typeView);
+    if (jobsByPriority == null) {
+      final var typeCopy = new byte[type.capacity()];
+      type.getBytes(0, typeCopy);
+      jobsByPriority = new TreeMap<>(Comparator.reverseOrder());
+      jobsByType.put(new UnsafeBuffer(typeCopy), jobsByPriority);
+    }
+
+    return jobsByPriority
+        .computeIfAbsent(priority, p -> new Object2ObjectHashMap<>())
+        .computeIfAbsent(tenantId, t -> new JobKeyQueue(INITIAL_QUEUE_CAPACITY))
+        .add(key);
+  }
+
+  private boolean removeKey(
+      final DirectBuffer type, final String tenantId, final int priority, final long key) {
+    typeView.wrap(type);
+    final var jobsByPriority = jobsByType.get(typeView);
+    if (jobsByPriority == null) {
+      return false;
+    }
+
+    final var jobsByTenant = jobsByPriority.get(priority);
+    if (jobsByTenant == null) {
+      return false;
+    }
+
+    final var queue = jobsByTenant.get(tenantId);
+    if (queue == null || !queue.remove(key)) {
+      return false;
+    }
+
+    if (queue.isEmpty()) {
+      jobsByTenant.remove(tenantId);
+      if (jobsByTenant.isEmpty()) {
+        jobsByPriority.remove(priority);
+        if (jobsByPriority.isEmpty()) {
+          jobsByType.remove(typeView);
+        }
+      }
+    }
+    return true;
+  }
+
+  private void recordChange(
+      final boolean added,
+      final DirectBuffer type,
+      final String tenantId,
+      final int priority,
+      final long key) {
+    if (changeCount == changes.size()) {
+      changes.add(new Change());
+    }
+    changes.get(changeCount++).set(added, type, tenantId, priority, key);
+  }
+
+  /** Undoes the recorded mutations in reverse order, until only the given number is left. */
+  private void undoChanges(final int remainingChangeCount) {
+    if (rebuiltSinceCommit) {
+      invalidate();
+      return;
+    }
+
+    while (changeCount > remainingChangeCount) {
+      final var change = changes.get(--changeCount);
+      if (change.added) {
+        removeKey(change.type, change.tenantId, change.priority, change.key);
+      } else {
+        addKey(change.type, change.tenantId, change.priority, change.key);
+      }
+    }
+  }
+
+  private void clearChanges() {
+    changeCount = 0;
+    savepointChangeCount = 0;
+  }
+
+  /**
+   * Visits the activatable jobs of the given type and tenants, either those with a priority greater
+   * than zero or those with a priority of zero or below, in {@code (priority DESC, jobKey ASC)}
+   * order.
+   *
+   * @param positivePriorities {@code true} to visit jobs with a priority {@code > 0}, {@code false}
+   *     to visit jobs with a priority {@code <= 0}
+   * @return {@code true} if the visitor still wants more jobs; {@code false} if it stopped the
+   *     iteration
+   */
+  boolean visit(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final boolean positivePriorities,
+      final LongPredicate visitor) {
+    typeView.wrap(type);
+    final var jobsByPriority = jobsByType.get(typeView);
+    if (jobsByPriority == null) {
+      return true;
+    }
+
+    // the map is sorted descending, so a head map contains the priorities above the boundary
+    final var priorities =
+        positivePriorities ? jobsByPriority.headMap(0, false) : jobsByPriority.tailMap(0, true);
+    for (final var jobsByTenant : priorities.values()) {
+      if (!visitTenants(jobsByTenant, tenantIds, visitor)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the number of job keys held by the index, for all types, tenants and priorities
+   */
+  long size() {
+    long size = 0;
+    for (final var jobsByPriority : jobsByType.values()) {
+      for (final var jobsByTenant : jobsByPriority.values()) {
+        for (final var queue : jobsByTenant.values()) {
+          size += queue.size();
+        }
+      }
+    }
+    return size;
+  }
+
+  private boolean visitTenants(
+      final Map<String, JobKeyQueue> jobsByTenant,
+      final List<String> tenantIds,
+      final LongPredicate visitor) {
+    int queueCount = 0;
+    for (final String tenantId : tenantIds) {
+      final var queue = jobsByTenant.get(tenantId);
+      if (queue != null) {
+        ensureMergeCapacity(queueCount + 1);
+        mergeQueues[queueCount] = queue;
+        mergeCursors[queueCount] = 0;
+        queueCount++;
+      }
+    }
+
+    try {
+      if (queueCount == 1) {
+        return mergeQueues[0].visit(visitor);
+      }
+      return visitMerged(queueCount, visitor);
+    } finally {
+      Arrays.fill(mergeQueues, 0, queueCount, null);
+    }
+  }
+
+  /**
+   * Merges the queues of several tenants by job key, which is the order in which the column family
+   * returns them, since the tenant is only a suffix of its key.
+   */
+  private boolean visitMerged(final int queueCount, final LongPredicate visitor) {
+    while (true) {
+      int next = -1;
+      long nextKey = Long.MAX_VALUE;
+      for (int i = 0; i < queueCount; i++) {
+        final var queue = mergeQueues[i];
+        if (mergeCursors[i] < queue.size()) {
+          final long key = queue.get(mergeCursors[i]);
+          if (next < 0 || key < nextKey) {
+            next = i;
+            nextKey = key;
+          }
+        }
+      }
+
+      if (next < 0) {
+        return true;
+      }
+
+      mergeCursors[next]++;
+      if (!visitor.test(nextKey)) {
+        return false;
+      }
+    }
+  }
+
+  private void ensureMergeCapacity(final int capacity) {
+    if (mergeQueues.length < capacity) {
+      mergeQueues = Arrays.copyOf(mergeQueues, capacity * 2);
+      mergeCursors = Arrays.copyOf(mergeCursors, capacity * 2);
+    }
+  }
+
+  /**
+   * A set of job keys, kept sorted in ascending order in a primitive array. Job keys are
+   * monotonically increasing, so new jobs are appended at the tail and activated jobs are usually
+   * removed from the head; both are O(1). Only jobs that are made activatable again (e.g. after a
+   * timeout or a failure) or that are activated out of order need to shift part of the array.
+   */
+  static final class JobKeyQueue {
+
+    private long[] keys;
+    private int head;
+    private int tail;
+
+    JobKeyQueue(final int initialCapacity) {
+      keys = new long[initialCapacity];
+    }
+
+    int size() {
+      return tail - head;
+    }
+
+    boolean isEmpty() {
+      return tail == head;
+    }
+
+    long get(final int index) {
+      return keys[head + index];
+    }
+
+    /**
+     * Adds the key if not yet contained; a job can be made activatable multiple times.
+     *
+     * @return {@code true} if the key was added, {@code false} if it was already contained
+     */
+    boolean add(final long key) {
+      if (isEmpty() || key > keys[tail - 1]) {
+        ensureTailCapacity();
+        keys[tail++] = key;
+        return true;
+      }
+
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index >= 0) {
+        return false;
+      }
+
+      final int insertionPoint = -(index + 1);
+      if (insertionPoint == head && head > 0) {
+        keys[--head] = key;
+        return true;
+      }
+
+      ensureTailCapacity();
+      System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, tail - insertionPoint);
+      keys[insertionPoint] = key;
+      tail++;
+      return true;
+    }
+
+    boolean remove(final long key) {
+      if (isEmpty()) {
+        return false;
+      }
+
+      if (keys[head] == key) {
+        head++;
+        resetIfEmpty();
+        return true;
+      }
+
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index < 0) {
+        return false;
+      }
+
+      System.arraycopy(keys, index + 1, keys, index, tail - index - 1);
+      tail--;
+      resetIfEmpty();
+      return true;
+    }
+
+    boolean visit(final LongPredicate visitor) {
+      // the visitor must not modify the queue, so iterating over the array directly is safe
+      for (int i = head; i < tail; i++) {
+        if (!visitor.test(keys[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void resetIfEmpty() {
+      if (head == tail) {
+        head = 0;
+        tail = 0;
+      }
+    }
+
+    private void ensureTailCapacity() {
+      if (tail < keys.length) {
+        return;
+      }
+
+      final int size = size();
+      if (head > 0 && size < keys.length / 2) {
+        // enough space was freed at the head; compact instead of growing
+        System.arraycopy(keys, head, keys, 0, size);
+      } else {
+        keys = Arrays.copyOfRange(keys, head, head + Math.max(keys.length * 2, 1));
+      }
+      head = 0;
+      tail = size;
+    }
+  }
+
+  /** A recorded mutation of the index; it copies the type, which is only valid during the call. */
+  private static final class Change {
+    private final ExpandableArrayBuffer typeBuffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer type = new UnsafeBuffer(0, 0);
+    private boolean added;
+    private String tenantId;
+    private int priority;
+    private long key;
+
+    private void set(
+        final boolean added,
+        final DirectBuffer type,
+        final String tenantId,
+        final int priority,
+        final long key) {
+      typeBuffer.putBytes(0, type, 0, type.capacity());
+      this.type.wrap(typeBuffer, 0, type.capacity());
+      this.added = added;
+      this.tenantId = tenantId;
+      this.priority = priority;
+      this.key = key;
+    }
+  }
+}
@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.EnsureUtil;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
@@ -95,8 +96,21 @@ public final class DbJobState implements JobState, MutableJobState {
   /** In-memory, per-partition memory that the legacy JOB_ACTIVATABLE CF is globally drained. */
   private volatile boolean isLegacyCfDrained = false;
 
+  /**
+   * Optional in-memory mirror of {@code JOB_ACTIVATABLE_BY_PRIORITY}, used to serve job activation
+   * without iterating over the column family; {@code null} if disabled.
+   */
+  private final ActivatableJobIndex activatableJobIndex;
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, false);
+  }
+
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final boolean activatableJobIndexEnabled) {
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
@@ -142,6 +156,19 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    activatableJobIndex = activatableJobIndexEnabled ? new ActivatableJobIndex() : null;
+    if (activatableJobIndex != null) {
+      // the index is not part of the transaction; it undoes its changes when they are discarded
+      transactionContext.addTransactionListener(activatableJobIndex);
+    }
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (activatableJobIndex != null) {
+      rebuildActivatableJobIndex();
+    }
   }
 
   /**
@@ -460,6 +487,10 @@ public final class DbJobState implements JobState, MutableJobState {
     invertedPriorityKey.wrapInt(Integer.MAX_VALUE - priority);
     // upsert because a failed job with retries can be made activatable multiple times
     priorityActivatableColumnFamily.upsert(tenantAwarePriorityKey, DbNil.INSTANCE);
+
+    if (activatableJobIndex != null && activatableJobIndex.isValid()) {
+      activatableJobIndex.add(type, tenantId, priority, key);
+    }
   }
 
   @Override
@@ -593,6 +624,11 @@ public final class DbJobState implements JobState, MutableJobState {
     //   Phase 3: new jobs with priority <= 0, highest first
     // Each phase returns true if the batch still wants more jobs. Subsequent phases are skipped
     // when the batch is full to avoid redundant state reads.
+    if (activatableJobIndex != null) {
+      forEachIndexedActivatableJobs(type, tenantIds, callback);
+      return;
+    }
+
     if (visitHighPriorityJobs(tenantIds, callback)
         && (isLegacyCfDrained || visitLegacyActivatableJobs(type, tenantIds, callback))) {
       visitNonPositivePriorityJobs(tenantIds, callback);
@@ -765,6 +801,49 @@ public final class DbJobState implements JobState, MutableJobState {
         });
   }
 
+  /**
+   * Same three phases as {@link #forEachActivatableJobs(DirectBuffer, List, BiFunction)}, but
+   * phases 1 and 3 are served from the in-memory {@link ActivatableJobIndex} instead of iterating
+   * over {@code JOB_ACTIVATABLE_BY_PRIORITY}. The legacy column family is not mirrored, as it is
+   * only ever drained; phase 2 still reads it until it is empty.
+   *
+   * <p>The index is rebuilt from the column family if it was invalidated, e.g. when a transaction
+   * in which it was rebuilt is rolled back.
+   */
+  private void forEachIndexedActivatableJobs(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (!activatableJobIndex.isValid()) {
+      rebuildActivatableJobIndex();
+      jobTypeKey.wrapBuffer(type);
+    }
+
+    final BiPredicate<Long, JobRecord> jobVisitor = callback::apply;
+    if (activatableJobIndex.visit(type, tenantIds, true, key -> visitJob(key, jobVisitor))
+        && (isLegacyCfDrained || visitLegacyActivatableJobs(type, tenantIds, callback))) {
+      activatableJobIndex.visit(type, tenantIds, false, key -> visitJob(key, jobVisitor));
+    }
+  }
+
+  private void rebuildActivatableJobIndex() {
+    activatableJobIndex.beginRebuild();
+    priorityActivatableColumnFamily.forEachKey(
+        key -> {
+          final var typePriorityAndJob = key.wrappedKey();
+          final var invertedPriorityAndJob = typePriorityAndJob.second();
+          // see the invertedPriorityKey field comment above for the two's-complement round trip
+          final int priority = Integer.MAX_VALUE - invertedPriorityAndJob.first().getValue();
+          activatableJobIndex.add(
+              typePriorityAndJob.first().getBuffer(),
+              key.tenantKey().toString(),
+              priority,
+              invertedPriorityAndJob.second().inner().getValue());
+        });
+    activatableJobIndex.completeRebuild();
+    LOG.debug("Rebuilt activatable job index with {} jobs", activatableJobIndex.size());
+  }
+
   boolean visitJob(final long jobKey, final BiPredicate<Long, JobRecord> callback) {
     final JobRecord job = getJob(jobKey);
     if (job == null) {
@@ -818,6 +897,9 @@ public final class DbJobState implements JobState, MutableJobState {
     // Requires jobKey to already be set by the caller (directly or via updateJobRecord).
     // This method does not set jobKey because it is not passed as a parameter.
     priorityActivatableColumnFamily.deleteIfExists(tenantAwarePriorityKey);
+    if (activatableJobIndex != null && activatableJobIndex.isValid()) {
+      activatableJobIndex.remove(type, tenantId, priority, jobKey.getValue());
+    }
     // Legacy CF cleanup: pre-8.10 jobs live in JOB_ACTIVATABLE; deleteIfExists is a no-op
     // when the key is absent. Do not remove this line!
     deprecatedActivatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
@@ -10,9 +10,10 @@ package io.camunda.zeebe.engine.state.mutable;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.JobState.State;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import org.agrona.DirectBuffer;
 
-public interface MutableJobState extends JobState {
+public interface MutableJobState extends JobState, StreamProcessorLifecycleAware {
 
   /**
    * @deprecated inserts the activatable job into the legacy {@code JOB_ACTIVATABLE} column family.
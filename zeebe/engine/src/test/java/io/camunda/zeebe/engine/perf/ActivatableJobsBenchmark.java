@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares collecting a batch of activatable jobs by iterating over the {@code
+ * JOB_ACTIVATABLE_BY_PRIORITY} column family with serving it from the in-memory activatable job
+ * index, for a growing number of activatable jobs of the same type.
+ *
+ * <p>Run via: {@code mvn verify -pl zeebe/engine -Dtest=ActivatableJobsBenchmark -DskipTests=false
+ * -Dbenchmark=true}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+public class ActivatableJobsBenchmark {
+
+  private static final DirectBuffer TYPE = wrapString("benchmark");
+  private static final List<String> TENANTS = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private static final int MAX_JOBS_TO_ACTIVATE = 32;
+
+  @Param({"10000", "100000", "1000000"})
+  public int activatableJobs;
+
+  @Param({"false", "true"})
+  public boolean activatableIndexEnabled;
+
+  private Path tempFolder;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbJobState jobState;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    tempFolder = Files.createTempDirectory("activatable-jobs-benchmark");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(tempFolder.toFile());
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    jobState = new DbJobState(zeebeDb, transactionContext, activatableIndexEnabled);
+
+    final var record =
+        new JobRecord()
+            .setType(TYPE)
+            .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER)
+            .setRetries(3);
+    for (long key = 1; key <= activatableJobs; key++) {
+      jobState.insertJobRecordActivatable(key, record);
+      jobState.makeJobActivatableByPriority(
+          TYPE, key, TenantOwned.DEFAULT_TENANT_IDENTIFIER, record.getPriority());
+      if (key % 10_000 == 0) {
+        transactionContext.getCurrentTransaction().commit();
+      }
+    }
+    transactionContext.getCurrentTransaction().commit();
+
+    // builds the index, if enabled, and drains the legacy column family check
+    jobState.forEachActivatableJobs(TYPE, TENANTS, (key, job) -> false);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(tempFolder);
+  }
+
+  @Benchmark
+  public void collectJobs(final Blackhole blackhole) {
+    final int[] collected = {0};
+    jobState.forEachActivatableJobs(
+        TYPE,
+        TENANTS,
+        (key, job) -> {
+          blackhole.consume(job);
+          return ++collected[0] < MAX_JOBS_TO_ACTIVATE;
+        });
+  }
+
+  /**
+   * Run benchmarks from IntelliJ via the play button. Skipped in CI by the {@code
+   * EnabledIfSystemProperty} condition — pass {@code -Dbenchmark=true} to enable.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  void runBenchmarks() throws Exception {
+    final var builder =
+        new OptionsBuilder()
+            .include(ActivatableJobsBenchmark.class.getSimpleName())
+            .resultFormat(ResultFormatType.JSON)
+            .result("target/jmh-result.json");
+
+    new Runner(builder.build()).run();
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.util.RecordToWrite;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how fast the engine works through a burst of process instance creation commands,
+ * depending on how many consecutive commands are processed within a single state transaction. The
+ * sample time mode reports the latency percentiles of a whole burst.
+ *
+ * <p>Run via: {@code mvn verify -pl zeebe/engine -Dtest=CommandTransactionBenchmark
+ * -DskipTests=false -Dbenchmark=true}
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g", "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED"})
+public class CommandTransactionBenchmark {
+
+  private static final String PROCESS_ID = "process";
+  private static final int COMMANDS_PER_BURST = 100;
+
+  @Param({"1", "10", "100"})
+  public int maxCommandsInTransaction;
+
+  private TestContext testContext;
+  private TestEngine engine;
+  private RecordToWrite[] burst;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    testContext = createTestContext();
+    engine =
+        TestEngine.createSinglePartitionEngine(
+            testContext, cfg -> cfg.maxCommandsInTransaction(maxCommandsInTransaction));
+    engine
+        .createDeploymentClient()
+        .withXmlResource(Bpmn.createExecutableProcess(PROCESS_ID).startEvent().endEvent().done())
+        .deploy();
+
+    burst = new RecordToWrite[COMMANDS_PER_BURST];
+    for (int i = 0; i < COMMANDS_PER_BURST; i++) {
+      burst[i] =
+          RecordToWrite.command()
+              .processInstanceCreation(
+                  ProcessInstanceCreationIntent.CREATE,
+                  new ProcessInstanceCreationRecord().setBpmnProcessId(PROCESS_ID));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<?> processBurst() {
+    final long lastCommandPosition = engine.writeBatch(burst);
+
+    final var created =
+        RecordingExporter.processInstanceCreationRecords()
+            .withIntent(ProcessInstanceCreationIntent.CREATED)
+            .withSourceRecordPosition(lastCommandPosition)
+            .getFirst();
+
+    engine.reset();
+    return created;
+  }
+
+  private TestContext createTestContext() throws Exception {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  /**
+   * Run benchmarks from IntelliJ via the play button. Skipped in CI by the {@code
+   * EnabledIfSystemProperty} condition — pass {@code -Dbenchmark=true} to enable.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  void runBenchmarks() throws Exception {
+    final var builder =
+        new OptionsBuilder()
+            .include(CommandTransactionBenchmark.class.getSimpleName())
+            .resultFormat(ResultFormatType.JSON)
+            .result("target/jmh-result.json");
+
+    new Runner(builder.build()).run();
+  }
+}
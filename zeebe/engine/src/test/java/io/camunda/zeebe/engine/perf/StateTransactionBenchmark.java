@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.instance.DbElementInstanceState;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the write batch backed state transactions on the engine's hot column families, by
+ * running the state changes of a service task lifecycle - element instance, variable and job - on
+ * top of a pre-filled state. Every lifecycle reads back its own uncommitted writes, and the
+ * transaction is committed after a configurable number of lifecycles.
+ *
+ * <p>Run via: {@code mvn verify -pl zeebe/engine -Dtest=StateTransactionBenchmark
+ * -DskipTests=false -Dbenchmark=true}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+public class StateTransactionBenchmark {
+
+  private static final DirectBuffer TYPE = wrapString("benchmark");
+  private static final DirectBuffer VARIABLE_NAME = wrapString("variable");
+  private static final DirectBuffer VARIABLE_VALUE = wrapString("\"value\"");
+  private static final long PROCESS_DEFINITION_KEY = 1L;
+  private static final int EXISTING_SERVICE_TASKS = 100_000;
+
+  @Param({"1", "10", "100"})
+  public int lifecyclesPerCommit;
+
+  private Path tempFolder;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbElementInstanceState elementInstanceState;
+  private DbVariableState variableState;
+  private DbJobState jobState;
+
+  private final ProcessInstanceRecord serviceTask =
+      new ProcessInstanceRecord()
+          .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+          .setElementId("task")
+          .setProcessDefinitionKey(PROCESS_DEFINITION_KEY);
+  private final JobRecord job =
+      new JobRecord()
+          .setType(TYPE)
+          .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER)
+          .setRetries(3);
+  private long nextKey;
+  private long uncommittedLifecycles;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    tempFolder = Files.createTempDirectory("state-transaction-benchmark");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(tempFolder.toFile());
+    transactionContext = zeebeDb.createContext();
+    variableState = new DbVariableState(zeebeDb, transactionContext);
+    elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
+    jobState = new DbJobState(zeebeDb, transactionContext);
+
+    for (int i = 1; i <= EXISTING_SERVICE_TASKS; i++) {
+      createServiceTask();
+      if (i % 10_000 == 0) {
+        transactionContext.getCurrentTransaction().commit();
+      }
+    }
+    transactionContext.getCurrentTransaction().commit();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(tempFolder);
+  }
+
+  @Benchmark
+  public void serviceTaskLifecycle(final Blackhole blackhole) throws Exception {
+    final long elementInstanceKey = createServiceTask();
+    final long jobKey = elementInstanceKey + 2;
+
+    // read your own writes of the open transaction
+    blackhole.consume(elementInstanceState.getInstance(elementInstanceKey));
+    blackhole.consume(variableState.getVariable(elementInstanceKey, VARIABLE_NAME));
+    blackhole.consume(jobState.getJob(jobKey));
+
+    jobState.complete(jobKey, job);
+    elementInstanceState.removeInstance(elementInstanceKey);
+
+    if (++uncommittedLifecycles == lifecyclesPerCommit) {
+      transactionContext.getCurrentTransaction().commit();
+      uncommittedLifecycles = 0;
+    }
+  }
+
+  private long createServiceTask() {
+    final long elementInstanceKey = ++nextKey;
+    final long variableKey = ++nextKey;
+    final long jobKey = ++nextKey;
+
+    serviceTask.setProcessInstanceKey(elementInstanceKey);
+    elementInstanceState.newInstance(
+        elementInstanceKey, serviceTask, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    variableState.setVariableLocal(
+        variableKey, elementInstanceKey, PROCESS_DEFINITION_KEY, VARIABLE_NAME, VARIABLE_VALUE);
+    jobState.insertJobRecordActivatable(jobKey, job);
+    jobState.makeJobActivatableByPriority(
+        TYPE, jobKey, TenantOwned.DEFAULT_TENANT_IDENTIFIER, job.getPriority());
+    return elementInstanceKey;
+  }
+
+  /**
+   * Run benchmarks from IntelliJ via the play button. Skipped in CI by the {@code
+   * EnabledIfSystemProperty} condition — pass {@code -Dbenchmark=true} to enable.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  void runBenchmarks() throws Exception {
+    final var builder =
+        new OptionsBuilder()
+            .include(StateTransactionBenchmark.class.getSimpleName())
+            .resultFormat(ResultFormatType.JSON)
+            .result("target/jmh-result.json");
+
+    new Runner(builder.build()).run();
+  }
+}
@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSen
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.ProcessingExporterTransistor;
+import io.camunda.zeebe.engine.util.RecordToWrite;
 import io.camunda.zeebe.engine.util.StreamProcessingComposite;
 import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
 import io.camunda.zeebe.engine.util.TestStreams;
@@ -116,6 +117,16 @@ public final class TestEngine {
     return new TestEngine(1, 1, testContext, cfg -> {});
   }
 
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext,
+      final Consumer<StreamProcessorBuilder> processorConfiguration) {
+    return new TestEngine(1, 1, testContext, processorConfiguration);
+  }
+
+  public long writeBatch(final RecordToWrite... recordsToWrite) {
+    return streamProcessingComposite.writeBatch(recordsToWrite);
+  }
+
   public void reset() {
     RecordingExporter.reset();
     testStreams.resetLog();
@@ -446,6 +446,55 @@ final class JobBatchCollectorTest {
             });
   }
 
+  @Test
+  void shouldCollectVariablesOfSharedParentScope() {
+    // given - two jobs whose scopes share the same parent scope
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(firstScopeKey, parentScopeKey);
+    state.getVariableState().createScope(secondScopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("shared", "parent", "shadowed", "parent"));
+    createJobWithVariables(firstScopeKey, Map.of("shadowed", "local"));
+    createJob(secondScopeKey);
+
+    // when
+    collector.collectJobs(record, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("shared", "parent", "shadowed", "local"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("shared", "parent", "shadowed", "parent"));
+            });
+  }
+
+  @Test
+  void shouldNotReuseVariablesOfParentScopeForNextBatch() {
+    // given
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(scopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("foo", "bar"));
+    createJob(scopeKey);
+    collector.collectJobs(createRecord(), List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+    setVariables(parentScopeKey, Map.of("foo", "baz"));
+
+    // when
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    collector.collectJobs(record, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+
+    // then
+    RecordValueWithVariablesAssert.assertThat(record.getValue().getJobs().getFirst())
+        .hasVariables(Map.of("foo", "baz"));
+  }
+
   /**
    * This is specifically a regression test for #5525. It's possible for this test to become
    * outdated if we ever change how records are serialized, variables packed, etc. But it's a
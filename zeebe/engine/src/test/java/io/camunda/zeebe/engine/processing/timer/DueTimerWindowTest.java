@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
+import io.camunda.zeebe.engine.state.instance.TimerInstance;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+final class DueTimerWindowTest {
+
+  private final InMemoryTimerInstanceState timerState = new InMemoryTimerInstanceState();
+  private final List<Long> visitedDueDates = new ArrayList<>();
+
+  @Test
+  void shouldVisitDueTimersWithoutScanningAgain() {
+    // given
+    timerState.add(10);
+    timerState.add(20);
+    timerState.add(30);
+    final var window = new DueTimerWindow(4);
+    final long firstDueDate = window.load(5, timerState, this::visit);
+
+    // when
+    final long nextDueDate = window.visitDueTimers(25, timerState, this::visit);
+
+    // then
+    assertThat(firstDueDate).isEqualTo(10);
+    assertThat(nextDueDate).isEqualTo(30);
+    assertThat(visitedDueDates).containsExactly(10L, 20L);
+    assertThat(timerState.scans).isOne();
+    assertThat(window.isUsable()).isTrue();
+  }
+
+  @Test
+  void shouldSkipRemovedTimers() {
+    // given
+    timerState.add(10);
+    timerState.add(20);
+    final var window = new DueTimerWindow(4);
+    window.load(5, timerState, this::visit);
+    timerState.remove(10);
+
+    // when
+    final long nextDueDate = window.visitDueTimers(25, timerState, this::visit);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(-1);
+    assertThat(visitedDueDates).containsExactly(20L);
+  }
+
+  @Test
+  void shouldVisitDueTimersWhileLoading() {
+    // given
+    timerState.add(10);
+    timerState.add(20);
+    final var window = new DueTimerWindow(4);
+
+    // when
+    final long nextDueDate = window.load(15, timerState, this::visit);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(20);
+    assertThat(visitedDueDates).containsExactly(10L);
+  }
+
+  @Test
+  void shouldBecomeUnusableWhenTimerIsScheduledBeforeItsEnd() {
+    // given
+    timerState.add(10);
+    timerState.add(20);
+    timerState.add(30);
+    final var window = new DueTimerWindow(2);
+    window.load(5, timerState, this::visit);
+
+    // when
+    window.onTimerScheduled(40);
+    final boolean usableAfterLaterTimer = window.isUsable();
+    window.onTimerScheduled(15);
+
+    // then
+    assertThat(usableAfterLaterTimer).isTrue();
+    assertThat(window.isUsable()).isFalse();
+  }
+
+  @Test
+  void shouldVisitTimerAgainUntilItIsRemoved() {
+    // given
+    timerState.add(10);
+    timerState.add(20);
+    final var window = new DueTimerWindow(4);
+    window.load(5, timerState, this::visit);
+    window.visitDueTimers(15, timerState, this::visit);
+
+    // when - the trigger command of the first visit was not processed
+    final long nextDueDate = window.visitDueTimers(15, timerState, this::visit);
+    timerState.remove(10);
+    window.visitDueTimers(25, timerState, this::visit);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(20);
+    assertThat(visitedDueDates).containsExactly(10L, 10L, 20L);
+  }
+
+  @Test
+  void shouldStayUsableUntilVisitedTimersAreRemoved() {
+    // given
+    timerState.add(10);
+    timerState.add(20);
+    final var window = new DueTimerWindow(1);
+    window.load(5, timerState, this::visit);
+    window.visitDueTimers(15, timerState, this::visit);
+    final boolean usableWhileTimerExists = window.isUsable();
+
+    // when
+    timerState.remove(10);
+    final long nextDueDate = window.visitDueTimers(15, timerState, this::visit);
+
+    // then
+    assertThat(usableWhileTimerExists).isTrue();
+    assertThat(nextDueDate).isEqualTo(20);
+    assertThat(window.isUsable()).isFalse();
+  }
+
+  @Test
+  void shouldNotBeUsableIfVisitorStoppedWhileLoading() {
+    // given
+    timerState.add(10);
+    timerState.add(20);
+    final var window = new DueTimerWindow(4);
+
+    // when
+    final long nextDueDate = window.load(15, timerState, timer -> false);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(10);
+    assertThat(window.isUsable()).isFalse();
+  }
+
+  private boolean visit(final TimerInstance timer) {
+    visitedDueDates.add(timer.getDueDate());
+    return true;
+  }
+
+  /** Keeps one timer per due date, keyed by its due date. */
+  private static final class InMemoryTimerInstanceState implements TimerInstanceState {
+
+    private final TreeMap<Long, TimerInstance> timers = new TreeMap<>();
+    private int scans;
+
+    private void add(final long dueDate) {
+      final var timer = new TimerInstance();
+      timer.setKey(dueDate);
+      timer.setElementInstanceKey(dueDate);
+      timer.setDueDate(dueDate);
+      timers.put(dueDate, timer);
+    }
+
+    private void remove(final long dueDate) {
+      timers.remove(dueDate);
+    }
+
+    @Override
+    public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+      scans++;
+      for (final var timer : timers.values()) {
+        if (timer.getDueDate() > timestamp || !consumer.visit(timer)) {
+          return timer.getDueDate();
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public void forEachTimerForElementInstance(
+        final long elementInstanceKey, final Consumer<TimerInstance> action) {}
+
+    @Override
+    public TimerInstance get(final long elementInstanceKey, final long timerKey) {
+      return timers.get(timerKey);
+    }
+  }
+}
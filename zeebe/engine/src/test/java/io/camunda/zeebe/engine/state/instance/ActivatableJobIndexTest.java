@@ -0,0 +1,260 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.instance.ActivatableJobIndex.JobKeyQueue;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class ActivatableJobIndexTest {
+
+  private static final DirectBuffer TYPE = wrapString("type");
+  private static final String TENANT_A = "tenant-a";
+  private static final String TENANT_B = "tenant-b";
+
+  private ActivatableJobIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ActivatableJobIndex();
+    index.beginRebuild();
+    index.completeRebuild();
+  }
+
+  @Test
+  void shouldVisitByPriorityDescendingAndKeyAscending() {
+    // given
+    index.add(TYPE, TENANT_A, 1, 5L);
+    index.add(TYPE, TENANT_A, 10, 7L);
+    index.add(TYPE, TENANT_A, 1, 3L);
+    index.add(TYPE, TENANT_A, 0, 1L);
+    index.add(TYPE, TENANT_A, -3, 2L);
+    index.add(TYPE, TENANT_A, 10, 6L);
+
+    // when / then
+    assertThat(visit(List.of(TENANT_A), true)).containsExactly(6L, 7L, 3L, 5L);
+    assertThat(visit(List.of(TENANT_A), false)).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldMergeTenantsByKey() {
+    // given
+    index.add(TYPE, TENANT_A, 1, 1L);
+    index.add(TYPE, TENANT_B, 1, 2L);
+    index.add(TYPE, TENANT_A, 1, 4L);
+    index.add(TYPE, TENANT_B, 1, 3L);
+    index.add(TYPE, "other", 1, 0L);
+
+    // when / then
+    assertThat(visit(List.of(TENANT_A, TENANT_B), true)).containsExactly(1L, 2L, 3L, 4L);
+    assertThat(visit(List.of(TENANT_B), true)).containsExactly(2L, 3L);
+  }
+
+  @Test
+  void shouldStopWhenVisitorIsDone() {
+    // given
+    index.add(TYPE, TENANT_A, 1, 1L);
+    index.add(TYPE, TENANT_A, 1, 2L);
+    index.add(TYPE, TENANT_A, 0, 3L);
+    final List<Long> visited = new ArrayList<>();
+
+    // when
+    final boolean wantsMore =
+        index.visit(TYPE, List.of(TENANT_A), true, key -> visited.add(key) && visited.size() < 1);
+
+    // then
+    assertThat(wantsMore).isFalse();
+    assertThat(visited).containsExactly(1L);
+  }
+
+  @Test
+  void shouldRemoveJob() {
+    // given
+    index.add(TYPE, TENANT_A, 1, 1L);
+    index.add(TYPE, TENANT_A, 1, 2L);
+    index.add(TYPE, TENANT_A, 1, 3L);
+
+    // when
+    index.remove(TYPE, TENANT_A, 1, 2L);
+    index.remove(TYPE, TENANT_A, 1, 1L);
+    // removing with another priority than the job was added with is a no-op
+    index.remove(TYPE, TENANT_A, 2, 3L);
+
+    // then
+    assertThat(visit(List.of(TENANT_A), true)).containsExactly(3L);
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldLookUpTypeRegardlessOfBufferImplementation() {
+    // given
+    final var type = new ExpandableArrayBuffer(4);
+    type.putStringWithoutLengthUtf8(0, "type");
+    index.add(type, TENANT_A, 1, 1L);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    index.visit(TYPE, List.of(TENANT_A), true, visited::add);
+    index.remove(type, TENANT_A, 1, 1L);
+
+    // then
+    assertThat(visited).containsExactly(1L);
+    assertThat(index.size()).isZero();
+  }
+
+  @Test
+  void shouldDropContentOnInvalidate() {
+    // given
+    index.add(TYPE, TENANT_A, 1, 1L);
+
+    // when
+    index.invalidate();
+
+    // then
+    assertThat(index.isValid()).isFalse();
+    assertThat(index.size()).isZero();
+  }
+
+  @Test
+  void shouldUndoChangesOnRollback() {
+    // given
+    index.add(TYPE, TENANT_A, 1, 1L);
+    index.add(TYPE, TENANT_A, 1, 2L);
+    index.onCommit();
+
+    // when
+    index.remove(TYPE, TENANT_A, 1, 1L);
+    index.add(TYPE, TENANT_A, 1, 3L);
+    index.add(TYPE, TENANT_B, 5, 4L);
+    index.onRollback();
+
+    // then
+    assertThat(index.isValid()).isTrue();
+    assertThat(visit(List.of(TENANT_A, TENANT_B), true)).containsExactly(1L, 2L);
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldUndoChangesAfterSavepointOnRollbackToSavepoint() {
+    // given
+    index.add(TYPE, TENANT_A, 1, 1L);
+    index.onCommit();
+    index.add(TYPE, TENANT_A, 1, 2L);
+    index.onSavepoint();
+
+    // when
+    index.remove(TYPE, TENANT_A, 1, 1L);
+    index.remove(TYPE, TENANT_A, 1, 2L);
+    index.onRollbackToSavepoint();
+
+    // then
+    assertThat(visit(List.of(TENANT_A), true)).containsExactly(1L, 2L);
+
+    // when - the changes after the savepoint are made again, and all changes are discarded
+    index.remove(TYPE, TENANT_A, 1, 1L);
+    index.onRollback();
+
+    // then
+    assertThat(visit(List.of(TENANT_A), true)).containsExactly(1L);
+  }
+
+  @Test
+  void shouldNotUndoCommittedChanges() {
+    // given
+    index.onCommit();
+    index.add(TYPE, TENANT_A, 1, 1L);
+    index.onCommit();
+
+    // when
+    index.onRollback();
+
+    // then
+    assertThat(visit(List.of(TENANT_A), true)).containsExactly(1L);
+  }
+
+  @Test
+  void shouldOnlyUndoEffectiveChanges() {
+    // given
+    index.add(TYPE, TENANT_A, 1, 1L);
+    index.onCommit();
+
+    // when - the contained job is added again, and a job which is not contained is removed
+    index.add(TYPE, TENANT_A, 1, 1L);
+    index.remove(TYPE, TENANT_A, 1, 2L);
+    index.onRollback();
+
+    // then
+    assertThat(visit(List.of(TENANT_A), true)).containsExactly(1L);
+  }
+
+  @Test
+  void shouldInvalidateOnRollbackAfterRebuild() {
+    // given - rebuilt within a transaction, so it may hold uncommitted jobs
+    index.beginRebuild();
+    index.add(TYPE, TENANT_A, 1, 1L);
+    index.completeRebuild();
+
+    // when
+    index.onRollback();
+
+    // then
+    assertThat(index.isValid()).isFalse();
+    assertThat(index.size()).isZero();
+  }
+
+  @Test
+  void shouldKeepQueueSortedAndDistinct() {
+    // given
+    final var queue = new JobKeyQueue(2);
+
+    // when
+    queue.add(5L);
+    queue.add(3L);
+    queue.add(9L);
+    queue.add(3L);
+    queue.remove(3L);
+    queue.add(1L);
+    queue.add(7L);
+    queue.add(2L);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    queue.visit(keys::add);
+    assertThat(keys).containsExactly(1L, 2L, 5L, 7L, 9L);
+  }
+
+  @Test
+  void shouldReuseSpaceFreedAtHead() {
+    // given
+    final var queue = new JobKeyQueue(4);
+    for (long key = 0; key < 1_000; key++) {
+      queue.add(key);
+      queue.remove(key);
+    }
+
+    // when
+    queue.add(1_000L);
+
+    // then
+    assertThat(queue.size()).isOne();
+    assertThat(queue.get(0)).isEqualTo(1_000L);
+  }
+
+  private List<Long> visit(final List<String> tenantIds, final boolean positivePriorities) {
+    final List<Long> visited = new ArrayList<>();
+    index.visit(TYPE, tenantIds, positivePriorities, visited::add);
+    return visited;
+  }
+}
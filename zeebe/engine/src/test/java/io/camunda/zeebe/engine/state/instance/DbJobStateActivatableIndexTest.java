@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.mutable.MutableJobState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class DbJobStateActivatableIndexTest {
+
+  private static final String TENANT = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+  private static final String OTHER_TENANT = "other-tenant";
+  private static final DirectBuffer TYPE = wrapString("type");
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+
+  private MutableJobState indexedState;
+  private MutableJobState scanningState;
+
+  @BeforeEach
+  void setUp() {
+    indexedState = new DbJobState(zeebeDb, transactionContext, true);
+    scanningState = new DbJobState(zeebeDb, transactionContext, false);
+  }
+
+  @Test
+  void shouldActivateInSameOrderAsColumnFamilyScan() {
+    // given
+    createActivatableJob(1L, TENANT, 0);
+    createActivatableJob(2L, OTHER_TENANT, 5);
+    createActivatableJob(3L, TENANT, 5);
+    createActivatableJob(4L, TENANT, -1);
+    createActivatableJob(5L, OTHER_TENANT, 0);
+    createActivatableJob(6L, TENANT, 10);
+
+    // when
+    final var indexedKeys = activatableKeys(indexedState, List.of(TENANT, OTHER_TENANT));
+
+    // then
+    assertThat(indexedKeys)
+        .containsExactly(6L, 2L, 3L, 1L, 5L, 4L)
+        .isEqualTo(activatableKeys(scanningState, List.of(TENANT, OTHER_TENANT)));
+    assertThat(activatableKeys(indexedState, List.of(OTHER_TENANT))).containsExactly(2L, 5L);
+  }
+
+  @Test
+  void shouldKeepIndexInSyncWithJobLifecycle() {
+    // given
+    createActivatableJob(1L, TENANT, 0);
+    createActivatableJob(2L, TENANT, 0);
+    createActivatableJob(3L, TENANT, 0);
+    assertThat(activatableKeys(indexedState, List.of(TENANT))).containsExactly(1L, 2L, 3L);
+
+    // when
+    indexedState.activate(1L, jobRecord(TENANT, 0).setDeadline(1_000L));
+    indexedState.updateJobPriority(3L, 7);
+    createActivatableJob(4L, TENANT, 0);
+
+    // then
+    assertThat(activatableKeys(indexedState, List.of(TENANT)))
+        .containsExactly(3L, 2L, 4L)
+        .isEqualTo(activatableKeys(scanningState, List.of(TENANT)));
+  }
+
+  @Test
+  void shouldRestoreIndexAfterRollback() throws Exception {
+    // given
+    createActivatableJob(1L, TENANT, 0);
+    assertThat(activatableKeys(indexedState, List.of(TENANT))).containsExactly(1L);
+
+    // when - the job is activated, but the transaction is rolled back
+    final var transaction = transactionContext.getCurrentTransaction();
+    indexedState.activate(1L, jobRecord(TENANT, 0).setDeadline(1_000L));
+    transaction.rollback();
+
+    // then
+    assertThat(activatableKeys(indexedState, List.of(TENANT))).containsExactly(1L);
+  }
+
+  @Test
+  void shouldRestoreIndexWhenBatchIsRetried() throws Exception {
+    // given - a batch whose first command created a job, which is not committed yet
+    createActivatableJob(1L, TENANT, 0);
+    assertThat(activatableKeys(indexedState, List.of(TENANT))).containsExactly(1L);
+    final var transaction = transactionContext.getCurrentTransaction();
+    createActivatableJob(2L, TENANT, 0);
+    transaction.setSavepoint();
+
+    // when - the next command activated the jobs, but exceeded the batch size and is retried
+    indexedState.activate(1L, jobRecord(TENANT, 0).setDeadline(1_000L));
+    indexedState.activate(2L, jobRecord(TENANT, 0).setDeadline(1_000L));
+    transaction.rollbackToSavepoint();
+
+    // then
+    assertThat(activatableKeys(indexedState, List.of(TENANT)))
+        .containsExactly(1L, 2L)
+        .isEqualTo(activatableKeys(scanningState, List.of(TENANT)));
+
+    // when - the whole batch is rolled back
+    transaction.rollback();
+
+    // then
+    assertThat(activatableKeys(indexedState, List.of(TENANT)))
+        .containsExactly(1L)
+        .isEqualTo(activatableKeys(scanningState, List.of(TENANT)));
+  }
+
+  private void createActivatableJob(final long key, final String tenantId, final int priority) {
+    final JobRecord record = jobRecord(tenantId, priority);
+    indexedState.insertJobRecordActivatable(key, record);
+    indexedState.makeJobActivatableByPriority(TYPE, key, tenantId, priority);
+  }
+
+  private JobRecord jobRecord(final String tenantId, final int priority) {
+    return new JobRecord().setType(TYPE).setTenantId(tenantId).setPriority(priority).setRetries(1);
+  }
+
+  private List<Long> activatableKeys(final MutableJobState state, final List<String> tenantIds) {
+    final List<Long> keys = new ArrayList<>();
+    state.forEachActivatableJobs(
+        TYPE,
+        tenantIds,
+        (k, e) -> {
+          keys.add(k);
+          return true;
+        });
+    return keys;
+  }
+}
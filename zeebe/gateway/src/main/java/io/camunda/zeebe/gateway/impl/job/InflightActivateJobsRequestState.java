@@ -15,6 +15,7 @@ public class InflightActivateJobsRequestState {
   private int remainingAmount;
   private boolean pollPrevPartition;
   private boolean resourceExhaustedWasPresent;
+  private long jobAvailabilityGeneration;
 
   public InflightActivateJobsRequestState(
       final PartitionIdIterator iterator, final int remainingAmount) {
@@ -50,6 +51,14 @@ public class InflightActivateJobsRequestState {
     this.resourceExhaustedWasPresent = resourceExhaustedWasPresent;
   }
 
+  public long getJobAvailabilityGeneration() {
+    return jobAvailabilityGeneration;
+  }
+
+  public void setJobAvailabilityGeneration(final long jobAvailabilityGeneration) {
+    this.jobAvailabilityGeneration = jobAvailabilityGeneration;
+  }
+
   public void setPollPrevPartition(boolean pollPrevPartition) {
     this.pollPrevPartition = pollPrevPartition;
   }
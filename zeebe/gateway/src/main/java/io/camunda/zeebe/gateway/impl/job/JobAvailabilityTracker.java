@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
+
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
+import io.camunda.zeebe.protocol.record.value.TenantFilter;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.agrona.collections.Int2LongHashMap;
+
+/**
+ * Keeps track of the partitions which had no jobs of a type to activate on the last attempt, per
+ * job type and requested tenants, such that following activation requests can skip them. With many
+ * partitions and sparse job types, most activation attempts would otherwise come back empty.
+ *
+ * <p>A partition is considered to have jobs again once jobs of the type are reported available,
+ * when the type is probed, or after {@link #EXHAUSTED_PARTITION_TTL} in case a notification was
+ * missed. As job available notifications don't tell the partition, they reset all partitions of
+ * the type. Requests which filter by the tenants assigned to the requester are not tracked, as the
+ * tenants are only resolved by the broker.
+ *
+ * <p>An empty response doesn't mark the partition if jobs of the type were reported available
+ * while the request was in flight, as the jobs may have been created after the partition was
+ * checked. The notifications are counted per type for this, see {@link #generation}.
+ *
+ * <p>The tracker always counts the empty activation attempts, but only skips partitions if routing
+ * is enabled. It is not thread-safe and must only be used from the actor of the handler.
+ */
+final class JobAvailabilityTracker {
+
+  static final Duration EXHAUSTED_PARTITION_TTL = Duration.ofSeconds(10);
+
+  private static final long AVAILABLE = -1;
+
+  // (physical tenant, job type) => (tenant ids) => (partition id) => (time when found exhausted)
+  private final Map<JobTypeKey, Map<List<String>, Int2LongHashMap>> exhaustedPartitions =
+      new HashMap<>();
+  // (physical tenant, job type) => number of job available notifications, for requested types only
+  private final Map<JobTypeKey, Long> generations = new HashMap<>();
+  private final boolean routingEnabled;
+  private final Function<String, LongPollingMetrics> metricsProvider;
+
+  JobAvailabilityTracker(
+      final boolean routingEnabled, final Function<String, LongPollingMetrics> metricsProvider) {
+    this.routingEnabled = routingEnabled;
+    this.metricsProvider = metricsProvider;
+  }
+
+  static JobAvailabilityTracker untracked() {
+    return new JobAvailabilityTracker(false, physicalTenantId -> LongPollingMetrics.noop());
+  }
+
+  /**
+   * @return false if the partition had no jobs for the request on the last attempt, true otherwise
+   */
+  boolean mayHaveJobs(final BrokerActivateJobsRequest request, final int partitionId) {
+    if (!routingEnabled || isUntracked(request)) {
+      return true;
+    }
+
+    final var partitions =
+        exhaustedPartitions
+            .getOrDefault(keyOf(request), Map.of())
+            .get(request.getRequestWriter().getTenantIds());
+    if (partitions == null) {
+      return true;
+    }
+
+    final long exhaustedSince = partitions.get(partitionId);
+    if (exhaustedSince == AVAILABLE
+        || currentTimeMillis() - exhaustedSince >= EXHAUSTED_PARTITION_TTL.toMillis()) {
+      return true;
+    }
+
+    metricsProvider.apply(request.getPartitionGroup()).countSkippedPartition();
+    return false;
+  }
+
+  /**
+   * @return the number of job available notifications for the type of the request so far; it must
+   *     be taken right before the request is sent and passed on with its response
+   */
+  long generation(final BrokerActivateJobsRequest request) {
+    if (!routingEnabled || isUntracked(request)) {
+      return 0;
+    }
+    return generations.computeIfAbsent(keyOf(request), key -> 0L);
+  }
+
+  /**
+   * Records the outcome of an activation attempt on the given partition.
+   *
+   * @param generation the {@link #generation} of the type when the request was sent
+   */
+  void onActivationResponse(
+      final BrokerActivateJobsRequest request,
+      final int partitionId,
+      final int jobsCount,
+      final boolean truncated,
+      final long generation) {
+    final boolean empty = jobsCount == 0;
+    metricsProvider.apply(request.getPartitionGroup()).countPartitionActivation(empty);
+    if (!routingEnabled || isUntracked(request)) {
+      return;
+    }
+
+    final List<String> tenantIds = request.getRequestWriter().getTenantIds();
+    if (empty && !truncated) {
+      if (generations.getOrDefault(keyOf(request), 0L) != generation) {
+        // jobs were reported available in the meantime, maybe on this partition
+        return;
+      }
+      exhaustedPartitions
+          .computeIfAbsent(keyOf(request), key -> new HashMap<>())
+          .computeIfAbsent(tenantIds, ids -> new Int2LongHashMap(AVAILABLE))
+          .put(partitionId, currentTimeMillis());
+    } else {
+      final var partitions =
+          exhaustedPartitions.getOrDefault(keyOf(request), Map.of()).get(tenantIds);
+      if (partitions != null) {
+        partitions.remove(partitionId);
+      }
+    }
+  }
+
+  /** Considers all partitions to have jobs of the given type again. */
+  void onJobsAvailable(final String physicalTenantId, final String jobType) {
+    final var key = new JobTypeKey(physicalTenantId, jobType);
+    exhaustedPartitions.remove(key);
+    generations.computeIfPresent(key, (ignored, generation) -> generation + 1);
+  }
+
+  private static boolean isUntracked(final BrokerActivateJobsRequest request) {
+    return request.getRequestWriter().getTenantFilter() == TenantFilter.ASSIGNED;
+  }
+
+  private static JobTypeKey keyOf(final BrokerActivateJobsRequest request) {
+    return new JobTypeKey(request.getPartitionGroup(), request.getRequestWriter().getType());
+  }
+
+  private record JobTypeKey(String physicalTenantId, String jobType) {}
+}
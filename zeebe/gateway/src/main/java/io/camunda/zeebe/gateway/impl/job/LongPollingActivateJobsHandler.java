@@ -43,6 +43,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       "Cluster was purged; pending job activation requests have been cancelled. Please retry.";
 
   private final RoundRobinActivateJobsHandler<T> activateJobsHandler;
+  private final JobAvailabilityTracker jobAvailability;
   private final BrokerClient brokerClient;
 
   private final Map<JobTypeKey, InFlightLongPollingActivateJobsRequestsState<T>> jobTypeState =
@@ -67,16 +68,22 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> resourceExhaustedExceptionProvider,
       final Function<String, Throwable> requestCanceledExceptionProvider,
-      final LongPollingMetricsFactory metricsFactory) {
+      final LongPollingMetricsFactory metricsFactory,
+      final boolean partitionAwareRouting) {
     this.brokerClient = brokerClient;
+    this.metricsFactory = metricsFactory;
+    jobAvailability = new JobAvailabilityTracker(partitionAwareRouting, this::metricsFor);
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+            brokerClient,
+            maxMessageSize,
+            activationResultMapper,
+            requestCanceledExceptionProvider,
+            jobAvailability);
     this.resourceExhaustedExceptionProvider = resourceExhaustedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
-    this.metricsFactory = metricsFactory;
   }
 
   @Override
@@ -382,9 +389,12 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       LOG.trace("Handle jobs available notification for type {}.", jobType);
       actor.run(
           () -> {
+            jobAvailability.onJobsAvailable(physicalTenantId, jobType);
             state.resetFailedAttempts();
             handlePendingRequests(state, key);
           });
+    } else {
+      actor.run(() -> jobAvailability.onJobsAvailable(physicalTenantId, jobType));
     }
   }
 
@@ -443,6 +453,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           if (state.getLastUpdatedTime() < (now - probeTimeoutMillis)) {
             final InflightActivateJobsRequest<T> probeRequest = getNextOpenPendingRequest(state);
             if (probeRequest != null) {
+              // a probe must reach all partitions, also the ones which had no jobs before
+              jobAvailability.onJobsAvailable(type.physicalTenantId(), type.jobType());
               tryToActivateJobsOnAllPartitions(state, probeRequest);
             } else {
               // there are no blocked requests, so use next request as probe
@@ -493,6 +505,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private Function<String, Exception> resourceExhaustedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
     private LongPollingMetricsFactory metricsFactory;
+    private boolean partitionAwareRouting;
 
     public Builder<T> setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -542,6 +555,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setPartitionAwareRouting(final boolean partitionAwareRouting) {
+      this.partitionAwareRouting = partitionAwareRouting;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler<T> build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler<>(
@@ -553,7 +571,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           activationResultMapper,
           resourceExhaustedExceptionProvider,
           requestCanceledExceptionProvider,
-          metricsFactory);
+          metricsFactory,
+          partitionAwareRouting);
     }
   }
 }
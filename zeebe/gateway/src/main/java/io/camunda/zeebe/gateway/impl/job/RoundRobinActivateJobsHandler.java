@@ -32,7 +32,8 @@ import java.util.function.Function;
 
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
- * partition-IDs to determine the next partition to use.
+ * partition-IDs to determine the next partition to use. Partitions which had no jobs on the last
+ * attempt may be skipped, see {@link JobAvailabilityTracker}.
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -41,6 +42,7 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       ACTIVATE_JOB_NOT_SENT_MSG + ", failed with: %s";
   private static final String MAX_MESSAGE_SIZE_EXCEEDED_MSG =
       "the response is bigger than the maximum allowed message size %d";
+  private static final int NO_PARTITION = -1;
 
   private final Map<String, RoundRobinDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
@@ -48,6 +50,7 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
   private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final JobAvailabilityTracker jobAvailability;
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
@@ -57,11 +60,26 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(
+        brokerClient,
+        maxMessageSize,
+        activationResultMapper,
+        requestCanceledExceptionProvider,
+        JobAvailabilityTracker.untracked());
+  }
+
+  RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final JobAvailabilityTracker jobAvailability) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
     this.requestCanceledExceptionProvider = requestCanceledExceptionProvider;
+    this.jobAvailability = jobAvailability;
   }
 
   @Override
@@ -121,14 +139,15 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
             return;
           }
 
-          if (requestState.shouldActivateJobs()) {
-            final var brokerRequest = request.getRequest();
-            final var partitionId = requestState.getNextPartition();
+          final var brokerRequest = request.getRequest();
+          final var partitionId = nextPartitionWithJobs(brokerRequest, requestState);
+          if (partitionId != NO_PARTITION) {
             final var remainingAmount = requestState.getRemainingAmount();
 
             // partitions to check and jobs to activate left
             brokerRequest.setPartitionId(partitionId);
             brokerRequest.setMaxJobsToActivate(remainingAmount);
+            requestState.setJobAvailabilityGeneration(jobAvailability.generation(brokerRequest));
 
             brokerClient
                 .sendRequest(brokerRequest)
@@ -143,6 +162,20 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         });
   }
 
+  private int nextPartitionWithJobs(
+      final BrokerActivateJobsRequest brokerRequest,
+      final InflightActivateJobsRequestState requestState) {
+    while (requestState.shouldActivateJobs()) {
+      final var partitionId = requestState.getNextPartition();
+      if (jobAvailability.mayHaveJobs(brokerRequest, partitionId)) {
+        return partitionId;
+      }
+      // the partition may have been found exhausted by another request in the meantime
+      requestState.setPollPrevPartition(false);
+    }
+    return NO_PARTITION;
+  }
+
   private BiConsumer<BrokerResponse<JobBatchRecord>, Throwable> handleBrokerResponse(
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState requestState,
@@ -188,6 +221,12 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
           final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
           final var jobsCount = jobActivationResult.getJobsCount();
           final var jobsActivated = jobsCount > 0;
+          jobAvailability.onActivationResponse(
+              request.getRequest(),
+              requestState.getCurrentPartition(),
+              jobsCount,
+              response.getTruncated(),
+              requestState.getJobAvailabilityGeneration());
           if (jobsActivated) {
             final var result = request.tryToSendActivatedJobs(activateJobsResponse);
             final var responseWasSent = result.getOrElse(false);
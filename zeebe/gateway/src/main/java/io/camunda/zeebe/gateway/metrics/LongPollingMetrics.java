@@ -7,45 +7,67 @@
  */
 package io.camunda.zeebe.gateway.metrics;
 
+import static io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.PARTITIONS_SKIPPED;
+import static io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.PARTITION_ACTIVATIONS;
 import static io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.REQUESTS_QUEUED_CURRENT;
 import static io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.RequestsQueuedKeyNames.TYPE;
 
+import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.ActivationResult;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.GatewayKeyNames;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.GatewayProtocol;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.PartitionActivationsKeyNames;
 import io.camunda.zeebe.util.micrometer.BoundedMeterCache;
 import io.camunda.zeebe.util.micrometer.PartitionKeyNames;
 import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Objects;
 
 /**
- * Records the number of long polling requests blocked per job type, for one physical tenant. Every
- * instance is tagged with its physical tenant; use {@link LongPollingMetricsFactory} to obtain one
- * rather than constructing it directly.
+ * Records the number of long polling requests blocked per job type, as well as how many activation
+ * attempts on partitions were empty or skipped, for one physical tenant. Every instance is tagged
+ * with its physical tenant; use {@link LongPollingMetricsFactory} to obtain one rather than
+ * constructing it directly.
  */
 public sealed class LongPollingMetrics {
 
   private final BoundedMeterCache<StatefulGauge> requestsQueued;
+  private final Counter activatedPartitionActivations;
+  private final Counter emptyPartitionActivations;
+  private final Counter skippedPartitions;
 
   LongPollingMetrics(
       final MeterRegistry registry,
       final GatewayProtocol gatewayProtocol,
       final String physicalTenantId) {
+    Objects.requireNonNull(physicalTenantId, PartitionKeyNames.PHYSICAL_TENANT.asString());
     final var provider =
         StatefulGauge.builder(REQUESTS_QUEUED_CURRENT.getName())
             .description(REQUESTS_QUEUED_CURRENT.getDescription())
             .tag(GatewayKeyNames.GATEWAY_PROTOCOL.asString(), gatewayProtocol.value())
-            .tag(
-                PartitionKeyNames.PHYSICAL_TENANT.asString(),
-                Objects.requireNonNull(
-                    physicalTenantId, PartitionKeyNames.PHYSICAL_TENANT.asString()))
+            .tag(PartitionKeyNames.PHYSICAL_TENANT.asString(), physicalTenantId)
             .withRegistry(registry);
 
     requestsQueued = BoundedMeterCache.of(registry, provider, TYPE);
+    activatedPartitionActivations =
+        registerPartitionActivations(
+            registry, gatewayProtocol, physicalTenantId, ActivationResult.ACTIVATED);
+    emptyPartitionActivations =
+        registerPartitionActivations(
+            registry, gatewayProtocol, physicalTenantId, ActivationResult.EMPTY);
+    skippedPartitions =
+        Counter.builder(PARTITIONS_SKIPPED.getName())
+            .description(PARTITIONS_SKIPPED.getDescription())
+            .tag(GatewayKeyNames.GATEWAY_PROTOCOL.asString(), gatewayProtocol.value())
+            .tag(PartitionKeyNames.PHYSICAL_TENANT.asString(), physicalTenantId)
+            .register(registry);
   }
 
   protected LongPollingMetrics(final BoundedMeterCache<StatefulGauge> requestsQueued) {
     this.requestsQueued = requestsQueued;
+    activatedPartitionActivations = null;
+    emptyPartitionActivations = null;
+    skippedPartitions = null;
   }
 
   /**
@@ -61,6 +83,29 @@ public sealed class LongPollingMetrics {
     requestsQueued.get(type).set(count);
   }
 
+  /** Counts an activation attempt on a single partition, by whether it activated any job */
+  public void countPartitionActivation(final boolean empty) {
+    (empty ? emptyPartitionActivations : activatedPartitionActivations).increment();
+  }
+
+  /** Counts a partition which was skipped, as it had no jobs to activate on the last attempt */
+  public void countSkippedPartition() {
+    skippedPartitions.increment();
+  }
+
+  private static Counter registerPartitionActivations(
+      final MeterRegistry registry,
+      final GatewayProtocol gatewayProtocol,
+      final String physicalTenantId,
+      final ActivationResult result) {
+    return Counter.builder(PARTITION_ACTIVATIONS.getName())
+        .description(PARTITION_ACTIVATIONS.getDescription())
+        .tag(GatewayKeyNames.GATEWAY_PROTOCOL.asString(), gatewayProtocol.value())
+        .tag(PartitionKeyNames.PHYSICAL_TENANT.asString(), physicalTenantId)
+        .tag(PartitionActivationsKeyNames.RESULT.asString(), result.value())
+        .register(registry);
+  }
+
   private static final class Noop extends LongPollingMetrics {
 
     private Noop() {
@@ -69,5 +114,11 @@ public sealed class LongPollingMetrics {
 
     @Override
     public void setBlockedRequestsCount(final String type, final int count) {}
+
+    @Override
+    public void countPartitionActivation(final boolean empty) {}
+
+    @Override
+    public void countSkippedPartition() {}
   }
 }
@@ -12,7 +12,7 @@ import io.camunda.zeebe.util.micrometer.PartitionKeyNames;
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.Meter.Type;
 
-/** Number of requests currently queued due to long polling */
+/** Metrics of the long polling job activation */
 @SuppressWarnings("NullableProblems")
 public enum LongPollingMetricsDoc implements ExtendedMeterDocumentation {
   REQUESTS_QUEUED_CURRENT {
@@ -36,6 +36,57 @@ public enum LongPollingMetricsDoc implements ExtendedMeterDocumentation {
       return RequestsQueuedKeyNames.values();
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return KeyName.merge(GatewayKeyNames.values(), PartitionKeyNames.values());
+    }
+  },
+
+  PARTITION_ACTIVATIONS {
+    @Override
+    public String getDescription() {
+      return "Number of job activation attempts on a single partition, by whether any job was"
+          + " activated";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.long.polling.partition.activations";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return PartitionActivationsKeyNames.values();
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return KeyName.merge(GatewayKeyNames.values(), PartitionKeyNames.values());
+    }
+  },
+
+  PARTITIONS_SKIPPED {
+    @Override
+    public String getDescription() {
+      return "Number of partitions skipped by job activations, as they had no jobs to activate on"
+          + " the last attempt";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.long.polling.partitions.skipped";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return KeyName.merge(GatewayKeyNames.values(), PartitionKeyNames.values());
@@ -53,6 +104,17 @@ public enum LongPollingMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  @SuppressWarnings("NullableProblems")
+  public enum PartitionActivationsKeyNames implements KeyName {
+    /** Whether the activation attempt was empty, see {@link ActivationResult} */
+    RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    }
+  }
+
   @SuppressWarnings("NullableProblems")
   public enum GatewayKeyNames implements KeyName {
     /** Distinguishes between the gateway protocol */
@@ -64,6 +126,22 @@ public enum LongPollingMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  /** The possible values for the result of an activation attempt on a partition */
+  public enum ActivationResult {
+    ACTIVATED("activated"),
+    EMPTY("empty");
+
+    private final String value;
+
+    ActivationResult(final String value) {
+      this.value = value;
+    }
+
+    public String value() {
+      return value;
+    }
+  }
+
   /** The possible values for the gateway type */
   public enum GatewayProtocol {
     REST("rest"),
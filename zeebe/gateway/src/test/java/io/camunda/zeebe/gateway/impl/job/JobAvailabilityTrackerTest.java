@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
+import io.camunda.zeebe.protocol.record.value.TenantFilter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class JobAvailabilityTrackerTest {
+
+  private final JobAvailabilityTracker tracker =
+      new JobAvailabilityTracker(true, physicalTenantId -> LongPollingMetrics.noop());
+
+  @Test
+  void shouldSkipPartitionWithoutJobs() {
+    // given
+    final var request = request("foo");
+
+    // when
+    tracker.onActivationResponse(request, 1, 0, false, tracker.generation(request));
+
+    // then
+    assertThat(tracker.mayHaveJobs(request, 1)).isFalse();
+    assertThat(tracker.mayHaveJobs(request, 2)).isTrue();
+    assertThat(tracker.mayHaveJobs(request("bar"), 1)).isTrue();
+  }
+
+  @Test
+  void shouldNotSkipPartitionWithTruncatedResponse() {
+    // given
+    final var request = request("foo");
+
+    // when
+    tracker.onActivationResponse(request, 1, 0, true, tracker.generation(request));
+
+    // then
+    assertThat(tracker.mayHaveJobs(request, 1)).isTrue();
+  }
+
+  @Test
+  void shouldNotSkipPartitionOnceJobsAreActivated() {
+    // given
+    final var request = request("foo");
+    tracker.onActivationResponse(request, 1, 0, false, tracker.generation(request));
+
+    // when
+    tracker.onActivationResponse(request, 1, 3, false, tracker.generation(request));
+
+    // then
+    assertThat(tracker.mayHaveJobs(request, 1)).isTrue();
+  }
+
+  @Test
+  void shouldNotSkipPartitionOnceJobsAreAvailable() {
+    // given
+    final var request = request("foo");
+    tracker.onActivationResponse(request, 1, 0, false, tracker.generation(request));
+
+    // when
+    tracker.onJobsAvailable(request.getPartitionGroup(), "foo");
+
+    // then
+    assertThat(tracker.mayHaveJobs(request, 1)).isTrue();
+  }
+
+  @Test
+  void shouldNotSkipPartitionIfJobsBecameAvailableWhileRequestWasInFlight() {
+    // given
+    final var request = request("foo");
+    final long generation = tracker.generation(request);
+
+    // when
+    tracker.onJobsAvailable(request.getPartitionGroup(), "foo");
+    tracker.onActivationResponse(request, 1, 0, false, generation);
+
+    // then
+    assertThat(tracker.mayHaveJobs(request, 1)).isTrue();
+  }
+
+  @Test
+  void shouldTrackPartitionsPerTenants() {
+    // given
+    final var request = request("foo").setTenantIds(List.of("tenant-a"));
+    tracker.onActivationResponse(request, 1, 0, false, tracker.generation(request));
+
+    // when
+    final var otherTenantRequest = request("foo").setTenantIds(List.of("tenant-b"));
+
+    // then
+    assertThat(tracker.mayHaveJobs(otherTenantRequest, 1)).isTrue();
+  }
+
+  @Test
+  void shouldNotTrackRequestsForAssignedTenants() {
+    // given
+    final var request = request("foo").setTenantFilter(TenantFilter.ASSIGNED);
+
+    // when
+    tracker.onActivationResponse(request, 1, 0, false, tracker.generation(request));
+
+    // then
+    assertThat(tracker.mayHaveJobs(request, 1)).isTrue();
+  }
+
+  @Test
+  void shouldNotSkipPartitionIfRoutingIsDisabled() {
+    // given
+    final var untracked = JobAvailabilityTracker.untracked();
+    final var request = request("foo");
+
+    // when
+    untracked.onActivationResponse(request, 1, 0, false, untracked.generation(request));
+
+    // then
+    assertThat(untracked.mayHaveJobs(request, 1)).isTrue();
+  }
+
+  private static BrokerActivateJobsRequest request(final String jobType) {
+    return new BrokerActivateJobsRequest(jobType).setTenantFilter(TenantFilter.PROVIDED);
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static io.camunda.cluster.PhysicalTenantIds.DEFAULT_PHYSICAL_TENANT_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.job.ActivateJobsStub;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetricsFactory;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.value.TenantFilter;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerExtension;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.util.unit.DataSize;
+
+/** Covers skipping partitions without jobs when partition-aware routing is enabled. */
+final class LongPollingActivateJobsHandlerRoutingTest {
+
+  private static final String TYPE = "testJob";
+  private static final long LONG_POLLING_TIMEOUT = 5000;
+  private static final long PROBE_TIMEOUT = 20000;
+  private static final int FAILED_RESPONSE_THRESHOLD = 3;
+  private static final int MAX_JOBS_TO_ACTIVATE = 2;
+  private static final long MAX_MESSAGE_SIZE = DataSize.ofMegabytes(4).toBytes();
+  private static final int NONE = -1;
+
+  @RegisterExtension
+  final ControlledActorSchedulerExtension actorScheduler = new ControlledActorSchedulerExtension();
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final ActivateJobsStub activateJobsStub = new ActivateJobsStub();
+  private LongPollingActivateJobsHandler<Object> handler;
+
+  @BeforeEach
+  void setUp() {
+    handler =
+        LongPollingActivateJobsHandler.<Object>newBuilder()
+            .setBrokerClient(brokerClient)
+            .setMaxMessageSize(MAX_MESSAGE_SIZE)
+            .setLongPollingTimeout(LONG_POLLING_TIMEOUT)
+            .setProbeTimeoutMillis(PROBE_TIMEOUT)
+            .setMinEmptyResponses(FAILED_RESPONSE_THRESHOLD)
+            .setActivationResultMapper(
+                response ->
+                    new JobActivationResult<>() {
+                      @Override
+                      public int getJobsCount() {
+                        return response.brokerResponse().getJobKeys().size();
+                      }
+
+                      @Override
+                      public List<JobActivationResult.ActivatedJob> getJobs() {
+                        return Collections.emptyList();
+                      }
+
+                      @Override
+                      public Object getActivateJobsResponse() {
+                        return response;
+                      }
+
+                      @Override
+                      public List<JobActivationResult.ActivatedJob> getJobsToDefer() {
+                        return Collections.emptyList();
+                      }
+                    })
+            .setResourceExhaustedExceptionProvider(RuntimeException::new)
+            .setRequestCanceledExceptionProvider(RuntimeException::new)
+            .setMetricsFactory(LongPollingMetricsFactory.noop())
+            .setPartitionAwareRouting(true)
+            .build();
+    submitHandlerActor(handler);
+  }
+
+  @Test
+  void shouldNotSkipPartitionIfJobsBecameAvailableWhileRequestWasInFlight() {
+    // given — a job is created on the first partition right after it was found to have none, so
+    // the notification arrives while the empty response is still in flight
+    final var partitionWithJob = new AtomicInteger(NONE);
+    brokerClient.<BrokerActivateJobsRequest, BrokerResponse<JobBatchRecord>>registerHandler(
+        BrokerActivateJobsRequest.class,
+        request -> {
+          final int partitionId = request.getPartitionId();
+          if (partitionWithJob.compareAndSet(NONE, partitionId)) {
+            activateJobsStub.addAvailableJobs(TYPE, 0);
+            final var response = activateJobsStub.handle(request);
+            brokerClient.notifyJobsAvailable(TYPE);
+            return response;
+          }
+
+          activateJobsStub.addAvailableJobs(TYPE, partitionId == partitionWithJob.get() ? 1 : 0);
+          return activateJobsStub.handle(request);
+        });
+    final var completions = new AtomicInteger();
+
+    // when
+    submitRequest(completions);
+
+    // then — the request is repeated and activates the job instead of skipping the partition
+    assertThat(completions.get()).isEqualTo(1);
+  }
+
+  private void submitRequest(final AtomicInteger completions) {
+    final var brokerRequest =
+        new BrokerActivateJobsRequest(TYPE)
+            .setMaxJobsToActivate(MAX_JOBS_TO_ACTIVATE)
+            .setTimeout(LONG_POLLING_TIMEOUT)
+            .setTenantFilter(TenantFilter.PROVIDED)
+            .setTenantIds(Collections.emptyList())
+            .setVariables(Collections.emptyList())
+            .setWorker("test-worker");
+    brokerRequest.setPartitionGroup(DEFAULT_PHYSICAL_TENANT_ID);
+
+    final ResponseObserver<Object> observer =
+        new ResponseObserver<>() {
+          @Override
+          public void onCompleted() {
+            completions.incrementAndGet();
+          }
+
+          @Override
+          public void onNext(final Object element) {}
+
+          @Override
+          public boolean isCancelled() {
+            return false;
+          }
+
+          @Override
+          public void onError(final Throwable throwable) {}
+        };
+
+    handler.activateJobs(brokerRequest, observer, cancelHandler -> {}, LONG_POLLING_TIMEOUT);
+    actorScheduler.workUntilDone();
+  }
+
+  private void submitHandlerActor(final LongPollingActivateJobsHandler<Object> handlerToSubmit) {
+    final var ready = new CompletableFuture<Void>();
+    final var actor =
+        Actor.newActor()
+            .name("TestHandler")
+            .actorStartedHandler(handlerToSubmit.andThen(ignored -> ready.complete(null)))
+            .build();
+    actorScheduler.submitActor(actor);
+    actorScheduler.workUntilDone();
+    ready.join();
+  }
+}
@@ -19,6 +19,7 @@ import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 
 public interface Journal extends AutoCloseable {
 
@@ -122,6 +123,17 @@ public interface Journal extends AutoCloseable {
    */
   void flush() throws FlushException;
 
+  /**
+   * Returns how much longer a {@link #flush()} of the records appended since the last flush may be
+   * deferred, such that records appended in the meantime share the same flush (group commit). A
+   * caller that needs the records to be durable can wait at most this long before flushing.
+   *
+   * @return the remaining delay, or {@link Duration#ZERO} if a flush is due now
+   */
+  default Duration getFlushDelay() {
+    return Duration.ZERO;
+  }
+
   /**
    * Opens a new {@link JournalReader}
    *
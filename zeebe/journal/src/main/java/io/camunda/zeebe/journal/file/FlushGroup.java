@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the entries appended to the journal since the last flush, i.e. the current commit group.
+ * Entries appended within a bounded window, either in time since the first entry of the group or in
+ * accumulated bytes, can share a single flush; see {@link #remainingDelay()}.
+ *
+ * <p>Appends and flushes may happen on different threads (e.g. with a delayed flusher), so the
+ * counters are atomic. Entries appended while a flush is in progress may be attributed to either
+ * group; this only affects the metrics, and never delays a flush for longer than the window, as an
+ * empty group is always due.
+ */
+final class FlushGroup {
+
+  private final long maxDelayNanos;
+  private final long maxBytes;
+  private final LongSupplier nanoClock;
+
+  private final AtomicLong entries = new AtomicLong();
+  private final AtomicLong bytes = new AtomicLong();
+  private volatile long firstAppendNanos;
+
+  /**
+   * @param maxDelay the maximum time a flush may be deferred after the first entry of a group was
+   *     appended; {@link Duration#ZERO} disables group commit
+   * @param maxBytes the accumulated size after which a group is due regardless of its age
+   * @param nanoClock monotonic clock in nanoseconds, e.g. {@link System#nanoTime()}
+   */
+  FlushGroup(final Duration maxDelay, final long maxBytes, final LongSupplier nanoClock) {
+    maxDelayNanos = maxDelay.toNanos();
+    this.maxBytes = maxBytes;
+    this.nanoClock = nanoClock;
+  }
+
+  /** Returns a group which only tracks its size, and is always due for a flush. */
+  static FlushGroup disabled() {
+    return new FlushGroup(Duration.ZERO, 0, System::nanoTime);
+  }
+
+  boolean isEnabled() {
+    return maxDelayNanos > 0;
+  }
+
+  void onAppend(final int size) {
+    if (entries.getAndIncrement() == 0 && isEnabled()) {
+      firstAppendNanos = nanoClock.getAsLong();
+    }
+    bytes.addAndGet(size);
+  }
+
+  /**
+   * Returns how much longer the flush of the current group may be deferred. This is {@link
+   * Duration#ZERO} if group commit is disabled, the group is empty, its size reached the byte
+   * threshold, or its first entry was appended at least the maximum delay ago.
+   */
+  Duration remainingDelay() {
+    if (!isEnabled() || entries.get() == 0 || bytes.get() >= maxBytes) {
+      return Duration.ZERO;
+    }
+
+    final long remaining = maxDelayNanos - (nanoClock.getAsLong() - firstAppendNanos);
+    return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+  }
+
+  /**
+   * Closes the current group and starts a new one, to be called right before flushing. The returned
+   * group is the one made durable by that flush.
+   */
+  Group drain() {
+    return new Group(entries.getAndSet(0), bytes.getAndSet(0));
+  }
+
+  record Group(long entries, long bytes) {}
+}
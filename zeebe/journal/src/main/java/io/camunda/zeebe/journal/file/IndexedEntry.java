@@ -0,0 +1,14 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * An entry of the {@link JournalIndex}: the position of the record with the given index within its
+ * segment, and its asqn, which is {@link SegmentedJournal#ASQN_IGNORE} if it has none.
+ */
+record IndexedEntry(long index, long asqn, int position) {}
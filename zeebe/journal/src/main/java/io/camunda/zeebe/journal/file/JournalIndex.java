@@ -16,6 +16,8 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Collection;
+import java.util.List;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -32,6 +34,24 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Adds the given entries to the index as is, e.g. when restoring them from a {@link
+   * SegmentIndexFile}.
+   *
+   * @param entries the entries to add
+   */
+  void restore(Collection<IndexedEntry> entries);
+
+  /**
+   * Returns the indexed entries between the given indexes (both inclusive), ordered by index, but
+   * only if every record in that range which should be indexed was indexed.
+   *
+   * @param fromIndex the first index of the range
+   * @param toIndex the last index of the range
+   * @return the indexed entries, or null if the range is not fully indexed
+   */
+  @Nullable List<IndexedEntry> entries(long fromIndex, long toIndex);
+
   /**
    * Looks up the position of the given index.
    *
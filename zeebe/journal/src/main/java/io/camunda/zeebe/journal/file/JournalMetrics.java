@@ -20,6 +20,7 @@ import static io.camunda.zeebe.journal.file.JournalMetricsDoc.*;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -30,6 +31,8 @@ final class JournalMetrics {
   private final Timer segmentTruncateTime;
   private final Timer segmentFlushTime;
   private final Timer journalFlushTime;
+  private final DistributionSummary flushGroupSize;
+  private final DistributionSummary flushGroupBytes;
   private final AtomicLong segmentCount;
   private final AtomicLong journalOpenDuration;
   private final Timer segmentAllocationTime;
@@ -45,6 +48,11 @@ final class JournalMetrics {
     segmentTruncateTime = makeTimer(SEGMENT_TRUNCATE_TIME);
     segmentFlushTime = makeTimer(SEGMENT_FLUSH_TIME);
     journalFlushTime = makeTimer(JOURNAL_FLUSH_TIME);
+    flushGroupSize = MicrometerUtil.buildSummary(FLUSH_GROUP_SIZE).register(registry);
+    flushGroupBytes =
+        MicrometerUtil.buildSummary(FLUSH_GROUP_BYTES)
+            .baseUnit(FLUSH_GROUP_BYTES.getBaseUnit())
+            .register(registry);
 
     segmentCount = new AtomicLong(0L);
     Gauge.builder(SEGMENT_COUNT.getName(), segmentCount::get)
@@ -81,6 +89,15 @@ final class JournalMetrics {
     return MicrometerUtil.timer(journalFlushTime, Timer.start(registry));
   }
 
+  /**
+   * Records how many entries and bytes were made durable by a single journal flush, i.e. the size
+   * of the commit group sharing that flush.
+   */
+  void observeFlushGroup(final long entries, final long bytes) {
+    flushGroupSize.record(entries);
+    flushGroupBytes.record(bytes);
+  }
+
   void observeSegmentTruncation(final Runnable segmentTruncation) {
     segmentTruncateTime.record(segmentTruncation);
   }
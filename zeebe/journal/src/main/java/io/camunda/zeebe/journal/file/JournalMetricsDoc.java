@@ -115,6 +115,71 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {PartitionKeyNames.PARTITION};
     }
   },
+  /** Number of entries made durable by a single journal flush */
+  FLUSH_GROUP_SIZE {
+    private final double[] buckets = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.group.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of entries made durable by a single journal flush";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return buckets;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Number of bytes made durable by a single journal flush */
+  FLUSH_GROUP_BYTES {
+    private final double[] buckets = {
+      1_024, 4_096, 16_384, 65_536, 262_144, 1_048_576, 4_194_304, 16_777_216
+    };
+
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.group.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of bytes made durable by a single journal flush";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return buckets;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
   /** Number of segments */
   SEGMENT_COUNT {
     @Override
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.fs.PosixFs;
+import io.camunda.zeebe.journal.fs.PosixFs.Advice;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Advises the kernel via {@code madvise} that segments are accessed sequentially, which lets it
+ * read ahead and reclaim pages behind readers more eagerly, and that released segments are not
+ * needed anymore, which unmaps their pages from the process. Their data stays in the page cache
+ * until reclaimed, which is cheap since they are clean and not mapped anymore.
+ *
+ * <p>Releasing pages of a shared file mapping never loses data, even if they are still dirty: the
+ * data lives in the page cache, not in the mapping.
+ */
+final class PosixSegmentMemoryAdvisor implements SegmentMemoryAdvisor {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PosixSegmentMemoryAdvisor.class);
+  private final PosixFs posixFs;
+
+  PosixSegmentMemoryAdvisor(final PosixFs posixFs) {
+    this.posixFs = posixFs;
+  }
+
+  PosixSegmentMemoryAdvisor() {
+    this(new PosixFs());
+  }
+
+  @Override
+  public void onMapped(final MappedByteBuffer buffer) {
+    advise(buffer, Advice.SEQUENTIAL);
+  }
+
+  @Override
+  public void onReleased(final MappedByteBuffer buffer) {
+    advise(buffer, Advice.DONTNEED);
+  }
+
+  private void advise(final MappedByteBuffer buffer, final Advice advice) {
+    if (!posixFs.isMadviseEnabled()) {
+      return;
+    }
+
+    try {
+      posixFs.madvise(buffer, advice);
+    } catch (final LinkageError | UnsupportedOperationException e) {
+      LOGGER.warn(
+          "Failed to use native system call to advise on segment memory, will not advise from now on",
+          e);
+      posixFs.disableMadvise();
+    } catch (final IOException e) {
+      // the advice is only an optimization, so failing to apply it is not an error
+      LOGGER.debug("Failed to advise {} on segment memory", advice, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "PosixSegmentMemoryAdvisor{}";
+  }
+}
@@ -52,7 +52,12 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  private final SegmentMemoryAdvisor memoryAdvisor;
 
+  // set once the segment is full and the writer moved on to the next one
+  private volatile boolean sealed;
+  // set once all data of a sealed segment is flushed, so its memory can be released when unused
+  private volatile boolean releasable;
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
@@ -66,12 +71,33 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final long lastWrittenAsqn,
       final JournalIndex index,
       final JournalMetrics metrics) {
+    this(
+        file,
+        descriptor,
+        descriptorSerializer,
+        buffer,
+        lastWrittenAsqn,
+        index,
+        metrics,
+        SegmentMemoryAdvisor.noop());
+  }
+
+  Segment(
+      final SegmentFile file,
+      final SegmentDescriptor descriptor,
+      final SegmentDescriptorSerializer descriptorSerializer,
+      final MappedByteBuffer buffer,
+      final long lastWrittenAsqn,
+      final JournalIndex index,
+      final JournalMetrics metrics,
+      final SegmentMemoryAdvisor memoryAdvisor) {
     this.file = file;
     this.descriptor = descriptor;
     this.descriptorSerializer = descriptorSerializer;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    this.memoryAdvisor = memoryAdvisor;
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -141,6 +167,37 @@ final class Segment implements AutoCloseable, FlushableSegment {
         descriptor.id(),
         descriptor.index(),
         lastIndex);
+
+    if (sealed) {
+      releasable = true;
+      releaseMemoryIfUnused();
+    }
+  }
+
+  /**
+   * Marks the segment as full, meaning it will not be written to anymore. Once it was flushed, its
+   * memory is released whenever no reader reads it.
+   */
+  void seal() {
+    sealed = true;
+  }
+
+  /**
+   * Marks the segment as being written to again, e.g. after truncating the segments following it.
+   */
+  void unseal() {
+    sealed = false;
+    releasable = false;
+  }
+
+  /**
+   * Marks the segment as full, and all of its data as already flushed, e.g. when loading it on
+   * start up.
+   */
+  void sealFlushed() {
+    sealed = true;
+    releasable = true;
+    releaseMemoryIfUnused();
   }
 
   /**
@@ -152,6 +209,16 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return writer.getLastAsqn();
   }
 
+  /**
+   * Sets the last application sequence number written before this segment, if it was loaded
+   * independently of the previous segment. See {@link SegmentWriter#resolveLastWrittenAsqn(long)}.
+   *
+   * @param lastWrittenAsqn the last application sequence number of the previous segment
+   */
+  void resolveLastWrittenAsqn(final long lastWrittenAsqn) {
+    writer.resolveLastWrittenAsqn(lastWrittenAsqn);
+  }
+
   /**
    * Returns the total bytes of records appended to this segment, excluding the descriptor.
    *
@@ -221,9 +288,26 @@ final class Segment implements AutoCloseable, FlushableSegment {
     // concurrency control.
     if (markedForDeletion && readers.isEmpty()) {
       safeDelete();
+    } else {
+      releaseMemoryIfUnused();
     }
   }
 
+  /**
+   * Releases the memory backing this segment via the {@link SegmentMemoryAdvisor}, if it is sealed,
+   * flushed, and not read. The segment can still be read afterwards, faulting its pages back in.
+   */
+  private synchronized void releaseMemoryIfUnused() {
+    // the mapped region must never be advised on once unmapped, as it may have been reused already
+    if (open && releasable && readers.isEmpty()) {
+      memoryAdvisor.onReleased(buffer);
+    }
+  }
+
+  private synchronized void unmap() {
+    IoUtil.unmap(buffer);
+  }
+
   /** Checks whether the segment is open. */
   private void checkOpen() {
     checkState(open, "Segment not open");
@@ -243,7 +327,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   public void close() {
     open = false;
     readers.forEach(SegmentReader::close);
-    IoUtil.unmap(buffer);
+    unmap();
   }
 
   /** Deletes the segment. */
@@ -263,7 +347,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
               readers.size()));
     }
     try {
-      IoUtil.unmap(buffer);
+      unmap();
       Files.deleteIfExists(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
       LOG.warn(
@@ -33,6 +33,7 @@ public final class SegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
@@ -126,6 +127,16 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the path of the file storing the persisted index of this segment, next to the segment
+   * file itself.
+   *
+   * @see SegmentIndexFile
+   */
+  Path indexFile() {
+    return file.toPath().resolveSibling(toIndexFileName(file.getName()));
+  }
+
   Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -140,6 +151,29 @@ public final class SegmentFile {
     return fileMarkedForDeletion;
   }
 
+  /**
+   * Returns true if the given file name is the name of the index file of a segment, see {@link
+   * #indexFile()}.
+   */
+  static boolean isSegmentIndexFile(final String journalName, final String fileName) {
+    checkNotNull(journalName, "journalName cannot be null");
+    checkNotNull(fileName, "fileName cannot be null");
+
+    return fileName.endsWith(EXTENSION_SEPARATOR + INDEX_EXTENSION)
+        && isSegmentFile(journalName, toSegmentFileName(fileName));
+  }
+
+  /** Returns the name of the segment file the given index file belongs to. */
+  static String toSegmentFileName(final String indexFileName) {
+    return indexFileName.substring(0, indexFileName.length() - INDEX_EXTENSION.length())
+        + EXTENSION;
+  }
+
+  private static String toIndexFileName(final String segmentFileName) {
+    return segmentFileName.substring(0, segmentFileName.length() - EXTENSION.length())
+        + INDEX_EXTENSION;
+  }
+
   static boolean isDeletedSegmentFile(final String journalName, final String fileName) {
     checkNotNull(journalName, "journalName cannot be null");
     checkNotNull(fileName, "fileName cannot be null");
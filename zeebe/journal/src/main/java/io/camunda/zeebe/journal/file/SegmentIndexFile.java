@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The persisted block index of a full segment, i.e. the {@link JournalIndex} entries of all records
+ * in the segment. It is written next to the segment file when the journal rolls over to the next
+ * segment, right after the segment's {@link SegmentDescriptor} was updated, and restored into the
+ * journal index when the segment is loaded again. Seeking into older segments after a restart can
+ * then look up the closest indexed position, instead of scanning the segment's frames to rebuild
+ * the index.
+ *
+ * <p>The file is only a cache of the segment's content, and is never flushed explicitly. It is
+ * ignored if it cannot be read, if its checksum does not match, or if it was not written for the
+ * current state of the segment, as described by the last index and position in its descriptor.
+ *
+ * <p>Layout, little endian: {@code version (int), segment id (long), first index (long), last index
+ * (long), last position (int), entry count (int)}, followed by {@code index (long), asqn (long),
+ * position (int)} per entry, and the CRC32C checksum (long) of everything before it.
+ */
+final class SegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH = 3 * Integer.BYTES + 3 * Long.BYTES;
+  private static final int ENTRY_LENGTH = 2 * Long.BYTES + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final Path path;
+
+  SegmentIndexFile(final Path path) {
+    this.path = path;
+  }
+
+  Path path() {
+    return path;
+  }
+
+  /**
+   * Writes the given entries as the index of the segment described by the given descriptor,
+   * replacing any existing file. Failures are only logged, as the index can always be rebuilt from
+   * the segment itself.
+   */
+  void write(final SegmentDescriptor descriptor, final List<IndexedEntry> entries) {
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + entries.size() * ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(descriptor.id())
+        .putLong(descriptor.index())
+        .putLong(descriptor.lastIndex())
+        .putInt(descriptor.lastPosition())
+        .putInt(entries.size());
+    for (final var entry : entries) {
+      buffer.putLong(entry.index()).putLong(entry.asqn()).putInt(entry.position());
+    }
+    buffer.putLong(checksum(buffer, buffer.position()));
+    buffer.flip();
+
+    try (final var channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to persist the index of segment {} to {}, it will be rebuilt when reading it",
+          descriptor.id(),
+          path,
+          e);
+    }
+  }
+
+  /**
+   * Reads the persisted entries of the segment described by the given descriptor.
+   *
+   * @return the persisted entries, or null if there are none, or they do not match the descriptor
+   */
+  @Nullable List<IndexedEntry> read(final SegmentDescriptor descriptor) {
+    if (descriptor.lastPosition() <= 0) {
+      // the descriptor was reset, e.g. on truncation, so any persisted index is stale
+      return null;
+    }
+
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.debug("Failed to read the persisted index {}, ignoring it", path, e);
+      return null;
+    }
+
+    final int checksumOffset = buffer.capacity() - CHECKSUM_LENGTH;
+    if (checksumOffset < HEADER_LENGTH
+        || buffer.getLong(checksumOffset) != checksum(buffer, checksumOffset)) {
+      LOG.debug("Persisted index {} is incomplete or corrupted, ignoring it", path);
+      return null;
+    }
+
+    final boolean matchesDescriptor =
+        buffer.getInt() == VERSION
+            && buffer.getLong() == descriptor.id()
+            && buffer.getLong() == descriptor.index()
+            && buffer.getLong() == descriptor.lastIndex()
+            && buffer.getInt() == descriptor.lastPosition();
+    final int count = buffer.getInt();
+    if (!matchesDescriptor || HEADER_LENGTH + (long) count * ENTRY_LENGTH != checksumOffset) {
+      LOG.debug("Persisted index {} does not match segment {}, ignoring it", path, descriptor);
+      return null;
+    }
+
+    final List<IndexedEntry> entries = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      entries.add(new IndexedEntry(buffer.getLong(), buffer.getLong(), buffer.getInt()));
+    }
+    return entries;
+  }
+
+  /** Deletes the file, if it exists. */
+  void delete() {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete persisted segment index {}. It is ignored, but uses disk space.",
+          path,
+          e);
+    }
+  }
+
+  private static long checksum(final ByteBuffer buffer, final int length) {
+    return new ChecksumGenerator().compute(buffer, 0, length);
+  }
+}
@@ -34,14 +34,24 @@ final class SegmentLoader {
   private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
 
   private final SegmentAllocator allocator;
+  private final SegmentMemoryAdvisor memoryAdvisor;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, SegmentMemoryAdvisor.defaultAdvisor());
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final SegmentMemoryAdvisor memoryAdvisor) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.memoryAdvisor = memoryAdvisor;
   }
 
   Segment createSegment(
@@ -116,7 +126,8 @@ final class SegmentLoader {
         descriptor.id(),
         descriptor.maxSegmentSize(),
         mappedSegment,
-        journalIndex);
+        journalIndex,
+        memoryAdvisor);
   }
 
   Segment loadExistingSegment(
@@ -135,6 +146,7 @@ final class SegmentLoader {
         IoUtil.unmap(mappedSegment);
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
+      memoryAdvisor.onMapped(mappedSegment);
 
       return loadSegment(
           segmentFile,
@@ -165,7 +177,8 @@ final class SegmentLoader {
         buffer,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        memoryAdvisor);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -214,7 +227,9 @@ final class SegmentLoader {
         final var channel = raf.getChannel(); ) {
       allocateSegment(maxSegmentSize, channel, raf.getFD());
       raf.setLength(maxSegmentSize);
-      return mapSegment(channel, maxSegmentSize);
+      final var mappedSegment = mapSegment(channel, maxSegmentSize);
+      memoryAdvisor.onMapped(mappedSegment);
+      return mappedSegment;
     }
   }
 
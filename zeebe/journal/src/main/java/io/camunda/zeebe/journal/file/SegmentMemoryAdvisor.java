@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * Defines how the memory mappings of segments interact with the OS page cache. Segments are memory
+ * mapped in full, so by default any page which was ever written or read stays mapped until the
+ * segment is closed, and the kernel only reclaims it under memory pressure. When the journal is
+ * larger than the available memory, this leads to page cache thrashing and unpredictable stalls.
+ */
+public interface SegmentMemoryAdvisor {
+
+  /**
+   * Called once a segment file was mapped, before it is read from or written to.
+   *
+   * @param buffer the segment's mapped buffer
+   */
+  void onMapped(MappedByteBuffer buffer);
+
+  /**
+   * Called whenever the pages of a segment are not expected to be accessed anymore in the near
+   * future: the segment is full, all its data was flushed, and no reader is reading it. The segment
+   * may still be read afterwards, in which case its pages are faulted in again.
+   *
+   * @param buffer the segment's mapped buffer
+   */
+  void onReleased(MappedByteBuffer buffer);
+
+  /** Returns the default advisor, which leaves the page cache to the kernel. */
+  static SegmentMemoryAdvisor defaultAdvisor() {
+    return noop();
+  }
+
+  /** Returns an advisor which does nothing. */
+  static SegmentMemoryAdvisor noop() {
+    return Defaults.NOOP;
+  }
+
+  /**
+   * Returns an advisor which uses the POSIX system call {@code madvise} to read segments
+   * sequentially, and to release the pages of segments which are not used anymore. If the call is
+   * not available, it does nothing.
+   */
+  static SegmentMemoryAdvisor posix() {
+    return new PosixSegmentMemoryAdvisor();
+  }
+
+  class Defaults {
+    private static final SegmentMemoryAdvisor NOOP = new Noop();
+  }
+
+  class Noop implements SegmentMemoryAdvisor {
+
+    @Override
+    public void onMapped(final MappedByteBuffer buffer) {}
+
+    @Override
+    public void onReleased(final MappedByteBuffer buffer) {}
+  }
+}
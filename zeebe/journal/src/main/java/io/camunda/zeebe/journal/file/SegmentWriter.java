@@ -50,7 +50,7 @@ final class SegmentWriter {
   private final Segment segment;
   private final JournalIndex index;
   private final long firstIndex;
-  private final long firstAsqn;
+  private long firstAsqn;
   private long lastAsqn;
   private @Nullable JournalRecord lastEntry;
   private int lastEntryPosition;
@@ -117,6 +117,20 @@ final class SegmentWriter {
     return lastAsqn;
   }
 
+  /**
+   * Sets the last asqn written before this segment, for segments which were loaded without knowing
+   * it. Must be called before anything is appended to or truncated from this segment.
+   *
+   * @param lastWrittenAsqn the last asqn of the previous segment
+   */
+  void resolveLastWrittenAsqn(final long lastWrittenAsqn) {
+    firstAsqn = lastWrittenAsqn + 1;
+    if (lastAsqn == ASQN_IGNORE) {
+      // no record of this segment has an asqn
+      lastAsqn = lastWrittenAsqn;
+    }
+  }
+
   // Used to append records received from a leader that are at version 8.2.x or older.
   Either<SegmentFull, JournalRecord> append(final JournalRecord record) {
     final var entryIndex = record.index();
@@ -29,6 +29,7 @@ import io.camunda.zeebe.journal.SegmentInfo;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.OptionalLong;
@@ -51,16 +52,27 @@ public final class SegmentedJournal implements Journal {
   private final StampedLock rwlock = new StampedLock();
   private final SegmentsManager segments;
   private final JournalMetaStore metaStore;
+  private final FlushGroup flushGroup;
 
   SegmentedJournal(
       final JournalIndex journalIndex,
       final SegmentsManager segments,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(journalIndex, segments, journalMetrics, metaStore, FlushGroup.disabled());
+  }
+
+  SegmentedJournal(
+      final JournalIndex journalIndex,
+      final SegmentsManager segments,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final FlushGroup flushGroup) {
     this.journalMetrics = Objects.requireNonNull(journalMetrics, "must specify journal metrics");
     this.journalIndex = Objects.requireNonNull(journalIndex, "must specify a journal index");
     this.segments = Objects.requireNonNull(segments, "must specify a journal segments manager");
     this.metaStore = Objects.requireNonNull(metaStore, "must specify a journal meta store");
+    this.flushGroup = Objects.requireNonNull(flushGroup, "must specify a flush group");
     this.segments.open();
     writer = new SegmentedJournalWriter(segments, metaStore, journalMetrics);
   }
@@ -83,7 +95,9 @@ public final class SegmentedJournal implements Journal {
   public JournalRecord append(final long asqn, final BufferWriter recordDataWriter) {
     assertOpen();
     try (final var ignored = journalMetrics.observeAppendLatency()) {
-      return writer.append(asqn, recordDataWriter);
+      final var record = writer.append(asqn, recordDataWriter);
+      flushGroup.onAppend(record.size());
+      return record;
     }
   }
 
@@ -92,6 +106,7 @@ public final class SegmentedJournal implements Journal {
     assertOpen();
     try (final var ignored = journalMetrics.observeAppendLatency()) {
       writer.append(record);
+      flushGroup.onAppend(record.size());
     }
   }
 
@@ -99,7 +114,9 @@ public final class SegmentedJournal implements Journal {
   public JournalRecord append(final long checksum, final byte[] serializedRecord) {
     assertOpen();
     try (final var ignored = journalMetrics.observeAppendLatency()) {
-      return writer.append(checksum, serializedRecord);
+      final var record = writer.append(checksum, serializedRecord);
+      flushGroup.onAppend(record.size());
+      return record;
     }
   }
 
@@ -175,7 +192,11 @@ public final class SegmentedJournal implements Journal {
       // sequentially anyway, meaning there is virtually no contention
       final var stamp = rwlock.readLock();
       try {
+        // drain before flushing: entries appended concurrently may not be covered by this flush,
+        // so they must count towards the next group
+        final var group = flushGroup.drain();
         writer.flush();
+        journalMetrics.observeFlushGroup(group.entries(), group.bytes());
       } finally {
         rwlock.unlockRead(stamp);
       }
@@ -186,6 +207,11 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  @Override
+  public Duration getFlushDelay() {
+    return flushGroup.remainingDelay();
+  }
+
   @Override
   public JournalReader openReader() {
     final var stamped = acquireReadlock();
@@ -23,6 +23,7 @@ import static java.util.Objects.requireNonNull;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.time.Duration;
 import org.jspecify.annotations.Nullable;
 
 /** Raft log builder. */
@@ -35,6 +36,9 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final Duration DEFAULT_GROUP_COMMIT_MAX_DELAY = Duration.ZERO;
+  private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024L * 1024;
+  private static final int DEFAULT_SEGMENT_LOAD_PARALLELISM = 1;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -45,11 +49,16 @@ public class SegmentedJournalBuilder {
 
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private boolean persistedSegmentIndex;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private @Nullable JournalMetaStore journalMetaStore;
   private final MeterRegistry meterRegistry;
   private SegmentAllocator segmentAllocator = SegmentAllocator.defaultAllocator();
+  private SegmentMemoryAdvisor segmentMemoryAdvisor = SegmentMemoryAdvisor.defaultAdvisor();
+  private Duration groupCommitMaxDelay = DEFAULT_GROUP_COMMIT_MAX_DELAY;
+  private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
+  private int segmentLoadParallelism = DEFAULT_SEGMENT_LOAD_PARALLELISM;
 
   SegmentedJournalBuilder(final MeterRegistry meterRegistry) {
     this.meterRegistry = meterRegistry;
@@ -133,6 +142,19 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index of every full segment is persisted next to it, such that it can
+   * be restored on start up instead of being rebuilt by scanning the segment. See {@link
+   * SegmentIndexFile}.
+   *
+   * @param persistedSegmentIndex true to persist the index of full segments
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistedSegmentIndex(final boolean persistedSegmentIndex) {
+    this.persistedSegmentIndex = persistedSegmentIndex;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -146,6 +168,58 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how the memory mappings of segments interact with the OS page cache, e.g. to release the
+   * pages of full segments once they were flushed. See {@link SegmentMemoryAdvisor}.
+   *
+   * @param segmentMemoryAdvisor the advisor to use
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentMemoryAdvisor(
+      final SegmentMemoryAdvisor segmentMemoryAdvisor) {
+    this.segmentMemoryAdvisor = segmentMemoryAdvisor;
+    return this;
+  }
+
+  /**
+   * Enables group commit: records appended within the given window share a single flush, which is
+   * reflected in {@link SegmentedJournal#getFlushDelay()}. A group is due for a flush once its
+   * first record was appended {@code maxDelay} ago, or once it holds at least {@code maxBytes}.
+   *
+   * <p>By default, the max delay is {@link Duration#ZERO}, which disables group commit.
+   *
+   * @param maxDelay the maximum time to defer a flush after the first record of a group
+   * @param maxBytes the accumulated size in bytes after which a group is flushed immediately
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code maxDelay} is negative or {@code maxBytes} is not
+   *     positive
+   */
+  public SegmentedJournalBuilder withGroupCommit(final Duration maxDelay, final long maxBytes) {
+    checkArgument(!maxDelay.isNegative(), "group commit max delay must not be negative");
+    checkArgument(maxBytes > 0, "group commit max bytes must be positive");
+    groupCommitMaxDelay = maxDelay;
+    groupCommitMaxBytes = maxBytes;
+    return this;
+  }
+
+  /**
+   * Sets how many existing segments may be loaded concurrently when the journal is opened. Loading
+   * a segment maps it, reads its descriptor and scans it for its last entry; the loaded segments
+   * are still validated against each other in order. The time it takes to open the journal is
+   * reported by {@link JournalMetrics}.
+   *
+   * <p>By default, segments are loaded one after another.
+   *
+   * @param segmentLoadParallelism the maximum number of segments to load concurrently
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code segmentLoadParallelism} is not positive
+   */
+  public SegmentedJournalBuilder withSegmentLoadParallelism(final int segmentLoadParallelism) {
+    checkArgument(segmentLoadParallelism > 0, "segment load parallelism must be positive");
+    this.segmentLoadParallelism = segmentLoadParallelism;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -170,7 +244,8 @@ public class SegmentedJournalBuilder {
   public SegmentedJournal build() {
     final var journalIndex = new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(meterRegistry);
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, segmentMemoryAdvisor);
     final var metaStore = requireNonNull(journalMetaStore, "must specify a journal meta store");
     final var segmentsManager =
         new SegmentsManager(
@@ -180,8 +255,14 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            metaStore);
+            metaStore,
+            persistedSegmentIndex,
+            segmentLoadParallelism);
+
+    final var flushGroup =
+        new FlushGroup(groupCommitMaxDelay, groupCommitMaxBytes, System::nanoTime);
 
-    return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, metaStore);
+    return new SegmentedJournal(
+        journalIndex, segmentsManager, journalMetrics, metaStore, flushGroup);
   }
 }
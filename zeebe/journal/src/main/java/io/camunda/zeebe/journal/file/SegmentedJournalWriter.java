@@ -123,6 +123,7 @@ final class SegmentedJournalWriter {
     while (index < currentSegment.index() && currentSegment != segments.getFirstSegment()) {
       segments.removeSegment(currentSegment);
       currentSegment = requireNonNull(segments.getLastSegment(), "journal not open");
+      currentSegment.unseal();
       currentWriter = currentSegment.writer();
     }
 
@@ -180,6 +181,12 @@ final class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    // its memory can be released once all of it was flushed, which may already be the case
+    if (currentSegment.lastIndex() <= lastFlushedIndex) {
+      currentSegment.sealFlushed();
+    } else {
+      currentSegment.seal();
+    }
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
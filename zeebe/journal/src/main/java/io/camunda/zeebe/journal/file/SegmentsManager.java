@@ -33,6 +33,7 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +58,8 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final boolean persistIndex;
+  private final int loadParallelism;
 
   private volatile @Nullable Segment currentSegment;
 
@@ -68,6 +71,34 @@ final class SegmentsManager implements AutoCloseable {
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(
+        journalIndex,
+        maxSegmentSize,
+        directory,
+        name,
+        segmentLoader,
+        journalMetrics,
+        metaStore,
+        false,
+        1);
+  }
+
+  /**
+   * @param persistIndex if true, the index of every full segment is persisted when rolling over to
+   *     the next segment, and restored when loading it again; see {@link SegmentIndexFile}
+   * @param loadParallelism how many existing segments may be loaded concurrently on open; 1 loads
+   *     them one after another
+   */
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final boolean persistIndex,
+      final int loadParallelism) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -75,6 +106,8 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.persistIndex = persistIndex;
+    this.loadParallelism = loadParallelism;
   }
 
   @Override
@@ -121,6 +154,9 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    // the current segment is full, and its descriptor up to date
+    persistIndex(requireNonNull(currentSegment, "currentSegment is null"));
+
     final var lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
     final var nextSegmentIndex =
@@ -133,8 +169,16 @@ final class SegmentsManager implements AutoCloseable {
             .build();
     if (nextSegment != null) {
       try {
-        currentSegment =
-            nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
+        final var preparedSegment = nextSegment.join();
+        if (preparedSegment.segmentId() == descriptor.id()) {
+          currentSegment =
+              preparedSegment.initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
+        } else {
+          // the journal was truncated or reset after the segment was prepared; using it would
+          // leave a gap in the segment ids
+          preparedSegment.delete();
+          currentSegment = createSegment(descriptor, lastWrittenAsqn);
+        }
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
         nextSegment = null;
@@ -200,6 +244,7 @@ final class SegmentsManager implements AutoCloseable {
     for (final Segment segment : compactSegments.values()) {
       LOG.trace("{} - Deleting segment: {}", name, segment);
       segment.delete();
+      indexFile(segment).delete();
       journalMetrics.decSegmentCount();
     }
 
@@ -235,6 +280,7 @@ final class SegmentsManager implements AutoCloseable {
       //noinspection resource
       final var segment = it.next();
       segment.delete();
+      indexFile(segment).delete();
       it.remove();
       journalMetrics.decSegmentCount();
     }
@@ -261,6 +307,7 @@ final class SegmentsManager implements AutoCloseable {
     segments.remove(segment.index());
     journalMetrics.decSegmentCount();
     segment.delete();
+    indexFile(segment).delete();
     resetCurrentSegment();
   }
 
@@ -268,6 +315,8 @@ final class SegmentsManager implements AutoCloseable {
   private void resetCurrentSegment() {
     final Segment lastSegment = getLastSegment();
     if (lastSegment != null) {
+      // the segment will be written to again, so its persisted index would be stale
+      indexFile(lastSegment).delete();
       currentSegment = lastSegment;
     } else {
       final SegmentDescriptor descriptor =
@@ -361,24 +410,60 @@ final class SegmentsManager implements AutoCloseable {
     // Ensure log directories are created.
     //noinspection ResultOfMethodCallIgnored
     directory.mkdirs();
-    final List<Segment> segments = new ArrayList<>();
 
     final List<File> files = getSortedLogSegments();
+    final int parallelism = Math.min(loadParallelism, files.size());
+    if (parallelism <= 1) {
+      return loadSegments(files, lastFlushedIndex, null);
+    }
+
+    final var loadPool = new ForkJoinPool(parallelism);
+    try {
+      final List<CompletableFuture<Segment>> loadingSegments =
+          files.stream()
+              .map(
+                  file ->
+                      CompletableFuture.supplyAsync(
+                          () -> loadSegment(file, INITIAL_ASQN), loadPool))
+              .toList();
+      return loadSegments(files, lastFlushedIndex, loadingSegments);
+    } finally {
+      loadPool.shutdown();
+    }
+  }
+
+  /**
+   * Validates the loaded segments in order, and seals all but the last one.
+   *
+   * @param loadingSegments the segments being loaded concurrently, one per file; if null, each
+   *     segment is loaded right before it is validated
+   */
+  private List<Segment> loadSegments(
+      final List<File> files,
+      final long lastFlushedIndex,
+      final @Nullable List<CompletableFuture<Segment>> loadingSegments) {
+    final List<Segment> segments = new ArrayList<>();
     Segment previousSegment = null;
     for (int i = 0; i < files.size(); i++) {
-      final File file = files.get(i);
+      Segment segment = null;
 
       try {
-        LOG.debug("Found segment file: {}", file.getName());
-        final Segment segment =
-            segmentLoader.loadExistingSegment(
-                file.toPath(),
-                previousSegment != null ? previousSegment.lastAsqn() : INITIAL_ASQN,
-                journalIndex);
-
-        if (i > 0) {
-          // throws CorruptedJournalException if there is gap
-          checkForIndexGaps(segments.get(i - 1), segment);
+        final long lastWrittenAsqn =
+            previousSegment != null ? previousSegment.lastAsqn() : INITIAL_ASQN;
+        segment =
+            loadingSegments != null
+                ? awaitSegment(loadingSegments.get(i))
+                : loadSegment(files.get(i), lastWrittenAsqn);
+
+        if (previousSegment != null) {
+          // throws CorruptedJournalException if a segment is missing, duplicated or overlapping
+          checkForGaps(previousSegment, segment);
+        }
+
+        if (loadingSegments != null) {
+          // segments loaded concurrently don't know the last asqn written before them
+          checkForAsqnOrder(previousSegment, segment, lastWrittenAsqn);
+          segment.resolveLastWrittenAsqn(lastWrittenAsqn);
         }
 
         final boolean isLastSegment = i == files.size() - 1;
@@ -388,10 +473,16 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        if (previousSegment != null) {
+          sealLoadedSegment(previousSegment, lastFlushedIndex);
+          restoreIndex(previousSegment);
+        }
         segments.add(segment);
         previousSegment = segment;
-      } catch (final CorruptedJournalException e) {
-        if (handleSegmentCorruption(files, segments, i, lastFlushedIndex)) {
+      } catch (final RuntimeException e) {
+        discardSegments(segment, loadingSegments, i + 1, previousSegment);
+        if (e instanceof CorruptedJournalException
+            && handleSegmentCorruption(files, segments, i, lastFlushedIndex)) {
           return segments;
         }
 
@@ -402,7 +493,103 @@ final class SegmentsManager implements AutoCloseable {
     return segments;
   }
 
-  private void checkForIndexGaps(final Segment prevSegment, final Segment segment) {
+  private Segment loadSegment(final File file, final long lastWrittenAsqn) {
+    LOG.debug("Found segment file: {}", file.getName());
+    return segmentLoader.loadExistingSegment(file.toPath(), lastWrittenAsqn, journalIndex);
+  }
+
+  private Segment awaitSegment(final CompletableFuture<Segment> loadingSegment) {
+    try {
+      return loadingSegment.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Closes the segment which failed validation, and any segment loaded after it, and removes their
+   * entries from the journal index. Only the segments up to and including the given last valid
+   * segment are kept.
+   */
+  private void discardSegments(
+      final @Nullable Segment failedSegment,
+      final @Nullable List<CompletableFuture<Segment>> loadingSegments,
+      final int firstPendingSegment,
+      final @Nullable Segment lastValidSegment) {
+    if (failedSegment != null) {
+      failedSegment.close();
+    }
+
+    if (loadingSegments != null) {
+      final var pendingSegments =
+          loadingSegments.subList(firstPendingSegment, loadingSegments.size());
+      for (final var loadingSegment : pendingSegments) {
+        try {
+          loadingSegment.join().close();
+        } catch (final CompletionException e) {
+          LOG.debug("Failed to load segment which is discarded anyway", e);
+        }
+      }
+    }
+
+    journalIndex.deleteAfter(lastValidSegment != null ? lastValidSegment.lastIndex() : 0);
+  }
+
+  private void sealLoadedSegment(final Segment segment, final long lastFlushedIndex) {
+    if (segment.lastIndex() <= lastFlushedIndex) {
+      segment.sealFlushed();
+    } else {
+      segment.seal();
+    }
+  }
+
+  private void persistIndex(final Segment segment) {
+    if (!persistIndex) {
+      return;
+    }
+
+    final var descriptor = segment.descriptor();
+    final var entries = journalIndex.entries(segment.index(), segment.lastIndex());
+    if (descriptor.lastIndex() != segment.lastIndex() || entries == null) {
+      // e.g. the segment was loaded on start up, and was never fully read since
+      LOG.trace("{} - Segment {} is not fully indexed, skip persisting its index", name, segment);
+      return;
+    }
+
+    indexFile(segment).write(descriptor, entries);
+  }
+
+  private void restoreIndex(final Segment segment) {
+    if (!persistIndex || segment.descriptor().lastIndex() != segment.lastIndex()) {
+      return;
+    }
+
+    final var entries = indexFile(segment).read(segment.descriptor());
+    if (entries != null) {
+      journalIndex.restore(entries);
+      LOG.trace("{} - Restored {} index entries of segment {}", name, entries.size(), segment);
+    }
+  }
+
+  private SegmentIndexFile indexFile(final Segment segment) {
+    return new SegmentIndexFile(segment.file().indexFile());
+  }
+
+  /**
+   * Verifies that a segment directly follows the previous one: its id is the next one, and its
+   * first index is the one right after the last index of the previous segment.
+   */
+  private void checkForGaps(final Segment prevSegment, final Segment segment) {
+    if (prevSegment.id() + 1 != segment.id()) {
+      throw new CorruptedJournalException(
+          String.format(
+              "Log segment %s does not follow previous segment %s (expected id: %d).",
+              segment, prevSegment, prevSegment.id() + 1));
+    }
+
     if (prevSegment.lastIndex() != segment.index() - 1) {
       throw new CorruptedJournalException(
           String.format(
@@ -411,6 +598,22 @@ final class SegmentsManager implements AutoCloseable {
     }
   }
 
+  /**
+   * Verifies that the asqns of a segment which was loaded without knowing the last asqn written
+   * before it are greater than the ones of the previous segment.
+   */
+  private void checkForAsqnOrder(
+      final @Nullable Segment prevSegment, final Segment segment, final long lastWrittenAsqn) {
+    // a segment without any asqn keeps the initial one as its last asqn
+    if (segment.lastAsqn() != INITIAL_ASQN && segment.lastAsqn() <= lastWrittenAsqn) {
+      throw new CorruptedJournalException(
+          String.format(
+              "Log segment %s has asqns up to %d, which are not greater than the last asqn %d of"
+                  + " previous segment %s.",
+              segment, segment.lastAsqn(), lastWrittenAsqn, prevSegment));
+    }
+  }
+
   /** Returns true if segments after corrupted segment were deleted; false, otherwise */
   private boolean handleSegmentCorruption(
       final List<File> files,
@@ -486,6 +689,24 @@ final class SegmentsManager implements AutoCloseable {
           directory.toPath(),
           e);
     }
+
+    // Delete persisted indexes of segments which do not exist anymore, e.g. if the node was stopped
+    // right after deleting the segment
+    try (final DirectoryStream<Path> orphanedIndexes =
+        Files.newDirectoryStream(directory.toPath(), this::isOrphanedIndexFile)) {
+      orphanedIndexes.forEach(path -> new SegmentIndexFile(path).delete());
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete orphaned segment index files in {}. This can result in unnecessary disk usage.",
+          directory.toPath(),
+          e);
+    }
+  }
+
+  private boolean isOrphanedIndexFile(final Path path) {
+    final var fileName = path.getFileName().toString();
+    return SegmentFile.isSegmentIndexFile(name, fileName)
+        && !Files.exists(path.resolveSibling(SegmentFile.toSegmentFileName(fileName)));
   }
 
   private void deleteDeferredFile(final Path segmentFileToDelete) {
@@ -16,6 +16,9 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -48,6 +51,33 @@ final class SparseJournalIndex implements JournalIndex {
     }
   }
 
+  @Override
+  public void restore(final Collection<IndexedEntry> entries) {
+    for (final var entry : entries) {
+      indexToPosition.put(entry.index(), entry.position());
+      if (entry.asqn() != SegmentedJournal.ASQN_IGNORE) {
+        asqnToIndex.put(entry.asqn(), entry.index());
+        indexToAsqn.put(entry.index(), entry.asqn());
+      }
+    }
+  }
+
+  @Override
+  public @Nullable List<IndexedEntry> entries(final long fromIndex, final long toIndex) {
+    final var positions = indexToPosition.subMap(fromIndex, true, toIndex, true);
+    // every index which is a multiple of the density must have been indexed
+    final long expectedCount =
+        Math.floorDiv(toIndex, density) - Math.floorDiv(fromIndex - 1, density);
+    final List<IndexedEntry> entries = new ArrayList<>();
+    for (final var position : positions.entrySet()) {
+      final long index = position.getKey();
+      final long asqn = indexToAsqn.getOrDefault(index, SegmentedJournal.ASQN_IGNORE);
+      entries.add(new IndexedEntry(index, asqn, position.getValue()));
+    }
+
+    return entries.size() == expectedCount ? entries : null;
+  }
+
   @Override
   public @Nullable IndexInfo lookup(final long index) {
     final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
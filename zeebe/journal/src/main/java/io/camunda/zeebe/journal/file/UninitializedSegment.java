@@ -7,7 +7,11 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.camunda.zeebe.journal.JournalException;
+import java.io.IOException;
 import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import org.agrona.IoUtil;
 
 /**
  * Holds a normal segment file that hasn't been written to and that has no {@link
@@ -18,7 +22,8 @@ record UninitializedSegment(
     long segmentId,
     int maxSegmentSize,
     MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    JournalIndex journalIndex,
+    SegmentMemoryAdvisor memoryAdvisor) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -41,6 +46,18 @@ record UninitializedSegment(
         buffer,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        memoryAdvisor);
+  }
+
+  /** Unmaps and deletes the segment file, which was never written to. */
+  void delete() {
+    IoUtil.unmap(buffer);
+    try {
+      Files.deleteIfExists(file.file().toPath());
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to delete unused segment file %s", file.file()), e);
+    }
   }
 }
@@ -14,7 +14,9 @@ import jnr.ffi.LibraryLoader;
 import jnr.ffi.LibraryOption;
 import jnr.ffi.Platform;
 import jnr.ffi.annotations.In;
+import jnr.ffi.types.intptr_t;
 import jnr.ffi.types.off_t;
+import jnr.ffi.types.size_t;
 
 /**
  * Used to bind certain calls from libc to Java methods via JNA.
@@ -28,6 +30,8 @@ import jnr.ffi.types.off_t;
 public interface LibC {
   int posix_fallocate(final @In int fd, final @In @off_t long offset, final @In @off_t long len);
 
+  int madvise(final @In @intptr_t long addr, final @In @size_t long len, final @In int advice);
+
   /**
    * Returns an instance of LibC bound to the system's C library (e.g. glibc, musl, etc.).
    *
@@ -63,5 +67,10 @@ public interface LibC {
     public int posix_fallocate(final int fd, final long offset, final long len) {
       throw new UnsupportedOperationException();
     }
+
+    @Override
+    public int madvise(final long addr, final long len, final int advice) {
+      throw new UnsupportedOperationException();
+    }
   }
 }
@@ -13,8 +13,12 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
 import jnr.constants.platform.Errno;
+import jnr.ffi.LastError;
 import jnr.ffi.Platform;
+import jnr.ffi.Runtime;
+import org.agrona.BufferUtil;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +56,10 @@ public final class PosixFs {
   private volatile boolean supportsPosixFallocate =
       FILE_DESCRIPTOR_FD_FIELD != null && Platform.getNativePlatform().isUnix();
 
+  // madvise is available on every Unix platform, but the advice may not be supported by every
+  // kernel or file system; we then disable it altogether, with the same assumption as above
+  private volatile boolean supportsMadvise = Platform.getNativePlatform().isUnix();
+
   private final LibC libC;
 
   public PosixFs() {
@@ -140,6 +148,63 @@ public final class PosixFs {
     throwExceptionFromErrno(offset, length, error);
   }
 
+  /**
+   * Returns whether calls to {@link #madvise(MappedByteBuffer, Advice)} are supported or not. If
+   * this returns false, then a call to {@link #madvise(MappedByteBuffer, Advice)} will throw an
+   * {@link UnsupportedOperationException}.
+   *
+   * @return true if supported, false otherwise
+   */
+  public boolean isMadviseEnabled() {
+    return supportsMadvise;
+  }
+
+  /**
+   * Disables usage of {@link #madvise(MappedByteBuffer, Advice)}. After calling this, {@link
+   * #isMadviseEnabled()} will return false.
+   */
+  public void disableMadvise() {
+    LOGGER.debug("Disabling usage of madvise optimization");
+    supportsMadvise = false;
+  }
+
+  /**
+   * Calls the madvise system call for the whole region of the given mapped buffer, advising the
+   * kernel on how the memory will be accessed, and letting it manage the backing page cache
+   * accordingly.
+   *
+   * <p>The buffer must map a file from its start, such that its address is aligned to a page.
+   *
+   * <p><a href="https://man7.org/linux/man-pages/man2/madvise.2.html">See the man pages for
+   * madvise</a>
+   *
+   * @param buffer the mapped buffer to advise on
+   * @param advice the advice to give
+   * @throws UnsupportedOperationException if the platform does not support this or if this function
+   *     is disabled via {@link #disableMadvise()}
+   * @throws IOException if the system call failed, e.g. because the buffer is not mapped anymore
+   */
+  public void madvise(final MappedByteBuffer buffer, final Advice advice) throws IOException {
+    if (!isMadviseEnabled()) {
+      throw new UnsupportedOperationException(
+          "Failed to advise on mapped memory: madvise is disabled");
+    }
+
+    final int result = libC.madvise(BufferUtil.address(buffer), buffer.capacity(), advice.value);
+    if (result == 0) {
+      return;
+    }
+
+    final Errno error = Errno.valueOf(LastError.getLastError(Runtime.getSystemRuntime()));
+    if (error == Errno.EINVAL) {
+      throw new UnsupportedOperationException(
+          "Failed to advise on mapped memory: the advice %s is not supported".formatted(advice));
+    }
+
+    throw new IOException(
+        "Failed to advise %s on mapped memory: errorCode=%s".formatted(advice, error));
+  }
+
   private void throwExceptionFromErrno(final long offset, final long length, final Errno error)
       throws IOException {
     switch (error) {
@@ -167,4 +232,21 @@ public final class PosixFs {
       }
     }
   }
+
+  /**
+   * The subset of madvise advices used by the journal. Their values are the same on Linux and
+   * macOS.
+   */
+  public enum Advice {
+    /** Pages will be accessed sequentially; read ahead aggressively, and free them soon after. */
+    SEQUENTIAL(2),
+    /** Pages will not be accessed in the near future; unmap them until they are accessed again. */
+    DONTNEED(4);
+
+    private final int value;
+
+    Advice(final int value) {
+      this.value = value;
+    }
+  }
 }
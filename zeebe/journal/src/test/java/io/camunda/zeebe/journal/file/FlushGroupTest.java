@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class FlushGroupTest {
+
+  private long now = 1_000;
+  private final FlushGroup group = new FlushGroup(Duration.ofNanos(100), 1024, () -> now);
+
+  @Test
+  void shouldBeDueWhenDisabled() {
+    // given
+    final var disabled = FlushGroup.disabled();
+
+    // when
+    disabled.onAppend(10);
+
+    // then
+    assertThat(disabled.isEnabled()).isFalse();
+    assertThat(disabled.remainingDelay()).isZero();
+  }
+
+  @Test
+  void shouldBeDueWhenEmpty() {
+    // when - then
+    assertThat(group.remainingDelay()).isZero();
+  }
+
+  @Test
+  void shouldDeferUntilWindowIsOver() {
+    // given
+    group.onAppend(10);
+
+    // when
+    now += 40;
+    group.onAppend(10);
+
+    // then - the window starts with the first append of the group
+    assertThat(group.remainingDelay()).isEqualTo(Duration.ofNanos(60));
+
+    // when
+    now += 60;
+
+    // then
+    assertThat(group.remainingDelay()).isZero();
+  }
+
+  @Test
+  void shouldBeDueWhenMaxBytesReached() {
+    // given
+    group.onAppend(1000);
+    assertThat(group.remainingDelay()).isPositive();
+
+    // when
+    group.onAppend(24);
+
+    // then
+    assertThat(group.remainingDelay()).isZero();
+  }
+
+  @Test
+  void shouldStartNewGroupOnDrain() {
+    // given
+    group.onAppend(10);
+    group.onAppend(20);
+    now += 100;
+
+    // when
+    final var drained = group.drain();
+    group.onAppend(5);
+
+    // then
+    assertThat(drained).isEqualTo(new FlushGroup.Group(2, 30));
+    assertThat(group.remainingDelay()).isEqualTo(Duration.ofNanos(100));
+    assertThat(group.drain()).isEqualTo(new FlushGroup.Group(1, 5));
+  }
+}
@@ -16,6 +16,11 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import org.agrona.IoUtil;
 
 public final class LogCorrupter {
 
@@ -73,6 +78,31 @@ public final class LogCorrupter {
     }
   }
 
+  /** Replaces the id in the descriptor of the given segment file, keeping everything else. */
+  public static void changeSegmentId(final File file, final long id) throws IOException {
+    final var serializer = SegmentDescriptorSerializer.currentSerializer();
+    try (final var channel =
+        FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      final var buffer =
+          channel.map(MapMode.READ_WRITE, 0, SegmentDescriptorSerializer.currentEncodingLength());
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      final var descriptor = serializer.readFrom(buffer);
+      serializer.writeTo(
+          new SegmentDescriptor(
+              descriptor.version(),
+              descriptor.actingSchemaVersion(),
+              id,
+              descriptor.index(),
+              descriptor.maxSegmentSize(),
+              descriptor.lastIndex(),
+              descriptor.lastPosition(),
+              descriptor.encodingLength()),
+          buffer);
+      buffer.force();
+      IoUtil.unmap(buffer);
+    }
+  }
+
   private static boolean corruptRecord(final byte[] bytes, final long targetIndex) {
     final JournalRecordReaderUtil reader = new JournalRecordReaderUtil(new SBESerializer());
     final ByteBuffer buffer = ByteBuffer.wrap(bytes);
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.fs.LibC;
+import io.camunda.zeebe.journal.fs.PosixFs;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import org.agrona.IoUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class PosixSegmentMemoryAdvisorTest {
+  private static final int SIZE = 1024 * 1024;
+
+  @Test
+  void shouldDisableMadviseWhenNotSupported(final @TempDir Path tmpDir) throws IOException {
+    // given
+    final var posixFs = new PosixFs(new LibC.InvalidLibC());
+    final var advisor = new PosixSegmentMemoryAdvisor(posixFs);
+    final var buffer = map(tmpDir.resolve("file"));
+
+    try {
+      // when
+      advisor.onMapped(buffer);
+
+      // then
+      assertThat(posixFs.isMadviseEnabled()).as("has disabled madvise").isFalse();
+    } finally {
+      IoUtil.unmap(buffer);
+    }
+  }
+
+  @Test
+  @EnabledOnOs(OS.LINUX)
+  void shouldKeepDataWhenReleasingPages(final @TempDir Path tmpDir) throws IOException {
+    // given
+    final var posixFs = new PosixFs();
+    final var advisor = new PosixSegmentMemoryAdvisor(posixFs);
+    final var buffer = map(tmpDir.resolve("file"));
+
+    try {
+      advisor.onMapped(buffer);
+      buffer.putLong(SIZE - Long.BYTES, 0xCAFEL);
+
+      // when
+      advisor.onReleased(buffer);
+
+      // then - the pages are faulted in again from the page cache
+      assertThat(posixFs.isMadviseEnabled()).isTrue();
+      assertThat(buffer.getLong(SIZE - Long.BYTES)).isEqualTo(0xCAFEL);
+    } finally {
+      IoUtil.unmap(buffer);
+    }
+  }
+
+  private MappedByteBuffer map(final Path file) throws IOException {
+    try (final var raf = new RandomAccessFile(file.toFile(), "rw")) {
+      raf.setLength(SIZE);
+      return raf.getChannel().map(MapMode.READ_WRITE, 0, SIZE);
+    }
+  }
+}
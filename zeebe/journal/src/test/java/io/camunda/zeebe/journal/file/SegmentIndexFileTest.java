@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+
+  private static final List<IndexedEntry> ENTRIES =
+      List.of(new IndexedEntry(100, 10, 64), new IndexedEntry(200, -1, 4096));
+
+  private final SegmentDescriptor descriptor =
+      SegmentDescriptor.builder()
+          .withId(2)
+          .withIndex(100)
+          .withMaxSegmentSize(1024 * 1024)
+          .build()
+          .withUpdatedIndices(250, 8192);
+
+  private @TempDir Path directory;
+
+  @Test
+  void shouldReadWrittenEntries() {
+    // given
+    final var indexFile = new SegmentIndexFile(directory.resolve("journal-2.idx"));
+
+    // when
+    indexFile.write(descriptor, ENTRIES);
+
+    // then
+    assertThat(indexFile.read(descriptor)).isEqualTo(ENTRIES);
+  }
+
+  @Test
+  void shouldNotReadMissingFile() {
+    // given
+    final var indexFile = new SegmentIndexFile(directory.resolve("journal-2.idx"));
+
+    // when - then
+    assertThat(indexFile.read(descriptor)).isNull();
+  }
+
+  @Test
+  void shouldNotReadEntriesOfOtherSegmentState() {
+    // given
+    final var indexFile = new SegmentIndexFile(directory.resolve("journal-2.idx"));
+    indexFile.write(descriptor, ENTRIES);
+
+    // when - then
+    assertThat(indexFile.read(descriptor.withUpdatedIndices(251, 8300))).isNull();
+    assertThat(indexFile.read(descriptor.reset())).isNull();
+  }
+
+  @Test
+  void shouldNotReadCorruptedFile() throws IOException {
+    // given
+    final var indexFile = new SegmentIndexFile(directory.resolve("journal-2.idx"));
+    indexFile.write(descriptor, ENTRIES);
+    final var content = Files.readAllBytes(indexFile.path());
+    content[content.length / 2] ^= 1;
+    Files.write(indexFile.path(), content);
+
+    // when - then
+    assertThat(indexFile.read(descriptor)).isNull();
+  }
+
+  @Test
+  void shouldNotReadPartiallyWrittenFile() throws IOException {
+    // given
+    final var indexFile = new SegmentIndexFile(directory.resolve("journal-2.idx"));
+    indexFile.write(descriptor, ENTRIES);
+    final var content = Files.readAllBytes(indexFile.path());
+    Files.write(indexFile.path(), Arrays.copyOf(content, content.length - 3));
+
+    // when - then
+    assertThat(indexFile.read(descriptor)).isNull();
+  }
+
+  @Test
+  void shouldDeleteFile() {
+    // given
+    final var indexFile = new SegmentIndexFile(directory.resolve("journal-2.idx"));
+    indexFile.write(descriptor, ENTRIES);
+
+    // when
+    indexFile.delete();
+
+    // then
+    assertThat(indexFile.path()).doesNotExist();
+  }
+}
@@ -22,6 +22,8 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidAsqn;
 import io.camunda.zeebe.journal.JournalException.OutOfDiskSpace;
 import io.camunda.zeebe.journal.JournalReader;
@@ -36,8 +38,12 @@ import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -50,6 +56,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.CloseHelper;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.assertj.core.api.Assertions;
@@ -1033,6 +1040,329 @@ class SegmentedJournalTest {
     }
   }
 
+  @Test
+  void shouldDeferFlushWithinGroupCommitWindow() {
+    // given
+    final var now = new AtomicLong();
+    journalFactory = new TestJournalFactory("test", 10);
+    final var flushGroup = new FlushGroup(Duration.ofMillis(5), 1024 * 1024, now::get);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory), flushGroup);
+    closeables.add(journal);
+
+    // when
+    journal.append(1, journalFactory.entry());
+    now.addAndGet(Duration.ofMillis(2).toNanos());
+    journal.append(2, journalFactory.entry());
+
+    // then
+    assertThat(journal.getFlushDelay()).isEqualTo(Duration.ofMillis(3));
+
+    // when
+    now.addAndGet(Duration.ofMillis(3).toNanos());
+
+    // then
+    assertThat(journal.getFlushDelay()).isZero();
+  }
+
+  @Test
+  void shouldRecordFlushGroupSize() throws FlushException {
+    // given
+    journal = openJournal(10);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.flush();
+
+    // then
+    final var registry = journalFactory.meterRegistry();
+    final var groupSize = registry.get(JournalMetricsDoc.FLUSH_GROUP_SIZE.getName()).summary();
+    final var groupBytes = registry.get(JournalMetricsDoc.FLUSH_GROUP_BYTES.getName()).summary();
+    assertThat(groupSize.count()).isOne();
+    assertThat(groupSize.totalAmount()).isEqualTo(3);
+    assertThat(groupBytes.totalAmount()).isEqualTo(3.0 * journalFactory.serializedEntrySize());
+  }
+
+  @Test
+  void shouldReleaseMemoryOfSealedSegmentsOnceFlushed() throws FlushException {
+    // given
+    final var advisor = new RecordingMemoryAdvisor();
+    journalFactory =
+        new TestJournalFactory("test", 1, SegmentAllocator.defaultAllocator(), advisor);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory));
+    closeables.add(journal);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    assertThat(advisor.released).isEmpty();
+
+    // when
+    journal.flush();
+
+    // then - only the first segment is sealed
+    assertThat(advisor.released).hasSize(1);
+  }
+
+  @Test
+  void shouldNotReleaseMemoryOfSealedSegmentWhileRead() throws FlushException {
+    // given
+    final var advisor = new RecordingMemoryAdvisor();
+    journalFactory =
+        new TestJournalFactory("test", 1, SegmentAllocator.defaultAllocator(), advisor);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory));
+    closeables.add(journal);
+    journal.append(1, journalFactory.entry());
+    final var reader = journal.openReader();
+    journal.append(2, journalFactory.entry());
+
+    // when
+    journal.flush();
+
+    // then
+    assertThat(advisor.released).isEmpty();
+
+    // when - the reader moves on to the next segment
+    reader.next();
+    reader.next();
+
+    // then
+    assertThat(advisor.released).hasSize(1);
+  }
+
+  @Test
+  void shouldPersistIndexOfFullSegments() {
+    // given
+    journalFactory = new TestJournalFactory("test", 2);
+    final var index = new SparseJournalIndex(1);
+    journal =
+        journalFactory.journal(journalFactory.persistingSegmentsManager(directory, index), index);
+    closeables.add(journal);
+
+    // when
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    // then - only the first two segments are full
+    final var dataDirectory = directory.resolve("data");
+    assertThat(dataDirectory.resolve("journal-1.idx")).exists();
+    assertThat(dataDirectory.resolve("journal-2.idx")).exists();
+    assertThat(dataDirectory.resolve("journal-3.idx")).doesNotExist();
+  }
+
+  @Test
+  void shouldRestorePersistedIndexOnLoad() {
+    // given
+    journalFactory = new TestJournalFactory("test", 2);
+    final var index = new SparseJournalIndex(1);
+    journal =
+        journalFactory.journal(journalFactory.persistingSegmentsManager(directory, index), index);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    final var expectedPosition = index.lookup(3);
+    journal.close();
+
+    // when
+    final var restoredIndex = new SparseJournalIndex(1);
+    journal =
+        journalFactory.journal(
+            journalFactory.persistingSegmentsManager(directory, restoredIndex), restoredIndex);
+    closeables.add(journal);
+
+    // then - the full segments are indexed without reading them
+    assertThat(restoredIndex.lookup(3)).isEqualTo(expectedPosition);
+    assertThat(restoredIndex.lookupAsqn(4)).isEqualTo(4);
+    final var reader = journal.openReader();
+    assertThat(reader.seekToAsqn(3)).isEqualTo(3);
+    assertThat(reader.next().asqn()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDeletePersistedIndexOfTruncatedSegment() {
+    // given
+    journalFactory = new TestJournalFactory("test", 2);
+    final var index = new SparseJournalIndex(1);
+    journal =
+        journalFactory.journal(journalFactory.persistingSegmentsManager(directory, index), index);
+    closeables.add(journal);
+    for (int i = 1; i <= 3; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    // when - the first segment is written to again
+    journal.deleteAfter(1);
+
+    // then
+    assertThat(directory.resolve("data").resolve("journal-1.idx")).doesNotExist();
+  }
+
+  @Test
+  void shouldDeletePersistedIndexOfCompactedSegment() {
+    // given
+    journalFactory = new TestJournalFactory("test", 2);
+    final var index = new SparseJournalIndex(1);
+    journal =
+        journalFactory.journal(journalFactory.persistingSegmentsManager(directory, index), index);
+    closeables.add(journal);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    // when
+    journal.deleteUntil(3);
+
+    // then
+    assertThat(directory.resolve("data").resolve("journal-1.idx")).doesNotExist();
+    assertThat(directory.resolve("data").resolve("journal-2.idx")).exists();
+  }
+
+  @Test
+  void shouldLoadSegmentsInParallel() {
+    // given - the last segments contain no record with an asqn
+    journalFactory = new TestJournalFactory("test", 2);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory));
+    for (int i = 1; i <= 3; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    for (int i = 4; i <= 7; i++) {
+      journal.append(SegmentedJournal.ASQN_IGNORE, journalFactory.entry());
+    }
+    journal.close();
+
+    // when
+    journal = journalFactory.journal(journalFactory.parallelLoadingSegmentsManager(directory, 4));
+    closeables.add(journal);
+
+    // then - the last asqn is carried over from the earlier segments
+    assertThat(journal.getFirstIndex()).isEqualTo(1);
+    assertThat(journal.getLastIndex()).isEqualTo(7);
+    assertThatThrownBy(() -> journal.append(3, journalFactory.entry()))
+        .isInstanceOf(InvalidAsqn.class);
+    final var reader = journal.openReader();
+    for (int i = 1; i <= 7; i++) {
+      assertThat(reader.next().index()).isEqualTo(i);
+    }
+    assertThat(reader.seekToAsqn(3)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDetectGapBetweenSegmentsLoadedInParallel() throws IOException {
+    // given
+    journalFactory = new TestJournalFactory("test", 2);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory));
+    for (int i = 1; i <= 7; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.close();
+    Files.delete(directory.resolve("data").resolve("journal-2.log"));
+
+    // when/then
+    assertThatThrownBy(
+            () ->
+                journalFactory.journal(journalFactory.parallelLoadingSegmentsManager(directory, 4)))
+        .isInstanceOf(CorruptedJournalException.class);
+  }
+
+  @Test
+  void shouldDetectDecreasingAsqnBetweenSegmentsLoadedInParallel() throws IOException {
+    // given - the second segment is replaced by one with the same indexes, but lower asqns
+    final var otherDirectory = directory.resolve("other");
+    final var otherFactory = new TestJournalFactory("test", 2);
+    final var otherJournal = otherFactory.journal(otherFactory.segmentsManager(otherDirectory));
+    for (int i = 1; i <= 6; i++) {
+      otherJournal.append(i, otherFactory.entry());
+    }
+    otherJournal.close();
+
+    journalFactory = new TestJournalFactory("test", 2);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory));
+    for (int i = 1; i <= 6; i++) {
+      journal.append(10 + i, journalFactory.entry());
+    }
+    journal.close();
+
+    try (final var files = Files.list(otherDirectory.resolve("data"))) {
+      for (final var file :
+          files.filter(f -> f.getFileName().toString().startsWith("journal-2")).toList()) {
+        Files.copy(
+            file,
+            directory.resolve("data").resolve(file.getFileName()),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+
+    // when/then
+    assertThatThrownBy(
+            () ->
+                journalFactory.journal(journalFactory.parallelLoadingSegmentsManager(directory, 4)))
+        .isInstanceOf(CorruptedJournalException.class);
+  }
+
+  @Test
+  void shouldDeleteUnflushedSegmentsAfterGapWhenLoadingInParallel() throws IOException {
+    // given
+    journalFactory = new TestJournalFactory("test", 2);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory));
+    for (int i = 1; i <= 7; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.close();
+    journalFactory.metaStore().resetLastFlushedIndex();
+    Files.delete(directory.resolve("data").resolve("journal-2.log"));
+
+    // when
+    journal = journalFactory.journal(journalFactory.parallelLoadingSegmentsManager(directory, 4));
+    closeables.add(journal);
+
+    // then - the segments loaded after the gap are discarded
+    assertThat(journal.getLastIndex()).isEqualTo(2);
+    assertThat(directory.resolve("data").resolve("journal-3.log")).doesNotExist();
+    assertThat(journal.append(3, journalFactory.entry()).index()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDetectGapInSegmentIdsWhenLoadingInParallel() throws IOException {
+    // given - the indexes of the segments are contiguous, but not their ids
+    journalFactory = new TestJournalFactory("test", 2);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory));
+    for (int i = 1; i <= 7; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.close();
+    LogCorrupter.changeSegmentId(directory.resolve("data").resolve("journal-4.log").toFile(), 5);
+
+    // when/then
+    assertThatThrownBy(
+            () ->
+                journalFactory.journal(journalFactory.parallelLoadingSegmentsManager(directory, 4)))
+        .isInstanceOf(CorruptedJournalException.class);
+  }
+
+  @Test
+  void shouldKeepSegmentIdsContiguousAfterTruncatingSegments() {
+    // given - the next segment was already prepared when the journal is truncated
+    journalFactory = new TestJournalFactory("test", 1);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory));
+    for (int i = 1; i <= 3; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.deleteAfter(1);
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.close();
+
+    // when
+    journal = journalFactory.journal(journalFactory.parallelLoadingSegmentsManager(directory, 4));
+    closeables.add(journal);
+
+    // then
+    assertThat(journal.getFirstIndex()).isEqualTo(1);
+    assertThat(journal.getLastIndex()).isEqualTo(3);
+    assertThat(directory.resolve("data").resolve("journal-2.log")).exists();
+    assertThat(directory.resolve("data").resolve("journal-3.log")).exists();
+  }
+
   @Test
   void shouldFailWithOODForAsyncSegmentCreation() {
     // given
@@ -1128,4 +1458,16 @@ class SegmentedJournalTest {
       }
     };
   }
+
+  private static final class RecordingMemoryAdvisor implements SegmentMemoryAdvisor {
+    private final List<MappedByteBuffer> released = new ArrayList<>();
+
+    @Override
+    public void onMapped(final MappedByteBuffer buffer) {}
+
+    @Override
+    public void onReleased(final MappedByteBuffer buffer) {
+      released.add(buffer);
+    }
+  }
 }
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /** Sparse journal index test. */
@@ -263,4 +264,50 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldReturnEntriesWhenFullyIndexed() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(2);
+    for (int i = 1; i <= 6; i++) {
+      index.index(asJournalRecord(i, i * 10), i * 100);
+    }
+
+    // when
+    final var entries = index.entries(3, 6);
+
+    // then
+    assertThat(entries).containsExactly(new IndexedEntry(4, 40, 400), new IndexedEntry(6, 60, 600));
+  }
+
+  @Test
+  void shouldNotReturnEntriesWhenPartiallyIndexed() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(2);
+    for (int i = 1; i <= 6; i++) {
+      index.index(asJournalRecord(i, i * 10), i * 100);
+    }
+
+    // when
+    index.deleteUntil(4);
+
+    // then
+    assertThat(index.entries(1, 6)).isNull();
+  }
+
+  @Test
+  void shouldRestoreEntries() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(2);
+
+    // when
+    index.restore(
+        List.of(
+            new IndexedEntry(2, 20, 200), new IndexedEntry(4, SegmentedJournal.ASQN_IGNORE, 400)));
+
+    // then
+    assertThat(index.lookup(5)).isEqualTo(new IndexInfo(4, 400));
+    assertThat(index.lookupAsqn(30)).isEqualTo(2);
+    assertThat(index.entries(1, 4)).hasSize(2);
+  }
 }
@@ -70,12 +70,20 @@ final class TestJournalFactory {
   }
 
   TestJournalFactory(final String data, final int maxEntryCount, final SegmentAllocator allocator) {
+    this(data, maxEntryCount, allocator, SegmentMemoryAdvisor.noop());
+  }
+
+  TestJournalFactory(
+      final String data,
+      final int maxEntryCount,
+      final SegmentAllocator allocator,
+      final SegmentMemoryAdvisor memoryAdvisor) {
     entryData = BufferUtil.wrapString(data);
     entry = new DirectBufferWriter(entryData);
     size = getSerializedSize(entryData);
     this.maxEntryCount = maxEntryCount;
 
-    loader = new SegmentLoader(2L * maxSegmentSize(), metrics, allocator);
+    loader = new SegmentLoader(2L * maxSegmentSize(), metrics, allocator, memoryAdvisor);
   }
 
   int serializedEntrySize() {
@@ -119,10 +127,56 @@ final class TestJournalFactory {
         metaStore);
   }
 
+  /**
+   * Creates a segments manager with its own journal index, which persists the index of full
+   * segments. Use {@link #journal(SegmentsManager, JournalIndex)} with the same index.
+   */
+  SegmentsManager persistingSegmentsManager(final Path directory, final JournalIndex index) {
+    return new SegmentsManager(
+        index,
+        maxSegmentSize(),
+        directory.resolve("data").toFile(),
+        "journal",
+        loader,
+        metrics,
+        metaStore,
+        true,
+        1);
+  }
+
+  /**
+   * Creates a segments manager which loads up to the given number of existing segments
+   * concurrently when opened.
+   */
+  SegmentsManager parallelLoadingSegmentsManager(final Path directory, final int loadParallelism) {
+    return new SegmentsManager(
+        index,
+        maxSegmentSize(),
+        directory.resolve("data").toFile(),
+        "journal",
+        loader,
+        metrics,
+        metaStore,
+        false,
+        loadParallelism);
+  }
+
   SegmentedJournal journal(final SegmentsManager segments) {
     return new SegmentedJournal(index, segments, metrics, metaStore);
   }
 
+  SegmentedJournal journal(final SegmentsManager segments, final JournalIndex index) {
+    return new SegmentedJournal(index, segments, metrics, metaStore);
+  }
+
+  SegmentedJournal journal(final SegmentsManager segments, final FlushGroup flushGroup) {
+    return new SegmentedJournal(index, segments, metrics, metaStore, flushGroup);
+  }
+
+  MeterRegistry meterRegistry() {
+    return meterRegistry;
+  }
+
   DirectBuffer entryData() {
     return entryData;
   }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.logstreams.impl;
 
+import io.camunda.zeebe.logstreams.impl.flowcontrol.CommandPriority;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -26,6 +27,10 @@ public interface LogStreamMetrics {
 
   void increaseInflightRequests();
 
+  void setPriorityRequestLimit(CommandPriority priority, int limit);
+
+  void setPriorityInflightRequests(CommandPriority priority, int count);
+
   void decreaseInflightRequests();
 
   CloseableSilently startWriteTimer();
@@ -62,6 +67,13 @@ public interface LogStreamMetrics {
    */
   void deregisterRequestRateMetrics();
 
+  /**
+   * Registers the request rate meters per command priority class. Should only be called when the
+   * request rate is limited with priorities. They are deregistered together with the other request
+   * rate meters.
+   */
+  void registerRequestPriorityMetrics();
+
   /**
    * Registers the write-rate metrics. Should only be called when the write rate is actually
    * limited.
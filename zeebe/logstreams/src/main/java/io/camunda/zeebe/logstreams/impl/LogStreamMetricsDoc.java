@@ -210,6 +210,62 @@ public enum LogStreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Current guaranteed share of the request limit, per command priority class */
+  PRIORITY_REQUEST_LIMIT {
+    @Override
+    public String getDescription() {
+      return "Current guaranteed share of the request limit, per command priority class";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.backpressure.requests.priority.limit";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return RequestPriorityKeyNames.values();
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Current number of requests inflight, per command priority class */
+  PRIORITY_INFLIGHT_REQUESTS {
+    @Override
+    public String getDescription() {
+      return "Current number of requests inflight, per command priority class";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.backpressure.inflight.requests.priority.count";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return RequestPriorityKeyNames.values();
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
   /** Current limit for number of inflight appends */
   CURRENT_LIMIT {
     @Override
@@ -504,6 +560,23 @@ public enum LogStreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  /**
+   * Tags/labels associated with the {@link #PRIORITY_REQUEST_LIMIT} and {@link
+   * #PRIORITY_INFLIGHT_REQUESTS} metrics.
+   */
+  public enum RequestPriorityKeyNames implements KeyName {
+    /**
+     * The priority class of the requests; see {@link
+     * io.camunda.zeebe.logstreams.impl.flowcontrol.CommandPriority} for possible values
+     */
+    PRIORITY {
+      @Override
+      public String asString() {
+        return "priority";
+      }
+    }
+  }
+
   public enum FlowControlOutcome {
     ACCEPTED("accepted"),
     WRITE_RATE_LIMIT_EXHAUSTED("writeRateLimitExhausted"),
@@ -15,6 +15,8 @@ import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.INFLIGHT_REQU
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.LAST_COMMITTED_POSITION;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.LAST_WRITTEN_POSITION;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.PARTITION_LOAD;
+import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.PRIORITY_INFLIGHT_REQUESTS;
+import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.PRIORITY_REQUEST_LIMIT;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.RECORD_APPENDED;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.REQUEST_LIMIT;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.TOTAL_APPEND_TRY_COUNT;
@@ -29,6 +31,8 @@ import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.FlowControlContext;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.FlowControlKeyNames;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.FlowControlOutcome;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.RecordAppendedKeyNames;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.RequestPriorityKeyNames;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.CommandPriority;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.log.WriteContext.UserCommand;
@@ -45,6 +49,7 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter.Id;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -55,6 +60,8 @@ public final class LogStreamMetricsImpl implements LogStreamMetrics {
   private final AtomicLong inflightAppends = new AtomicLong();
   private final AtomicLong inflightRequests = new AtomicLong();
   private final AtomicLong requestLimit = new AtomicLong();
+  private final AtomicLong[] priorityRequestLimits = newPriorityGauges();
+  private final AtomicLong[] priorityInflightRequests = newPriorityGauges();
   private final AtomicLong lastCommitted = new AtomicLong();
   private final AtomicLong lastWritten = new AtomicLong();
   private final AtomicLong exportingRate = new AtomicLong();
@@ -113,6 +120,16 @@ public final class LogStreamMetricsImpl implements LogStreamMetrics {
     requestLimit.set(limit);
   }
 
+  @Override
+  public void setPriorityRequestLimit(final CommandPriority priority, final int limit) {
+    priorityRequestLimits[priority.ordinal()].set(limit);
+  }
+
+  @Override
+  public void setPriorityInflightRequests(final CommandPriority priority, final int count) {
+    priorityInflightRequests[priority.ordinal()].set(count);
+  }
+
   @Override
   public void increaseInflightRequests() {
     inflightRequests.incrementAndGet();
@@ -219,6 +236,14 @@ public final class LogStreamMetricsImpl implements LogStreamMetrics {
     registeredRequestRateMeters.forEach(registry::remove);
   }
 
+  @Override
+  public void registerRequestPriorityMetrics() {
+    for (final var priority : CommandPriority.values()) {
+      registerPriorityGauge(PRIORITY_REQUEST_LIMIT, priority, priorityRequestLimits);
+      registerPriorityGauge(PRIORITY_INFLIGHT_REQUESTS, priority, priorityInflightRequests);
+    }
+  }
+
   @Override
   public void registerWriteRateMetrics() {
     registerGauge(WRITE_RATE_MAX_LIMIT, writeRateMaxLimit, registeredWriteRateMeters);
@@ -279,6 +304,25 @@ public final class LogStreamMetricsImpl implements LogStreamMetrics {
     }
   }
 
+  private void registerPriorityGauge(
+      final ExtendedMeterDocumentation doc,
+      final CommandPriority priority,
+      final AtomicLong[] gauges) {
+    final var id =
+        Gauge.builder(doc.getName(), gauges[priority.ordinal()], AtomicLong::get)
+            .description(doc.getDescription())
+            .tag(RequestPriorityKeyNames.PRIORITY.asString(), priority.getValue())
+            .register(registry)
+            .getId();
+    registeredRequestRateMeters.add(id);
+  }
+
+  private static AtomicLong[] newPriorityGauges() {
+    final var gauges = new AtomicLong[CommandPriority.values().length];
+    Arrays.setAll(gauges, ignored -> new AtomicLong());
+    return gauges;
+  }
+
   private static double longToDouble(final AtomicLong value) {
     return Double.longBitsToDouble(value.get());
   }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageCorrelationIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.SignalIntent;
+import io.camunda.zeebe.protocol.record.intent.UserTaskIntent;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The priority classes of user commands, as used by the request limiter when {@link
+ * RequestPriorities} are configured. Commands which let in-flight instances make progress are
+ * ranked above commands which correlate to instances, which in turn are ranked above commands that
+ * create new instances. All remaining commands share the {@link #OTHER} class.
+ *
+ * <p>{@link WhiteListedCommands White listed commands}, e.g. job completions and failures, are
+ * always admitted and never take up a share, so they are not part of any class. The completion
+ * class covers the commands which make progress but are not white listed: thrown job errors and
+ * user task completions.
+ */
+public enum CommandPriority {
+  COMPLETION("completion"),
+  CORRELATION("correlation"),
+  CREATION("creation"),
+  OTHER("other");
+
+  private static final Set<? extends Intent> COMPLETION_COMMANDS =
+      Set.of(JobIntent.THROW_ERROR, UserTaskIntent.COMPLETE);
+  private static final Set<? extends Intent> CORRELATION_COMMANDS =
+      Set.of(MessageIntent.PUBLISH, MessageCorrelationIntent.CORRELATE, SignalIntent.BROADCAST);
+  private static final Set<? extends Intent> CREATION_COMMANDS =
+      Set.of(
+          ProcessInstanceCreationIntent.CREATE,
+          ProcessInstanceCreationIntent.CREATE_WITH_AWAITING_RESULT);
+
+  private final String value;
+
+  CommandPriority(final String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public static CommandPriority of(final @Nullable Intent intent) {
+    if (intent == null) {
+      return OTHER;
+    } else if (COMPLETION_COMMANDS.contains(intent)) {
+      return COMPLETION;
+    } else if (CORRELATION_COMMANDS.contains(intent)) {
+      return CORRELATION;
+    } else if (CREATION_COMMANDS.contains(intent)) {
+      return CREATION;
+    }
+    return OTHER;
+  }
+}
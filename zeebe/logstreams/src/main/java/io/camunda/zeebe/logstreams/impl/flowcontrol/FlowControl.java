@@ -26,6 +26,7 @@ import io.camunda.zeebe.util.Either;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -41,13 +42,12 @@ import org.jspecify.annotations.Nullable;
  * Access patterns:
  *
  * <ol>
- *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, outside the
- *       sequencer's write lock. Multiple calls can overlap concurrently.
- *   <li>Calls to {@link #registerEntry(long, InFlightEntry)} from the sequencer, under the
- *       sequencer's write lock. Only one call at a time. Returns a per-entry {@link
- *       AppendListener}.
- *   <li>Calls to {@link #onAppended(InFlightEntry)} from the sequencer, outside the sequencer's
- *       write lock. Multiple calls can overlap concurrently and may also overlap with {@link
+ *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, before the write is
+ *       handed to the sequencer's appending writer. Multiple calls can overlap concurrently.
+ *   <li>Calls to {@link #registerEntry(long, InFlightEntry)} from the sequencer's appending
+ *       writer. Only one call at a time. Returns a per-entry {@link AppendListener}.
+ *   <li>Calls to {@link #onAppended(InFlightEntry)} from the sequencer, after the write was
+ *       appended. Multiple calls can overlap concurrently and may also overlap with {@link
  *       AppendListener#onWrite} and {@link AppendListener#onCommit} callbacks.
  *   <li>Per-entry {@link AppendListener#onWrite} from the log storage, serialized through the
  *       single raft thread.
@@ -64,8 +64,8 @@ import org.jspecify.annotations.Nullable;
  * highestPosition} via {@link RingBuffer#findAndRemove}.
  *
  * <p>The {@link #inFlight} ring buffer is a fixed-capacity {@link RingBuffer} with sequential
- * indexing. It is modified by {@link #registerEntry(long, InFlightEntry)} (under the sequencer
- * lock) and read from other methods. The ring buffer uses an {@link
+ * indexing. It is modified by {@link #registerEntry(long, InFlightEntry)} (by the sequencer's
+ * appending writer) and read from other methods. The ring buffer uses an {@link
  * java.util.concurrent.atomic.AtomicReferenceArray} internally, providing volatile read/write
  * semantics per slot. This ensures that entries written by the sequencer thread are visible to the
  * raft thread ({@code onWrite}, {@code onCommit}) and the stream processor thread ({@code
@@ -84,6 +84,10 @@ public final class FlowControl {
   private final LogStreamMetrics metrics;
   @Nullable private RateLimit writeRateLimit;
   @Nullable private Limit requestLimit;
+  @Nullable private RequestPriorities requestPriorities;
+  // survives reconfiguring the request limit, like the in-flight entries it counts
+  private final AtomicIntegerArray inflightByPriority =
+      new AtomicIntegerArray(CommandPriority.values().length);
   private Limiter<Intent> processingLimiter;
   @Nullable private RateLimiter writeRateLimiter;
   private final RateMeasurement exportingRate =
@@ -119,9 +123,18 @@ public final class FlowControl {
       final @Nullable Limit requestLimit,
       final @Nullable RateLimit writeRateLimit,
       final int inFlightCapacity) {
+    this(metrics, requestLimit, null, writeRateLimit, inFlightCapacity);
+  }
+
+  public FlowControl(
+      final LogStreamMetrics metrics,
+      final @Nullable Limit requestLimit,
+      final @Nullable RequestPriorities requestPriorities,
+      final @Nullable RateLimit writeRateLimit,
+      final int inFlightCapacity) {
     this.metrics = metrics;
     inFlight = new RingBuffer(inFlightCapacity);
-    setRequestLimit(requestLimit);
+    setRequestLimit(requestLimit, requestPriorities);
     setWriteRateLimit(writeRateLimit);
   }
 
@@ -191,7 +204,7 @@ public final class FlowControl {
    * Registers an in-flight entry in the ring buffer and returns a per-entry {@link AppendListener}
    * that captures the entry reference directly for write/commit callbacks.
    *
-   * <p>Must be called under the sequencer lock.
+   * <p>Must only be called by the sequencer's appending writer.
    *
    * @param highestPosition the highest log position of the batch
    * @param entry the in-flight entry to register
@@ -237,18 +250,38 @@ public final class FlowControl {
     return requestLimit;
   }
 
+  public @Nullable RequestPriorities getRequestPriorities() {
+    return requestPriorities;
+  }
+
   public void setRequestLimit(final @Nullable Limit requestLimit) {
+    setRequestLimit(requestLimit, requestPriorities);
+  }
+
+  /**
+   * Sets the request limit, optionally with priorities. Without priorities, every user command
+   * competes for the same limit.
+   */
+  public void setRequestLimit(
+      final @Nullable Limit requestLimit, final @Nullable RequestPriorities requestPriorities) {
+    // always start from scratch, such that meters of removed priorities don't linger
+    metrics.deregisterRequestRateMetrics();
     if (requestLimit != null) {
       metrics.registerRequestRateMetrics();
       metrics.setRequestLimit(requestLimit.getLimit());
-    } else {
-      metrics.deregisterRequestRateMetrics();
+      if (requestPriorities != null) {
+        metrics.registerRequestPriorityMetrics();
+      }
     }
 
     this.requestLimit = requestLimit;
+    this.requestPriorities = requestPriorities;
     processingLimiter =
         requestLimit != null
-            ? new CommandRateLimiterBuilder().limit(requestLimit).build(metrics)
+            ? new CommandRateLimiterBuilder()
+                .limit(requestLimit)
+                .priorities(requestPriorities, inflightByPriority)
+                .build(metrics)
             : new NoopLimiter<>();
   }
 
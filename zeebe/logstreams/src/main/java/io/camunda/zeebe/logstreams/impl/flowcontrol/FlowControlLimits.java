@@ -11,4 +11,6 @@ import com.netflix.concurrency.limits.Limit;
 import org.jspecify.annotations.Nullable;
 
 public record FlowControlLimits(
-    @Nullable Limit requestLimiter, @Nullable RateLimit writeRateLimit) {}
+    @Nullable Limit requestLimiter,
+    @Nullable RequestPriorities requestPriorities,
+    @Nullable RateLimit writeRateLimit) {}
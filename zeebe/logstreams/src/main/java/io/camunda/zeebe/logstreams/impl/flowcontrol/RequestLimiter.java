@@ -11,29 +11,67 @@ import com.netflix.concurrency.limits.limiter.AbstractLimiter;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.jspecify.annotations.Nullable;
 
+/**
+ * Limits the number of in-flight user commands. Without {@link RequestPriorities}, all commands
+ * which are not white listed are rejected once the limit is reached. With priorities, every {@link
+ * CommandPriority} class is still guaranteed its weighted share of the limit, such that commands
+ * which drain in-flight instances are not crowded out by commands which create new ones.
+ */
 public final class RequestLimiter extends AbstractLimiter<Intent> {
 
   private final LogStreamMetrics metrics;
+  private final @Nullable RequestPriorities priorities;
+  private final AtomicIntegerArray inflightByPriority;
 
   private RequestLimiter(final CommandRateLimiterBuilder builder, final LogStreamMetrics metrics) {
     super(builder);
     this.metrics = metrics;
+    priorities = builder.priorities;
+    inflightByPriority = builder.inflightByPriority;
+    updatePriorityLimits(getLimit());
   }
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WhiteListedCommands.isWhitelisted(intent)) {
+    if (WhiteListedCommands.isWhitelisted(intent)) {
+      // always admitted, so they must not take up the share of their priority class either
+      return Optional.of(createListener());
+    }
+
+    final var priorities = this.priorities;
+    if (priorities == null) {
+      if (getInflight() >= getLimit()) {
+        return createRejectedListener();
+      }
+      return Optional.of(createListener());
+    }
+
+    final var priority = CommandPriority.of(intent);
+    if (getInflight() >= getLimit()
+        && inflightByPriority.get(priority.ordinal()) >= priorities.share(priority, getLimit())) {
       return createRejectedListener();
     }
-    final Listener listener = createListener();
-    return Optional.of(listener);
+    final var inflight = inflightByPriority.incrementAndGet(priority.ordinal());
+    metrics.setPriorityInflightRequests(priority, inflight);
+    return Optional.of(new PriorityListener(createListener(), priority));
   }
 
   @Override
   protected void onNewLimit(final int newLimit) {
     super.onNewLimit(newLimit);
     metrics.setRequestLimit(newLimit);
+    updatePriorityLimits(newLimit);
+  }
+
+  private void updatePriorityLimits(final int limit) {
+    if (priorities != null) {
+      for (final var priority : CommandPriority.values()) {
+        metrics.setPriorityRequestLimit(priority, priorities.share(priority, limit));
+      }
+    }
   }
 
   public static CommandRateLimiterBuilder builder() {
@@ -43,6 +81,21 @@ public final class RequestLimiter extends AbstractLimiter<Intent> {
   public static class CommandRateLimiterBuilder
       extends AbstractLimiter.Builder<CommandRateLimiterBuilder> {
 
+    private @Nullable RequestPriorities priorities;
+    private AtomicIntegerArray inflightByPriority =
+        new AtomicIntegerArray(CommandPriority.values().length);
+
+    /**
+     * Enables the priority classes. The in-flight counters are passed in, such that commands
+     * admitted by a previous limiter are still accounted for after reconfiguring the limit.
+     */
+    public CommandRateLimiterBuilder priorities(
+        final @Nullable RequestPriorities priorities, final AtomicIntegerArray inflightByPriority) {
+      this.priorities = priorities;
+      this.inflightByPriority = inflightByPriority;
+      return this;
+    }
+
     @Override
     protected CommandRateLimiterBuilder self() {
       return this;
@@ -52,4 +105,38 @@ public final class RequestLimiter extends AbstractLimiter<Intent> {
       return new RequestLimiter(this, metrics);
     }
   }
+
+  /** Releases the in-flight spot of the command's priority class, once the command completes. */
+  private final class PriorityListener implements Listener {
+    private final Listener delegate;
+    private final CommandPriority priority;
+
+    private PriorityListener(final Listener delegate, final CommandPriority priority) {
+      this.delegate = delegate;
+      this.priority = priority;
+    }
+
+    @Override
+    public void onSuccess() {
+      release();
+      delegate.onSuccess();
+    }
+
+    @Override
+    public void onIgnore() {
+      release();
+      delegate.onIgnore();
+    }
+
+    @Override
+    public void onDropped() {
+      release();
+      delegate.onDropped();
+    }
+
+    private void release() {
+      final var inflight = inflightByPriority.decrementAndGet(priority.ordinal());
+      metrics.setPriorityInflightRequests(priority, inflight);
+    }
+  }
 }
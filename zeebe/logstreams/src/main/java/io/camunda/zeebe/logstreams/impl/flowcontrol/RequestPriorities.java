@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+/**
+ * The weights of the {@link CommandPriority} classes. Once the request limit is reached, each class
+ * is still guaranteed its weighted share of the limit, so a class with a higher weight keeps more
+ * commands in flight under overload than a class with a lower weight.
+ */
+public record RequestPriorities(int completion, int correlation, int creation, int other) {
+  public RequestPriorities {
+    if (completion <= 0 || correlation <= 0 || creation <= 0 || other <= 0) {
+      throw new IllegalArgumentException("priority weights must be greater than 0");
+    }
+  }
+
+  public int weight(final CommandPriority priority) {
+    return switch (priority) {
+      case COMPLETION -> completion;
+      case CORRELATION -> correlation;
+      case CREATION -> creation;
+      case OTHER -> other;
+    };
+  }
+
+  /**
+   * @return the share of the given request limit which is guaranteed to the priority class, at
+   *     least 1
+   */
+  public int share(final CommandPriority priority, final int limit) {
+    final long totalWeight = (long) completion + correlation + creation + other;
+    return (int) Math.max(1, (long) limit * weight(priority) / totalWeight);
+  }
+}
@@ -21,7 +21,7 @@ import org.slf4j.LoggerFactory;
  * specific access patterns of those callers:
  *
  * <ul>
- *   <li>{@link #put} is called under the sequencer lock (single writer).
+ *   <li>{@link #put} is called by the sequencer's appending writer (single writer).
  *   <li>{@link #get} is only used in tests.
  *   <li>{@link #findAndRemove} is called from the stream processor thread (single caller, processes
  *       entries in order).
@@ -38,9 +38,9 @@ import org.slf4j.LoggerFactory;
  *
  * <h3>Sequential indexing</h3>
  *
- * <p>The buffer uses a monotonically increasing counter ({@link #nextIndex}) incremented under the
- * sequencer lock. Every slot is used before wrapping, giving effective capacity equal to the full
- * buffer size.
+ * <p>The buffer uses a monotonically increasing counter ({@link #nextIndex}) incremented by the
+ * sequencer's appending writer. Every slot is used before wrapping, giving effective capacity equal
+ * to the full buffer size.
  *
  * <h3>Wraparound safety</h3>
  *
@@ -98,7 +98,7 @@ final class RingBuffer {
    * slot was occupied, the displaced entry's {@link InFlightEntry#cleanup()} is called to release
    * resources (timers, request listeners).
    *
-   * <p>Must be called under the sequencer lock.
+   * <p>Must only be called by the sequencer's appending writer.
    *
    * @return the assigned sequential index
    */
@@ -11,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestPriorities;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
@@ -26,6 +27,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   @Nullable private String logName;
   @Nullable private InstantSource clock;
   @Nullable private Limit requestLimit;
+  @Nullable private RequestPriorities requestPriorities;
   @Nullable private RateLimit writeRateLimit;
   private int inFlightCapacity;
   @Nullable private MeterRegistry meterRegistry;
@@ -66,6 +68,12 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withRequestPriorities(final RequestPriorities requestPriorities) {
+    this.requestPriorities = requestPriorities;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withWriteRateLimit(final RateLimit writeRateLimit) {
     this.writeRateLimit = writeRateLimit;
@@ -101,6 +109,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
         requireNonNull(logStorage, "Must specify a log storage"),
         requireNonNull(clock, "Must specify a clock source"),
         requestLimit,
+        requestPriorities,
         writeRateLimit,
         inFlightCapacity,
         requireNonNull(meterRegistry, "Must specify a meter registry"));
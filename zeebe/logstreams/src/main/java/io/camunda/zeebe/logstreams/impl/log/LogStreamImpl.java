@@ -12,6 +12,7 @@ import io.camunda.zeebe.logstreams.impl.LogStreamMetricsImpl;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestPriorities;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
@@ -46,6 +47,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final LogStorage logStorage,
       final InstantSource clock,
       @Nullable final Limit requestLimit,
+      @Nullable final RequestPriorities requestPriorities,
       @Nullable final RateLimit writeRateLimit,
       final int inFlightCapacity,
       final MeterRegistry meterRegistry) {
@@ -57,6 +59,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
         new FlowControl(
             new LogStreamMetricsImpl(meterRegistry),
             requestLimit,
+            requestPriorities,
             writeRateLimit,
             inFlightCapacity);
     sequencer =
@@ -23,7 +23,11 @@ import java.io.Closeable;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,14 +35,28 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Writers don't take a lock. Each write claims the next sequence via an atomic increment and
+ * publishes itself into the matching slot of a pre-sized ring of pending writes. A single writer at
+ * a time then becomes the appending writer: it drains all consecutively published writes, in
+ * sequence order, assigning their positions and appending them to the log storage. All other
+ * writers park until their write was appended for them, such that a write is still appended when
+ * {@link #tryWrite(WriteContext, List, long) tryWrite} returns. As there is only ever one appending
+ * writer, batches are handed to the log storage in position order.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  private static final int RING_CAPACITY = 1024;
   private final int maxFragmentSize;
 
-  private volatile long position;
+  // only accessed by the appending writer
+  private long position;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
+  private final AtomicReferenceArray<PendingWrite> ring = new AtomicReferenceArray<>(RING_CAPACITY);
+  private final AtomicLong claimedSequence = new AtomicLong();
+  private final AtomicBoolean appending = new AtomicBoolean();
+  // only modified by the appending writer
+  private volatile long appendedSequence;
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
@@ -106,80 +124,175 @@ final class Sequencer implements LogStreamWriter, Closeable {
 
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
+    final var write =
+        new PendingWrite(
+            Thread.currentThread(), appendEntries, sourcePosition, batchLength, inFlightEntry);
 
     final long waitStart = System.nanoTime();
+    publish(write);
+    final boolean appendedImmediately = awaitAppended(write);
 
-    final boolean lockAcquiredImmediately = lock.tryLock();
-    if (!lockAcquiredImmediately) {
-      lock.lock();
+    final var failure = write.failure;
+    if (failure != null) {
+      throw failure;
     }
-
-    final long acquireTime;
-    final long highestPosition;
-    try {
-      if (flowControl.isPaused()) {
-        // Frozen after this writer passed tryAcquire but before it took the lock. Reject under the
-        // lock (releasing the reservation).
-        inFlightEntry.cleanup();
-        return Either.left(WriteFailure.PARTITION_PAUSED);
-      }
-      acquireTime = System.nanoTime();
-      final var currentPosition = position;
-      highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      final var appendListener = flowControl.registerEntry(highestPosition, inFlightEntry);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, appendListener);
-      position = currentPosition + batchSize;
-    } finally {
-      lock.unlock();
+    if (write.rejected) {
+      return Either.left(WriteFailure.PARTITION_PAUSED);
     }
-    final long releaseTime = System.nanoTime();
 
     flowControl.onAppended(inFlightEntry);
 
-    // All metrics are recorded outside the critical section to avoid inflating lock hold time.
+    // All metrics are recorded outside the append to avoid delaying the other writers.
     recordMetrics(
         context,
-        lockAcquiredImmediately,
+        appendedImmediately,
         batchSize,
         batchLength,
-        acquireTime - waitStart,
-        releaseTime - acquireTime);
-    return Either.right(highestPosition);
+        write.appendStart - waitStart,
+        write.appendEnd - write.appendStart);
+    return Either.right(write.highestPosition);
   }
 
   private void recordMetrics(
       final WriteContext context,
-      final boolean lockAcquiredImmediately,
+      final boolean appendedImmediately,
       final int batchSize,
       final int batchLength,
       final long waitNanos,
-      final long holdNanos) {
-    if (!lockAcquiredImmediately) {
-      sequencerMetrics.observeLockWaitTime(context, waitNanos);
+      final long appendNanos) {
+    if (!appendedImmediately) {
+      sequencerMetrics.observeAppendWaitTime(context, waitNanos);
     }
-    sequencerMetrics.observeLockHoldTime(context, holdNanos);
+    sequencerMetrics.observeAppendTime(context, appendNanos);
     sequencerMetrics.observeBatchLengthBytes(batchLength);
     sequencerMetrics.observeBatchSize(batchSize);
   }
 
   /**
-   * Freezes write admission and drains in-flight writers for a leadership transfer. Taking the lock
-   * ensures any writer inside the critical section has submitted its append, and any writer past
-   * {@link FlowControl#tryAcquire} but still awaiting the lock is rejected once it takes the lock
-   * in {@link #tryWrite}. After this returns nothing can be appended until {@link #resumeWrites()}.
+   * Claims the next sequence and publishes the write into its slot. If the ring is full, which
+   * only happens with more concurrent writers than slots, this waits for the slot to be drained.
    */
-  void pauseWrites() {
-    lock.lock();
+  private void publish(final PendingWrite write) {
+    final long sequence = claimedSequence.getAndIncrement();
+    while (sequence - appendedSequence >= RING_CAPACITY) {
+      tryAppend();
+      Thread.yield();
+    }
+
+    ring.set(slot(sequence), write);
+  }
+
+  /**
+   * Appends the published writes if no other writer is appending yet, and parks until the given
+   * write was appended otherwise.
+   *
+   * @return true if the write was appended without waiting for another writer
+   */
+  private boolean awaitAppended(final PendingWrite write) {
+    tryAppend();
+    if (write.isDone()) {
+      return true;
+    }
+
+    do {
+      LockSupport.park(this);
+      if (!write.isDone()) {
+        // we may have been woken up to take over appending
+        tryAppend();
+      }
+    } while (!write.isDone());
+    return false;
+  }
+
+  /**
+   * Becomes the appending writer, if there is none, and appends all writes which were published at
+   * this point, in sequence order. Writes published concurrently are either seen by this writer or
+   * their owner sees that nobody is appending anymore, so no published write is left behind. At
+   * most one ring of writes is appended at once; if there are more, the owner of the next write is
+   * woken up to take over, which bounds the time a writer spends appending for others.
+   */
+  private void tryAppend() {
+    if (!appending.compareAndSet(false, true)) {
+      return;
+    }
+
     try {
-      flowControl.pause();
+      final long limit = appendedSequence + RING_CAPACITY;
+      for (long sequence = appendedSequence; sequence < limit; sequence++) {
+        final int slot = slot(sequence);
+        final PendingWrite write = ring.get(slot);
+        if (write == null) {
+          break;
+        }
+
+        append(write);
+        ring.set(slot, null);
+        appendedSequence = sequence + 1;
+        write.complete();
+      }
     } finally {
-      lock.unlock();
+      appending.set(false);
+    }
+
+    final PendingWrite next = ring.get(slot(appendedSequence));
+    if (next != null) {
+      LockSupport.unpark(next.writer);
+    }
+  }
+
+  private void append(final PendingWrite write) {
+    final var inFlightEntry = write.inFlightEntry;
+    if (inFlightEntry == null) {
+      flowControl.pause();
+      return;
+    }
+
+    if (flowControl.isPaused()) {
+      // Frozen after this writer passed tryAcquire but before its write was appended. Reject it
+      // before it gets a position (releasing the reservation).
+      inFlightEntry.cleanup();
+      write.rejected = true;
+      return;
+    }
+
+    try {
+      write.appendStart = System.nanoTime();
+      final var currentPosition = position;
+      final var highestPosition = currentPosition + write.entries.size() - 1;
+      final var sequencedBatch =
+          new SequencedBatch(
+              clock.millis(),
+              currentPosition,
+              write.sourcePosition,
+              write.entries,
+              write.batchLength);
+      final var appendListener = flowControl.registerEntry(highestPosition, inFlightEntry);
+      logStorage.append(currentPosition, highestPosition, sequencedBatch, appendListener);
+      position = highestPosition + 1;
+      write.highestPosition = highestPosition;
+      write.appendEnd = System.nanoTime();
+    } catch (final RuntimeException e) {
+      // handed back to the owner of the write, just like it would have failed in its own thread
+      write.failure = e;
     }
   }
 
+  private static int slot(final long sequence) {
+    return (int) (sequence & (RING_CAPACITY - 1));
+  }
+
+  /**
+   * Freezes write admission and drains in-flight writers for a leadership transfer. The pause is
+   * published like a write, so every write published before it is appended first, and every write
+   * published after it is rejected once it is about to be appended in {@link #tryWrite}. After this
+   * returns nothing can be appended until {@link #resumeWrites()}.
+   */
+  void pauseWrites() {
+    final var pause = new PendingWrite(Thread.currentThread());
+    publish(pause);
+    awaitAppended(pause);
+  }
+
   /** Resumes write admission after a leadership transfer. */
   void resumeWrites() {
     flowControl.resume();
@@ -198,4 +311,55 @@ final class Sequencer implements LogStreamWriter, Closeable {
   private static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
+
+  /**
+   * A write which is published into the ring and appended by whichever writer is appending at that
+   * point. The results are set by the appending writer before {@link #complete()}, which publishes
+   * them to the owner of the write. A write without an in-flight entry pauses the sequencer.
+   */
+  private static final class PendingWrite {
+    private final Thread writer;
+    private final List<LogAppendEntry> entries;
+    private final long sourcePosition;
+    private final int batchLength;
+    private final @Nullable InFlightEntry inFlightEntry;
+    private long highestPosition;
+    private long appendStart;
+    private long appendEnd;
+    private boolean rejected;
+    private @Nullable RuntimeException failure;
+    private volatile boolean done;
+
+    private PendingWrite(
+        final Thread writer,
+        final List<LogAppendEntry> entries,
+        final long sourcePosition,
+        final int batchLength,
+        final InFlightEntry inFlightEntry) {
+      this.writer = writer;
+      this.entries = entries;
+      this.sourcePosition = sourcePosition;
+      this.batchLength = batchLength;
+      this.inFlightEntry = inFlightEntry;
+    }
+
+    private PendingWrite(final Thread writer) {
+      this.writer = writer;
+      entries = List.of();
+      sourcePosition = -1;
+      batchLength = 0;
+      inFlightEntry = null;
+    }
+
+    private boolean isDone() {
+      return done;
+    }
+
+    private void complete() {
+      done = true;
+      if (writer != Thread.currentThread()) {
+        LockSupport.unpark(writer);
+      }
+    }
+  }
 }
@@ -7,10 +7,10 @@
  */
 package io.camunda.zeebe.logstreams.impl.log;
 
+import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.APPEND_TIME;
+import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.APPEND_WAIT_TIME;
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.BATCH_LENGTH_BYTES;
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.BATCH_SIZE;
-import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.LOCK_HOLD_TIME;
-import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.LOCK_WAIT_TIME;
 
 import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.FlowControlContext;
 import io.camunda.zeebe.logstreams.log.WriteContext;
@@ -28,9 +28,9 @@ final class SequencerMetrics {
   private final MeterRegistry meterRegistry;
   private final DistributionSummary batchSize;
   private final DistributionSummary batchLengthBytes;
-  private final ConcurrentHashMap<FlowControlContext, Timer> lockWaitTimers =
+  private final ConcurrentHashMap<FlowControlContext, Timer> appendWaitTimers =
       new ConcurrentHashMap<>();
-  private final ConcurrentHashMap<FlowControlContext, Timer> lockHoldTimers =
+  private final ConcurrentHashMap<FlowControlContext, Timer> appendTimers =
       new ConcurrentHashMap<>();
 
   SequencerMetrics(final MeterRegistry meterRegistry) {
@@ -56,28 +56,28 @@ final class SequencerMetrics {
     batchLengthBytes.record(batchLengthKiloBytes);
   }
 
-  void observeLockWaitTime(final WriteContext waiter, final long durationNanos) {
+  void observeAppendWaitTime(final WriteContext waiter, final long durationNanos) {
     final var timer =
-        lockWaitTimers.computeIfAbsent(
+        appendWaitTimers.computeIfAbsent(
             FlowControlContext.from(waiter),
             tag ->
-                Timer.builder(LOCK_WAIT_TIME.getName())
-                    .description(LOCK_WAIT_TIME.getDescription())
+                Timer.builder(APPEND_WAIT_TIME.getName())
+                    .description(APPEND_WAIT_TIME.getDescription())
                     .publishPercentiles(0.5, 0.9, 0.99)
-                    .tag(LockKeyNames.WAITER.asString(), tag.getValue())
+                    .tag(WriterKeyNames.WAITER.asString(), tag.getValue())
                     .register(meterRegistry));
     timer.record(durationNanos, TimeUnit.NANOSECONDS);
   }
 
-  void observeLockHoldTime(final WriteContext writer, final long durationNanos) {
+  void observeAppendTime(final WriteContext writer, final long durationNanos) {
     final var timer =
-        lockHoldTimers.computeIfAbsent(
+        appendTimers.computeIfAbsent(
             FlowControlContext.from(writer),
             tag ->
-                Timer.builder(LOCK_HOLD_TIME.getName())
-                    .description(LOCK_HOLD_TIME.getDescription())
+                Timer.builder(APPEND_TIME.getName())
+                    .description(APPEND_TIME.getDescription())
                     .publishPercentiles(0.5, 0.9, 0.99)
-                    .tag(LockKeyNames.WRITER.asString(), tag.getValue())
+                    .tag(WriterKeyNames.WRITER.asString(), tag.getValue())
                     .register(meterRegistry));
     timer.record(durationNanos, TimeUnit.NANOSECONDS);
   }
@@ -149,16 +149,16 @@ final class SequencerMetrics {
       }
     },
 
-    /** Time spent waiting to acquire the sequencer lock, labeled by who is waiting */
-    LOCK_WAIT_TIME {
+    /** Time a write waits to be appended by another writer, labeled by who is waiting */
+    APPEND_WAIT_TIME {
       @Override
       public String getDescription() {
-        return "Time spent waiting to acquire the sequencer lock, labeled by who is waiting";
+        return "Time a write waits to be appended by another writer, labeled by who is waiting";
       }
 
       @Override
       public String getName() {
-        return "zeebe.sequencer.lock.wait.time";
+        return "zeebe.sequencer.append.wait.time";
       }
 
       @Override
@@ -168,7 +168,7 @@ final class SequencerMetrics {
 
       @Override
       public KeyName[] getKeyNames() {
-        return new KeyName[] {LockKeyNames.WAITER};
+        return new KeyName[] {WriterKeyNames.WAITER};
       }
 
       @Override
@@ -177,16 +177,16 @@ final class SequencerMetrics {
       }
     },
 
-    /** Time the sequencer lock is held during a write, labeled by who held the lock */
-    LOCK_HOLD_TIME {
+    /** Time the sequencer spends appending a write, labeled by who wrote it */
+    APPEND_TIME {
       @Override
       public String getDescription() {
-        return "Time the sequencer lock is held during a write, labeled by who held the lock";
+        return "Time the sequencer spends appending a write, labeled by who wrote it";
       }
 
       @Override
       public String getName() {
-        return "zeebe.sequencer.lock.hold.time";
+        return "zeebe.sequencer.append.time";
       }
 
       @Override
@@ -196,7 +196,7 @@ final class SequencerMetrics {
 
       @Override
       public KeyName[] getKeyNames() {
-        return new KeyName[] {LockKeyNames.WRITER};
+        return new KeyName[] {WriterKeyNames.WRITER};
       }
 
       @Override
@@ -206,7 +206,7 @@ final class SequencerMetrics {
     }
   }
 
-  enum LockKeyNames implements KeyName {
+  enum WriterKeyNames implements KeyName {
     WRITER {
       @Override
       public String asString() {
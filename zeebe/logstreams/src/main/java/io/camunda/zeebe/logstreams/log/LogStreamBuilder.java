@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.log;
 
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestPriorities;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
@@ -55,6 +56,15 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withRequestLimit(Limit requestLimit);
 
+  /**
+   * Sets the weights of the command priority classes, which the request limit is shared among. If
+   * not set, all user commands compete for the request limit equally.
+   *
+   * @param requestPriorities the weights of the priority classes, or null to disable them
+   * @return this builder
+   */
+  LogStreamBuilder withRequestPriorities(RequestPriorities requestPriorities);
+
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
   /**
@@ -20,7 +20,10 @@ import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.UserTaskIntent;
 import io.camunda.zeebe.test.util.asserts.EitherAssert;
 import io.camunda.zeebe.util.Either;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -325,6 +328,134 @@ public class FlowControlTest {
         .isLessThanOrEqualTo(65);
   }
 
+  @Test
+  void shouldGuaranteeShareOfRequestLimitPerPriority() {
+    // given — a request limit of 10, of which creations are guaranteed 2 and correlations 3
+    final var meterRegistry = new SimpleMeterRegistry();
+    final var metrics = new LogStreamMetricsImpl(meterRegistry);
+    final var fc =
+        new FlowControl(
+            metrics,
+            StabilizingAIMDLimit.newBuilder().initialLimit(10).build(),
+            new RequestPriorities(4, 3, 2, 1),
+            RateLimit.disabled(),
+            0);
+    final var create = ProcessInstanceCreationIntent.CREATE;
+    for (int i = 0; i < 10; i++) {
+      EitherAssert.assertThat(tryAcquireUserCommand(fc, create)).isRight();
+    }
+
+    // when — the limit is exhausted by creations
+    final var creation = tryAcquireUserCommand(fc, create);
+    final var correlation = tryAcquireUserCommand(fc, MessageIntent.PUBLISH);
+
+    // then — further creations are rejected, but correlations still get their share
+    EitherAssert.assertThat(creation).isLeft().left().isEqualTo(Rejection.RequestLimitExhausted);
+    EitherAssert.assertThat(correlation).isRight();
+    assertThat(
+            meterRegistry
+                .get("zeebe.backpressure.inflight.requests.priority.count")
+                .tag("priority", "creation")
+                .gauge()
+                .value())
+        .isEqualTo(10);
+    assertThat(
+            meterRegistry
+                .get("zeebe.backpressure.requests.priority.limit")
+                .tag("priority", "correlation")
+                .gauge()
+                .value())
+        .isEqualTo(3);
+  }
+
+  @Test
+  void shouldReleaseShareOfPriorityWhenProcessed() {
+    // given
+    final var fc =
+        new FlowControl(
+            new LogStreamMetricsImpl(new SimpleMeterRegistry()),
+            StabilizingAIMDLimit.newBuilder().initialLimit(4).build(),
+            new RequestPriorities(1, 1, 1, 1),
+            RateLimit.disabled(),
+            0);
+    final var create = ProcessInstanceCreationIntent.CREATE;
+    final var first = tryAcquireUserCommand(fc, create).get();
+    for (int i = 0; i < 3; i++) {
+      tryAcquireUserCommand(fc, create);
+    }
+    EitherAssert.assertThat(tryAcquireUserCommand(fc, create)).isLeft();
+
+    // when
+    fc.registerEntry(1, first);
+    fc.onProcessed(1);
+
+    // then
+    EitherAssert.assertThat(tryAcquireUserCommand(fc, create)).isRight();
+  }
+
+  @Test
+  void shouldNotCountWhitelistedCommandsTowardsShareOfPriority() {
+    // given — the limit is exhausted by job completions, which are always admitted
+    final var fc =
+        new FlowControl(
+            new LogStreamMetricsImpl(new SimpleMeterRegistry()),
+            StabilizingAIMDLimit.newBuilder().initialLimit(4).build(),
+            new RequestPriorities(1, 1, 1, 1),
+            RateLimit.disabled(),
+            0);
+    for (int i = 0; i < 4; i++) {
+      EitherAssert.assertThat(tryAcquireUserCommand(fc, JobIntent.COMPLETE)).isRight();
+    }
+
+    // when
+    final var userTaskCompletion = tryAcquireUserCommand(fc, UserTaskIntent.COMPLETE);
+
+    // then — the completion class still has its share left
+    EitherAssert.assertThat(userTaskCompletion).isRight();
+  }
+
+  @Test
+  void shouldShareCompletionPriorityAmongCommandsWhichAreNotWhitelisted() {
+    // given — the limit is exhausted by creations
+    final var fc =
+        new FlowControl(
+            new LogStreamMetricsImpl(new SimpleMeterRegistry()),
+            StabilizingAIMDLimit.newBuilder().initialLimit(4).build(),
+            new RequestPriorities(1, 1, 1, 1),
+            RateLimit.disabled(),
+            0);
+    for (int i = 0; i < 4; i++) {
+      EitherAssert.assertThat(tryAcquireUserCommand(fc, ProcessInstanceCreationIntent.CREATE))
+          .isRight();
+    }
+
+    // when
+    final var thrownError = tryAcquireUserCommand(fc, JobIntent.THROW_ERROR);
+    final var userTaskCompletion = tryAcquireUserCommand(fc, UserTaskIntent.COMPLETE);
+    final var jobCompletion = tryAcquireUserCommand(fc, JobIntent.COMPLETE);
+
+    // then — both take up the single spot of the completion class, white listed ones are admitted
+    EitherAssert.assertThat(thrownError).isRight();
+    EitherAssert.assertThat(userTaskCompletion)
+        .isLeft()
+        .left()
+        .isEqualTo(Rejection.RequestLimitExhausted);
+    EitherAssert.assertThat(jobCompletion).isRight();
+  }
+
+  private Either<Rejection, InFlightEntry> tryAcquireUserCommand(
+      final FlowControl fc, final Intent intent) {
+    return fc.tryAcquire(
+        new UserCommand(intent),
+        List.of(
+            LogAppendEntry.of(
+                new RecordMetadata()
+                    .recordType(RecordType.COMMAND)
+                    .valueType(ValueType.PROCESS_INSTANCE_CREATION)
+                    .intent(intent),
+                new UnifiedRecordValue(0))));
+  }
+
   private List<Either<FlowControl.Rejection, InFlightEntry>> acquireMultiplePermits(
       final WriteContext writeContext,
       final Intent intent,
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetricsImpl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.InstantSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the write throughput of the {@link Sequencer} with many concurrent producers, e.g. the
+ * stream processor, the command API and scheduled tasks, all writing to the same partition. The log
+ * storage only records the appended positions, such that the sequencer itself is measured.
+ *
+ * <p>Run via: {@code mvn verify -pl zeebe/logstreams -Dtest=SequencerBenchmark -DskipTests=false
+ * -Dbenchmark=true}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+public class SequencerBenchmark {
+
+  private static final int[] PRODUCERS = {1, 2, 4, 8, 16, 32};
+
+  @Param({"1", "10"})
+  public int entriesPerBatch;
+
+  private Sequencer sequencer;
+  private List<LogAppendEntry> batch;
+
+  @Setup
+  public void setup() {
+    final var flowControl = new FlowControl(new LogStreamMetricsImpl(new SimpleMeterRegistry()));
+    sequencer =
+        new Sequencer(
+            new PositionRecordingLogStorage(),
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            flowControl);
+    batch = Collections.nCopies(entriesPerBatch, TestEntry.ofDefaults());
+  }
+
+  @Benchmark
+  public Either<WriteFailure, Long> write() {
+    return sequencer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  void runBenchmarks() throws Exception {
+    for (final int producers : PRODUCERS) {
+      final var builder =
+          new OptionsBuilder()
+              .include(SequencerBenchmark.class.getSimpleName())
+              .threads(producers)
+              .resultFormat(ResultFormatType.JSON)
+              .result("target/jmh-result-" + producers + "-producers.json");
+
+      new Runner(builder.build()).run();
+    }
+  }
+
+  private static final class PositionRecordingLogStorage implements LogStorage {
+    private volatile long highestPosition;
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      this.highestPosition = highestPosition;
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -27,12 +27,14 @@ import java.time.Duration;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
@@ -262,7 +264,111 @@ final class SequencerTest {
   }
 
   @Test
-  void shouldRecordLockHoldTime() {
+  void shouldAppendAllWritesOfConcurrentWritersInPositionOrder() throws InterruptedException {
+    // given
+    final var numberOfWriters = 16;
+    final var batchesPerWriter = 10_000;
+    final var logStorage = new VerifyingLogStorage();
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(new LogStreamMetricsImpl(new SimpleMeterRegistry())));
+    final var entries = List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var writtenPositions = ConcurrentHashMap.<Long>newKeySet();
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] =
+          newWriterThread(
+              sequencer,
+              1,
+              batchesPerWriter,
+              entries,
+              false,
+              testFailures::add,
+              writtenPositions::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- every write got its own positions, and no write is missing in the log storage
+    final long writtenBatches = (long) numberOfWriters * batchesPerWriter;
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(writtenPositions).hasSize((int) writtenBatches);
+    Assertions.assertThat(logStorage.position).isEqualTo(writtenBatches * entries.size());
+  }
+
+  @Test
+  void shouldRejectWritesOfConcurrentWritersAfterPause() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var logStorage = new VerifyingLogStorage();
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(new LogStreamMetricsImpl(new SimpleMeterRegistry())));
+    final var paused = new AtomicBoolean();
+    final var stopped = new AtomicBoolean();
+    final var rejectedAfterPause = new AtomicLong();
+    final var appendedAfterPause = new ConcurrentLinkedQueue<Long>();
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] =
+          new Thread(
+              () -> {
+                while (!stopped.get()) {
+                  final boolean pausedBeforeWrite = paused.get();
+                  final var result =
+                      sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+                  if (!pausedBeforeWrite) {
+                    continue;
+                  }
+                  if (result.isRight()) {
+                    appendedAfterPause.add(result.get());
+                  } else {
+                    rejectedAfterPause.incrementAndGet();
+                  }
+                }
+              });
+      writers[i].start();
+    }
+    Awaitility.await("writers are appending")
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> logStorage.position > 1_000);
+
+    // when
+    sequencer.pauseWrites();
+    final long pausedPosition = logStorage.position;
+    paused.set(true);
+    Awaitility.await("writers keep on writing")
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> rejectedAfterPause.get() > numberOfWriters * 100L);
+    stopped.set(true);
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then
+    Assertions.assertThat(appendedAfterPause).isEmpty();
+    Assertions.assertThat(logStorage.position).isEqualTo(pausedPosition);
+  }
+
+  @Test
+  void shouldRecordAppendTime() {
     // given
     final var meterRegistry = new SimpleMeterRegistry();
     final var logStorage = Mockito.mock(LogStorage.class);
@@ -281,13 +387,13 @@ final class SequencerTest {
 
     // then
     final var timer =
-        meterRegistry.find("zeebe.sequencer.lock.hold.time").tag("writer", "internal").timer();
+        meterRegistry.find("zeebe.sequencer.append.time").tag("writer", "internal").timer();
     Assertions.assertThat(timer).isNotNull();
     Assertions.assertThat(timer.count()).isEqualTo(1);
   }
 
   @Test
-  void shouldRecordLockWaitTimeByWaiter() throws Exception {
+  void shouldRecordAppendWaitTimeByWaiter() throws Exception {
     // given
     final var meterRegistry = new SimpleMeterRegistry();
     final var blockingLatch = new CountDownLatch(1);
@@ -312,7 +418,7 @@ final class SequencerTest {
             new SequencerMetrics(meterRegistry),
             new FlowControl(logStreamMetrics));
 
-    // when — thread 1 holds lock via blocking append
+    // when — thread 1 is appending, blocked in the log storage
     executor = Executors.newVirtualThreadPerTaskExecutor();
 
     executor.submit(() -> sequencer.tryWrite(WriteContext.scheduled(), TestEntry.ofDefaults()));
@@ -329,7 +435,7 @@ final class SequencerTest {
               TestEntry.ofDefaults());
         });
 
-    // wait until the waiter thread is blocked on the lock
+    // wait until the waiter thread waits for its write to be appended
     Awaitility.await().atMost(Duration.ofSeconds(5)).until(waiterWaiting::get);
 
     blockingLatch.countDown(); // release thread 1
@@ -338,10 +444,10 @@ final class SequencerTest {
     executor.shutdown();
     Awaitility.await().until(executor::isShutdown);
 
-    // then — wait time is labeled by waiter (who is waiting to acquire the lock)
+    // then — wait time is labeled by waiter (who is waiting to be appended)
     final var waitTimer =
         meterRegistry
-            .find("zeebe.sequencer.lock.wait.time")
+            .find("zeebe.sequencer.append.wait.time")
             .tag("waiter", "processingResult")
             .timer();
     Assertions.assertThat(waitTimer).isNotNull();
@@ -489,6 +595,24 @@ final class SequencerTest {
       final List<LogAppendEntry> batchToWrite,
       final boolean isOnlyWriter,
       final Consumer<Throwable> failedAssertionHandler) {
+    return newWriterThread(
+        sequencer,
+        initialPosition,
+        batchesToWrite,
+        batchToWrite,
+        isOnlyWriter,
+        failedAssertionHandler,
+        position -> {});
+  }
+
+  private Thread newWriterThread(
+      final Sequencer sequencer,
+      final long initialPosition,
+      final long batchesToWrite,
+      final List<LogAppendEntry> batchToWrite,
+      final boolean isOnlyWriter,
+      final Consumer<Throwable> failedAssertionHandler,
+      final Consumer<Long> writtenPositionHandler) {
     final var thread =
         new Thread(
             () -> {
@@ -504,6 +628,7 @@ final class SequencerTest {
                     Assertions.assertThat(result.get()).isGreaterThan(lastWrittenPosition);
                   }
                   lastWrittenPosition = result.get();
+                  writtenPositionHandler.accept(lastWrittenPosition);
                   batchesWritten += 1;
                 } else {
                   LockSupport.parkNanos(1_000_000);
@@ -517,7 +642,7 @@ final class SequencerTest {
 
   private static final class VerifyingLogStorage implements LogStorage {
 
-    private long position = -1;
+    private volatile long position = -1;
 
     @Override
     public LogStorageReader newReader() {
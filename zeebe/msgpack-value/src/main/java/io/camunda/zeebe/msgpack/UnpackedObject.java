@@ -19,6 +19,7 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
 
   private MsgPackReader reader;
   private MsgPackWriter writer;
+  private BufferReader lazyReader;
 
   /**
    * Creates a new UnpackedObject
@@ -36,13 +37,45 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
 
   @Override
   public void wrap(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, false);
+  }
+
+  /**
+   * Wraps the given buffer like {@link #wrap(DirectBuffer, int, int)}, but decodes the declared
+   * properties only on first access. See {@link #readLazily(MsgPackReader)} for details.
+   *
+   * <p>The object references the given buffer, so its content must not change as long as the
+   * object is in use. Prefer {@link #wrap(DirectBuffer, int, int)} if the buffer is reused.
+   */
+  public void wrapLazily(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, true);
+  }
+
+  /**
+   * @return a reader which wraps the buffers it is given lazily, see {@link
+   *     #wrapLazily(DirectBuffer, int, int)}; e.g. to pass to methods which expect a {@link
+   *     BufferReader}
+   */
+  public BufferReader lazyReader() {
+    if (lazyReader == null) {
+      lazyReader = this::wrapLazily;
+    }
+    return lazyReader;
+  }
+
+  private void wrap(
+      final DirectBuffer buff, final int offset, final int length, final boolean lazily) {
     reset();
     if (reader == null) {
       reader = new MsgPackReader();
     }
     reader.wrap(buff, offset, length);
     try {
-      read(reader);
+      if (lazily) {
+        readLazily(reader);
+      } else {
+        read(reader);
+      }
     } catch (final Exception e) {
       throw new RuntimeException(
           "Could not deserialize object ["
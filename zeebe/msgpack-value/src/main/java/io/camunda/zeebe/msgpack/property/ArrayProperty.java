@@ -43,7 +43,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   @Override
   public T add() {
     try {
-      return value.add();
+      return resolveValue().add();
     } catch (final Exception e) {
       throw new MsgpackPropertyException(getKey(), e);
     }
@@ -52,7 +52,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   @Override
   public T add(final int index) {
     try {
-      return value.add(index);
+      return resolveValue().add(index);
     } catch (final Exception e) {
       throw new MsgpackPropertyException(getKey(), e);
     }
@@ -60,12 +60,12 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T get(final int index) {
-    return value.get(index);
+    return resolveValue().get(index);
   }
 
   @Override
   public T remove(final int index) {
-    return value.remove(index);
+    return resolveValue().remove(index);
   }
 
   @Override
@@ -76,11 +76,11 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   }
 
   public boolean isEmpty() {
-    return value.isEmpty();
+    return resolveValue().isEmpty();
   }
 
   @Override
   public int size() {
-    return value.size();
+    return resolveValue().size();
   }
 }
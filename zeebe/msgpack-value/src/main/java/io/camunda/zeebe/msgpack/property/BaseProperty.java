@@ -14,6 +14,8 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -22,6 +24,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected boolean isSet;
   protected boolean isSanitized;
 
+  private boolean isPending;
+  private UnsafeBuffer pendingValue;
+  private MsgPackReader pendingReader;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -48,14 +54,25 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    isPending = false;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    isPending = false;
     value.reset();
   }
 
+  /**
+   * Returns true if the property was read lazily and its value was not decoded yet.
+   *
+   * @see #readLazily(DirectBuffer, int, int)
+   */
+  public boolean isPending() {
+    return isPending;
+  }
+
   public boolean hasValue() {
     return isSet || defaultValue != null;
   }
@@ -66,6 +83,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   protected T resolveValue() {
     if (isSet) {
+      decodePending();
       return value;
     } else if (defaultValue != null) {
       return defaultValue;
@@ -76,6 +94,9 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (isPending) {
+      return key.getEncodedLength() + pendingValue.capacity();
+    }
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -84,7 +105,29 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Marks the property as set, but defers decoding its encoded value until it is accessed for the
+   * first time. As long as it is not accessed or modified, the encoded value is written back as is.
+   *
+   * <p>The property only references the given buffer, so its content must not change until the
+   * value is decoded or the property is reset.
+   */
+  public void readLazily(final DirectBuffer buffer, final int offset, final int length) {
+    if (pendingValue == null) {
+      pendingValue = new UnsafeBuffer(0, 0);
+      pendingReader = new MsgPackReader();
+    }
+    pendingValue.wrap(buffer, offset, length);
+    isSet = true;
+    isPending = true;
+  }
+
   public int write(final MsgPackWriter writer) {
+    if (isPending) {
+      final int written = key.write(writer);
+      return written + writer.writeRaw(pendingValue);
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -147,8 +190,22 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     return (T) this;
   }
 
+  private void decodePending() {
+    if (!isPending) {
+      return;
+    }
+
+    try {
+      value.read(pendingReader.wrap(pendingValue, 0, pendingValue.capacity()));
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    }
+    isPending = false;
+  }
+
   @Override
   public int hashCode() {
+    decodePending();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -169,6 +226,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodePending();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
@@ -26,6 +26,6 @@ public final class DeltaEncodedLongArrayProperty extends BaseProperty<DeltaEncod
 
   public void setValues(final long[] values) {
     resolveValue().setValues(Objects.requireNonNull(values));
-    isSet = true;
+    set();
   }
 }
@@ -33,7 +33,7 @@ public final class IntegerProperty extends BaseProperty<IntegerValue> {
 
   public void setValue(final int value) {
     this.value.setValue(value);
-    isSet = true;
+    set();
   }
 
   public int decrement() {
@@ -96,6 +96,22 @@ public class ObjectValue extends BaseValue {
 
   @Override
   public void read(final MsgPackReader reader) {
+    read(reader, false);
+  }
+
+  /**
+   * Reads the object like {@link #read(MsgPackReader)}, but only skips over the values of the
+   * declared properties. Each of them is decoded on first access, and written back as is if it is
+   * never accessed, which is cheaper if only a few properties of a large object are of interest.
+   *
+   * <p>The properties reference the underlying buffer of the reader, so its content must not change
+   * as long as the object is in use.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    read(reader, true);
+  }
+
+  private void read(final MsgPackReader reader, final boolean lazily) {
     final int mapSize = reader.readMapHeader();
 
     for (int i = 0; i < mapSize; ++i) {
@@ -118,12 +134,19 @@ public class ObjectValue extends BaseValue {
         }
       }
 
-      if (prop == null) {
+      final boolean isDeclared = prop != null;
+      if (!isDeclared) {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (lazily && isDeclared) {
+          final int valueOffset = reader.getOffset();
+          reader.skipValue();
+          prop.readLazily(reader.getBuffer(), valueOffset, reader.getOffset() - valueOffset);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
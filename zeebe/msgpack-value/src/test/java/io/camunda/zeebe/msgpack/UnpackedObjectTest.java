@@ -140,6 +140,91 @@ public class UnpackedObjectTest {
     }
   }
 
+  @Nested
+  class LazyReading {
+    private final POJO pojo = new POJO();
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(256));
+
+    {
+      pojo.setEnum(POJOEnum.BAR);
+      pojo.setLong(456456L);
+      pojo.setInt(123);
+      pojo.setString(wrapString("foo"));
+      pojo.setBinary(wrapString("bar"));
+      pojo.setPacked(new UnsafeBuffer(new byte[] {7}));
+      pojo.nestedObject().setLong(24L);
+      pojo.write(buffer, 0);
+    }
+
+    @Test
+    void shouldDecodePropertiesOnFirstAccess() {
+      // given
+      final var longProperty = new LongProperty("longProp");
+      final var intProperty = new IntegerProperty("intProp");
+      final var lazyObject = new UnpackedObject(2);
+      lazyObject.declareProperty(longProperty).declareProperty(intProperty);
+
+      // when
+      lazyObject.wrapLazily(buffer, 0, pojo.getLength());
+
+      // then
+      assertThat(intProperty.isPending()).isTrue();
+      assertThat(longProperty.getValue()).isEqualTo(456456L);
+      assertThat(longProperty.isPending()).isFalse();
+      assertThat(intProperty.isPending()).isTrue();
+    }
+
+    @Test
+    void shouldReadSameValuesAsEagerWrap() {
+      // given
+      final var lazyPojo = new POJO();
+
+      // when
+      lazyPojo.wrapLazily(buffer, 0, pojo.getLength());
+
+      // then
+      assertThat(lazyPojo.getEnum()).isEqualTo(POJOEnum.BAR);
+      assertThat(lazyPojo.getLong()).isEqualTo(456456L);
+      assertThat(lazyPojo.getInt()).isEqualTo(123);
+      assertThat(lazyPojo.getString()).isEqualTo(wrapString("foo"));
+      assertThat(lazyPojo.getBinary()).isEqualTo(wrapString("bar"));
+      assertThat(lazyPojo.nestedObject().getLong()).isEqualTo(24L);
+    }
+
+    @Test
+    void shouldWriteUntouchedPropertiesAsIs() {
+      // given
+      final var lazyPojo = new POJO();
+      lazyPojo.wrapLazily(buffer, 0, pojo.getLength());
+      lazyPojo.setInt(321);
+
+      // when
+      final var written = new UnsafeBuffer(new byte[lazyPojo.getLength()]);
+      lazyPojo.write(written, 0);
+
+      // then
+      pojo.setInt(321);
+      final var expected = new UnsafeBuffer(new byte[pojo.getLength()]);
+      pojo.write(expected, 0);
+      assertThat(written).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldNotKeepPendingValuesAfterReset() {
+      // given
+      final var lazyPojo = new POJO();
+      lazyPojo.wrapLazily(buffer, 0, pojo.getLength());
+
+      // when
+      lazyPojo.reset();
+      lazyPojo.setLong(1L);
+
+      // then
+      assertThat(lazyPojo.getLong()).isEqualTo(1L);
+      assertThat(lazyPojo.nestedObject().getLong()).isEqualTo(-1L);
+    }
+  }
+
   @Nested
   class SanitizationTest {
 
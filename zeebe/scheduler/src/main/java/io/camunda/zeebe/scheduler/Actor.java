@@ -35,6 +35,7 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
   protected final ActorControl actor = new ActorControl(this);
   private final Map<String, String> context;
   private final String name;
+  private final @Nullable PartitionId partitionId;
 
   /**
    * Creates a new actor with name and context derived from the given parameters.
@@ -53,6 +54,7 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
       @Nullable final Map<String, String> additionalContext) {
     final var actorName = Objects.requireNonNullElse(name, getClass().getSimpleName());
     this.name = partitionId != null ? buildActorName(actorName, partitionId.number()) : actorName;
+    this.partitionId = partitionId;
     context = buildContext(this.name, partitionId, additionalContext);
   }
 
@@ -104,6 +106,13 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
     return name;
   }
 
+  /**
+   * @return the partition the actor belongs to, as provided to the constructor, or null
+   */
+  public @Nullable PartitionId getPartitionId() {
+    return partitionId;
+  }
+
   /**
    * @return a map that defines the context where the actor is run, as provided to the constructor.
    */
@@ -18,6 +18,10 @@ public interface ActorMetrics {
 
   void observeJobSchedulingLatency(final long waitTimeNs, final SubscriptionType subscriptionType);
 
+  void observeTaskQueueResidency(final long residencyNs);
+
+  void countStolenTask(final String threadName);
+
   static ActorMetrics ofNullable(final MeterRegistry registry) {
     if (registry == null) {
       return disabled();
@@ -41,6 +45,12 @@ public interface ActorMetrics {
       @Override
       public void observeJobSchedulingLatency(
           final long waitTimeNs, final SubscriptionType subscriptionType) {}
+
+      @Override
+      public void observeTaskQueueResidency(final long residencyNs) {}
+
+      @Override
+      public void countStolenTask(final String threadName) {}
     };
   }
 
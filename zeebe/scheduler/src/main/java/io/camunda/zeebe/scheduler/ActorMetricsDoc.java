@@ -119,6 +119,53 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
     }
+  },
+  /** Time an actor task waited in the run queue of a thread until a thread picked it up */
+  TASK_QUEUE_RESIDENCY {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(1, 4, 12, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.queue.residency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time an actor task waited in the run queue of a thread until a thread picked it up";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
+  /** Number of actor tasks a thread took over from the queue of another thread */
+  STOLEN_TASK_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.stolen";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of actor tasks a thread took over from the queue of another thread";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_NAME};
+    }
   };
 
   public enum ActorMetricsKeyName implements KeyName {
@@ -135,6 +182,13 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "actorName";
       }
+    },
+    /** The name of the actor thread */
+    THREAD_NAME {
+      @Override
+      public String asString() {
+        return "threadName";
+      }
     }
   }
 }
@@ -18,19 +18,23 @@ import io.micrometer.core.instrument.Timer;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class ActorMetricsImpl implements ActorMetrics {
   private final Map<SubscriptionType, Timer> schedulingLatency =
       new EnumMap<>(SubscriptionType.class);
+  private final Map<String, Counter> stolenTasks = new ConcurrentHashMap<>();
   private final MeterRegistry registry;
+  private final Timer taskQueueResidency;
 
   public ActorMetricsImpl(final MeterRegistry registry) {
     this.registry = Objects.requireNonNull(registry, "registry cannot be null");
     for (final SubscriptionType type : SubscriptionType.values()) {
       schedulingLatency.put(type, createSchedulingTimer(type));
     }
+    taskQueueResidency = MicrometerUtil.buildTimer(TASK_QUEUE_RESIDENCY).register(registry);
   }
 
   private Timer createSchedulingTimer(final SubscriptionType subscriptionType) {
@@ -56,6 +60,13 @@ final class ActorMetricsImpl implements ActorMetrics {
         .register(registry);
   }
 
+  private Counter createStolenTaskCount(final String threadName) {
+    return Counter.builder(STOLEN_TASK_COUNT.getName())
+        .description(STOLEN_TASK_COUNT.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_NAME.asString(), threadName)
+        .register(registry);
+  }
+
   private Gauge createJobQueueLength(final String actorName, final AtomicLong value) {
     return Gauge.builder(JOB_QUEUE_LENGTH.getName(), value::get)
         .description(JOB_QUEUE_LENGTH.getDescription())
@@ -85,6 +96,16 @@ final class ActorMetricsImpl implements ActorMetrics {
     schedulingLatency.get(subscriptionType).record(waitTimeNs, TimeUnit.NANOSECONDS);
   }
 
+  @Override
+  public void observeTaskQueueResidency(final long residencyNs) {
+    taskQueueResidency.record(residencyNs, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void countStolenTask(final String threadName) {
+    stolenTasks.computeIfAbsent(threadName, this::createStolenTaskCount).increment();
+  }
+
   record ActorMetricsScopedEnabled(
       MeterRegistry registry,
       Timer executionLatency,
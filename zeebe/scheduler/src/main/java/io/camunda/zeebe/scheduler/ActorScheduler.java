@@ -131,6 +131,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private boolean partitionAffinity;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
@@ -202,6 +203,19 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isPartitionAffinityEnabled() {
+      return partitionAffinity;
+    }
+
+    /**
+     * Sets whether the actors of a partition should preferably run on the same thread, see {@link
+     * ActorThreadGroup#getPreferredThreadId(Actor)}.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(final boolean partitionAffinity) {
+      this.partitionAffinity = partitionAffinity;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -50,6 +50,8 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private int preferredThreadId = -1;
+  long queuedAtNanos;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -69,6 +71,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    preferredThreadId = actorThreadGroup.getPreferredThreadId(actor);
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -538,6 +541,13 @@ public class ActorTask {
     return fastLaneJobs.size() + submittedJobs.size();
   }
 
+  /**
+   * @return the id of the thread this task should preferably run on, or -1 if it may run anywhere
+   */
+  int getPreferredThreadId() {
+    return preferredThreadId;
+  }
+
   ActorMetricsScoped getActorMetrics() {
     return metrics;
   }
@@ -41,11 +41,22 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
    * @return the actor which was stolen or null in case no actor is available
    */
   public ActorTask trySteal() {
+    return trySteal(true);
+  }
+
+  /**
+   * Attempts to steal a task from this list, like {@link #trySteal()}.
+   *
+   * @param includePreferringTasks whether tasks which prefer a certain thread may be stolen
+   * @return the actor which was stolen or null in case no actor is available
+   */
+  public ActorTask trySteal(final boolean includePreferringTasks) {
     ActorTaskQueueNode node = tail;
 
     while (node != null && node != empty) {
       final ActorTask task = node.task;
-      if (task.claim(node.stateCount)) {
+      if ((includePreferringTasks || task.getPreferredThreadId() < 0)
+          && task.claim(node.stateCount)) {
         return task;
       }
 
@@ -102,6 +113,15 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
     return next == empty ? null : next;
   }
 
+  /**
+   * Returns whether more than one task is queued, i.e. the owning thread lags behind. As tasks may
+   * be claimed concurrently, this is only an estimate.
+   */
+  public boolean hasBacklog() {
+    final ActorTaskQueueNode next = head.next;
+    return next != null && next.next != null;
+  }
+
   public boolean isEmpty() {
     return head == tail;
   }
@@ -101,6 +101,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     currentTask = taskScheduler.getNextTask();
 
     if (currentTask != null) {
+      if (actorMetrics.isEnabled()) {
+        actorMetrics.observeTaskQueueResidency(System.nanoTime() - currentTask.queuedAtNanos);
+      }
+
       final var metrics = currentTask.getActorMetrics();
       try (final var timer = metrics.startExecutionTimer()) {
         executeCurrentTask();
@@ -140,6 +144,12 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  void onTaskStolen() {
+    if (actorMetrics.isEnabled()) {
+      actorMetrics.countStolenTask(getName());
+    }
+  }
+
   public void hintWorkAvailable() {
     idleStrategy.hintWorkAvailable();
   }
@@ -24,6 +24,7 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final boolean partitionAffinity;
 
   public ActorThreadGroup(
       final String groupName,
@@ -33,6 +34,7 @@ public abstract class ActorThreadGroup {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    partitionAffinity = builder.isPartitionAffinityEnabled();
 
     tasks = new WorkStealingGroup(numOfThreads);
 
@@ -59,7 +61,13 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int preferredThreadId = actorTask.getPreferredThreadId();
+    if (preferredThreadId >= 0) {
+      tasks.submit(actorTask, preferredThreadId);
+      if (current != threads[preferredThreadId]) {
+        threads[preferredThreadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -68,6 +76,24 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  /**
+   * With partition affinity enabled, all actors of a partition, e.g. its stream processor, log
+   * stream and exporter director, prefer the same thread, such that they share its caches instead
+   * of hopping between cores. Other threads only take over these actors if the preferred thread
+   * lags behind, see {@link WorkStealingGroup}.
+   *
+   * @return the id of the thread the actor should preferably run on, or -1 if it has no preference
+   */
+  int getPreferredThreadId(final Actor actor) {
+    final var partitionId = actor.getPartitionId();
+    if (!partitionAffinity || partitionId == null) {
+      return -1;
+    }
+
+    // consecutive partitions of a group are spread over consecutive threads
+    return Math.floorMod(partitionId.group().hashCode() + partitionId.number() - 1, numOfThreads);
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -32,6 +32,7 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
+    task.queuedAtNanos = System.nanoTime();
     taskQueues[threadId].append(task);
   }
 
@@ -47,6 +48,9 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     if (nextTask == null) {
       nextTask = trySteal(currentThread);
+      if (nextTask != null) {
+        currentThread.onTaskStolen();
+      }
     }
 
     return nextTask;
@@ -58,6 +62,10 @@ public final class WorkStealingGroup implements TaskScheduler {
    *
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
+   *
+   * <p>Tasks which prefer their thread (see {@link ActorThreadGroup#getPreferredThreadId(Actor)})
+   * are only stolen if the victim has a backlog, i.e. more than one task queued. Otherwise, the
+   * victim will run the task soon enough, and moving it would only cost cache locality.
    */
   private ActorTask trySteal(final ActorThread currentThread) {
     /*
@@ -81,7 +89,8 @@ public final class WorkStealingGroup implements TaskScheduler {
       final int runnerId = i % numOfThreads;
 
       if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+        final ActorTaskQueue victim = taskQueues[runnerId];
+        final ActorTask stolenActor = victim.trySteal(victim.hasBacklog());
 
         if (stolenActor != null) {
           return stolenActor;
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.cluster.PartitionId;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorPartitionAffinityTest {
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldRunActorsOfSamePartitionOnSameThread() {
+    // given
+    scheduler = newScheduler();
+    final var streamProcessor = new PartitionScopedActor("StreamProcessor", 1);
+    final var exporter = new PartitionScopedActor("Exporter", 1);
+    scheduler.submitActor(streamProcessor).join();
+    scheduler.submitActor(exporter).join();
+
+    // when
+    final var threads = new HashSet<Thread>();
+    threads.addAll(streamProcessor.collectThreads(10));
+    threads.addAll(exporter.collectThreads(10));
+
+    // then
+    assertThat(threads).hasSize(1);
+  }
+
+  @Test
+  void shouldSpreadConsecutivePartitionsOverThreads() {
+    // given
+    scheduler = newScheduler();
+    final var first = new PartitionScopedActor("StreamProcessor", 1);
+    final var second = new PartitionScopedActor("StreamProcessor", 2);
+    scheduler.submitActor(first).join();
+    scheduler.submitActor(second).join();
+
+    // when
+    final var firstThreads = first.collectThreads(10);
+    final var secondThreads = second.collectThreads(10);
+
+    // then
+    assertThat(firstThreads).hasSize(1).doesNotContainAnyElementsOf(secondThreads);
+    assertThat(secondThreads).hasSize(1);
+  }
+
+  private ActorScheduler newScheduler() {
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setIoBoundActorThreadCount(1)
+            .setPartitionAffinityEnabled(true)
+            .build();
+    actorScheduler.start();
+    return actorScheduler;
+  }
+
+  private static final class PartitionScopedActor extends Actor {
+
+    private PartitionScopedActor(final String name, final int partition) {
+      super(name, new PartitionId("raft-partition", partition));
+    }
+
+    private Set<Thread> collectThreads(final int runs) {
+      final var threads = new HashSet<Thread>();
+      for (int i = 0; i < runs; i++) {
+        threads.add(actor.call(Thread::currentThread).join());
+      }
+      return threads;
+    }
+  }
+}
@@ -12,6 +12,7 @@ import static io.camunda.zeebe.util.Unit.unit;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -25,6 +26,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Objects;
@@ -106,6 +108,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    snapshotStore.getMetrics().observeReceivedChunk(snapshotChunk.getContentLength());
 
     incrementalChecksums.update(snapshotChunk);
 
@@ -273,13 +276,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         persistedMetadata = persistedMetadata.withTotalSizeBytes(sumDataFileSizes(files));
       }
       metadata = persistedMetadata;
+      final var checksums = incrementalChecksums.complete();
+      deduplicateFiles(checksums);
       final PersistedSnapshot value =
           snapshotStore.persistNewSnapshot(
-              directory,
-              snapshotId,
-              incrementalChecksums.complete(),
-              persistedMetadata,
-              writtenMetadataBytes);
+              directory, snapshotId, checksums, persistedMetadata, writtenMetadataBytes);
       future.complete(value);
     } catch (final Exception e) {
       future.completeExceptionally(e);
@@ -288,6 +289,57 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     snapshotStore.removePendingSnapshot(this);
   }
 
+  /**
+   * Files of a RocksDB checkpoint are never modified once written, so consecutive snapshots mostly
+   * consist of the same SST files. Every received file with the same name and checksum as a file
+   * of the latest persisted snapshot is replaced by a hard link to that file, such that both
+   * snapshots share the data on disk. The file system counts the references: deleting the older
+   * snapshot only removes its link, and the data is freed once no snapshot refers to it anymore.
+   *
+   * <p>This only saves disk space on the receiver; all files are still transferred. Linking is best
+   * effort; if it fails, e.g. because the file system doesn't support hard links, the received
+   * copy is kept.
+   */
+  private void deduplicateFiles(final ImmutableChecksumsSFV checksums) {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot().orElse(null);
+    if (latestSnapshot == null) {
+      return;
+    }
+
+    final var latestChecksums = latestSnapshot.getChecksums().getChecksums();
+    checksums
+        .getChecksums()
+        .forEach(
+            (fileName, checksum) -> {
+              if (!fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)
+                  && checksum.equals(latestChecksums.get(fileName))) {
+                linkFile(directory.resolve(fileName), latestSnapshot.getPath().resolve(fileName));
+              }
+            });
+  }
+
+  private void linkFile(final Path receivedFile, final Path existingFile) {
+    final var linkFile = receivedFile.resolveSibling(receivedFile.getFileName() + ".link");
+    try {
+      final long size = Files.size(receivedFile);
+      if (Files.size(existingFile) != size) {
+        return;
+      }
+
+      Files.createLink(linkFile, existingFile);
+      Files.move(linkFile, receivedFile, StandardCopyOption.ATOMIC_MOVE);
+      snapshotStore.getMetrics().observeDeduplicatedFile(size);
+      LOGGER.trace("Linked received snapshot file {} to {}", receivedFile, existingFile);
+    } catch (final IOException | UnsupportedOperationException e) {
+      LOGGER.debug("Failed to link received snapshot file {} to {}", receivedFile, existingFile, e);
+      try {
+        Files.deleteIfExists(linkFile);
+      } catch (final IOException ignored) {
+        // the received copy is still in place, only the stray link could not be removed
+      }
+    }
+  }
+
   private static long sumDataFileSizes(final File[] files) throws IOException {
     var totalSize = 0L;
     for (final var file : files) {
@@ -9,10 +9,12 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_CHUNK_COUNT;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_COUNT;
+import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_DEDUPLICATED_BYTES;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_DURATION;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_FILE_SIZE;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_PERSIST_DURATION;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_SIZE;
+import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_TRANSFER_BYTES;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_TRANSFER_DURATION;
 
 import io.camunda.zeebe.util.CloseableSilently;
@@ -40,9 +42,21 @@ public final class SnapshotMetrics {
   private final MArray<Timer> snapshotDuration = MArray.of(Timer[]::new, 2);
   private final MArray<Counter> snapshotCount = MArray.of(Counter[]::new, 2);
   private final MArray<Timer> snapshotTransferDuration = MArray.of(Timer[]::new, 2);
+  private final Counter snapshotTransferBytes;
+  private final Counter snapshotDeduplicatedBytes;
 
   public SnapshotMetrics(final MeterRegistry registry) {
     clock = registry.config().clock();
+    snapshotTransferBytes =
+        Counter.builder(SNAPSHOT_TRANSFER_BYTES.getName())
+            .description(SNAPSHOT_TRANSFER_BYTES.getDescription())
+            .baseUnit(SNAPSHOT_TRANSFER_BYTES.getBaseUnit())
+            .register(registry);
+    snapshotDeduplicatedBytes =
+        Counter.builder(SNAPSHOT_DEDUPLICATED_BYTES.getName())
+            .description(SNAPSHOT_DEDUPLICATED_BYTES.getDescription())
+            .baseUnit(SNAPSHOT_DEDUPLICATED_BYTES.getBaseUnit())
+            .register(registry);
 
     for (final var isBootstrap : List.of(true, false)) {
       final var index = encodeBoolean(isBootstrap);
@@ -112,6 +126,14 @@ public final class SnapshotMetrics {
     snapshotFileSize.get(encodeBoolean(isBootstrap)).record(sizeInBytes / 1_000_000f);
   }
 
+  void observeReceivedChunk(final long sizeInBytes) {
+    snapshotTransferBytes.increment(sizeInBytes);
+  }
+
+  void observeDeduplicatedFile(final long sizeInBytes) {
+    snapshotDeduplicatedBytes.increment(sizeInBytes);
+  }
+
   @SuppressWarnings("NullAway")
   CloseableSilently startTimer(final boolean isBootstrap) {
     return MicrometerUtil.timer(
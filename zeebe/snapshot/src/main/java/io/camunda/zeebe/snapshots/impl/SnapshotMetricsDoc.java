@@ -170,6 +170,62 @@ public enum SnapshotMetricsDoc implements ExtendedMeterDocumentation {
       return getPartitionBootstrapKeyNames();
     }
   },
+  /** Total number of snapshot bytes received from another node */
+  SNAPSHOT_TRANSFER_BYTES {
+    @Override
+    public String getDescription() {
+      return "Total number of snapshot bytes received from another node; its rate is the snapshot"
+          + " transfer throughput";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.snapshot.transfer.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+  /** Total bytes of received snapshot files which were shared with the previous snapshot */
+  SNAPSHOT_DEDUPLICATED_BYTES {
+    @Override
+    public String getDescription() {
+      return "Total number of received snapshot bytes which were identical to a file of the latest"
+          + " snapshot and were linked to it instead of being stored again";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.snapshot.deduplicated.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
   /** Approximate size of snapshot files */
   SNAPSHOT_FILE_SIZE {
     private static final double[] BUCKETS = {.01, .1, .5, 1, 5, 10, 25, 50, 100, 250, 500};
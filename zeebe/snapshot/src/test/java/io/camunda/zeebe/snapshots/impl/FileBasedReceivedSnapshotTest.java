@@ -369,6 +369,68 @@ public class FileBasedReceivedSnapshotTest {
         .isEqualTo(expectedTotalDataSize() + metadataSizeBytes);
   }
 
+  @Test
+  public void shouldCountReceivedBytes() throws IOException {
+    // given
+    final var meterRegistry = new SimpleMeterRegistry();
+    final var store = createStore(temporaryFolder.newFolder("counting").toPath(), meterRegistry);
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot = store.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final SnapshotChunk chunk;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      chunk = snapshotChunkReader.next();
+      receivedSnapshot.apply(chunk).join();
+    }
+
+    // then
+    assertThat(meterRegistry.get("zeebe.snapshot.transfer.bytes").counter().count())
+        .isEqualTo(chunk.getContentLength());
+  }
+
+  @Test
+  public void shouldLinkFilesOfLatestSnapshot() throws IOException {
+    // given - the previous snapshot is reserved, so it's kept after persisting the next one
+    final var meterRegistry = new SimpleMeterRegistry();
+    receiverSnapshotStore =
+        createStore(temporaryFolder.newFolder("linking").toPath(), meterRegistry);
+    final var firstSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    firstSnapshot.reserve().join();
+
+    // when
+    final var secondSnapshot = receiveSnapshot(takePersistedSnapshot(2L)).persist().join();
+
+    // then
+    for (final var fileName : SNAPSHOT_FILE_CONTENTS.keySet()) {
+      assertThat(
+              Files.isSameFile(
+                  firstSnapshot.getPath().resolve(fileName),
+                  secondSnapshot.getPath().resolve(fileName)))
+          .as("file %s is shared with the previous snapshot", fileName)
+          .isTrue();
+    }
+    assertThat(meterRegistry.get("zeebe.snapshot.deduplicated.bytes").counter().count())
+        .isEqualTo(expectedTotalDataSize());
+  }
+
+  @Test
+  public void shouldKeepLinkedFilesWhenPreviousSnapshotIsDeleted() throws IOException {
+    // given
+    receiverSnapshotStore =
+        createStore(temporaryFolder.newFolder("linking").toPath(), new SimpleMeterRegistry());
+    final var firstSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+
+    // when
+    final var secondSnapshot = receiveSnapshot(takePersistedSnapshot(2L)).persist().join();
+
+    // then
+    assertThat(firstSnapshot.getPath()).doesNotExist();
+    for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(secondSnapshot.getPath().resolve(entry.getKey())).hasContent(entry.getValue());
+    }
+  }
+
   @Test
   public void shouldRejectDuplicatedChunks() {
     // given
@@ -458,13 +520,14 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private FileBasedSnapshotStore createStore(final Path root) {
+    return createStore(root, new SimpleMeterRegistry());
+  }
+
+  private FileBasedSnapshotStore createStore(
+      final Path root, final SimpleMeterRegistry meterRegistry) {
     final var store =
         new FileBasedSnapshotStore(
-            0,
-            PARTITION_ID,
-            root,
-            snapshotPath -> SnapshotFilesInfo.none(),
-            new SimpleMeterRegistry());
+            0, PARTITION_ID, root, snapshotPath -> SnapshotFilesInfo.none(), meterRegistry);
     scheduler.submitActor(store).join();
 
     return store;
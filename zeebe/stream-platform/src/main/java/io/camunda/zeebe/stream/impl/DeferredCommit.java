@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks whether the stream processor holds back the state changes of processed commands in an
+ * open transaction, to commit them together with the next command. It is opened and committed by
+ * the processing actor, and read by the actors running the scheduled tasks, which must not observe
+ * the uncommitted state. Those can register listeners to be notified once it is committed.
+ */
+public final class DeferredCommit {
+
+  private final List<Runnable> commitListeners = new CopyOnWriteArrayList<>();
+  private volatile boolean open;
+
+  /**
+   * @return true while the state changes of processed commands are kept in an open transaction to
+   *     be committed together with the next command; they must not be observed until then
+   */
+  public boolean isOpen() {
+    return open;
+  }
+
+  void open() {
+    open = true;
+  }
+
+  /**
+   * Marks the deferred commit as done, and notifies the listeners if it was open. The listeners
+   * are called on the committing thread, so they should only hand over to their own actor.
+   */
+  void committed() {
+    if (!open) {
+      return;
+    }
+
+    open = false;
+    commitListeners.forEach(Runnable::run);
+  }
+
+  public void addCommitListener(final Runnable listener) {
+    commitListeners.add(listener);
+  }
+
+  public void removeCommitListener(final Runnable listener) {
+    commitListeners.remove(listener);
+  }
+}
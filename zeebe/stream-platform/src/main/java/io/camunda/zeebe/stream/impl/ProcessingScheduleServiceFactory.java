@@ -18,6 +18,7 @@ import java.util.function.Supplier;
 
 public class ProcessingScheduleServiceFactory {
   private final Supplier<Phase> streamProcessorPhaseSupplier;
+  private final DeferredCommit deferredCommit;
   private final BooleanSupplier abortCondition;
   private final Supplier<LogStreamWriter> writerSupplier;
   private final StageableScheduledCommandCache commandCache;
@@ -27,6 +28,7 @@ public class ProcessingScheduleServiceFactory {
 
   public ProcessingScheduleServiceFactory(
       final Supplier<Phase> streamProcessorPhaseSupplier,
+      final DeferredCommit deferredCommit,
       final BooleanSupplier abortCondition,
       final Supplier<LogStreamWriter> writerSupplier,
       final StageableScheduledCommandCache commandCache,
@@ -34,6 +36,7 @@ public class ProcessingScheduleServiceFactory {
       final Duration interval,
       final ScheduledTaskMetrics metrics) {
     this.streamProcessorPhaseSupplier = streamProcessorPhaseSupplier;
+    this.deferredCommit = deferredCommit;
     this.abortCondition = abortCondition;
     this.writerSupplier = writerSupplier;
     this.commandCache = commandCache;
@@ -45,6 +48,7 @@ public class ProcessingScheduleServiceFactory {
   public ProcessingScheduleServiceImpl create() {
     return new ProcessingScheduleServiceImpl(
         streamProcessorPhaseSupplier, // this is volatile
+        deferredCommit, // this is thread-safe
         abortCondition,
         writerSupplier,
         commandCache,
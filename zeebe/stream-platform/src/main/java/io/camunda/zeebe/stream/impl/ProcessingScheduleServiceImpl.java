@@ -23,7 +23,9 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.metrics.ScheduledTaskMetrics;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayDeque;
 import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
@@ -40,6 +42,7 @@ public class ProcessingScheduleServiceImpl
   private static final Logger LOG = Loggers.STREAM_PROCESSING;
 
   private final Supplier<StreamProcessor.Phase> streamProcessorPhaseSupplier;
+  private final DeferredCommit deferredCommit;
   private final BooleanSupplier abortCondition;
   private final Supplier<LogStreamWriter> writerSupplier;
   private final StageableScheduledCommandCache commandCache;
@@ -47,6 +50,9 @@ public class ProcessingScheduleServiceImpl
   private final long interval;
   private final ScheduledTaskMetrics metrics;
   private final PriorityQueue<ScheduledTaskImpl> scheduledTasks = new PriorityQueue<>();
+  // tasks which are waiting for the deferred commit; only accessed from the actor
+  private final Queue<Runnable> postponedTasks = new ArrayDeque<>();
+  private final Runnable onDeferredCommit = this::onDeferredCommit;
   private @Nullable LogStreamWriter logStreamWriter;
   private @Nullable ActorControl actorControl;
   private @Nullable AbortableRetryStrategy writeRetryStrategy;
@@ -60,7 +66,32 @@ public class ProcessingScheduleServiceImpl
       final InstantSource clock,
       final Duration interval,
       final ScheduledTaskMetrics metrics) {
+    this(
+        streamProcessorPhaseSupplier,
+        new DeferredCommit(),
+        abortCondition,
+        writerSupplier,
+        commandCache,
+        clock,
+        interval,
+        metrics);
+  }
+
+  /**
+   * @param deferredCommit the transaction in which the stream processor may hold back the state
+   *     changes of processed commands; tasks are postponed until it is committed
+   */
+  public ProcessingScheduleServiceImpl(
+      final Supplier<Phase> streamProcessorPhaseSupplier,
+      final DeferredCommit deferredCommit,
+      final BooleanSupplier abortCondition,
+      final Supplier<LogStreamWriter> writerSupplier,
+      final StageableScheduledCommandCache commandCache,
+      final InstantSource clock,
+      final Duration interval,
+      final ScheduledTaskMetrics metrics) {
     this.streamProcessorPhaseSupplier = streamProcessorPhaseSupplier;
+    this.deferredCommit = deferredCommit;
     this.abortCondition = abortCondition;
     this.writerSupplier = writerSupplier;
     this.commandCache = commandCache;
@@ -135,6 +166,7 @@ public class ProcessingScheduleServiceImpl
 
     logStreamWriter = writerSupplier.get();
     actorControl = control;
+    deferredCommit.addCommitListener(onDeferredCommit);
     openFuture.complete(unit());
     actorControl.runAtFixedRate(Duration.ofMillis(interval), this::processScheduledTasks);
     return openFuture;
@@ -142,6 +174,8 @@ public class ProcessingScheduleServiceImpl
 
   @Override
   public void close() {
+    deferredCommit.removeCommitListener(onDeferredCommit);
+    postponedTasks.clear();
     actorControl = null;
     logStreamWriter = null;
     writeRetryStrategy = null;
@@ -189,6 +223,11 @@ public class ProcessingScheduleServiceImpl
         return;
       }
 
+      if (deferredCommit.isOpen()) {
+        postponeUntilCommitted(guardRunnable(task));
+        return;
+      }
+
       task.run();
     };
   }
@@ -218,6 +257,11 @@ public class ProcessingScheduleServiceImpl
         return;
       }
 
+      if (deferredCommit.isOpen()) {
+        postponeUntilCommitted(toRunnable(task));
+        return;
+      }
+
       final var stagedCache = commandCache.stage();
       final var builder =
           new BufferedTaskResultBuilder(
@@ -262,6 +306,34 @@ public class ProcessingScheduleServiceImpl
     };
   }
 
+  /**
+   * The state changes of the commands processed so far are not committed yet and may still be
+   * rolled back, so the task must neither read them nor join their transaction. It is run once the
+   * deferred commit happened, see {@link #onDeferredCommit()}.
+   */
+  private void postponeUntilCommitted(final Runnable task) {
+    LOG.trace("Not able to execute scheduled task until the processed state is committed");
+    postponedTasks.add(task);
+  }
+
+  /**
+   * Called by the processing actor after committing. A task postponed concurrently is still added
+   * before the postponed tasks are run, as both happen on this service's actor.
+   */
+  private void onDeferredCommit() {
+    final var actor = actorControl;
+    if (actor != null) {
+      actor.run(this::runPostponedTasks);
+    }
+  }
+
+  private void runPostponedTasks() {
+    // tasks postponed again, because another commit was deferred meanwhile, wait for the next one
+    for (int i = postponedTasks.size(); i > 0; i--) {
+      requireNonNull(postponedTasks.poll()).run();
+    }
+  }
+
   /** Note: this class has a natural ordering that is inconsistent with equals. */
   private final class ScheduledTaskImpl
       implements ScheduledTask, Comparable<ScheduledTaskImpl>, Runnable {
@@ -25,6 +25,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -115,6 +116,8 @@ public final class ProcessingStateMachine {
       "Expected to roll back the current transaction for record '{} {}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED =
       "Expected to execute side effects for record '{} {}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_EXECUTE_UNCOMMITTED_SIDE_EFFECTS_ABORTED =
+      "Expected to execute side effects for {} commands processed in the same transaction successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING =
       "Expected to process record '{} {}' successfully on stream processor, but caught recoverable exception. Retry processing.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_UNRECOVERABLE =
@@ -174,6 +177,9 @@ public final class ProcessingStateMachine {
   private boolean inProcessing;
   private final int maxCommandsInBatch;
   private int processedCommandsCount;
+  private final int maxCommandsInTransaction;
+  // commands whose follow-up records are written, but whose state changes are not committed yet
+  private final List<UncommittedCommand> uncommittedCommands = new ArrayList<>();
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
@@ -196,6 +202,7 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxCommandsInTransaction = context.getMaxCommandsInTransaction();
 
     // Waiting between write attempts is safe: processing of the next record is guarded by
     // `inProcessing`, and no other job on this actor touches the open transaction or writes to
@@ -272,7 +279,8 @@ public final class ProcessingStateMachine {
       reachedEnd =
           previousRecord.eventOrRejection
               && !hasNext
-              && lastWrittenPosition <= previousRecord.position;
+              && lastWrittenPosition <= previousRecord.position
+              && uncommittedCommands.isEmpty();
     }
 
     if (shouldProcessNext.getAsBoolean() && hasNext) {
@@ -284,6 +292,10 @@ public final class ProcessingStateMachine {
       } else {
         skipRecord();
       }
+    } else if (!uncommittedCommands.isEmpty()) {
+      // there is nothing to add to the open transaction right now, so commit it instead of
+      // holding back the responses of the commands processed so far
+      commitUncommittedCommands();
     }
   }
 
@@ -327,6 +339,11 @@ public final class ProcessingStateMachine {
       typedCommand.wrap(loggedEvent, metadata, value);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      if (!uncommittedCommands.isEmpty()) {
+        // on error, only roll back this command, and keep the state changes of the previous ones
+        // whose follow-up records are already written
+        requireNonNull(zeebeDbTransaction).setSavepoint();
+      }
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
         requireNonNull(zeebeDbTransaction).run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
@@ -498,7 +515,11 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              requireNonNull(zeebeDbTransaction).rollback();
+              if (uncommittedCommands.isEmpty()) {
+                requireNonNull(zeebeDbTransaction).rollback();
+              } else {
+                requireNonNull(zeebeDbTransaction).rollbackToSavepoint();
+              }
               return true;
             },
             abortCondition);
@@ -715,12 +736,18 @@ public final class ProcessingStateMachine {
   }
 
   private void updateState() {
+    if (shouldDeferCommit()) {
+      deferCommit();
+      return;
+    }
+
     final var zeebeDbTransaction = requireNonNull(this.zeebeDbTransaction);
     final var currentRecord = requireNonNull(this.currentRecord);
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.commit();
+              context.getDeferredCommit().committed();
               lastSuccessfulProcessedRecordPosition = requireNonNull(currentRecord).getPosition();
               processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
@@ -738,6 +765,7 @@ public final class ProcessingStateMachine {
             // This will bubble up to `StreamProcessor#onFailure` and result in a dead partition.
             throw new UncommittedStateException(throwable);
           } else {
+            removeUncommittedCommandsFromCache();
             scheduledCommandCache.remove(
                 metadata.getIntent(), requireNonNull(currentRecord).getKey());
             executeSideEffects();
@@ -745,30 +773,124 @@ public final class ProcessingStateMachine {
         });
   }
 
+  /**
+   * Returns true if the state changes of the current command can be left uncommitted, such that
+   * the next command is processed within the same transaction. Commands which went through error
+   * handling are always committed right away.
+   */
+  private boolean shouldDeferCommit() {
+    return uncommittedCommands.size() + 1 < maxCommandsInTransaction
+        && errorHandlingPhase == ErrorHandlingPhase.NO_ERROR;
+  }
+
+  /**
+   * Completes the processing of the current command without committing the transaction. Its
+   * follow-up records are already written; its responses and post commit tasks are only executed
+   * once the transaction is committed, together with the next command or when there is nothing
+   * more to process.
+   *
+   * <p>Scheduled tasks are held back until then, so they don't observe state which may still be
+   * rolled back. The next record is read before any other job of the actor runs, such that the
+   * transaction is committed right away if there is nothing more to process.
+   */
+  private void deferCommit() {
+    final var currentRecord = requireNonNull(this.currentRecord);
+    context.getDeferredCommit().open();
+    lastWrittenPosition = writtenPosition;
+    uncommittedCommands.add(
+        new UncommittedCommand(
+            currentRecord.getPosition(),
+            currentRecord.getKey(),
+            metadata.getIntent(),
+            requireNonNull(currentProcessingResult),
+            requireNonNull(pendingResponses),
+            requireNonNull(processingTimer)));
+
+    notifyProcessedListener(typedCommand);
+    markProcessingCompleted();
+    actor.run(this::tryToReadNextRecord);
+  }
+
+  private void commitUncommittedCommands() {
+    inProcessing = true;
+    final var zeebeDbTransaction = requireNonNull(this.zeebeDbTransaction);
+    final var lastUncommittedPosition = uncommittedCommands.getLast().position();
+    final ActorFuture<Boolean> commitFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.commit();
+              context.getDeferredCommit().committed();
+              lastSuccessfulProcessedRecordPosition = lastUncommittedPosition;
+              processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        commitFuture,
+        (committed, commitError) -> {
+          if (commitError != null) {
+            // see updateState: the records are written already, so log and state have diverged
+            throw new UncommittedStateException(commitError);
+          }
+
+          removeUncommittedCommandsFromCache();
+          final ActorFuture<Boolean> sideEffectsFuture =
+              sideEffectsRetryStrategy.runWithRetry(
+                  this::executeUncommittedSideEffects, abortCondition);
+          actor.runOnCompletion(
+              sideEffectsFuture,
+              (executed, sideEffectsError) -> {
+                if (sideEffectsError != null) {
+                  LOG.error(
+                      ERROR_MESSAGE_EXECUTE_UNCOMMITTED_SIDE_EFFECTS_ABORTED,
+                      uncommittedCommands.size(),
+                      sideEffectsError);
+                }
+
+                completeUncommittedCommands();
+                inProcessing = false;
+                actor.submit(this::tryToReadNextRecord);
+              });
+        });
+  }
+
+  private void removeUncommittedCommandsFromCache() {
+    for (final var command : uncommittedCommands) {
+      scheduledCommandCache.remove(command.intent(), command.key());
+    }
+  }
+
+  private boolean executeUncommittedSideEffects() {
+    for (final var command : uncommittedCommands) {
+      writeResponses(command.responses());
+      if (!executePostCommitTasks(command.processingResult())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void completeUncommittedCommands() {
+    for (final var command : uncommittedCommands) {
+      command.processingTimer().close();
+    }
+    uncommittedCommands.clear();
+  }
+
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
             () -> {
+              // the commands processed before in the same transaction go first
+              if (!executeUncommittedSideEffects()) {
+                return false;
+              }
+
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : requireNonNull(pendingResponses)) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
+              writeResponses(requireNonNull(pendingResponses));
+              return executePostCommitTasks(requireNonNull(currentProcessingResult));
             },
             abortCondition);
 
@@ -780,6 +902,7 @@ public final class ProcessingStateMachine {
                 ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
           }
 
+          completeUncommittedCommands();
           notifyProcessedListener(typedCommand);
 
           // observe the processing duration
@@ -791,9 +914,28 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  private void writeResponses(final Collection<ProcessingResponse> processingResponses) {
+    for (final var processingResponse : processingResponses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return requireNonNull(currentProcessingResult).executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
     }
   }
 
@@ -882,6 +1024,14 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  private record UncommittedCommand(
+      long position,
+      long key,
+      Intent intent,
+      ProcessingResult processingResult,
+      Collection<ProcessingResponse> responses,
+      CloseableSilently processingTimer) {}
+
   private static final class PreviousRecord {
 
     private long position;
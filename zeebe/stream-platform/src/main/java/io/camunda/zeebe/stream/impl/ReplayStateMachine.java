@@ -74,9 +74,18 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
   private final RetryStrategy replayStrategy;
 
   private final BooleanSupplier abortCondition;
+  private final int maxBatchesInReplayTransaction;
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private boolean batchReplayStarted;
+  private boolean batchReplayed;
+  private int batchReplayedEvents;
+
+  // batches which are replayed, but not yet committed
+  private int uncommittedBatches;
+  private int uncommittedEvents;
+  private long uncommittedSourceEventPosition = StreamProcessor.UNSET_POSITION;
 
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
@@ -105,6 +114,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
     recordValues = context.getRecordValues();
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
+    maxBatchesInReplayTransaction = context.getMaxBatchesInReplayTransaction();
     keyGeneratorControls = context.getKeyGeneratorControls();
     lastProcessedPositionState = context.getLastProcessedPositionState();
 
@@ -167,6 +177,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
         final var batch = logStreamBatchReader.next();
+        batchReplayStarted = false;
+        batchReplayed = false;
         replayStrategy
             .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
             .onComplete(
@@ -179,10 +191,6 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
-                    lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
-                    replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
                 });
@@ -205,14 +213,45 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
   }
 
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
-    final boolean onRetry = zeebeDbTransaction != null;
+    // on a retry after a failed commit the batch is already part of the transaction
+    if (!batchReplayed) {
+      replayBatch(batch);
+      batchReplayed = true;
+      uncommittedBatches++;
+      uncommittedEvents += batchReplayedEvents;
+      uncommittedSourceEventPosition =
+          Math.max(uncommittedSourceEventPosition, batchSourceEventPosition);
+    }
+
+    if (shouldCommitReplayTransaction()) {
+      commitReplayTransaction();
+    }
+
+    return true;
+  }
+
+  private void replayBatch(final Batch batch) throws Exception {
+    final boolean onRetry = batchReplayStarted;
+    batchReplayStarted = true;
+    batchReplayedEvents = 0;
+
+    if (uncommittedBatches == 0) {
+      if (onRetry) {
+        requireNonNull(zeebeDbTransaction).rollback();
+      }
+      zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    } else if (onRetry) {
+      // only roll back the changes of this batch, the previous batches stay in the transaction
+      requireNonNull(zeebeDbTransaction).rollbackToSavepoint();
+    } else {
+      requireNonNull(zeebeDbTransaction).setSavepoint();
+    }
+
     if (onRetry) {
-      requireNonNull(zeebeDbTransaction).rollback();
       // reading the whole batch from the beginning again
       batch.head();
     }
 
-    zeebeDbTransaction = transactionContext.getCurrentTransaction();
     requireNonNull(zeebeDbTransaction)
         .run(
             () -> {
@@ -222,11 +261,31 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
                 lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
               }
             });
+  }
 
+  /**
+   * The transaction is committed once it contains enough batches, or if there is nothing more to
+   * replay right now, such that the state is never left uncommitted while waiting.
+   */
+  private boolean shouldCommitReplayTransaction() {
+    return uncommittedBatches >= maxBatchesInReplayTransaction
+        || !logStreamBatchReader.hasNext()
+        || shouldPause.getAsBoolean();
+  }
+
+  private void commitReplayTransaction() throws Exception {
     requireNonNull(zeebeDbTransaction).commit();
     zeebeDbTransaction = null;
+    replayMetrics.transactionCommitted(uncommittedEvents);
 
-    return true;
+    // the position should be visible only after the batch is committed successfully, otherwise a
+    // snapshot could claim a position which is not yet part of the state
+    lastSourceEventPosition = Math.max(lastSourceEventPosition, uncommittedSourceEventPosition);
+    replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+
+    uncommittedBatches = 0;
+    uncommittedEvents = 0;
+    uncommittedSourceEventPosition = StreamProcessor.UNSET_POSITION;
   }
 
   private void replayEvent(final LoggedEvent currentEvent) {
@@ -251,6 +310,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter, CloseableSile
 
       processor.replay(currentTypedEvent);
       lastReplayedEventPosition = currentTypedEvent.getPosition();
+      batchReplayedEvents++;
     }
 
     // Advance the key counter for engine-authored records. EVENT records are always
@@ -160,6 +160,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
       final var actorServiceFactory =
           new ProcessingScheduleServiceFactory(
               streamProcessorContext::getStreamProcessorPhase,
+              streamProcessorContext.getDeferredCommit(),
               streamProcessorContext.getAbortCondition(),
               logStream::newLogStreamWriter,
               scheduledCommandCache,
@@ -146,6 +146,16 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxCommandsInTransaction() < 1) {
+      throw new IllegalArgumentException(
+          "maxCommandsInTransaction must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCommandsInTransaction()));
+    }
+    if (streamProcessorContext.getMaxBatchesInReplayTransaction() < 1) {
+      throw new IllegalArgumentException(
+          "maxBatchesInReplayTransaction must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxBatchesInReplayTransaction()));
+    }
     if (streamProcessorContext.getMaxRecoverableRetries() < 1) {
       throw new IllegalArgumentException(
           "maxRecoverableRetries must be >= 1 but was %s"
@@ -158,6 +168,17 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxCommandsInTransaction(final int maxCommandsInTransaction) {
+    streamProcessorContext.maxCommandsInTransaction(maxCommandsInTransaction);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    streamProcessorContext.maxBatchesInReplayTransaction(maxBatchesInReplayTransaction);
+    return this;
+  }
+
   public StreamProcessorBuilder maxRecoverableRetries(final int maxRecoverableRetries) {
     streamProcessorContext.maxRecoverableRetries(maxRecoverableRetries);
     return this;
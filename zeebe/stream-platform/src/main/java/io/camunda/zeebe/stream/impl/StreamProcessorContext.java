@@ -35,6 +35,8 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
   public static final int DEFAULT_MAX_RECOVERABLE_RETRIES = 1000;
+  public static final int DEFAULT_MAX_COMMANDS_IN_TRANSACTION = 1;
+  public static final int DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION = 1;
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private @Nullable ActorControl actor;
   private @Nullable LogStream logStream;
@@ -56,9 +58,12 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
 
   // this is accessed outside, which is why we need to make sure that it is thread-safe
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
+  private final DeferredCommit deferredCommit = new DeferredCommit();
   private @Nullable KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
   private int maxRecoverableRetries = DEFAULT_MAX_RECOVERABLE_RETRIES;
+  private int maxCommandsInTransaction = DEFAULT_MAX_COMMANDS_IN_TRANSACTION;
+  private int maxBatchesInReplayTransaction = DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION;
   private EventFilter processingFilter = e -> true;
   private @Nullable ControllableStreamClock clock;
   private @Nullable MeterRegistry meterRegistry;
@@ -231,6 +236,10 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     this.phase = phase;
   }
 
+  public DeferredCommit getDeferredCommit() {
+    return deferredCommit;
+  }
+
   public StreamProcessorContext maxCommandsInBatch(final int maxCommandsInBatch) {
     this.maxCommandsInBatch = maxCommandsInBatch;
     return this;
@@ -240,6 +249,33 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext maxCommandsInTransaction(final int maxCommandsInTransaction) {
+    this.maxCommandsInTransaction = maxCommandsInTransaction;
+    return this;
+  }
+
+  /**
+   * @return how many consecutive commands read from the log may share a single state transaction;
+   *     1 commits the state after every command
+   */
+  public int getMaxCommandsInTransaction() {
+    return maxCommandsInTransaction;
+  }
+
+  public StreamProcessorContext maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+    return this;
+  }
+
+  /**
+   * @return how many consecutive event batches may be replayed within a single state transaction;
+   *     1 commits the state after every batch
+   */
+  public int getMaxBatchesInReplayTransaction() {
+    return maxBatchesInReplayTransaction;
+  }
+
   public StreamProcessorContext maxRecoverableRetries(final int maxRecoverableRetries) {
     this.maxRecoverableRetries = maxRecoverableRetries;
     return this;
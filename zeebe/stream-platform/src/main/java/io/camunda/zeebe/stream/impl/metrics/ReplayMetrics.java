@@ -11,6 +11,7 @@ import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -23,12 +24,14 @@ public final class ReplayMetrics {
   private final Clock clock;
   private final Counter replayEventsCount;
   private final Timer replayDurationTimer;
+  private final DistributionSummary replayTransactionEvents;
 
   public ReplayMetrics(final MeterRegistry registry) {
     clock = registry.config().clock();
 
     replayEventsCount = registerReplayEventsCount(registry);
     replayDurationTimer = registerReplayDuration(registry);
+    replayTransactionEvents = registerReplayTransactionEvents(registry);
     registerLastSourcePosition(registry);
   }
 
@@ -47,6 +50,14 @@ public final class ReplayMetrics {
         .register(registry);
   }
 
+  private DistributionSummary registerReplayTransactionEvents(final MeterRegistry registry) {
+    final var meterDoc = StreamMetricsDoc.REPLAY_TRANSACTION_EVENTS;
+    return DistributionSummary.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .serviceLevelObjectives(meterDoc.getDistributionSLOs())
+        .register(registry);
+  }
+
   private void registerLastSourcePosition(final MeterRegistry registry) {
     final var meterDoc = StreamMetricsDoc.LAST_SOURCE_POSITION;
     Gauge.builder(meterDoc.getName(), lastSourcePosition, AtomicLong::longValue)
@@ -58,6 +69,10 @@ public final class ReplayMetrics {
     replayEventsCount.increment();
   }
 
+  public void transactionCommitted(final int replayedEvents) {
+    replayTransactionEvents.record(replayedEvents);
+  }
+
   public CloseableSilently startReplayDurationTimer() {
     return MicrometerUtil.timer(replayDurationTimer, Timer.start(clock));
   }
@@ -206,6 +206,31 @@ public enum StreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Records the distribution of events replayed within a single state transaction */
+  REPLAY_TRANSACTION_EVENTS {
+    private static final double[] BUCKETS = {1, 4, 16, 64, 256, 1024, 4096};
+
+    @Override
+    public String getDescription() {
+      return "Records the distribution of events replayed within a single state transaction";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.replay.transaction.events";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+
   /** Number of records processed by stream processor */
   STREAM_PROCESSOR_EVENTS {
     @Override
@@ -31,4 +31,21 @@ public final class RecordValues {
     }
     return value;
   }
+
+  /**
+   * Reads the record value like {@link #readRecordValue(LoggedEvent, ValueType)}, but decodes its
+   * properties only when they are accessed for the first time. This is cheaper for readers which
+   * only look at a few properties of a record, e.g. exporters which filter records by their value.
+   *
+   * <p>The value references the memory of the event, so it must not be used once the event's
+   * memory may be reused.
+   */
+  public @Nullable UnifiedRecordValue readRecordValueLazily(
+      final LoggedEvent event, final ValueType valueType) {
+    final UnifiedRecordValue value = eventCache.get(valueType);
+    if (value != null) {
+      event.readValue(value.lazyReader());
+    }
+    return value;
+  }
 }
@@ -62,6 +62,7 @@ class ProcessingScheduleServiceTest {
   private LifecycleSupplier lifecycleSupplier;
   private final TestWriter testWriter = new TestWriter();
   private TestScheduleServiceActorDecorator scheduleService;
+  private final DeferredCommit deferredCommit = new DeferredCommit();
 
   @BeforeEach
   void before() {
@@ -69,6 +70,7 @@ class ProcessingScheduleServiceTest {
     final var processingScheduleService =
         new ProcessingScheduleServiceImpl(
             lifecycleSupplier,
+            deferredCommit,
             lifecycleSupplier,
             () -> testWriter,
             commandCache,
@@ -158,6 +160,62 @@ class ProcessingScheduleServiceTest {
     verify(mockedTask, timeout(2_000)).execute(any());
   }
 
+  @Test
+  void shouldPostponeScheduledTaskWhileDeferredCommitIsOpen() {
+    // given
+    deferredCommit.open();
+    final var mockedTask = spy(new DummyTask());
+
+    // when
+    scheduleService.runDelayed(Duration.ZERO, mockedTask);
+    actorScheduler.workUntilDone();
+
+    // then
+    verify(mockedTask, never()).execute(any());
+  }
+
+  @Test
+  void shouldRunPostponedTasksOnceAfterDeferredCommit() {
+    // given
+    deferredCommit.open();
+    final var mockedTask = spy(new DummyTask());
+    final var otherTask = spy(new DummyTask());
+    scheduleService.runDelayed(Duration.ZERO, mockedTask);
+    scheduleService.runDelayed(Duration.ZERO, otherTask);
+    actorScheduler.workUntilDone();
+
+    // when
+    deferredCommit.committed();
+    actorScheduler.workUntilDone();
+    deferredCommit.open();
+    deferredCommit.committed();
+    actorScheduler.workUntilDone();
+
+    // then
+    verify(mockedTask, times(1)).execute(any());
+    verify(otherTask, times(1)).execute(any());
+  }
+
+  @Test
+  void shouldKeepTaskPostponedUntilNextCommitIfDeferredAgain() {
+    // given
+    deferredCommit.open();
+    final var mockedTask = spy(new DummyTask());
+    scheduleService.runDelayed(Duration.ZERO, mockedTask);
+    actorScheduler.workUntilDone();
+
+    // when - the next commit is deferred before the postponed task gets to run
+    deferredCommit.committed();
+    deferredCommit.open();
+    actorScheduler.workUntilDone();
+    verify(mockedTask, never()).execute(any());
+    deferredCommit.committed();
+    actorScheduler.workUntilDone();
+
+    // then
+    verify(mockedTask, times(1)).execute(any());
+  }
+
   @Test
   void shouldNotExecuteTasksWhenScheduledOnClosedActor() {
     // given
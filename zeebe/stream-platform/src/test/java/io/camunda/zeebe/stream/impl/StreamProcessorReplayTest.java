@@ -30,6 +30,8 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -472,4 +474,78 @@ final class StreamProcessorReplayTest {
     // then
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplayBatchesInSameTransaction() {
+    // given
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(Protocol.encodePartitionId(1, 3L))
+            .causedBy(0),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(Protocol.encodePartitionId(1, 5L))
+            .causedBy(2),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(Protocol.encodePartitionId(1, 4L))
+            .causedBy(4));
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInReplayTransaction(4));
+
+    // then - the state is the same as if every batch was committed on its own
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, TIMEOUT.times(3)).replay(any());
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L));
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5L);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(5L);
+  }
+
+  @Test
+  void shouldOnlyRetryFailedBatchOfReplayTransaction() {
+    // given
+    final var failingEventKey = Protocol.encodePartitionId(1, 2L);
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(Protocol.encodePartitionId(1, 3L))
+            .causedBy(0),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(failingEventKey)
+            .causedBy(2));
+
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var failed = new AtomicBoolean();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> event = invocation.getArgument(0);
+              if (event.getKey() == failingEventKey && failed.compareAndSet(false, true)) {
+                throw new RecoverableException("replay error");
+              }
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInReplayTransaction(10));
+
+    // then - the earlier batch of the same transaction is not rolled back
+    verify(recordProcessor, TIMEOUT.times(3)).replay(any());
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(3L);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(3L);
+  }
 }
@@ -66,6 +66,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -809,6 +810,76 @@ public final class StreamProcessorTest {
     AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 1);
   }
 
+  @Test
+  public void shouldCommitCommandsProcessedInSameTransactionTogether() {
+    // given
+    final var events = new CopyOnWriteArrayList<String>();
+    final var testProcessor = spy(new TestProcessor());
+    testProcessor.processingAction = (ctx) -> events.add("process");
+    testProcessor.processingResult =
+        new BufferedProcessingResultBuilder((c, s) -> true)
+            .appendPostCommitTask(() -> events.add("post commit"))
+            .build();
+    streamPlatform.withRecordProcessors(List.of(testProcessor));
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.maxCommandsInTransaction(3));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+
+    // then - the post commit tasks only run once all three commands are committed
+    Awaitility.await("until all post commit tasks ran").until(events::size, size -> size == 6);
+    Assertions.assertThat(events)
+        .containsExactly(
+            "process", "process", "process", "post commit", "post commit", "post commit");
+  }
+
+  @Test
+  public void shouldOnlyRollBackFailedCommandOfSameTransaction() {
+    // given
+    final var processed = new AtomicInteger();
+    final var mockPostCommitTask = mock(PostCommitTask.class);
+    when(mockPostCommitTask.flush()).thenReturn(true);
+    final var testProcessor = spy(new TestProcessor());
+    testProcessor.processingAction =
+        (ctx) -> {
+          final var zeebeDb = ctx.getZeebeDb();
+          final var keyGenerator = new DbKeyGenerator(1, zeebeDb, ctx.getTransactionContext());
+          keyGenerator.nextKey();
+
+          if (processed.incrementAndGet() == 2) {
+            throw new RuntimeException("expected");
+          }
+        };
+    testProcessor.processingResult =
+        new BufferedProcessingResultBuilder((c, s) -> true)
+            .appendPostCommitTask(mockPostCommitTask)
+            .build();
+    streamPlatform.withRecordProcessors(List.of(testProcessor));
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.maxCommandsInTransaction(3));
+
+    final var zeebeDb = testProcessor.recordProcessorContext.getZeebeDb();
+    final var keyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+
+    // then - only the state changes of the failed command are discarded
+    verify(testProcessor, TIMEOUT.times(3)).process(any(), any());
+    verify(mockPostCommitTask, TIMEOUT.times(2)).flush();
+
+    final var nextKey = keyGenerator.nextKey();
+    AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 3);
+  }
+
   @Test
   public void shouldUpdateStateOnProcessingErrorCall() {
     // given
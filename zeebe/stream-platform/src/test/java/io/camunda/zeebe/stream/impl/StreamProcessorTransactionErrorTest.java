@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
@@ -86,6 +87,11 @@ final class StreamProcessorTransactionErrorTest {
       }
       return spy;
     }
+
+    @Override
+    public void addTransactionListener(final TransactionListener listener) {
+      delegate.addTransactionListener(listener);
+    }
   }
 
   private static final class ErrorProneDbFactory implements ZeebeDbFactory<ZbColumnFamilies> {
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl.records;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+
+final class RecordValuesTest {
+
+  private final RecordValues recordValues = new RecordValues();
+
+  @Test
+  void shouldReadSameValueLazily() {
+    // given
+    final var event = jobEvent(new JobRecord().setType("type").setWorker("worker").setRetries(3));
+
+    // when
+    final var value = (JobRecord) recordValues.readRecordValueLazily(event, ValueType.JOB);
+
+    // then
+    assertThat(value.getType()).isEqualTo("type");
+    assertThat(value.getWorker()).isEqualTo("worker");
+    assertThat(value.getRetries()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldWriteModifiedPropertyOfLazilyReadValue() {
+    // given
+    final var record = new JobRecord().setType("type").setWorker("worker").setRetries(3);
+    final var value =
+        (JobRecord) recordValues.readRecordValueLazily(jobEvent(record), ValueType.JOB);
+
+    // when
+    value.setWorker("other");
+    value.setRetries(value.getRetries() - 1);
+
+    // then
+    final var written = new JobRecord();
+    written.wrap(BufferUtil.createCopy(value));
+    assertThat(written.getWorker()).isEqualTo("other");
+    assertThat(written.getRetries()).isEqualTo(2);
+    assertThat(written.getType()).isEqualTo("type");
+  }
+
+  @Test
+  void shouldNotKeepModifiedPropertyWhenReadingNextValue() {
+    // given
+    final var value =
+        (JobRecord)
+            recordValues.readRecordValueLazily(
+                jobEvent(new JobRecord().setType("type").setWorker("worker")), ValueType.JOB);
+    value.setWorker("other");
+
+    // when
+    final var nextValue =
+        (JobRecord)
+            recordValues.readRecordValueLazily(
+                jobEvent(new JobRecord().setType("next").setRetries(1)), ValueType.JOB);
+
+    // then
+    assertThat(nextValue.getType()).isEqualTo("next");
+    assertThat(nextValue.getWorker()).isEmpty();
+    assertThat(nextValue.getRetries()).isEqualTo(1);
+  }
+
+  private LoggedEvent jobEvent(final JobRecord record) {
+    final DirectBuffer buffer = BufferUtil.createCopy(record);
+    final var event = mock(LoggedEvent.class);
+    doAnswer(
+            invocation -> {
+              invocation.<BufferReader>getArgument(0).wrap(buffer, 0, buffer.capacity());
+              return null;
+            })
+        .when(event)
+        .readValue(any());
+    return event;
+  }
+}
@@ -30,6 +30,18 @@ public interface RemoteStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /**
+   * Invoked when no stream is returned for a payload because all of its consumers are out of
+   * credits, i.e. have as many pushes in flight as they may have
+   */
+  default void streamSaturated() {}
+
+  /**
+   * Invoked when a payload is handed back to the error handler without being pushed, because all
+   * consumers of the stream ran out of credits after it was picked
+   */
+  default void pushCreditsExhausted() {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
@@ -11,9 +11,12 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponse;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -40,6 +43,28 @@ final class ClientStreamApiHandler {
     return responseFuture;
   }
 
+  /**
+   * Unbatches the request: each push is forwarded to its client stream on its own, exactly like a
+   * single push, and its result is added to the batch response in the order of the request.
+   *
+   * <p>The batch is only answered once all of its pushes completed. A push which is still in
+   * progress must not be reported as failed: the broker would yield its job, while the client may
+   * still receive and work on it. Like a single push, a batch is bounded by the broker's request
+   * timeout instead.
+   */
+  CompletableFuture<StreamResponse> handlePushBatchRequest(final PushBatchStreamRequest request) {
+    final List<CompletableFuture<StreamResponse>> results =
+        request.pushes().stream().map(this::handlePushRequest).toList();
+
+    return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored -> {
+              final var response = new PushBatchStreamResponse();
+              results.forEach(result -> response.addResult(result.join()));
+              return response;
+            });
+  }
+
   /**
    * The RESTART_STREAMS topic is physicalTenantId-scoped, so this only affects registrations for
    * {@code physicalTenantId}; the sender may still serve other physical tenants unaffected by this
@@ -61,6 +86,10 @@ final class ClientStreamApiHandler {
       return;
     }
 
+    response.complete(errorResponse(error));
+  }
+
+  private static ErrorResponse errorResponse(final Throwable error) {
     final var errorResponse =
         new ErrorResponse()
             .code(ErrorResponse.mapErrorToCode(error))
@@ -70,6 +99,6 @@ final class ClientStreamApiHandler {
           ErrorResponse.mapErrorToCode(detail), Objects.toString(detail.getMessage(), ""));
     }
 
-    response.complete(errorResponse);
+    return errorResponse;
   }
 }
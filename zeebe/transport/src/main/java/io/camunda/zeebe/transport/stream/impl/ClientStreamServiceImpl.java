@@ -82,6 +82,12 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
         apiHandler::handlePushRequest,
         BufferUtil::bufferAsArray,
         actor::run);
+    communicationService.replyToAsync(
+        StreamTopics.PUSH_BATCH.legacyTopic(),
+        MessageUtil::parsePushBatchRequest,
+        apiHandler::handlePushBatchRequest,
+        BufferUtil::bufferAsArray,
+        actor::run);
 
     // Pre-register the default group's RESTART topic so restarted legacy brokers are handled
     // even before the first brokerAdded callback fires.
@@ -43,8 +43,8 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
 
   @Override
   public void push(final P payload) {
-    final var initialConsumer = pickInitialConsumer();
-    if (initialConsumer == null) {
+    final var candidate = pickInitialConsumer();
+    if (candidate == null) {
       errorHandler.handleError(
           new StreamExhaustedException(
               "Failed to push to stream %s, all consumers were removed since it was picked"
@@ -53,11 +53,61 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       return;
     }
 
+    final var initialConsumer = acquireCredit(candidate);
+    if (initialConsumer == null) {
+      streamer.metrics().pushCreditsExhausted();
+      errorHandler.handleError(
+          new StreamExhaustedException(
+              "Failed to push to stream %s, all consumers ran out of credits since it was picked"
+                  .formatted(stream.logicalId())),
+          payload);
+      return;
+    }
+
     final var retryHandler = new RetryHandler(errorHandler, initialConsumer);
     streamer.pushAsync(payload, retryHandler, initialConsumer.id());
   }
 
+  /**
+   * Picks two consumers at random and returns the one with the most credits left. This spreads the
+   * load away from busy consumers without comparing all of them on every push.
+   */
   private @Nullable StreamConsumer<M> pickInitialConsumer() {
+    final var first = pickRandomConsumer();
+    final var second = pickRandomConsumer();
+    if (first == null || second == null) {
+      return first == null ? second : first;
+    }
+
+    final var credits = streamer.credits();
+    return credits.available(first.id()) >= credits.available(second.id()) ? first : second;
+  }
+
+  /**
+   * Takes a credit of the given consumer, or of any other consumer picked at random if it has none
+   * left.
+   *
+   * @return the consumer whose credit was taken, or null if no consumer has credits left
+   */
+  private @Nullable StreamConsumer<M> acquireCredit(final StreamConsumer<M> candidate) {
+    final var credits = streamer.credits();
+    if (credits.tryAcquire(candidate.id())) {
+      return candidate;
+    }
+
+    // shuffle so that the consumers registered first are not always the ones filled up first
+    final var consumers = new ArrayList<>(stream.streamConsumers());
+    Collections.shuffle(consumers);
+    for (final var consumer : consumers) {
+      if (credits.tryAcquire(consumer.id())) {
+        return consumer;
+      }
+    }
+
+    return null;
+  }
+
+  private @Nullable StreamConsumer<M> pickRandomConsumer() {
     final var consumers = stream.streamConsumers();
     var size = consumers.size();
 
@@ -114,6 +164,11 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       }
 
       final var client = iterator.next();
+      if (!streamer.credits().tryAcquire(client.id())) {
+        retry(throwable, payload, iterator);
+        return;
+      }
+
       LOGGER.trace(
           "Failed to push payload (size = {}), retrying with next stream", payload.getLength());
       streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
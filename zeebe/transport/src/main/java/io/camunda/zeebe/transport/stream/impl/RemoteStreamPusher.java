@@ -8,30 +8,56 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A naive implementation to push jobs out, which performs no retries of any kind, but reports
- * errors on failure.
+ * errors on failure. The caller takes a credit of the consumer before pushing to it, see {@link
+ * StreamConsumerCredits}; the pusher gives it back once the push completed.
+ *
+ * <p>If a batch transport is given, pushes to the same receiver are coalesced into a single {@link
+ * PushBatchStreamRequest}: payloads pushed from other threads are queued until the executor gets to
+ * send them, and all pushes queued by then are sent together, bounded by {@link #MAX_BATCH_SIZE}
+ * and {@link #MAX_BATCH_LENGTH}. Batching thus adds no delay; the busier the pusher, the larger
+ * the batches. Each push of a batch still succeeds or fails on its own. Receivers which don't know
+ * batches yet, e.g. during a rolling update, are sent single pushes instead.
  *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
+  static final int MAX_BATCH_SIZE = 32;
+  static final int MAX_BATCH_LENGTH = 512 * 1024;
+  private static final int MAX_PUSHES_PER_FLUSH = 1024;
   private static final Logger LOG = LoggerFactory.getLogger(RemoteStreamPusher.class);
 
   private final StreamResponseDecoder responseDecoder = new StreamResponseDecoder();
@@ -41,12 +67,50 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final StreamConsumerCredits credits;
+  private final @Nullable BatchTransport batchTransport;
+
+  private final Queue<PendingPush<P>> pendingPushes = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  // only accessed from the executor
+  private final Set<MemberId> receiversWithoutBatching = new HashSet<>();
 
   RemoteStreamPusher(
       final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+    this(
+        transport,
+        executor,
+        metrics,
+        new StreamConsumerCredits(StreamConsumerCredits.DEFAULT_CREDITS));
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final RemoteStreamMetrics metrics,
+      final StreamConsumerCredits credits) {
+    this(transport, null, executor, metrics, credits);
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final @Nullable BatchTransport batchTransport,
+      final Executor executor,
+      final RemoteStreamMetrics metrics,
+      final StreamConsumerCredits credits) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+    this.credits = Objects.requireNonNull(credits, "must specify the consumer credits");
+    this.batchTransport = batchTransport;
+  }
+
+  StreamConsumerCredits credits() {
+    return credits;
+  }
+
+  RemoteStreamMetrics metrics() {
+    return metrics;
   }
 
   public void pushAsync(
@@ -55,13 +119,44 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
-      executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+      if (batchTransport == null) {
+        executor.execute(
+            () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+        return;
+      }
+
+      final var push =
+          new PendingPush<>(payload, instrumentingErrorHandler(errorHandler, streamId), streamId);
+      pendingPushes.offer(push);
+      if (flushScheduled.compareAndSet(false, true)) {
+        scheduleFlush(push);
+      }
     } catch (final Exception e) {
+      credits.release(streamId);
       errorHandler.handleError(e, payload);
     }
   }
 
+  /**
+   * Forgets what is known about the given receiver, e.g. when it left or joined the cluster again,
+   * possibly with a version which accepts batched pushes.
+   */
+  void resetReceiver(final MemberId receiver) {
+    executor.execute(() -> receiversWithoutBatching.remove(receiver));
+  }
+
+  private void scheduleFlush(final PendingPush<P> push) {
+    try {
+      executor.execute(this::flushPendingPushes);
+    } catch (final Exception e) {
+      flushScheduled.set(false);
+      // a flush which was still running may have taken the push already, and will complete it
+      if (pendingPushes.remove(push)) {
+        throw e;
+      }
+    }
+  }
+
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
       final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
     return (error, payload) -> {
@@ -116,15 +211,134 @@ final class RemoteStreamPusher<P extends BufferWriter> {
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> {
+                credits.release(streamId);
+                onPush(payload, errorHandler, response, error);
+              },
+              executor);
       // the payload is not rendered: a pushed job carries the resolved values of its secret
       // references, and those must not reach the log, not even at trace level
       LOG.trace("Pushed (size = {}) to stream {}", payload.getLength(), streamId);
     } catch (final Exception e) {
+      credits.release(streamId);
       errorHandler.handleError(e, payload);
     }
   }
 
+  private void flushPendingPushes() {
+    flushScheduled.set(false);
+
+    final Map<MemberId, PendingBatch<P>> batches = new HashMap<>();
+    PendingPush<P> push;
+    int flushedPushes = 0;
+    while (flushedPushes < MAX_PUSHES_PER_FLUSH && (push = pendingPushes.poll()) != null) {
+      final var receiver = push.streamId().receiver();
+      final var batch = batches.computeIfAbsent(receiver, ignored -> new PendingBatch<>());
+      if (!batch.canAdd(push)) {
+        pushBatch(receiver, batch.drain());
+      }
+
+      batch.add(push);
+      flushedPushes++;
+    }
+    batches.forEach((receiver, batch) -> pushBatch(receiver, batch.drain()));
+
+    // don't hog the executor if pushes are queued faster than they can be sent
+    if (!pendingPushes.isEmpty() && flushScheduled.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::flushPendingPushes);
+      } catch (final Exception e) {
+        flushScheduled.set(false);
+        while ((push = pendingPushes.poll()) != null) {
+          onPushFailed(push, e);
+        }
+      }
+    }
+  }
+
+  private void pushBatch(final MemberId receiver, final List<PendingPush<P>> pushes) {
+    if (pushes.size() == 1 || receiversWithoutBatching.contains(receiver)) {
+      pushes.forEach(this::push);
+      return;
+    }
+
+    final var request = new PushBatchStreamRequest();
+    pushes.forEach(push -> request.add(push.streamId().streamId(), push.payload()));
+    try {
+      Objects.requireNonNull(batchTransport)
+          .send(request, receiver)
+          .whenCompleteAsync(
+              (response, error) -> onBatchPushed(receiver, pushes, response, error), executor);
+      LOG.trace("Pushed batch of {} payloads to {}", pushes.size(), receiver);
+    } catch (final Exception e) {
+      pushes.forEach(push -> onPushFailed(push, e));
+    }
+  }
+
+  private void onBatchPushed(
+      final MemberId receiver,
+      final List<PendingPush<P>> pushes,
+      final byte[] responseBuffer,
+      final @Nullable Throwable error) {
+    if (error != null && isMissingHandler(error)) {
+      LOG.debug(
+          "Receiver {} does not accept batched pushes, falling back to single pushes", receiver);
+      receiversWithoutBatching.add(receiver);
+      pushes.forEach(this::push);
+      return;
+    }
+
+    if (error != null) {
+      pushes.forEach(push -> onPushFailed(push, error));
+      return;
+    }
+
+    responseDecoder
+        .decode(responseBuffer, new PushBatchStreamResponse())
+        .mapLeft(ErrorResponse::asException)
+        .ifRightOrLeft(
+            response -> onBatchResults(pushes, response.results()),
+            failure -> pushes.forEach(push -> onPushFailed(push, failure)));
+  }
+
+  private void onBatchResults(final List<PendingPush<P>> pushes, final List<BufferWriter> results) {
+    for (int i = 0; i < pushes.size(); i++) {
+      final var push = pushes.get(i);
+      if (i >= results.size()) {
+        final var missingResult =
+            new ErrorResponse()
+                .code(ErrorCode.MALFORMED)
+                .message(
+                    "Expected a result for each of the %d pushes of the batch, but got %d"
+                        .formatted(pushes.size(), results.size()));
+        onPushFailed(push, missingResult.asException());
+        continue;
+      }
+
+      credits.release(push.streamId());
+      onPushResponse(push.payload(), push.errorHandler(), BufferUtil.bufferAsArray(results.get(i)));
+    }
+  }
+
+  private void push(final PendingPush<P> push) {
+    push(push.payload(), push.errorHandler(), push.streamId());
+  }
+
+  private void onPushFailed(final PendingPush<P> push, final Throwable error) {
+    credits.release(push.streamId());
+    push.errorHandler().handleError(error, push.payload());
+  }
+
+  private static boolean isMissingHandler(final Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof NoRemoteHandler) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
@@ -135,6 +349,13 @@ final class RemoteStreamPusher<P extends BufferWriter> {
       return;
     }
 
+    onPushResponse(payload, errorHandler, responseBuffer);
+  }
+
+  private void onPushResponse(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final byte[] responseBuffer) {
     responseDecoder
         .decode(responseBuffer, new PushStreamResponse())
         .mapLeft(ErrorResponse::asException)
@@ -162,4 +383,47 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
   }
+
+  /** Like {@link Transport}, but for batches of pushes to the same receiver. */
+  interface BatchTransport {
+
+    /**
+     * Sends the given batch out to the given receiver. May throw errors, e.g. serialization errors.
+     *
+     * @param request the batch to send
+     * @param receiver the expected target
+     * @return a future which is completed when the batch has been handled by the receiver, or an
+     *     error occurred
+     * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
+     */
+    CompletableFuture<byte[]> send(final PushBatchStreamRequest request, final MemberId receiver)
+        throws Exception;
+  }
+
+  private record PendingPush<P>(
+      P payload, RemoteStreamErrorHandler<P> errorHandler, StreamId streamId) {}
+
+  /** The pushes to the same receiver which are sent together, bounded by count and length. */
+  private static final class PendingBatch<P extends BufferWriter> {
+    private List<PendingPush<P>> pushes = new ArrayList<>();
+    private int length;
+
+    private boolean canAdd(final PendingPush<P> push) {
+      return pushes.isEmpty()
+          || (pushes.size() < MAX_BATCH_SIZE
+              && length + push.payload().getLength() <= MAX_BATCH_LENGTH);
+    }
+
+    private void add(final PendingPush<P> push) {
+      pushes.add(push);
+      length += push.payload().getLength();
+    }
+
+    private List<PendingPush<P>> drain() {
+      final var drained = pushes;
+      pushes = new ArrayList<>();
+      length = 0;
+      return drained;
+    }
+  }
 }
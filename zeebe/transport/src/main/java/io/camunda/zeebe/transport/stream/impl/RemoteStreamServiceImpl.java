@@ -92,6 +92,7 @@ public class RemoteStreamServiceImpl<M, P extends BufferWriter>
   public void event(final ClusterMembershipEvent event) {
     final var type = event.type();
 
+    streamer.resetReceiver(event.subject().id());
     if (type == Type.MEMBER_REMOVED) {
       apiServer.removeAll(event.subject().id());
     } else if (type == Type.MEMBER_ADDED) {
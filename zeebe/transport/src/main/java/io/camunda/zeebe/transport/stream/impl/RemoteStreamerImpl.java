@@ -14,6 +14,7 @@ import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -37,6 +38,10 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>NOTE: any payload pushed is sent via the stream from {@link #streamFor(DirectBuffer)} will be
  * asynchronous, so the payload should be immutable, and the errors reported to the given {@link
  * RemoteStreamErrorHandler} may be reported on different threads.
+ *
+ * <p>Only streams with a consumer which has credits left are returned, see {@link
+ * StreamConsumerCredits}. If all consumers are busy, no stream is returned, such that the payload
+ * is not pushed at all instead of being handed back after failing to push it.
  */
 public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     implements RemoteStreamer<M, P> {
@@ -46,17 +51,36 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
   private final ImmutableStreamRegistry<M> registry;
   private final RemoteStreamPusher<P> remoteStreamPusher;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final RemoteStreamMetrics metrics;
+  private final StreamConsumerCredits credits;
 
   public RemoteStreamerImpl(
       final ClusterCommunicationService transport,
       final ImmutableStreamRegistry<M> registry,
       final RemoteStreamErrorHandler<P> errorHandler,
       final RemoteStreamMetrics metrics) {
+    this(
+        transport,
+        registry,
+        errorHandler,
+        metrics,
+        new StreamConsumerCredits(StreamConsumerCredits.DEFAULT_CREDITS));
+  }
+
+  RemoteStreamerImpl(
+      final ClusterCommunicationService transport,
+      final ImmutableStreamRegistry<M> registry,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics,
+      final StreamConsumerCredits credits) {
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
+    this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
+    this.credits = Objects.requireNonNull(credits, "must specify the consumer credits");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    remoteStreamPusher =
+        new RemoteStreamPusher<>(this::send, this::sendBatch, actor::run, metrics, credits);
   }
 
   @Override
@@ -80,15 +104,35 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    var saturated = false;
     for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
+      if (hasCredits(target)) {
         return Optional.of(target);
       }
+      saturated |= !target.streamConsumers().isEmpty();
     }
 
+    if (saturated) {
+      metrics.streamSaturated();
+    }
     return Optional.empty();
   }
 
+  private boolean hasCredits(final AggregatedRemoteStream<M> target) {
+    for (final var consumer : target.streamConsumers()) {
+      if (credits.available(consumer.id()) > 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /** Forgets what is known about the given member, e.g. when it left or joined the cluster. */
+  void resetReceiver(final MemberId member) {
+    remoteStreamPusher.resetReceiver(member);
+  }
+
   private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
     return transport.send(
         StreamTopics.PUSH.legacyTopic(),
@@ -98,4 +142,15 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
         receiver,
         REQUEST_TIMEOUT);
   }
+
+  private CompletableFuture<byte[]> sendBatch(
+      final PushBatchStreamRequest request, final MemberId receiver) {
+    return transport.send(
+        StreamTopics.PUSH_BATCH.legacyTopic(),
+        request,
+        BufferUtil::bufferAsArray,
+        Function.identity(),
+        receiver,
+        REQUEST_TIMEOUT);
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits the number of pushes in flight per stream consumer. Each consumer starts with a fixed
+ * amount of credits; a credit is taken when a payload is pushed to the consumer, and given back once
+ * the consumer acknowledged or rejected it, or the push failed. A consumer which is slow to
+ * acknowledge, e.g. because its gateway is busy, thus runs out of credits, and payloads can be
+ * routed to other consumers, or not pushed at all, instead of piling up in front of it.
+ *
+ * <p>Only consumers with pushes in flight are tracked, so removed consumers don't leak. Credits can
+ * be taken and given back from any thread.
+ */
+final class StreamConsumerCredits {
+
+  static final int DEFAULT_CREDITS = 64;
+
+  private final Map<StreamId, Integer> inFlight = new ConcurrentHashMap<>();
+  private final int credits;
+
+  StreamConsumerCredits(final int credits) {
+    if (credits <= 0) {
+      throw new IllegalArgumentException(
+          "Expected credits per consumer to be greater than 0, but got %d".formatted(credits));
+    }
+
+    this.credits = credits;
+  }
+
+  /**
+   * @return the number of pushes which can still be sent to the consumer
+   */
+  int available(final StreamId consumer) {
+    return credits - inFlight.getOrDefault(consumer, 0);
+  }
+
+  /**
+   * Takes a credit of the consumer, if it has any left.
+   *
+   * @return true if a credit was taken, false if the consumer has none left
+   */
+  boolean tryAcquire(final StreamId consumer) {
+    final var acquired = new boolean[1];
+    inFlight.compute(
+        consumer,
+        (id, count) -> {
+          final int current = count == null ? 0 : count;
+          acquired[0] = current < credits;
+          return acquired[0] ? current + 1 : current;
+        });
+    return acquired[0];
+  }
+
+  /** Gives back a credit taken via {@link #tryAcquire(StreamId)}. */
+  void release(final StreamId consumer) {
+    inFlight.computeIfPresent(consumer, (id, count) -> count <= 1 ? null : count - 1);
+  }
+}
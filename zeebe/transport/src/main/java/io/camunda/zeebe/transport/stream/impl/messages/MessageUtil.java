@@ -20,6 +20,10 @@ public final class MessageUtil {
     return parseRequest(bytes, new PushStreamRequest());
   }
 
+  public static PushBatchStreamRequest parsePushBatchRequest(final byte[] bytes) {
+    return parseRequest(bytes, new PushBatchStreamRequest());
+  }
+
   public static RemoveStreamRequest parseRemoveRequest(final byte[] bytes) {
     return parseRequest(bytes, new RemoveStreamRequest());
   }
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamRequestDecoder.PushesDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamRequestEncoder.PushesEncoder;
+import io.camunda.zeebe.util.SbeUtil;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Pushes several payloads to streams of the same receiver at once. Each push is handled on its own,
+ * as if it was sent via a {@link PushStreamRequest}, and has its own result in the {@link
+ * PushBatchStreamResponse}.
+ */
+public final class PushBatchStreamRequest implements BufferReader, BufferWriter {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushBatchStreamRequestEncoder messageEncoder = new PushBatchStreamRequestEncoder();
+  private final PushBatchStreamRequestDecoder messageDecoder = new PushBatchStreamRequestDecoder();
+
+  private final List<PushStreamRequest> pushes = new ArrayList<>();
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    pushes.clear();
+    for (final PushesDecoder decoder : messageDecoder.pushes()) {
+      final var streamId = new UUID(decoder.id().high(), decoder.id().low());
+      final var payload = new UnsafeBuffer();
+      decoder.wrapPayload(payload);
+      pushes.add(new PushStreamRequest().streamId(streamId).payload(payload));
+    }
+  }
+
+  @Override
+  public int getLength() {
+    final var pushesLength =
+        pushes.stream()
+            .mapToInt(
+                push ->
+                    PushesEncoder.sbeBlockLength()
+                        + PushesEncoder.payloadHeaderLength()
+                        + push.payloadWriter().getLength())
+            .sum();
+
+    return headerEncoder.encodedLength()
+        + messageEncoder.sbeBlockLength()
+        + PushesEncoder.sbeHeaderSize()
+        + pushesLength;
+  }
+
+  @Override
+  public int write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var pushesEncoder = messageEncoder.pushesCount(pushes.size());
+    for (final var push : pushes) {
+      pushesEncoder
+          .next()
+          .id()
+          .high(push.streamId().getMostSignificantBits())
+          .low(push.streamId().getLeastSignificantBits());
+      SbeUtil.writeNested(
+          push.payloadWriter(),
+          PushesEncoder.payloadHeaderLength(),
+          messageEncoder,
+          PushBatchStreamRequestEncoder.BYTE_ORDER);
+    }
+
+    return getLength();
+  }
+
+  public PushBatchStreamRequest add(final UUID streamId, final BufferWriter payload) {
+    pushes.add(new PushStreamRequest().streamId(streamId).payload(payload));
+    return this;
+  }
+
+  /** Returns the pushes of the batch, in the order they were added or read. */
+  public List<PushStreamRequest> pushes() {
+    return pushes;
+  }
+
+  @Override
+  public String toString() {
+    return "PushBatchStreamRequest{" + "pushes=" + pushes + '}';
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamResponseDecoder.ResultsDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamResponseEncoder.ResultsEncoder;
+import io.camunda.zeebe.util.SbeUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Result of a {@link PushBatchStreamRequest}, with one encoded {@link PushStreamResponse} or {@link
+ * ErrorResponse} per push of the request, in the same order.
+ */
+public final class PushBatchStreamResponse implements StreamResponse {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushBatchStreamResponseEncoder messageEncoder =
+      new PushBatchStreamResponseEncoder();
+  private final PushBatchStreamResponseDecoder messageDecoder =
+      new PushBatchStreamResponseDecoder();
+
+  private final List<BufferWriter> results = new ArrayList<>();
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    results.clear();
+    for (final ResultsDecoder decoder : messageDecoder.results()) {
+      final var response = new UnsafeBuffer();
+      decoder.wrapResponse(response);
+      results.add(new DirectBufferWriter(response));
+    }
+  }
+
+  @Override
+  public int getLength() {
+    final var resultsLength =
+        results.stream()
+            .mapToInt(
+                result ->
+                    ResultsEncoder.sbeBlockLength()
+                        + ResultsEncoder.responseHeaderLength()
+                        + result.getLength())
+            .sum();
+
+    return headerEncoder.encodedLength()
+        + messageEncoder.sbeBlockLength()
+        + ResultsEncoder.sbeHeaderSize()
+        + resultsLength;
+  }
+
+  @Override
+  public int write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var resultsEncoder = messageEncoder.resultsCount(results.size());
+    for (final var result : results) {
+      resultsEncoder.next();
+      SbeUtil.writeNested(
+          result,
+          ResultsEncoder.responseHeaderLength(),
+          messageEncoder,
+          PushBatchStreamResponseEncoder.BYTE_ORDER);
+    }
+
+    return getLength();
+  }
+
+  @Override
+  public int templateId() {
+    return messageDecoder.sbeTemplateId();
+  }
+
+  public PushBatchStreamResponse addResult(final StreamResponse result) {
+    results.add(result);
+    return this;
+  }
+
+  /** Returns the encoded result of each push, in the order of the request. */
+  public List<BufferWriter> results() {
+    return results;
+  }
+
+  @Override
+  public String toString() {
+    return "PushBatchStreamResponse{" + "results=" + results.size() + '}';
+  }
+}
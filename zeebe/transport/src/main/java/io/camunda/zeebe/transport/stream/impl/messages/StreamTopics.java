@@ -12,6 +12,7 @@ import java.util.Objects;
 public enum StreamTopics {
   ADD("stream-add"),
   PUSH("stream-push"),
+  PUSH_BATCH("stream-push-batch"),
   REMOVE("stream-remove"),
   REMOVE_ALL("stream-remove-all"),
   RESTART_STREAMS("stream-recreate");
@@ -9,6 +9,7 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static io.camunda.cluster.PhysicalTenantIds.DEFAULT_PHYSICAL_TENANT_ID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.inOrder;
@@ -22,8 +23,15 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException.ErrorDetail;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.time.Duration;
+import java.util.UUID;
 import java.util.stream.Stream;
 import org.agrona.collections.ArrayUtil;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -97,6 +105,81 @@ final class ClientStreamApiHandlerTest {
         .containsExactly(testCase.code());
   }
 
+  @Test
+  void shouldRespondToEachPushOfBatch() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var request =
+        new PushBatchStreamRequest()
+            .add(UUID.randomUUID(), new DirectBufferWriter(BufferUtil.wrapString("foo")))
+            .add(UUID.randomUUID(), new DirectBufferWriter(BufferUtil.wrapString("bar")));
+    final var payloadPushed = ArgumentCaptor.forClass(CompletableActorFuture.class);
+    //noinspection unchecked
+    doNothing().when(clientStreamManager).onPayloadReceived(any(), payloadPushed.capture());
+
+    // when
+    final var response = apiHandler.handlePushBatchRequest(request);
+    payloadPushed.getAllValues().get(0).complete(null);
+    payloadPushed
+        .getAllValues()
+        .get(1)
+        .completeExceptionally(new ClientStreamBlockedException("failed"));
+
+    // then
+    assertThat(response).succeedsWithin(Duration.ZERO);
+    final var results = ((PushBatchStreamResponse) response.join()).results();
+    final var decoder = new StreamResponseDecoder();
+    assertThat(results).hasSize(2);
+    assertThat(
+            decoder
+                .decode(BufferUtil.bufferAsArray(results.get(0)), new PushStreamResponse())
+                .isRight())
+        .isTrue();
+    assertThat(
+            decoder
+                .decode(BufferUtil.bufferAsArray(results.get(1)), new PushStreamResponse())
+                .getLeft()
+                .code())
+        .isEqualTo(ErrorCode.BLOCKED);
+  }
+
+  @Test
+  void shouldNotAnswerBatchBeforeSlowPushCompleted() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var request =
+        new PushBatchStreamRequest()
+            .add(UUID.randomUUID(), new DirectBufferWriter(BufferUtil.wrapString("foo")))
+            .add(UUID.randomUUID(), new DirectBufferWriter(BufferUtil.wrapString("bar")));
+    final var payloadPushed = ArgumentCaptor.forClass(CompletableActorFuture.class);
+    //noinspection unchecked
+    doNothing().when(clientStreamManager).onPayloadReceived(any(), payloadPushed.capture());
+
+    // when - the second push is still in progress
+    final var response = apiHandler.handlePushBatchRequest(request);
+    payloadPushed.getAllValues().get(0).complete(null);
+
+    // then - no error is reported for it, since the client may still work on its payload
+    assertThat(response).isNotDone();
+
+    // when - the second push completes late
+    payloadPushed.getAllValues().get(1).complete(null);
+
+    // then
+    assertThat(response).succeedsWithin(Duration.ZERO);
+    final var results = ((PushBatchStreamResponse) response.join()).results();
+    final var decoder = new StreamResponseDecoder();
+    assertThat(results)
+        .hasSize(2)
+        .allSatisfy(
+            result ->
+                assertThat(
+                        decoder
+                            .decode(BufferUtil.bufferAsArray(result), new PushStreamResponse())
+                            .isRight())
+                    .isTrue());
+  }
+
   private static Stream<ExceptionErrorCase> provideExceptionToErrorMap() {
     return Stream.of(
         new ExceptionErrorCase(new StreamExhaustedException("failed"), ErrorCode.EXHAUSTED),
@@ -11,7 +11,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
-import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
@@ -38,8 +37,10 @@ class RemoteStreamImplTest {
       new AggregatedRemoteStream<>(new LogicalId<>(streamType, properties), new ArrayList<>());
   private final FailingTransport transport = new FailingTransport();
   private final Executor executor = Runnable::run;
+  private final TestRemoteStreamMetrics metrics = new TestRemoteStreamMetrics();
+  private final StreamConsumerCredits credits = new StreamConsumerCredits(1);
   private final RemoteStreamPusher<TestSerializableData> pusher =
-      new RemoteStreamPusher<>(transport, executor, RemoteStreamMetrics.noop());
+      new RemoteStreamPusher<>(transport, executor, metrics, credits);
   private RemoteStreamErrorHandler<TestSerializableData> errorHandler = (e, d) -> {};
   private final RemoteStreamImpl<TestSerializableData, TestSerializableData> remoteStream =
       new RemoteStreamImpl<>(aggregatedStream, pusher, (e, d) -> errorHandler.handleError(e, d));
@@ -98,6 +99,66 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).isEmpty();
   }
 
+  @Test
+  void shouldOnlyPushToConsumersWithCredits() {
+    // given
+    final var consumers = aggregatedStream.streamConsumers();
+    credits.tryAcquire(consumers.get(0).id());
+    credits.tryAcquire(consumers.get(1).id());
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(consumers.get(2).id().streamId());
+  }
+
+  @Test
+  void shouldNotRetryWithConsumersWithoutCredits() {
+    // given
+    final var consumers = aggregatedStream.streamConsumers();
+    credits.tryAcquire(consumers.get(0).id());
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams)
+        .containsExactlyInAnyOrder(
+            consumers.get(1).id().streamId(), consumers.get(2).id().streamId());
+  }
+
+  @Test
+  void shouldHandBackPayloadIfAllConsumersAreOutOfCredits() {
+    // given
+    final MutableReference<Throwable> errorRef = new MutableReference<>();
+    aggregatedStream.streamConsumers().forEach(consumer -> credits.tryAcquire(consumer.id()));
+    errorHandler = (e, d) -> errorRef.set(e);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(errorRef.get()).isInstanceOf(StreamExhaustedException.class);
+    assertThat(transport.attemptedStreams).isEmpty();
+    assertThat(metrics.getPushCreditsExhausted()).isOne();
+  }
+
+  @Test
+  void shouldGiveBackCreditsOncePushCompleted() {
+    // given
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    aggregatedStream
+        .streamConsumers()
+        .forEach(consumer -> assertThat(credits.available(consumer.id())).isOne());
+  }
+
   private static final class FailingTransport implements Transport {
 
     private final List<UUID> attemptedStreams = new ArrayList<>();
@@ -11,21 +11,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.BatchTransport;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushBatchStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import org.agrona.MutableDirectBuffer;
 import org.assertj.core.condition.VerboseCondition;
 import org.junit.jupiter.api.Test;
@@ -38,6 +45,8 @@ final class RemoteStreamPusherTest {
   private final TestTransport transport = new TestTransport();
   private final Executor executor = Runnable::run;
   private final TestRemoteStreamMetrics metrics = new TestRemoteStreamMetrics();
+  private final TestBatchTransport batchTransport = new TestBatchTransport();
+  private final QueuedExecutor queuedExecutor = new QueuedExecutor();
   private final RemoteStreamPusher<Payload> pusher =
       new RemoteStreamPusher<>(transport, executor, metrics);
 
@@ -149,6 +158,153 @@ final class RemoteStreamPusherTest {
     assertThat(metrics.getFailedPushTry(detailCode)).isOne();
   }
 
+  @Test
+  void shouldBatchPushesToSameReceiver() {
+    // given
+    final var batchPusher = newBatchPusher();
+    final var errorHandler = new TestErrorHandler();
+    final var otherStreamId = new StreamId(UUID.randomUUID(), streamId.receiver());
+    batchTransport.response =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushBatchStreamResponse()
+                    .addResult(new PushStreamResponse())
+                    .addResult(new PushStreamResponse())));
+
+    // when
+    batchPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchPusher.pushAsync(new Payload(2), errorHandler, otherStreamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(transport.messages).isEmpty();
+    assertThat(batchTransport.requests).hasSize(1);
+    assertThat(batchTransport.requests.getFirst().pushes())
+        .extracting(PushStreamRequest::streamId)
+        .containsExactly(streamId.streamId(), otherStreamId.streamId());
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(metrics.getPushSucceeded()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReportErrorOfSinglePushInBatch() {
+    // given
+    final var batchPusher = newBatchPusher();
+    final var errorHandler = new TestErrorHandler();
+    final var failedPayload = new Payload(2);
+    batchTransport.response =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushBatchStreamResponse()
+                    .addResult(new PushStreamResponse())
+                    .addResult(new ErrorResponse().code(ErrorCode.BLOCKED).message("blocked"))));
+
+    // when
+    batchPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchPusher.pushAsync(failedPayload, errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(metrics.getPushSucceeded()).isOne();
+    assertThat(metrics.getPushFailed()).isOne();
+    assertThat(errorHandler.errors)
+        .hasSize(1)
+        .first()
+        .satisfies(error -> assertThat(error.payload()).isEqualTo(failedPayload))
+        .extracting(TestErrorHandler.Error::error)
+        .isInstanceOf(StreamResponseException.class)
+        .extracting(error -> ((StreamResponseException) error).code())
+        .isEqualTo(ErrorCode.BLOCKED);
+  }
+
+  @Test
+  void shouldFallBackToSinglePushesIfReceiverCannotHandleBatches() {
+    // given
+    final var batchPusher = newBatchPusher();
+    final var errorHandler = new TestErrorHandler();
+    batchTransport.response =
+        CompletableFuture.failedFuture(new NoRemoteHandler("stream-push-batch"));
+
+    // when
+    batchPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    queuedExecutor.runAll();
+    batchPusher.pushAsync(new Payload(3), errorHandler, streamId);
+    batchPusher.pushAsync(new Payload(4), errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(batchTransport.requests).hasSize(1);
+    assertThat(transport.messages)
+        .extracting(message -> message.request().payloadWriter())
+        .containsExactly(new Payload(1), new Payload(2), new Payload(3), new Payload(4));
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(metrics.getPushSucceeded()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldTryBatchingAgainAfterReceiverWasReset() {
+    // given
+    final var batchPusher = newBatchPusher();
+    final var errorHandler = new TestErrorHandler();
+    batchTransport.response =
+        CompletableFuture.failedFuture(new NoRemoteHandler("stream-push-batch"));
+    batchPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // when
+    batchTransport.response =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushBatchStreamResponse()
+                    .addResult(new PushStreamResponse())
+                    .addResult(new PushStreamResponse())));
+    batchPusher.resetReceiver(streamId.receiver());
+    batchPusher.pushAsync(new Payload(3), errorHandler, streamId);
+    batchPusher.pushAsync(new Payload(4), errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(batchTransport.requests).hasSize(2);
+    assertThat(transport.messages)
+        .extracting(message -> message.request().payloadWriter())
+        .containsExactly(new Payload(1), new Payload(2));
+    assertThat(errorHandler.errors).isEmpty();
+  }
+
+  @Test
+  void shouldNotKeepPushQueuedIfFlushCannotBeScheduled() {
+    // given
+    final var batchPusher = newBatchPusher();
+    final var errorHandler = new TestErrorHandler();
+    final var failure = new RejectedExecutionException("closed");
+    queuedExecutor.rejection = failure;
+
+    // when
+    batchPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    queuedExecutor.rejection = null;
+    batchPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(errorHandler.errors)
+        .containsExactly(new TestErrorHandler.Error(new Payload(1), failure));
+    assertThat(transport.messages)
+        .extracting(message -> message.request().payloadWriter())
+        .containsExactly(new Payload(2));
+    assertThat(batchTransport.requests).isEmpty();
+  }
+
+  private RemoteStreamPusher<Payload> newBatchPusher() {
+    return new RemoteStreamPusher<>(
+        transport,
+        batchTransport,
+        queuedExecutor,
+        metrics,
+        new StreamConsumerCredits(StreamConsumerCredits.DEFAULT_CREDITS));
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -180,6 +336,7 @@ final class RemoteStreamPusherTest {
   private static final class TestTransport implements Transport {
     private CompletableFuture<byte[]> response =
         CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
+    private final List<Message> messages = new ArrayList<>();
     private Message message;
     private Exception synchronousException;
 
@@ -191,9 +348,44 @@ final class RemoteStreamPusherTest {
       }
 
       message = new Message(request, receiver);
+      messages.add(message);
       return response;
     }
 
     private record Message(PushStreamRequest request, MemberId receiver) {}
   }
+
+  private static final class TestBatchTransport implements BatchTransport {
+    private final List<PushBatchStreamRequest> requests = new ArrayList<>();
+    private CompletableFuture<byte[]> response;
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushBatchStreamRequest request, final MemberId receiver) {
+      requests.add(request);
+      return response;
+    }
+  }
+
+  /** Queues tasks until explicitly run, such that pushes can be submitted before being flushed. */
+  private static final class QueuedExecutor implements Executor {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private RuntimeException rejection;
+
+    @Override
+    public void execute(final Runnable task) {
+      if (rejection != null) {
+        throw rejection;
+      }
+
+      tasks.add(task);
+    }
+
+    private void runAll() {
+      Runnable task;
+      while ((task = tasks.poll()) != null) {
+        task.run();
+      }
+    }
+  }
 }
@@ -37,10 +37,11 @@ final class RemoteStreamerTest {
       Mockito.mock(ClusterCommunicationService.class);
   private final RemoteStreamRegistry<TestMetadata> registry =
       new RemoteStreamRegistry<>(RemoteStreamMetrics.noop());
+  private final TestRemoteStreamMetrics metrics = new TestRemoteStreamMetrics();
+  private final StreamConsumerCredits credits = new StreamConsumerCredits(1);
 
   private final RemoteStreamerImpl<TestMetadata, TestPayload> streamer =
-      new RemoteStreamerImpl<>(
-          communicationService, registry, (e, d) -> {}, RemoteStreamMetrics.noop());
+      new RemoteStreamerImpl<>(communicationService, registry, (e, d) -> {}, metrics, credits);
 
   @RegisterExtension
   private final ControlledActorSchedulerExtension scheduler =
@@ -98,6 +99,37 @@ final class RemoteStreamerTest {
     assertThat(empty).isEmpty();
   }
 
+  @Test
+  void shouldNotReturnStreamIfAllConsumersAreOutOfCredits() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata(1));
+    credits.tryAcquire(streamId);
+
+    // when
+    final var stream = streamer.streamFor(type);
+
+    // then
+    assertThat(stream).isEmpty();
+    assertThat(metrics.getStreamSaturated()).isOne();
+  }
+
+  @Test
+  void shouldReturnStreamOnceConsumerHasCreditsAgain() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata(1));
+    credits.tryAcquire(streamId);
+
+    // when
+    credits.release(streamId);
+
+    // then
+    assertThat(streamer.streamFor(type)).isPresent();
+  }
+
   @Test
   void shouldPush() {
     // given - a registry which returns a set of consumers sorted by their member IDs
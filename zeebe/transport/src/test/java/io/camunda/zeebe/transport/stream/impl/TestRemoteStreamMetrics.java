@@ -17,6 +17,8 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
   private int streamCount;
   private int pushSucceeded;
   private int pushFailed;
+  private int streamSaturated;
+  private int pushCreditsExhausted;
   private final Map<ErrorCode, Integer> failedPushTries = new EnumMap<>(ErrorCode.class);
 
   @Override
@@ -39,6 +41,16 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
     pushFailed++;
   }
 
+  @Override
+  public void streamSaturated() {
+    streamSaturated++;
+  }
+
+  @Override
+  public void pushCreditsExhausted() {
+    pushCreditsExhausted++;
+  }
+
   @Override
   public void pushTryFailed(final ErrorCode code) {
     failedPushTries.compute(code, (ignored, value) -> value == null ? 1 : value + 1);
@@ -56,6 +68,14 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
     return pushFailed;
   }
 
+  public int getStreamSaturated() {
+    return streamSaturated;
+  }
+
+  public int getPushCreditsExhausted() {
+    return pushCreditsExhausted;
+  }
+
   public int getFailedPushTry(final ErrorCode code) {
     return failedPushTries.getOrDefault(code, 0);
   }
@@ -140,6 +140,54 @@ final class SerializationTest {
         .doesNotThrowAnyException();
   }
 
+  @Test
+  void shouldSerializePushBatchStreamRequest() {
+    // given
+    final var firstStreamId = UUID.randomUUID();
+    final var secondStreamId = UUID.randomUUID();
+    final var request =
+        new PushBatchStreamRequest()
+            .add(firstStreamId, new DirectBufferWriter(BufferUtil.wrapString("foo")))
+            .add(secondStreamId, new DirectBufferWriter(BufferUtil.wrapString("bar")));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushBatchStreamRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.pushes())
+        .extracting(PushStreamRequest::streamId, PushStreamRequest::payload)
+        .containsExactly(
+            Tuple.tuple(firstStreamId, BufferUtil.wrapString("foo")),
+            Tuple.tuple(secondStreamId, BufferUtil.wrapString("bar")));
+  }
+
+  @Test
+  void shouldSerializePushBatchStreamResponse() {
+    // given
+    final var response =
+        new PushBatchStreamResponse()
+            .addResult(new PushStreamResponse())
+            .addResult(new ErrorResponse().code(ErrorCode.BLOCKED).message("Stream is blocked"));
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushBatchStreamResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    final var decoder = new StreamResponseDecoder();
+    final var results = deserialized.results();
+    assertThat(results).hasSize(2);
+    final var first =
+        decoder.decode(BufferUtil.bufferAsArray(results.get(0)), new PushStreamResponse());
+    assertThat(first.isRight()).isTrue();
+    final var second =
+        decoder.decode(BufferUtil.bufferAsArray(results.get(1)), new PushStreamResponse());
+    assertThat(second.getLeft().code()).isEqualTo(ErrorCode.BLOCKED);
+  }
+
   @Test
   void shouldSerializeErrorResponse() {
     // given
@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   CloseableSilently measureDeleteLatency();
 
   CloseableSilently measureIterateLatency();
+
+  /** Records a point lookup which was served by the transaction read cache. */
+  void readCacheHit();
+
+  /** Records a point lookup which was not cached and had to be read from RocksDB. */
+  void readCacheMiss();
 }
@@ -53,6 +53,45 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return KEYS;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /**
+   * Number of point lookups per column family which went through the transaction read cache, by
+   * whether they were served from the cache or not
+   */
+  READ_CACHE_LOOKUPS {
+    private static final KeyName[] KEYS =
+        new KeyName[] {
+          PartitionKeyNames.PARTITION,
+          ColumnFamilyMetricsKeyName.COLUMN_FAMILY,
+          ColumnFamilyMetricsKeyName.RESULT
+        };
+
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.read.cache.lookups";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of point lookups per column family which went through the transaction read"
+          + " cache, by whether they were served from the cache (hit) or not (miss)";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEYS;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -77,6 +116,13 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "operation";
       }
+    },
+    /** The result of a read cache lookup with value {@link ReadCacheResult} */
+    RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
     }
   }
 
@@ -101,4 +147,19 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return name;
     }
   }
+
+  /** Result of a lookup in the transaction read cache. */
+  public enum ReadCacheResult {
+    HIT("hit"),
+    MISS("miss");
+    private final String name;
+
+    ReadCacheResult(final String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
 }
@@ -34,4 +34,12 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is called whenever changes of this context's transaction are
+   * committed or discarded, and whenever a savepoint is set.
+   *
+   * @param listener the listener to call
+   */
+  void addTransactionListener(TransactionListener listener);
 }
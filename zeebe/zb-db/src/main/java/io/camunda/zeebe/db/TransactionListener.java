@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Listens to what happens to the uncommitted changes of a transaction. In-memory state which
+ * mirrors the database, but does not take part in its transactions, can use it to record its own
+ * changes until they are committed, and to undo them when they are discarded.
+ *
+ * <p>The listener is called on the thread which commits or discards the changes.
+ */
+public interface TransactionListener {
+
+  /** Called after the changes of the transaction were written to the database. */
+  default void onCommit() {}
+
+  /**
+   * Called after a savepoint was set, replacing any previous one. See {@link
+   * ZeebeDbTransaction#setSavepoint()}.
+   */
+  default void onSavepoint() {}
+
+  /**
+   * Called after the changes made since the latest savepoint were discarded. The savepoint is
+   * kept, such that it can be rolled back to again.
+   */
+  default void onRollbackToSavepoint() {}
+
+  /**
+   * Called after all uncommitted changes were discarded, i.e. on a rollback, or when an operation
+   * of {@link TransactionContext#runInTransaction(TransactionOperation)} fails.
+   */
+  default void onRollback() {}
+}
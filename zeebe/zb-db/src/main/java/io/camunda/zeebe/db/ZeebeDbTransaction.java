@@ -38,4 +38,23 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction, replacing any previous savepoint. A subsequent
+   * {@link #rollbackToSavepoint()} only discards the changes made after it, instead of all changes
+   * since the latest commit. The savepoint is discarded on commit and rollback.
+   *
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavepoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest savepoint, discards all changes made after it. The
+   * savepoint is kept, such that it can be rolled back to again. If no savepoint was set, this is
+   * the same as {@link #rollback()}.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void rollbackToSavepoint() throws Exception;
 }
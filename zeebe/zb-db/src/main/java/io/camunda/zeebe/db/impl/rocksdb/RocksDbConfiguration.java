@@ -43,6 +43,10 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_SST_PARTITIONING_ENABLED = true;
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+
+  /** The transaction read cache is disabled by default. */
+  public static final int DEFAULT_TRANSACTION_READ_CACHE_SIZE = 0;
+
   public static final MemoryAllocationStrategy DEFAULT_ROCKSDB_MEMORY_ALLOCATION_STRATEGY =
       MemoryAllocationStrategy.FRACTION;
   private Properties columnFamilyOptions = new Properties();
@@ -77,6 +81,16 @@ public final class RocksDbConfiguration {
   private MemoryAllocationStrategy memoryAllocationStrategy =
       DEFAULT_ROCKSDB_MEMORY_ALLOCATION_STRATEGY;
 
+  /**
+   * Number of point lookups cached within a single transaction. Repeated lookups of the same key
+   * within a transaction, e.g. of the element instance or the variables of a flow scope while
+   * processing one command, are then served from the cache instead of RocksDB. The cache is
+   * invalidated on writes and cleared on commit and rollback.
+   *
+   * <p>Setting to 0 (the default) or less disables the cache.
+   */
+  private int transactionReadCacheSize = DEFAULT_TRANSACTION_READ_CACHE_SIZE;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -143,6 +157,15 @@ public final class RocksDbConfiguration {
     return this;
   }
 
+  public int getTransactionReadCacheSize() {
+    return transactionReadCacheSize;
+  }
+
+  public RocksDbConfiguration setTransactionReadCacheSize(final int transactionReadCacheSize) {
+    this.transactionReadCacheSize = transactionReadCacheSize;
+    return this;
+  }
+
   public boolean isWalDisabled() {
     return walDisabled;
   }
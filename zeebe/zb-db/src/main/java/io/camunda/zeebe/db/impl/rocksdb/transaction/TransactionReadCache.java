@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import org.agrona.BitUtil;
+
+/**
+ * A small, direct mapped cache of point lookups, which lives as long as a single transaction. Each
+ * key maps to exactly one slot; a colliding key simply replaces the previous entry. Keys are copied
+ * into slot owned arrays, which are only grown but never released, and values are the immutable
+ * arrays returned by RocksDB, such that a warmed up cache doesn't allocate anymore.
+ *
+ * <p>Absent keys are cached as well, to speed up repeated existence checks. Writes must invalidate
+ * the written key, and the cache must be cleared whenever the transaction is committed or rolled
+ * back. Clearing is a constant time operation, which only moves the cache to the next generation.
+ *
+ * <p>This class is not thread-safe, just like the transaction it belongs to.
+ */
+final class TransactionReadCache {
+
+  /** Returned by {@link #get(byte[], int)} if the key is not cached. */
+  static final byte[] NOT_CACHED = new byte[0];
+
+  private final int mask;
+  private final byte[][] keys;
+  private final int[] keyLengths;
+  private final byte[][] values;
+  private final long[] generations;
+  private long generation = 1;
+
+  TransactionReadCache(final int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException(
+          "Expected transaction read cache size to be >= 1, but was %d".formatted(size));
+    }
+
+    final int capacity = BitUtil.findNextPositivePowerOfTwo(size);
+    mask = capacity - 1;
+    keys = new byte[capacity][];
+    keyLengths = new int[capacity];
+    values = new byte[capacity][];
+    generations = new long[capacity];
+  }
+
+  /**
+   * @return the cached value, which is null if the key is cached as absent, or {@link #NOT_CACHED}
+   *     if the key is not cached
+   */
+  byte[] get(final byte[] key, final int keyLength) {
+    final int slot = slot(key, keyLength);
+    if (isCached(slot, key, keyLength)) {
+      return values[slot];
+    }
+    return NOT_CACHED;
+  }
+
+  void put(final byte[] key, final int keyLength, final byte[] value) {
+    final int slot = slot(key, keyLength);
+    byte[] slotKey = keys[slot];
+    if (slotKey == null || slotKey.length < keyLength) {
+      slotKey = new byte[keyLength];
+      keys[slot] = slotKey;
+    }
+
+    System.arraycopy(key, 0, slotKey, 0, keyLength);
+    keyLengths[slot] = keyLength;
+    values[slot] = value;
+    generations[slot] = generation;
+  }
+
+  void invalidate(final byte[] key, final int keyLength) {
+    final int slot = slot(key, keyLength);
+    // whatever is cached in the slot, it is not worth comparing the key
+    generations[slot] = 0;
+    values[slot] = null;
+  }
+
+  void clear() {
+    generation++;
+  }
+
+  private boolean isCached(final int slot, final byte[] key, final int keyLength) {
+    return generations[slot] == generation
+        && keyLengths[slot] == keyLength
+        && Arrays.equals(keys[slot], 0, keyLength, key, 0, keyLength);
+  }
+
+  private int slot(final byte[] key, final int keyLength) {
+    int hash = 1;
+    for (int i = 0; i < keyLength; i++) {
+      hash = 31 * hash + key[i];
+    }
+    // spread the higher bits, since most keys only differ in their last bytes
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+}
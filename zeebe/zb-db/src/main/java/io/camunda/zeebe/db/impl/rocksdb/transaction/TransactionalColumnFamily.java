@@ -151,7 +151,8 @@ class TransactionalColumnFamily<
                     transactionDb.getDefaultNativeHandle(),
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+                    columnFamilyContext.getKeyLength(),
+                    metrics);
             columnFamilyContext.wrapValueView(value);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
@@ -175,7 +176,8 @@ class TransactionalColumnFamily<
                     transactionDb.getDefaultNativeHandle(),
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+                    columnFamilyContext.getKeyLength(),
+                    metrics);
             if (valueBytes != null) {
               final var newValue = valueSupplier.get();
               newValue.wrap(new UnsafeBuffer(valueBytes), 0, valueBytes.length);
@@ -349,7 +351,8 @@ class TransactionalColumnFamily<
                     transactionDb.getDefaultNativeHandle(),
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+                    columnFamilyContext.getKeyLength(),
+                    metrics);
             columnFamilyContext.wrapValueView(value);
           });
       return !columnFamilyContext.isValueViewEmpty();
@@ -402,7 +405,8 @@ class TransactionalColumnFamily<
             transactionDb.getDefaultNativeHandle(),
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+            columnFamilyContext.getKeyLength(),
+            metrics);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -418,7 +422,8 @@ class TransactionalColumnFamily<
             transactionDb.getDefaultNativeHandle(),
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+            columnFamilyContext.getKeyLength(),
+            metrics);
     if (value == null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
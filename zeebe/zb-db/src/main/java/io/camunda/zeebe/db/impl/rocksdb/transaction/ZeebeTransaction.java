@@ -9,10 +9,16 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.ColumnFamilyMetrics;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.LangUtil;
+import org.jspecify.annotations.Nullable;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
@@ -23,15 +29,29 @@ import org.rocksdb.WriteOptions;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
+  private static final ColumnFamilyMetrics NOOP_METRICS = new NoopColumnFamilyMetrics();
+
   private final long nativeHandle;
   private final long dbNativeHandle;
   private final WriteBatchWithIndex writeBatch;
   private final RocksDB db;
   private final WriteOptions writeOptions;
+  private final @Nullable TransactionReadCache readCache;
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
+  private boolean hasSavepoint;
 
   public ZeebeTransaction(final RocksDB db, final WriteOptions writeOptions) {
+    this(db, writeOptions, 0);
+  }
+
+  /**
+   * @param readCacheSize the number of point lookups to cache within a transaction, or 0 to
+   *     disable the read cache
+   */
+  public ZeebeTransaction(
+      final RocksDB db, final WriteOptions writeOptions, final int readCacheSize) {
     // overwriteKey=true collapses repeated writes for the same key into a single index entry.
     // This ensures the delta-only WriteBatchWithIndex#newIterator does not return duplicates per
     // key. While we don't use it, it's still good to be prepared for it, and there is no cost to
@@ -39,6 +59,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     writeBatch = new WriteBatchWithIndex(true);
     this.db = db;
     this.writeOptions = writeOptions;
+    readCache = readCacheSize > 0 ? new TransactionReadCache(readCacheSize) : null;
     try {
       // clear() uses placement new (Rep::Clear in write_batch_with_index.cc) — the native pointer
       // is stable across resets, so caching the handle here is safe for the object's lifetime.
@@ -58,6 +79,9 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final int valueLength)
       throws Exception {
     // WriteBatchWithIndex.put is an instance method; the receiver must be the first arg.
+    if (readCache != null) {
+      readCache.invalidate(key, keyLength);
+    }
     try {
       RocksDbInternal.putWithHandle.invokeExact(
           writeBatch, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle);
@@ -72,6 +96,42 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] key,
       final int keyLength)
       throws Exception {
+    return get(columnFamilyHandle, readOptionsHandle, key, keyLength, NOOP_METRICS);
+  }
+
+  /**
+   * Reads the value of the given key, as seen by this transaction. If the read cache is enabled,
+   * repeated lookups of the same key within the transaction are served from the cache, and the
+   * given metrics record whether the lookup was a hit or a miss.
+   */
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength,
+      final ColumnFamilyMetrics metrics)
+      throws Exception {
+    if (readCache == null) {
+      return getFromBatchAndDb(columnFamilyHandle, readOptionsHandle, key, keyLength);
+    }
+
+    final var cachedValue = readCache.get(key, keyLength);
+    if (cachedValue != TransactionReadCache.NOT_CACHED) {
+      metrics.readCacheHit();
+      return cachedValue;
+    }
+
+    metrics.readCacheMiss();
+    final var value = getFromBatchAndDb(columnFamilyHandle, readOptionsHandle, key, keyLength);
+    readCache.put(key, keyLength, value);
+    return value;
+  }
+
+  private byte[] getFromBatchAndDb(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength) {
     try {
       return (byte[])
           RocksDbInternal.getWithHandle.invokeExact(
@@ -85,6 +145,9 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     // WriteBatchWithIndex.delete is an instance method; the receiver must be the first arg.
+    if (readCache != null) {
+      readCache.invalidate(key, keyLength);
+    }
     try {
       RocksDbInternal.removeWithHandle.invokeExact(
           writeBatch, nativeHandle, key, keyLength, columnFamilyHandle);
@@ -99,6 +162,8 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void resetTransaction() {
     writeBatch.clear();
+    clearReadCache();
+    hasSavepoint = false;
     inCurrentTransaction = true;
   }
 
@@ -106,6 +171,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return inCurrentTransaction;
   }
 
+  void addTransactionListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
   @Override
   public void run(final TransactionOperation operations) throws Exception {
     try {
@@ -145,15 +214,65 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavepoint() throws RocksDBException {
+    if (hasSavepoint) {
+      // only the latest savepoint is ever rolled back to, so don't let them pile up
+      writeBatch.popSavePoint();
+    }
+    writeBatch.setSavePoint();
+    hasSavepoint = true;
+    listeners.forEach(TransactionListener::onSavepoint);
+  }
+
+  @Override
+  public void rollbackToSavepoint() throws RocksDBException {
+    if (!hasSavepoint) {
+      rollback();
+      return;
+    }
+
+    try {
+      writeBatch.rollbackToSavePoint();
+      clearReadCache();
+      // rolling back removes the savepoint; set it again so we can roll back to it repeatedly
+      writeBatch.setSavePoint();
+      listeners.forEach(TransactionListener::onRollbackToSavepoint);
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to savepoint.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     db.write(writeOptions, writeBatch);
     writeBatch.clear();
+    clearReadCache();
+    hasSavepoint = false;
+    listeners.forEach(TransactionListener::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    // after a commit, the batch is already empty and there is nothing to discard
+    final boolean discardsChanges = writeBatch.count() > 0;
     writeBatch.clear();
+    clearReadCache();
+    hasSavepoint = false;
+    if (discardsChanges) {
+      listeners.forEach(TransactionListener::onRollback);
+    }
+  }
+
+  private void clearReadCache() {
+    if (readCache != null) {
+      readCache.clear();
+    }
   }
 
   @Override
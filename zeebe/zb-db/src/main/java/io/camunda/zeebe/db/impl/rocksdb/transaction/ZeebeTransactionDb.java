@@ -62,6 +62,7 @@ public class ZeebeTransactionDb<
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
   private final RocksDBMetricExporter metricExporter;
+  private final int transactionReadCacheSize;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
@@ -85,6 +86,7 @@ public class ZeebeTransactionDb<
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
+    transactionReadCacheSize = rocksDbConfiguration.getTransactionReadCacheSize();
     closables.add(defaultWriteOptions);
   }
 
@@ -200,7 +202,8 @@ public class ZeebeTransactionDb<
 
   @Override
   public TransactionContext createContext() {
-    final var zeebeTransaction = new ZeebeTransaction(rocksDB, defaultWriteOptions);
+    final var zeebeTransaction =
+        new ZeebeTransaction(rocksDB, defaultWriteOptions, transactionReadCacheSize);
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
@@ -19,7 +20,9 @@ import io.camunda.zeebe.protocol.ColumnFamilyScope;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -462,6 +465,112 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavepoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavepoint();
+    transaction.run(() -> twoColumnFamily.insert(twoKey, twoValue));
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldRollbackToSameSavepointRepeatedly() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+    threeKey.wrapLong(Short.MAX_VALUE);
+    threeValue.wrapLong(Integer.MAX_VALUE);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavepoint();
+    transaction.run(() -> twoColumnFamily.insert(twoKey, twoValue));
+    transaction.rollbackToSavepoint();
+    transaction.run(() -> threeColumnFamily.insert(threeKey, threeValue));
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+    assertThat(threeColumnFamily.exists(threeKey)).isFalse();
+  }
+
+  @Test
+  public void shouldRollbackEverythingWithoutSavepoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.rollbackToSavepoint();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+  }
+
+  @Test
+  public void shouldNotifyTransactionListenersWhenChangesAreDiscarded() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavepoint();
+    transaction.run(() -> twoColumnFamily.insert(twoKey, twoValue));
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.rollback();
+
+    // then
+    assertThat(listener.events).containsExactly("savepoint", "rollbackToSavepoint", "rollback");
+  }
+
+  @Test
+  public void shouldNotifyTransactionListenersOnCommit() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    transactionContext.runInTransaction(() -> oneColumnFamily.insert(oneKey, oneValue));
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.upsert(oneKey, oneValue));
+    transaction.commit();
+
+    // then
+    assertThat(listener.events).containsExactly("commit", "commit");
+  }
+
   @Test
   // See https://github.com/camunda/camunda/issues/11681, this test is to ensure that we don't
   // hide exceptions from the `ProcessingStateMachine`.
@@ -495,4 +604,28 @@ public final class DbTransactionTest {
       return ColumnFamilyScope.PARTITION_LOCAL;
     }
   }
+
+  private static final class RecordingTransactionListener implements TransactionListener {
+    private final List<String> events = new ArrayList<>();
+
+    @Override
+    public void onCommit() {
+      events.add("commit");
+    }
+
+    @Override
+    public void onSavepoint() {
+      events.add("savepoint");
+    }
+
+    @Override
+    public void onRollbackToSavepoint() {
+      events.add("rollbackToSavepoint");
+    }
+
+    @Override
+    public void onRollback() {
+      events.add("rollback");
+    }
+  }
 }
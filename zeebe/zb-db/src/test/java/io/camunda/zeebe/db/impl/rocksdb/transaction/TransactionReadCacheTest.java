@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.MemoryAllocationStrategy;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class TransactionReadCacheTest {
+
+  @TempDir File tempDir;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private ColumnFamily<DbLong, DbLong> sameColumnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @BeforeEach
+  void setUp() {
+    final var rocksDbConfiguration =
+        new RocksDbConfiguration()
+            .setMemoryAllocationStrategy(MemoryAllocationStrategy.BROKER)
+            .setMemoryLimit(512 * 1024 * 1024)
+            .setTransactionReadCacheSize(16);
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                rocksDbConfiguration,
+                new ConsistencyChecksSettings(true, true),
+                new AccessMetricsConfiguration(Kind.FINE),
+                () -> meterRegistry)
+            .createDb(tempDir);
+    context = db.createContext();
+    columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, new DbLong(), new DbLong());
+    sameColumnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, new DbLong(), new DbLong());
+    key.wrapLong(1);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromCache() {
+    // given
+    value.wrapLong(10);
+    columnFamily.upsert(key, value);
+
+    // when
+    context.runInTransaction(
+        () -> {
+          assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+          assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+          assertThat(columnFamily.exists(key)).isTrue();
+        });
+
+    // then
+    assertThat(lookups("hit")).isEqualTo(2);
+    assertThat(lookups("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldInvalidateCachedValueOnWrite() {
+    // given
+    value.wrapLong(10);
+    columnFamily.upsert(key, value);
+
+    context.runInTransaction(
+        () -> {
+          assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+
+          // when - written through another instance of the same column family
+          value.wrapLong(20);
+          sameColumnFamily.update(key, value);
+
+          // then
+          assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+        });
+  }
+
+  @Test
+  void shouldInvalidateCachedAbsentKeyOnWrite() {
+    context.runInTransaction(
+        () -> {
+          assertThat(columnFamily.exists(key)).isFalse();
+
+          // when
+          value.wrapLong(10);
+          sameColumnFamily.insert(key, value);
+
+          // then
+          assertThat(columnFamily.exists(key)).isTrue();
+        });
+  }
+
+  @Test
+  void shouldInvalidateCachedValueOnDelete() {
+    // given
+    value.wrapLong(10);
+    columnFamily.upsert(key, value);
+
+    context.runInTransaction(
+        () -> {
+          assertThat(columnFamily.exists(key)).isTrue();
+
+          // when
+          sameColumnFamily.deleteExisting(key);
+
+          // then
+          assertThat(columnFamily.get(key)).isNull();
+        });
+  }
+
+  @Test
+  void shouldClearCacheOnRollback() throws Exception {
+    // given
+    final var transaction = context.getCurrentTransaction();
+    assertThat(columnFamily.exists(key)).isFalse();
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldClearCacheOnRollbackToSavepoint() throws Exception {
+    // given
+    final var transaction = context.getCurrentTransaction();
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    transaction.setSavepoint();
+    value.wrapLong(20);
+    columnFamily.update(key, value);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+
+    // when
+    transaction.rollbackToSavepoint();
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldClearCacheOnCommit() throws Exception {
+    // given
+    final var otherContext = db.createContext();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        db.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherContext, new DbLong(), new DbLong());
+    final var transaction = context.getCurrentTransaction();
+    assertThat(columnFamily.exists(key)).isFalse();
+    transaction.commit();
+
+    // when
+    value.wrapLong(10);
+    otherColumnFamily.insert(key, value);
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+  }
+
+  private double lookups(final String result) {
+    return meterRegistry
+        .get(ColumnFamilyMetricsDoc.READ_CACHE_LOOKUPS.getName())
+        .tag(ColumnFamilyMetricsDoc.ColumnFamilyMetricsKeyName.RESULT.asString(), result)
+        .counter()
+        .count();
+  }
+}